@@ -1,4 +1,6 @@
 -- Create database aligned with create_test_data.sql
+-- This is the V1 schema; the application baselines a database created from it at V1 and brings it up to date
+-- with the Flyway migrations (db/migration under src/main/resources and src/main/java)
 CREATE DATABASE IF NOT EXISTS timesheetdb;
 USE timesheetdb;
 
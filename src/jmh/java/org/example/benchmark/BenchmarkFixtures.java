@@ -0,0 +1,104 @@
+package org.example.benchmark;
+
+import org.example.dto.response.TimeSheetEntryResponseDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Approval;
+import org.example.model.Client;
+import org.example.model.Department;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.model.Role;
+import org.example.model.TimeSheet;
+import org.example.model.User;
+import org.example.model.UserRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Detached entities and DTOs shaped like production data: a week of five entries per timesheet, quarter-hour hours
+final class BenchmarkFixtures {
+
+    static final LocalDate MONDAY = LocalDate.of(2024, 3, 4);
+    static final int ENTRIES_PER_TIMESHEET = 5;
+
+    private BenchmarkFixtures() {}
+
+    static Employee employee(int id, Department department, Employee manager) {
+        Employee employee = new Employee("First" + id, "Last" + id, "employee" + id + "@example.org", "Developer", department, manager);
+        employee.setEmployeeId(id);
+        return employee;
+    }
+
+    static Department department(int id) {
+        Department department = new Department("Department " + id, employee(1000 + id, null, null));
+        department.setDepartmentId(id);
+        return department;
+    }
+
+    static Client client(int id) {
+        Client client = new Client("Client " + id, "client" + id + "@example.org", "555-01" + id, id + " Main Street");
+        client.setClientId(id);
+        return client;
+    }
+
+    static Project project(int id) {
+        Project project = new Project("Project " + id, "Benchmark project", MONDAY, null, client(id), employee(2000 + id, null, null));
+        project.setProjectId(id);
+        project.setStatus(Project.ProjectStatus.ACTIVE);
+        return project;
+    }
+
+    static TimeSheet timeSheet(int id, Employee employee) {
+        TimeSheet timeSheet = new TimeSheet(employee, MONDAY.plusWeeks(id), MONDAY.plusWeeks(id).plusDays(6));
+        timeSheet.setTimesheetId(id);
+        timeSheet.setStatus(TimeSheet.TimeSheetStatus.SUBMITTED);
+        timeSheet.setSubmissionDate(LocalDateTime.of(MONDAY.plusWeeks(id).plusDays(4), LocalTime.NOON));
+        timeSheet.setTotalHours(new BigDecimal("38.75"));
+        return timeSheet;
+    }
+
+    static Approval approval(int id, TimeSheet timeSheet, Employee approver) {
+        Approval approval = new Approval(timeSheet, approver);
+        approval.setApprovalId(id);
+        approval.setStatus(Approval.ApprovalStatus.APPROVED);
+        approval.setApprovedAt(timeSheet.getSubmissionDate().plusDays(1));
+        approval.setComments("Looks good");
+        return approval;
+    }
+
+    static User user(int id, List<String> roleNames) {
+        User user = new User("user" + id, "unused", employee(id, null, null));
+        List<UserRole> userRoles = new ArrayList<>();
+        for (String roleName : roleNames) {
+            userRoles.add(new UserRole(user, new Role(roleName, roleName)));
+        }
+        user.setUserRoles(userRoles);
+        return user;
+    }
+
+    static List<TimeSheetEntryResponseDTO> entries(int timesheetId) {
+        List<TimeSheetEntryResponseDTO> entries = new ArrayList<>(ENTRIES_PER_TIMESHEET);
+        for (int day = 0; day < ENTRIES_PER_TIMESHEET; day++) {
+            entries.add(new TimeSheetEntryResponseDTO(timesheetId * ENTRIES_PER_TIMESHEET + day, timesheetId,
+                    MONDAY.plusWeeks(timesheetId).plusDays(day), day % 3 + 1, "Project " + (day % 3 + 1),
+                    "Feature work", BigDecimal.valueOf(6 + (timesheetId + day) % 12, 0).add(BigDecimal.valueOf(25L * (day % 4), 2))));
+        }
+        return entries;
+    }
+
+    static List<TimeSheetResponseDTO> timeSheetResponses(int count) {
+        List<TimeSheetResponseDTO> timeSheets = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            List<TimeSheetEntryResponseDTO> entries = entries(id);
+            BigDecimal total = entries.stream().map(TimeSheetEntryResponseDTO::hoursWorked).reduce(BigDecimal.ZERO, BigDecimal::add);
+            timeSheets.add(new TimeSheetResponseDTO(id, id % 500, "First" + id + " Last" + id, MONDAY.plusWeeks(id % 260),
+                    MONDAY.plusWeeks(id % 260).plusDays(6), "SUBMITTED", LocalDateTime.of(MONDAY, LocalTime.NOON),
+                    total, entries, total));
+        }
+        return timeSheets;
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Entry point of the benchmark profile (see pom.xml). Runs the JMH benchmarks, writes JMH's JSON result to
+// benchmark.result and compares every score with benchmark.baseline. A score more than benchmark.regressionThreshold
+// slower than its baseline is a regression and the run exits with status 1: above it for average time (e.g. us/op),
+// below it for throughput (ops/s).
+// A benchmark without a baseline entry, or with a different unit, fails the run too: it cannot be checked, so record
+// it with benchmark.updateBaseline=true and commit the baseline along with the benchmark.
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        String include = System.getProperty("benchmark.include", BenchmarkRunner.class.getPackageName() + "\\..*");
+        double threshold = Double.parseDouble(System.getProperty("benchmark.regressionThreshold", "0.10"));
+        boolean updateBaseline = Boolean.parseBoolean(System.getProperty("benchmark.updateBaseline", "false"));
+        File baselineFile = new File(System.getProperty("benchmark.baseline", "src/jmh/baseline.json"));
+        String resultFile = System.getProperty("benchmark.result", "target/jmh-result.json");
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+        Map<String, Score> scores = new TreeMap<>();
+        for (RunResult result : new Runner(options).run()) {
+            scores.put(key(result), new Score(result.getPrimaryResult().getScore(), result.getPrimaryResult().getScoreUnit()));
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        if (updateBaseline) {
+            Baseline baseline = baselineFile.exists() ? objectMapper.readValue(baselineFile, Baseline.class) : new Baseline(new TreeMap<>());
+            Map<String, Score> merged = new TreeMap<>(baseline.benchmarks());
+            merged.putAll(scores);
+            objectMapper.writeValue(baselineFile, new Baseline(merged));
+            System.out.println("Recorded " + scores.size() + " benchmark(s) in " + baselineFile);
+            return;
+        }
+
+        Baseline baseline = baselineFile.exists() ? objectMapper.readValue(baselineFile, Baseline.class) : new Baseline(Map.of());
+        List<String> regressions = new ArrayList<>();
+        List<String> unchecked = new ArrayList<>();
+        compare(scores, baseline.benchmarks(), threshold, regressions, unchecked);
+        if (!regressions.isEmpty()) {
+            System.out.println(regressions.size() + " benchmark(s) regressed by more than " + Math.round(threshold * 100) + "%");
+        }
+        if (!unchecked.isEmpty()) {
+            System.out.println(unchecked.size() + " benchmark(s) have no comparable entry in " + baselineFile
+                    + "; record them with -Dbenchmark.updateBaseline=true");
+        }
+        if (!regressions.isEmpty() || !unchecked.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    private static void compare(Map<String, Score> scores, Map<String, Score> baseline, double threshold,
+                                List<String> regressions, List<String> unchecked) {
+        System.out.printf("%n%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Score", "Change");
+        for (Map.Entry<String, Score> entry : scores.entrySet()) {
+            Score score = entry.getValue();
+            Score expected = baseline.get(entry.getKey());
+            if (expected == null || !expected.unit().equals(score.unit())) {
+                unchecked.add(entry.getKey());
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", score.score(), "-",
+                        expected == null ? "no baseline" : "unit changed from " + expected.unit());
+                continue;
+            }
+            double change = (score.score() - expected.score()) / expected.score();
+            boolean regressed = (isThroughput(score.unit()) ? -change : change) > threshold;
+            if (regressed) {
+                regressions.add(entry.getKey());
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), expected.score(), score.score(),
+                    change * 100, score.unit(), regressed ? "  REGRESSION" : "");
+        }
+    }
+
+    // JMH reports throughput as ops/<time unit> and average time as <time unit>/op
+    private static boolean isThroughput(String unit) {
+        return unit.startsWith("ops/");
+    }
+
+    // Benchmark name plus its parameters, e.g. ...TimeSheetSerializationBenchmark.writeList{size=1000}
+    private static String key(RunResult result) {
+        Map<String, String> params = new TreeMap<>();
+        for (String name : result.getParams().getParamsKeys()) {
+            params.put(name, result.getParams().getParam(name));
+        }
+        String benchmark = result.getParams().getBenchmark();
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+
+    public record Score(double score, String unit) {}
+
+    public record Baseline(Map<String, Score> benchmarks) {}
+}
@@ -0,0 +1,157 @@
+package org.example.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.config.DtoMappingMetrics;
+import org.example.dto.response.ApprovalResponseDTO;
+import org.example.dto.response.ClientResponseDTO;
+import org.example.dto.response.DepartmentResponseDTO;
+import org.example.dto.response.EmployeeResponseDTO;
+import org.example.dto.response.ProjectResponseDTO;
+import org.example.dto.response.TimeSheetEntryResponseDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Approval;
+import org.example.model.Client;
+import org.example.model.Department;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.model.TimeSheet;
+import org.example.model.TimeSheetEntry;
+import org.example.service.Approval.impl.ApprovalServiceImpl;
+import org.example.service.Client.impl.ClientServiceImpl;
+import org.example.service.Department.impl.DepartmentServiceImpl;
+import org.example.service.Employee.impl.EmployeeServiceImpl;
+import org.example.service.Project.impl.ProjectServiceImpl;
+import org.example.service.TimeSheet.impl.TimeSheetServiceImpl;
+import org.example.service.TimeSheetEntry.impl.TimeSheetEntryServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The services' private to*ResponseDTO methods, called through method handles on services that have no repositories,
+// over detached entities with their associations already loaded. The handles are static finals, so the JIT treats
+// them like direct calls. metrics=true adds the dto.mapping timer the services record around each mapping.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private static final MethodHandle TIME_SHEET = mapping(TimeSheetServiceImpl.class, "toTimeSheetResponseDTO",
+            TimeSheetResponseDTO.class, TimeSheet.class, List.class);
+    private static final MethodHandle TIME_SHEET_ENTRY = mapping(TimeSheetEntryServiceImpl.class, "toTimeSheetEntryResponseDTO",
+            TimeSheetEntryResponseDTO.class, TimeSheetEntry.class);
+    private static final MethodHandle EMPLOYEE = mapping(EmployeeServiceImpl.class, "toEmployeeResponseDTO",
+            EmployeeResponseDTO.class, Employee.class);
+    private static final MethodHandle PROJECT = mapping(ProjectServiceImpl.class, "toProjectResponseDTO",
+            ProjectResponseDTO.class, Project.class);
+    private static final MethodHandle DEPARTMENT = mapping(DepartmentServiceImpl.class, "toDepartmentResponseDTO",
+            DepartmentResponseDTO.class, Department.class);
+    private static final MethodHandle CLIENT = mapping(ClientServiceImpl.class, "toClientResponseDTO",
+            ClientResponseDTO.class, Client.class);
+    private static final MethodHandle APPROVAL = mapping(ApprovalServiceImpl.class, "toApprovalResponseDTO",
+            ApprovalResponseDTO.class, Approval.class);
+
+    @Param({"false", "true"})
+    private boolean metrics;
+
+    private TimeSheetServiceImpl timeSheetService;
+    private TimeSheetEntryServiceImpl timeSheetEntryService;
+    private EmployeeServiceImpl employeeService;
+    private ProjectServiceImpl projectService;
+    private DepartmentServiceImpl departmentService;
+    private ClientServiceImpl clientService;
+    private ApprovalServiceImpl approvalService;
+
+    private TimeSheet timeSheet;
+    private List<TimeSheetEntryResponseDTO> timeSheetEntries;
+    private TimeSheetEntry timeSheetEntry;
+    private Employee employee;
+    private Project project;
+    private Department department;
+    private Client client;
+    private Approval approval;
+
+    @Setup
+    public void setUp() {
+        DtoMappingMetrics dtoMappingMetrics = new DtoMappingMetrics(new SimpleMeterRegistry(), metrics);
+        timeSheetService = new TimeSheetServiceImpl(null, null, null, null, null, null, null, dtoMappingMetrics);
+        timeSheetEntryService = new TimeSheetEntryServiceImpl(null, null, null, null, null, dtoMappingMetrics, null);
+        employeeService = new EmployeeServiceImpl(null, null, null, null, dtoMappingMetrics);
+        projectService = new ProjectServiceImpl(null, null, null, null, dtoMappingMetrics);
+        departmentService = new DepartmentServiceImpl(null, null, null, dtoMappingMetrics);
+        clientService = new ClientServiceImpl(null, null, dtoMappingMetrics);
+        approvalService = new ApprovalServiceImpl(null, null, null, null, null, null, null, 5000, dtoMappingMetrics);
+
+        department = BenchmarkFixtures.department(1);
+        Employee manager = BenchmarkFixtures.employee(2, department, null);
+        employee = BenchmarkFixtures.employee(3, department, manager);
+        project = BenchmarkFixtures.project(1);
+        client = project.getClient();
+        timeSheet = BenchmarkFixtures.timeSheet(1, employee);
+        timeSheetEntries = BenchmarkFixtures.entries(1);
+        timeSheetEntry = new TimeSheetEntry(timeSheet, BenchmarkFixtures.MONDAY, project, "Feature work", new BigDecimal("7.50"));
+        timeSheetEntry.setEntryId(1);
+        approval = BenchmarkFixtures.approval(1, timeSheet, manager);
+    }
+
+    @Benchmark
+    public TimeSheetResponseDTO timeSheet() throws Throwable {
+        return (TimeSheetResponseDTO) TIME_SHEET.invokeExact(timeSheetService, timeSheet, (List) timeSheetEntries);
+    }
+
+    @Benchmark
+    public TimeSheetEntryResponseDTO timeSheetEntry() throws Throwable {
+        return (TimeSheetEntryResponseDTO) TIME_SHEET_ENTRY.invokeExact(timeSheetEntryService, timeSheetEntry);
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO employee() throws Throwable {
+        return (EmployeeResponseDTO) EMPLOYEE.invokeExact(employeeService, employee);
+    }
+
+    @Benchmark
+    public ProjectResponseDTO project() throws Throwable {
+        return (ProjectResponseDTO) PROJECT.invokeExact(projectService, project);
+    }
+
+    @Benchmark
+    public DepartmentResponseDTO department() throws Throwable {
+        return (DepartmentResponseDTO) DEPARTMENT.invokeExact(departmentService, department);
+    }
+
+    @Benchmark
+    public ClientResponseDTO client() throws Throwable {
+        return (ClientResponseDTO) CLIENT.invokeExact(clientService, client);
+    }
+
+    @Benchmark
+    public ApprovalResponseDTO approval() throws Throwable {
+        return (ApprovalResponseDTO) APPROVAL.invokeExact(approvalService, approval);
+    }
+
+    private static MethodHandle mapping(Class<?> service, String name, Class<?> dto, Class<?>... parameters) {
+        try {
+            return MethodHandles.privateLookupIn(service, MethodHandles.lookup())
+                    .findVirtual(service, name, MethodType.methodType(dto, parameters));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No " + name + " mapping in " + service.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.benchmark;
+
+import org.example.dto.response.TimeSheetEntryResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The calculated total of TimeSheetServiceImpl.findDetailById and mapTimeSheet: a stream reduce over BigDecimal hours.
+// 5 entries is a normal week, 60 a fully itemized month.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HoursSummationBenchmark {
+
+    @Param({"5", "60"})
+    private int entries;
+
+    private List<TimeSheetEntryResponseDTO> timeSheetEntries;
+
+    @Setup
+    public void setUp() {
+        timeSheetEntries = new ArrayList<>();
+        for (int timesheetId = 1; timeSheetEntries.size() < entries; timesheetId++) {
+            timeSheetEntries.addAll(BenchmarkFixtures.entries(timesheetId));
+        }
+        timeSheetEntries = timeSheetEntries.subList(0, entries);
+    }
+
+    @Benchmark
+    public BigDecimal streamReduce() {
+        return timeSheetEntries.stream()
+                .map(entry -> entry.hoursWorked())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    // Same sum without the stream pipeline, for comparison
+    @Benchmark
+    public BigDecimal loop() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (TimeSheetEntryResponseDTO entry : timeSheetEntries) {
+            total = total.add(entry.hoursWorked());
+        }
+        return total;
+    }
+}
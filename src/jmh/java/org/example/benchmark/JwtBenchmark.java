@@ -0,0 +1,61 @@
+package org.example.benchmark;
+
+import org.example.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Token checks done by JwtAuthenticationFilter on every request. A cache size of 0 measures the HS512 verification
+// itself; 10000 is the default verified-token cache, where repeat requests with the same token are a digest lookup.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs512-signatures-0123456789-abcdefghij";
+
+    @Param({"0", "10000"})
+    private int verifiedTokenCacheSize;
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3_600_000, verifiedTokenCacheSize);
+        token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken("jane.doe", null,
+                List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"), new SimpleGrantedAuthority("ROLE_MANAGER"))));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromJWT() {
+        return tokenProvider.getUsernameFromJWT(token);
+    }
+
+    // What the filter does per request: validate, then read the subject
+    @Benchmark
+    public String validateThenGetUsername() {
+        return tokenProvider.validateToken(token) ? tokenProvider.getUsernameFromJWT(token) : null;
+    }
+}
@@ -0,0 +1,120 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Base of the migrations after V1. Databases baselined at V1 may already have their tables, columns and indexes,
+// created by spring.jpa.hibernate.ddl-auto=update or by an older copy of database_schema.sql, so every step checks
+// the JDBC metadata first. MySQL has no IF NOT EXISTS for columns and indexes; this runs the same on MySQL and H2.
+abstract class GuardedMigration extends BaseJavaMigration {
+
+    @Override
+    public final void migrate(Context context) throws Exception {
+        migrate(new Schema(context.getConnection()));
+    }
+
+    abstract void migrate(Schema schema) throws SQLException;
+
+    static final class Schema {
+
+        private final Connection connection;
+
+        private Schema(Connection connection) {
+            this.connection = connection;
+        }
+
+        void createTable(String table, String columns) throws SQLException {
+            if (tableName(table) == null) {
+                execute("CREATE TABLE " + table + " (" + columns + ")");
+            }
+        }
+
+        void addColumn(String table, String column, String definition) throws SQLException {
+            if (!hasColumn(table, column)) {
+                execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+            }
+        }
+
+        void createIndex(String index, String table, String columns) throws SQLException {
+            if (!hasIndex(table, index)) {
+                execute("CREATE INDEX " + index + " ON " + table + "(" + columns + ")");
+            }
+        }
+
+        void dropIndex(String index, String table) throws SQLException {
+            if (hasIndex(table, index)) {
+                execute("DROP INDEX " + index + " ON " + table);
+            }
+        }
+
+        void execute(String sql) throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            }
+        }
+
+        // Backfills only fill tables nothing has written to yet
+        boolean isEmpty(String table) throws SQLException {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery("SELECT 1 FROM " + table + " LIMIT 1")) {
+                return !rows.next();
+            }
+        }
+
+        Connection connection() {
+            return connection;
+        }
+
+        boolean hasColumn(String table, String column) throws SQLException {
+            String storedTable = tableName(table);
+            if (storedTable == null) {
+                return false;
+            }
+            try (ResultSet columns = metaData().getColumns(connection.getCatalog(), connection.getSchema(), storedTable, null)) {
+                while (columns.next()) {
+                    if (column.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        boolean hasIndex(String table, String index) throws SQLException {
+            String storedTable = tableName(table);
+            if (storedTable == null) {
+                return false;
+            }
+            try (ResultSet indexes = metaData().getIndexInfo(connection.getCatalog(), connection.getSchema(), storedTable, false, false)) {
+                while (indexes.next()) {
+                    if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        // The table name as stored: H2 folds it to lower case here, MySQL keeps it as created
+        private String tableName(String table) throws SQLException {
+            try (ResultSet tables = metaData().getTables(connection.getCatalog(), connection.getSchema(), null, new String[]{"TABLE"})) {
+                while (tables.next()) {
+                    if (table.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                        return tables.getString("TABLE_NAME");
+                    }
+                }
+            }
+            return null;
+        }
+
+        private DatabaseMetaData metaData() throws SQLException {
+            return connection.getMetaData();
+        }
+    }
+}
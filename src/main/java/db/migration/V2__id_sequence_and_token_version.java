@@ -0,0 +1,23 @@
+package db.migration;
+
+import java.sql.SQLException;
+
+public class V2__id_sequence_and_token_version extends GuardedMigration {
+
+    @Override
+    void migrate(Schema schema) throws SQLException {
+        // Pooled id generator state. TimesheetEntry ids have since gone back to AUTO_INCREMENT; the table is unused
+        schema.createTable("IdSequence", """
+                sequenceName VARCHAR(255) NOT NULL PRIMARY KEY,
+                nextValue BIGINT""");
+
+        // Start past every existing entry id
+        schema.execute("""
+                INSERT INTO IdSequence (sequenceName, nextValue)
+                SELECT 'TimesheetEntry', COALESCE(MAX(entryId), 0) + 50 FROM TimesheetEntry
+                WHERE NOT EXISTS (SELECT 1 FROM IdSequence WHERE sequenceName = 'TimesheetEntry')""");
+
+        // Per-user token version used for JWT revocation
+        schema.addColumn("User", "tokenVersion", "INT NOT NULL DEFAULT 0");
+    }
+}
@@ -0,0 +1,32 @@
+package db.migration;
+
+import java.sql.SQLException;
+
+// Composite indexes for the hottest repository access paths
+public class V3__query_indexes extends GuardedMigration {
+
+    @Override
+    void migrate(Schema schema) throws SQLException {
+        // TimeSheetRepository.findByEmployeeEmployeeIdAndPeriodStartDateBetween and the per-employee keyset listing
+        schema.createIndex("idx_timesheet_employee_period", "Timesheet", "employeeId, periodStartDate, timesheetId");
+
+        // TimeSheetRepository.findByStatus and the status-filtered keyset listing
+        schema.createIndex("idx_timesheet_status_period", "Timesheet", "status, periodStartDate, timesheetId");
+
+        // ApprovalRepository.findByApprovedByEmployeeId, optionally narrowed by status
+        schema.createIndex("idx_approval_approver_status", "Approval", "approvedBy, status");
+
+        // ApprovalRepository.findByStatus
+        schema.createIndex("idx_approval_status", "Approval", "status, approvedBy");
+
+        // TimeSheetEntryRepository.findByDateBetween; also covers date-range hour sums per project
+        schema.createIndex("idx_entry_date_project_hours", "TimesheetEntry", "date, projectId, hoursWorked");
+
+        // The single-column indexes below are prefixes of the composites above and only cost writes now;
+        // the composites keep serving the foreign keys on employeeId and approvedBy
+        schema.dropIndex("idx_timesheet_employee", "Timesheet");
+        schema.dropIndex("idx_timesheet_status", "Timesheet");
+        schema.dropIndex("idx_timesheet_entry_date", "TimesheetEntry");
+        schema.dropIndex("idx_approval_approvedby", "Approval");
+    }
+}
@@ -0,0 +1,129 @@
+package db.migration;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Map;
+
+// Precomputed hours rollups, maintained incrementally by HoursRollupService. The existing entries are backfilled
+// here, the same way HoursRollupService.rebuild computes them, into every rollup table that is still empty.
+public class V4__hours_rollups extends GuardedMigration {
+
+    @Override
+    void migrate(Schema schema) throws SQLException {
+        schema.createTable("EmployeeProjectDayHours", """
+                rollupId BIGINT AUTO_INCREMENT PRIMARY KEY,
+                employeeId INT NOT NULL,
+                projectId INT NOT NULL,
+                workDate DATE NOT NULL,
+                totalHours DECIMAL(12,2) NOT NULL DEFAULT 0,
+                approvedHours DECIMAL(12,2) NOT NULL DEFAULT 0,
+                entryCount INT NOT NULL DEFAULT 0,
+                CONSTRAINT uk_employee_project_day UNIQUE (employeeId, projectId, workDate)""");
+
+        // Date-range reports scan this table by day
+        schema.createIndex("idx_employee_project_day_date", "EmployeeProjectDayHours", "workDate");
+
+        schema.createTable("ProjectWeekHours", """
+                rollupId BIGINT AUTO_INCREMENT PRIMARY KEY,
+                projectId INT NOT NULL,
+                weekStart DATE NOT NULL,
+                totalHours DECIMAL(12,2) NOT NULL DEFAULT 0,
+                approvedHours DECIMAL(12,2) NOT NULL DEFAULT 0,
+                entryCount INT NOT NULL DEFAULT 0,
+                CONSTRAINT uk_project_week UNIQUE (projectId, weekStart)""");
+
+        schema.createIndex("idx_project_week_start", "ProjectWeekHours", "weekStart");
+
+        schema.createTable("DepartmentMonthHours", """
+                rollupId BIGINT AUTO_INCREMENT PRIMARY KEY,
+                departmentId INT NOT NULL,
+                monthStart DATE NOT NULL,
+                totalHours DECIMAL(12,2) NOT NULL DEFAULT 0,
+                approvedHours DECIMAL(12,2) NOT NULL DEFAULT 0,
+                entryCount INT NOT NULL DEFAULT 0,
+                CONSTRAINT uk_department_month UNIQUE (departmentId, monthStart)""");
+
+        schema.createIndex("idx_department_month_start", "DepartmentMonthHours", "monthStart");
+
+        backfill(schema);
+    }
+
+    private static void backfill(Schema schema) throws SQLException {
+        if (schema.isEmpty("EmployeeProjectDayHours")) {
+            schema.execute("INSERT INTO EmployeeProjectDayHours "
+                    + "(employeeId, projectId, workDate, totalHours, approvedHours, entryCount) "
+                    + "SELECT t.employeeId, e.projectId, e.date, SUM(e.hoursWorked), "
+                    + "SUM(CASE WHEN t.status = 'APPROVED' THEN e.hoursWorked ELSE 0 END), COUNT(*) "
+                    + "FROM TimesheetEntry e JOIN Timesheet t ON t.timesheetId = e.timesheetId "
+                    + "GROUP BY t.employeeId, e.projectId, e.date");
+        }
+        boolean weeks = schema.isEmpty("ProjectWeekHours");
+        boolean months = schema.isEmpty("DepartmentMonthHours");
+        if (!weeks && !months) {
+            return;
+        }
+
+        // Weeks and months are folded from the day rows, which keeps date arithmetic out of vendor-specific SQL
+        Map<Period, Totals> projectWeeks = new HashMap<>();
+        Map<Period, Totals> departmentMonths = new HashMap<>();
+        try (Statement statement = schema.connection().createStatement();
+             ResultSet rs = statement.executeQuery("SELECT d.projectId, d.workDate, d.totalHours, d.approvedHours, "
+                     + "d.entryCount, emp.departmentId FROM EmployeeProjectDayHours d "
+                     + "JOIN Employee emp ON emp.employeeId = d.employeeId")) {
+            while (rs.next()) {
+                LocalDate workDate = rs.getDate("workDate").toLocalDate();
+                Totals day = new Totals(rs.getBigDecimal("totalHours"), rs.getBigDecimal("approvedHours"), rs.getLong("entryCount"));
+                LocalDate weekStart = workDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                projectWeeks.merge(new Period(rs.getInt("projectId"), weekStart), day, Totals::plus);
+                Integer departmentId = rs.getObject("departmentId", Integer.class);
+                // Employees without a department are left out of the department rollup
+                if (departmentId != null) {
+                    departmentMonths.merge(new Period(departmentId, workDate.withDayOfMonth(1)), day, Totals::plus);
+                }
+            }
+        }
+        if (weeks) {
+            insert(schema, "INSERT INTO ProjectWeekHours (projectId, weekStart, totalHours, approvedHours, entryCount) "
+                    + "VALUES (?, ?, ?, ?, ?)", projectWeeks);
+        }
+        if (months) {
+            insert(schema, "INSERT INTO DepartmentMonthHours (departmentId, monthStart, totalHours, approvedHours, entryCount) "
+                    + "VALUES (?, ?, ?, ?, ?)", departmentMonths);
+        }
+    }
+
+    private static void insert(Schema schema, String sql, Map<Period, Totals> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = schema.connection().prepareStatement(sql)) {
+            for (Map.Entry<Period, Totals> row : rows.entrySet()) {
+                statement.setInt(1, row.getKey().id());
+                statement.setDate(2, Date.valueOf(row.getKey().start()));
+                statement.setBigDecimal(3, row.getValue().total());
+                statement.setBigDecimal(4, row.getValue().approved());
+                statement.setLong(5, row.getValue().entries());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    // A project's week or a department's month
+    private record Period(int id, LocalDate start) {}
+
+    private record Totals(BigDecimal total, BigDecimal approved, long entries) {
+
+        Totals plus(Totals other) {
+            return new Totals(total.add(other.total), approved.add(other.approved), entries + other.entries);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package db.migration;
+
+import java.sql.SQLException;
+
+// Approval inbox lookups, see ApprovalInboxServiceImpl
+public class V6__approval_inbox_indexes extends GuardedMigration {
+
+    @Override
+    void migrate(Schema schema) throws SQLException {
+        // Pending rows of one approver; carries timesheetId so the inbox never reads the Approval rows themselves.
+        // Created before dropping idx_approval_approver_status, which MySQL otherwise keeps for the approvedBy foreign key
+        schema.createIndex("idx_approval_approver_pending", "Approval", "approvedBy, status, timesheetId");
+        schema.dropIndex("idx_approval_approver_status", "Approval");
+
+        // Direct reports of a manager, for timesheets that have no Approval row yet; also replaces the implicit foreign key index
+        schema.createIndex("idx_employee_manager", "Employee", "managerId");
+    }
+}
@@ -0,0 +1,21 @@
+package db.migration;
+
+import java.sql.SQLException;
+
+// Outbox for events every pod must see (cache invalidations, timesheet status push), see OutboxClusterEventTransport.
+// Each pod polls the rows after the last id it delivered; rows older than app.clusterEvents.retentionMs are deleted.
+public class V7__cluster_event_outbox extends GuardedMigration {
+
+    @Override
+    void migrate(Schema schema) throws SQLException {
+        schema.createTable("ClusterEventOutbox", """
+                eventId BIGINT AUTO_INCREMENT PRIMARY KEY,
+                entityType VARCHAR(32) NOT NULL,
+                action VARCHAR(32) NOT NULL,
+                payload TEXT,
+                origin VARCHAR(64) NOT NULL,
+                createdAt DATETIME(6) NOT NULL""");
+
+        schema.createIndex("idx_cluster_event_created", "ClusterEventOutbox", "createdAt");
+    }
+}
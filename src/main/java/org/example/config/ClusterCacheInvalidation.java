@@ -0,0 +1,98 @@
+package org.example.config;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.model.Client;
+import org.example.model.Department;
+import org.example.model.Project;
+import org.example.model.Role;
+import org.example.security.JwtTokenProvider;
+import org.example.security.UserDetailsCache;
+import org.example.service.ClusterEvent.ClusterEntityType;
+import org.example.service.ClusterEvent.ClusterEvent;
+import org.example.service.ClusterEvent.ClusterEventTransport;
+import org.example.service.ReferenceData.ReferenceDataInvalidationListener;
+import org.example.service.ReferenceData.ReferenceDataService;
+import org.example.service.TokenVersion.TokenVersionService;
+import org.example.service.TokenVersion.impl.TokenVersionServiceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// Applies user and reference-data invalidations published by other pods. This pod's own changes were already
+// applied by the listeners that published them. Second-level cache entries are evicted as well, for the
+// "hibernate" reference data mode.
+@Component
+public class ClusterCacheInvalidation {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterCacheInvalidation.class);
+
+    private final UserDetailsCache userDetailsCache;
+    private final TokenVersionService tokenVersionService;
+    private final JwtTokenProvider tokenProvider;
+    private final ReferenceDataService referenceDataService;
+    private final Cache secondLevelCache;
+
+    public ClusterCacheInvalidation(ClusterEventTransport clusterEventTransport,
+                                    UserDetailsCache userDetailsCache,
+                                    TokenVersionService tokenVersionService,
+                                    JwtTokenProvider tokenProvider,
+                                    ReferenceDataService referenceDataService,
+                                    EntityManagerFactory entityManagerFactory) {
+        this.userDetailsCache = userDetailsCache;
+        this.tokenVersionService = tokenVersionService;
+        this.tokenProvider = tokenProvider;
+        this.referenceDataService = referenceDataService;
+        this.secondLevelCache = entityManagerFactory.getCache();
+        clusterEventTransport.subscribe(ClusterEntityType.USER, this::onUserEvent);
+        clusterEventTransport.subscribe(ClusterEntityType.REFERENCE_DATA, this::onReferenceDataEvent);
+    }
+
+    private void onUserEvent(ClusterEvent event) {
+        Integer userId = parseId(event);
+        if (event.local() || userId == null) {
+            return;
+        }
+        userDetailsCache.invalidate(userId);
+        tokenVersionService.evict(userId);
+        if (TokenVersionServiceImpl.REVOKE.equals(event.action())) {
+            tokenProvider.evictVerifiedTokens(userId);
+        }
+    }
+
+    private void onReferenceDataEvent(ClusterEvent event) {
+        Integer id = parseId(event);
+        if (event.local() || id == null) {
+            return;
+        }
+        switch (event.action()) {
+            case ReferenceDataInvalidationListener.PROJECT -> {
+                referenceDataService.invalidateProject(id);
+                secondLevelCache.evict(Project.class, id);
+            }
+            case ReferenceDataInvalidationListener.CLIENT -> {
+                referenceDataService.invalidateClient(id);
+                secondLevelCache.evict(Client.class, id);
+            }
+            case ReferenceDataInvalidationListener.DEPARTMENT -> {
+                referenceDataService.invalidateDepartment(id);
+                secondLevelCache.evict(Department.class, id);
+            }
+            case ReferenceDataInvalidationListener.ROLE -> {
+                referenceDataService.invalidateRole(id);
+                secondLevelCache.evict(Role.class, id);
+            }
+            case ReferenceDataInvalidationListener.EMPLOYEE -> referenceDataService.invalidateEmployee(id);
+            default -> logger.debug("Ignoring reference data event {} with action {}", event.eventId(), event.action());
+        }
+    }
+
+    private static Integer parseId(ClusterEvent event) {
+        try {
+            return Integer.valueOf(event.payload());
+        } catch (NumberFormatException e) {
+            logger.warn("Skipping cluster event {} with unreadable id {}", event.eventId(), event.payload());
+            return null;
+        }
+    }
+}
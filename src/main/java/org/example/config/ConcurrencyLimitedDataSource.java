@@ -0,0 +1,110 @@
+package org.example.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Fair gate in front of the connection pool: a permit is taken when a connection is checked out and returned when it
+// is closed. Waiting threads park on the semaphore in arrival order, which is cheap for virtual threads, instead of
+// all competing inside the pool.
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    public record Stats(int maxConcurrent, int inUse, int waiting, long acquired, long timeouts, long maxWaitMs) {}
+
+    private final int maxConcurrent;
+    private final long acquireTimeoutMillis;
+    private final Semaphore permits;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxConcurrent, long acquireTimeoutMillis) {
+        super(target);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(maxConcurrent, maxConcurrent - permits.availablePermits(), permits.getQueueLength(),
+                acquired.sum(), timeouts.sum(), TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+    }
+
+    private void acquire() throws SQLException {
+        long started = System.nanoTime();
+        boolean granted;
+        try {
+            granted = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+        long waited = System.nanoTime() - started;
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        if (!granted) {
+            timeouts.increment();
+            throw new SQLTransientConnectionException("No database permit within " + acquireTimeoutMillis + " ms; "
+                    + maxConcurrent + " connections in use, " + permits.getQueueLength() + " waiting");
+        }
+        acquired.increment();
+    }
+
+    // The permit goes back exactly once, on the first close
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+}
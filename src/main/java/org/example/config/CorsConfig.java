@@ -25,7 +25,8 @@ public class CorsConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "HEAD", "TRACE", "CONNECT")
                 .allowedHeaders("*")
-                .exposedHeaders("Authorization", "Content-Type", "Content-Length")
+                .exposedHeaders("Authorization", "Content-Type", "Content-Length",
+                        "X-Entries-Inserted", "X-Entries-Updated", "X-Entries-Deleted")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
@@ -60,6 +61,9 @@ public class CorsConfig implements WebMvcConfigurer {
         configuration.addExposedHeader("Authorization");
         configuration.addExposedHeader("Content-Type");
         configuration.addExposedHeader("Content-Length");
+        configuration.addExposedHeader("X-Entries-Inserted");
+        configuration.addExposedHeader("X-Entries-Updated");
+        configuration.addExposedHeader("X-Entries-Deleted");
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -1,32 +1,20 @@
 package org.example.config;
 
-import org.example.model.Role;
-import org.example.repository.RoleRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.example.service.SeedData.SeedDataService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 @Component
 public class DataInitializer implements CommandLineRunner {
 
-    @Autowired
-    private RoleRepository roleRepository;
+    private final SeedDataService seedDataService;
 
-    @Override
-    public void run(String... args) throws Exception {
-        // Ensure all required roles exist (idempotent)
-        ensureRoleExists("ADMIN", "Administrator with full access");
-        ensureRoleExists("MANAGER", "Manager with department access");
-        ensureRoleExists("EMPLOYEE", "Regular employee");
+    public DataInitializer(SeedDataService seedDataService) {
+        this.seedDataService = seedDataService;
     }
 
-    private void ensureRoleExists(String roleName, String description) {
-        roleRepository.findByRoleName(roleName)
-            .orElseGet(() -> {
-                Role role = new Role(roleName, description);
-                Role saved = roleRepository.save(role);
-                System.out.println("Initialized missing role: " + roleName);
-                return saved;
-            });
+    @Override
+    public void run(String... args) throws Exception {
+        seedDataService.ensureRoles();
     }
-} 
\ No newline at end of file
+}
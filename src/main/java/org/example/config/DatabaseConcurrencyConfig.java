@@ -0,0 +1,53 @@
+package org.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// app.databaseLimiter.* puts a ConcurrencyLimitedDataSource in front of the pool. It is on by default when
+// spring.threads.virtual.enabled=true, where request concurrency is no longer capped by the Tomcat thread pool.
+@Configuration
+public class DatabaseConcurrencyConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseConcurrencyConfig.class);
+
+    @Bean
+    public static BeanPostProcessor databaseConcurrencyLimiter(Environment environment) {
+        boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        boolean enabled = environment.getProperty("app.databaseLimiter.enabled", Boolean.class, virtualThreads);
+        int configured = environment.getProperty("app.databaseLimiter.maxConcurrent", Integer.class, 0);
+        long acquireTimeoutMillis = environment.getProperty("app.databaseLimiter.acquireTimeoutMs", Long.class, 5000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                int maxConcurrent = limitFor(dataSource, configured);
+                logger.info("Limiting database connections of '{}' to {} concurrent checkouts (virtual threads: {})",
+                        beanName, maxConcurrent, virtualThreads);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrent, acquireTimeoutMillis);
+            }
+        };
+    }
+
+    // More permits than pooled connections would only move the queue back into the pool, so the pool size is the ceiling
+    static int limitFor(DataSource dataSource, int configured) {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return configured > 0 ? configured : 10;
+        }
+        int poolSize = hikari.getMaximumPoolSize();
+        if (configured > poolSize) {
+            logger.warn("app.databaseLimiter.maxConcurrent={} exceeds the pool size {}; using {}", configured, poolSize, poolSize);
+            return poolSize;
+        }
+        return configured > 0 ? configured : poolSize;
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Times the entity-to-response-DTO mapping in the services (dto.mapping, tagged with the DTO type). Lazy
+// associations touched while mapping are loaded inside the timed section and show up here.
+@Component
+public class DtoMappingMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+
+    public DtoMappingMetrics(MeterRegistry meterRegistry,
+                             @Value("${app.metrics.mapping.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    public <T> T time(Class<T> dtoType, Supplier<T> mapping) {
+        if (!enabled) {
+            return mapping.get();
+        }
+        Timer timer = timers.computeIfAbsent(dtoType, type -> Timer.builder("dto.mapping")
+                .tag("dto", type.getSimpleName())
+                .description("Time spent building response DTOs from entities")
+                .register(meterRegistry));
+        long started = System.nanoTime();
+        try {
+            return mapping.get();
+        } finally {
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.config;
+
+import org.example.dto.response.CacheStatsDTO;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+// Bounded map with a time-to-live, shared by the reference data, user details and approval inbox caches. Reads take no
+// lock. Only a put into a full cache locks, to drop expired entries (at most once a second) and then the oldest of a
+// few sampled entries, so the bound is kept without tracking recency on every read.
+//
+// Every invalidation advances a generation. A loader reads generation(key) before going to the database and hands it
+// back to put, so a value loaded before a concurrent invalidation of its key is never cached after it. Key generations
+// are striped: an invalidation of another key in the same stripe only costs one skipped put.
+public final class GenerationalCache<K, V> {
+
+    private static final int EVICTION_SAMPLE = 8;
+    private static final long SWEEP_INTERVAL_MILLIS = 1000;
+    private static final int GENERATION_STRIPES = 64;
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<K, Cached<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray keyGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong wideGeneration = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private long lastSweepMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public GenerationalCache(String name, int maxSize, long ttlMillis) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public V get(K key) {
+        Cached<V> cached = entries.get(key);
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(cached, System.currentTimeMillis())) {
+            if (entries.remove(key, cached)) {
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return cached.value();
+    }
+
+    // Moves on every invalidation of the cache; read before a bulk load and handed back to putAll
+    public long generation() {
+        return generation.get();
+    }
+
+    // Moves when this key (or another in its stripe) is invalidated, or the cache as a whole; handed back to put
+    public long generation(K key) {
+        return keyGenerations.get(stripe(key)) + wideGeneration.get();
+    }
+
+    // For callers that invalidate after commit themselves
+    public void put(K key, V value) {
+        store(key, value);
+    }
+
+    public void put(K key, V value, long loadedAtGeneration) {
+        if (generation(key) != loadedAtGeneration) {
+            return;
+        }
+        Cached<V> cached = store(key, value);
+        // An invalidation between the check and the store has removed the entry already, or misses it; take it out
+        if (cached != null && generation(key) != loadedAtGeneration) {
+            entries.remove(key, cached);
+        }
+    }
+
+    // Drops the whole load if anything was invalidated since loadedAtGeneration was read
+    public void putAll(Map<K, V> values, long loadedAtGeneration) {
+        for (Map.Entry<K, V> value : values.entrySet()) {
+            long keyGeneration = generation(value.getKey());
+            if (generation() != loadedAtGeneration) {
+                return;
+            }
+            put(value.getKey(), value.getValue(), keyGeneration);
+        }
+    }
+
+    // Returns whether a value was cached
+    public boolean invalidate(K key) {
+        keyGenerations.incrementAndGet(stripe(key));
+        generation.incrementAndGet();
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public void invalidateIf(Predicate<V> stale) {
+        wideGeneration.incrementAndGet();
+        generation.incrementAndGet();
+        entries.values().removeIf(cached -> {
+            if (stale.test(cached.value())) {
+                invalidations.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    public void clear() {
+        invalidateIf(value -> true);
+    }
+
+    // A live cached value matching the predicate, without counting a hit or a miss
+    public V find(Predicate<V> matches) {
+        long now = System.currentTimeMillis();
+        for (Cached<V> cached : entries.values()) {
+            if (!isExpired(cached, now) && matches.test(cached.value())) {
+                return cached.value();
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public CacheStatsDTO stats() {
+        return new CacheStatsDTO(name, entries.size(), maxSize, hits.sum(), misses.sum(), evictions.sum(),
+                expirations.sum(), invalidations.sum());
+    }
+
+    private Cached<V> store(K key, V value) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        Cached<V> cached = new Cached<>(value, now);
+        if (entries.size() < maxSize || entries.containsKey(key)) {
+            entries.put(key, cached);
+            return cached;
+        }
+        evictionLock.lock();
+        try {
+            makeRoom(now);
+            entries.put(key, cached);
+        } finally {
+            evictionLock.unlock();
+        }
+        return cached;
+    }
+
+    // Called with the eviction lock held
+    private void makeRoom(long now) {
+        if (now - lastSweepMillis >= SWEEP_INTERVAL_MILLIS) {
+            lastSweepMillis = now;
+            entries.values().removeIf(cached -> {
+                if (isExpired(cached, now)) {
+                    expirations.increment();
+                    return true;
+                }
+                return false;
+            });
+        }
+        while (entries.size() >= maxSize) {
+            Map.Entry<K, Cached<V>> victim = null;
+            Iterator<Map.Entry<K, Cached<V>>> sample = entries.entrySet().iterator();
+            for (int i = 0; i < EVICTION_SAMPLE && sample.hasNext(); i++) {
+                Map.Entry<K, Cached<V>> candidate = sample.next();
+                if (victim == null || candidate.getValue().loadedAt() < victim.getValue().loadedAt()) {
+                    victim = candidate;
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            if (entries.remove(victim.getKey(), victim.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private boolean isExpired(Cached<V> cached, long now) {
+        return now - cached.loadedAt() >= ttlMillis;
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    private record Cached<V>(V value, long loadedAt) {}
+}
@@ -0,0 +1,24 @@
+package org.example.config;
+
+import org.example.service.HoursRollup.HoursRollupService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Command-line backfill: start the application with --app.hoursRollupRebuildOnStartup=true
+@Component
+@ConditionalOnProperty(name = "app.hoursRollupRebuildOnStartup", havingValue = "true")
+public class HoursRollupRebuildRunner implements ApplicationRunner {
+
+    private final HoursRollupService hoursRollupService;
+
+    public HoursRollupRebuildRunner(HoursRollupService hoursRollupService) {
+        this.hoursRollupService = hoursRollupService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        hoursRollupService.rebuild();
+    }
+}
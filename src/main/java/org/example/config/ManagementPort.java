@@ -0,0 +1,25 @@
+package org.example.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+// The port the actuator endpoints are served on (management.server.port), as bound once the management server has
+// started; the child context that runs it publishes its startup event to this context as well
+@Component
+public class ManagementPort implements ApplicationListener<WebServerInitializedEvent> {
+
+    private volatile int port = -1;
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if ("management".equals(event.getApplicationContext().getServerNamespace())) {
+            port = event.getWebServer().getPort();
+        }
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        return request.getLocalPort() == port;
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.example.controller.TimeSheetEventStreams;
+import org.example.dto.response.CacheStatsDTO;
+import org.example.security.UserDetailsCache;
+import org.example.service.ApprovalInbox.ApprovalInboxService;
+import org.example.service.ClusterEvent.ClusterEventTransport;
+import org.example.service.ReferenceData.ReferenceDataService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+// Application meters next to the ones Spring Boot binds itself (HTTP server requests, repository invocations,
+// Hikari). Every subsystem has its own switch; see the "Metrics" section of application.properties.
+@Configuration
+public class MetricsConfig {
+
+    // Bucketed latency histograms only for the hot endpoints: each histogram costs ~70 series per uri and outcome
+    @Bean
+    public MeterFilter httpLatencyHistograms(@Value("${app.metrics.http.histogramUris:}") List<String> uriPrefixes) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!"http.server.requests".equals(id.getName())) {
+                    return config;
+                }
+                String uri = id.getTag("uri");
+                if (uri == null || uriPrefixes.stream().noneMatch(uri::startsWith)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        };
+    }
+
+    // Read from the existing stats() methods at scrape time; nothing is added to the request path
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.internals.enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder internalStatsMetrics(UserDetailsCache userDetailsCache,
+                                            ReferenceDataService referenceDataService,
+                                            ApprovalInboxService approvalInboxService,
+                                            TimeSheetEventStreams timeSheetEventStreams,
+                                            ClusterEventTransport clusterEventTransport,
+                                            DataSource dataSource) {
+        return registry -> {
+            bindCache(registry, userDetailsCache::stats);
+            for (CacheStatsDTO stats : referenceDataService.stats()) {
+                bindCache(registry, () -> referenceDataService.stats().stream()
+                        .filter(current -> current.name().equals(stats.name())).findFirst().orElse(stats));
+            }
+            bindCache(registry, approvalInboxService::stats);
+
+            Gauge.builder("timesheet.events.connections", timeSheetEventStreams, streams -> streams.stats().connections())
+                    .description("Open server-sent event streams").register(registry);
+            FunctionCounter.builder("timesheet.events.dropped", timeSheetEventStreams, streams -> streams.stats().droppedConnections())
+                    .description("Streams closed because the client fell behind").register(registry);
+            FunctionCounter.builder("timesheet.events.delivered", timeSheetEventStreams, streams -> streams.stats().delivered())
+                    .register(registry);
+            FunctionCounter.builder("timesheet.events.missed.replays", timeSheetEventStreams, streams -> streams.stats().missedReplays())
+                    .register(registry);
+            FunctionCounter.builder("timesheet.events.late", timeSheetEventStreams, streams -> streams.stats().lateEvents())
+                    .description("Events that committed too late to stream; their recipients were told to reload")
+                    .register(registry);
+
+            Tags transport = Tags.of("transport", clusterEventTransport.stats().transport());
+            FunctionCounter.builder("cluster.events.published", clusterEventTransport, events -> events.stats().published())
+                    .tags(transport).register(registry);
+            FunctionCounter.builder("cluster.events.delivered", clusterEventTransport, events -> events.stats().delivered())
+                    .tags(transport).register(registry);
+            FunctionCounter.builder("cluster.events.skipped.gaps", clusterEventTransport, events -> events.stats().skippedGaps())
+                    .tags(transport).register(registry);
+            FunctionCounter.builder("cluster.events.late", clusterEventTransport, events -> events.stats().lateEvents())
+                    .tags(transport).description("Events delivered after their id had been skipped").register(registry);
+            Gauge.builder("cluster.events.lag.last", clusterEventTransport, events -> events.stats().lastLagMillis())
+                    .tags(transport).baseUnit("milliseconds").description("Delivery lag of the last event").register(registry);
+            Gauge.builder("cluster.events.lag.max", clusterEventTransport, events -> events.stats().maxLagMillis())
+                    .tags(transport).baseUnit("milliseconds").register(registry);
+
+            // The statement counting proxy may sit in front of the limiter
+            ConcurrencyLimitedDataSource limiter = unwrapLimiter(dataSource);
+            if (limiter != null) {
+                Gauge.builder("db.limiter.in.use", limiter, current -> current.stats().inUse()).register(registry);
+                Gauge.builder("db.limiter.waiting", limiter, current -> current.stats().waiting())
+                        .description("Threads queued for a connection permit").register(registry);
+                Gauge.builder("db.limiter.max", limiter, current -> current.stats().maxConcurrent()).register(registry);
+                FunctionCounter.builder("db.limiter.timeouts", limiter, current -> current.stats().timeouts()).register(registry);
+            }
+        };
+    }
+
+    private static ConcurrencyLimitedDataSource unwrapLimiter(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)
+                    ? dataSource.unwrap(ConcurrencyLimitedDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static void bindCache(MeterRegistry registry, Supplier<CacheStatsDTO> stats) {
+        Tags cache = Tags.of("cache", stats.get().name());
+        Gauge.builder("app.cache.size", stats, current -> current.get().size()).tags(cache).register(registry);
+        counter(registry, "app.cache.hits", cache, stats, CacheStatsDTO::hits);
+        counter(registry, "app.cache.misses", cache, stats, CacheStatsDTO::misses);
+        counter(registry, "app.cache.evictions", cache, stats, CacheStatsDTO::evictions);
+        counter(registry, "app.cache.invalidations", cache, stats, CacheStatsDTO::invalidations);
+    }
+
+    private static void counter(MeterRegistry registry, String name, Tags tags, Supplier<CacheStatsDTO> stats,
+                                ToDoubleFunction<CacheStatsDTO> value) {
+        FunctionCounter.builder(name, stats, current -> value.applyAsDouble(current.get())).tags(tags).register(registry);
+    }
+}
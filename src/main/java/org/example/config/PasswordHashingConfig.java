@@ -0,0 +1,34 @@
+package org.example.config;
+
+import org.example.security.BoundedPasswordEncoder;
+import org.example.security.ConfigurablePasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    @Value("${app.passwordHashing.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${app.passwordHashing.bcryptCost:10}")
+    private int bcryptCost;
+
+    // 0 means half of the available processors, at least one
+    @Value("${app.passwordHashing.threads:0}")
+    private int threads;
+
+    @Value("${app.passwordHashing.queueCapacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.passwordHashing.timeoutMs:10000}")
+    private long timeoutMillis;
+
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder() {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new ConfigurablePasswordEncoder(algorithm, bcryptCost),
+                poolSize, queueCapacity, timeoutMillis);
+    }
+}
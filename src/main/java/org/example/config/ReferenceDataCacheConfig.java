@@ -0,0 +1,71 @@
+package org.example.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.example.service.ReferenceData.impl.ReferenceDataServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+
+// app.referenceDataCache.mode=memory keeps snapshots in ReferenceDataServiceImpl; =hibernate turns on the second-level
+// cache for the @Cacheable reference entities instead, with one bounded Ehcache region per entity
+@Configuration
+public class ReferenceDataCacheConfig {
+
+    static final List<String> ENTITY_REGIONS = List.of("reference.project", "reference.client", "reference.department", "reference.role");
+    static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceDataCacheCustomizer(
+            @Value("${app.referenceDataCache.mode:memory}") String mode,
+            @Value("${app.referenceDataCache.maxSize:5000}") int maxSize,
+            @Value("${app.referenceDataCache.ttlMs:600000}") long ttlMillis) {
+        return properties -> {
+            if (!ReferenceDataServiceImpl.MODE_HIBERNATE.equalsIgnoreCase(mode)) {
+                // Hibernate would otherwise enable the cache on its own once it finds hibernate-jcache on the classpath
+                properties.put("hibernate.cache.use_second_level_cache", false);
+                properties.put("hibernate.cache.use_query_cache", false);
+                return;
+            }
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.use_query_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("jakarta.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+            properties.put("hibernate.javax.cache.cache_manager", referenceDataCacheManager(maxSize, ttlMillis));
+        };
+    }
+
+    private static CacheManager referenceDataCacheManager(int maxSize, long ttlMillis) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), ReferenceDataCacheConfig.class.getClassLoader());
+        for (String region : ENTITY_REGIONS) {
+            createIfMissing(cacheManager, region, maxSize, Duration.ofMillis(ttlMillis));
+        }
+        createIfMissing(cacheManager, QUERY_RESULTS_REGION, maxSize, Duration.ofMillis(ttlMillis));
+        // Timestamps must outlive every cached query result, so this region never expires
+        createIfMissing(cacheManager, UPDATE_TIMESTAMPS_REGION, maxSize, null);
+        return cacheManager;
+    }
+
+    private static void createIfMissing(CacheManager cacheManager, String region, int maxSize, Duration ttl) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                Object.class, Object.class, ResourcePoolsBuilder.heap(Math.max(maxSize, 1)));
+        if (ttl != null) {
+            builder = builder.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl));
+        }
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(builder));
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.config;
+
+import org.example.service.ReferenceData.ReferenceDataService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Warms the reference data cache once startup (including DataInitializer) is done; disable with --app.referenceDataCache.preload=false
+@Component
+@ConditionalOnProperty(name = "app.referenceDataCache.preload", havingValue = "true", matchIfMissing = true)
+public class ReferenceDataPreloader {
+
+    private final ReferenceDataService referenceDataService;
+
+    public ReferenceDataPreloader(ReferenceDataService referenceDataService) {
+        this.referenceDataService = referenceDataService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        referenceDataService.preload();
+    }
+}
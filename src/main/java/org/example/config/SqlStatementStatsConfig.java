@@ -0,0 +1,100 @@
+package org.example.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.SimpleResultSetProxyLogic;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.List;
+
+// app.sqlStats.enabled puts a datasource-proxy in front of every DataSource and feeds SqlStatementTracker: statement
+// count, rows and execution time for whatever scope is open on the calling thread. With no scope open the proxy
+// only adds its own dispatch. countRows=false leaves result sets unproxied (rows then only cover updates).
+@Configuration
+public class SqlStatementStatsConfig {
+
+    private static final String STARTED = "sqlStats.started";
+
+    @Bean
+    public static BeanPostProcessor sqlStatementStatsProxy(Environment environment) {
+        boolean enabled = environment.getProperty("app.sqlStats.enabled", Boolean.class, true);
+        boolean countRows = environment.getProperty("app.sqlStats.countRows", Boolean.class, true);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new TrackingListener());
+                if (countRows) {
+                    builder.proxyResultSet((resultSet, connectionInfo, proxyConfig) ->
+                            new RowCountingLogic(new SimpleResultSetProxyLogic(resultSet, connectionInfo, proxyConfig)));
+                }
+                return builder.build();
+            }
+        };
+    }
+
+    private static final class TrackingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (SqlStatementTracker.active()) {
+                execInfo.addCustomValue(STARTED, System.nanoTime());
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Long started = execInfo.getCustomValue(STARTED, Long.class);
+            if (started == null || queryInfoList.isEmpty()) {
+                return;
+            }
+            SqlStatementTracker.statement(queryInfoList.get(0).getQuery(), execInfo.isBatch(),
+                    System.nanoTime() - started, affectedRows(execInfo.getResult()));
+        }
+
+        private static long affectedRows(Object result) {
+            if (result instanceof Integer count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof Long count) {
+                return Math.max(count, 0);
+            }
+            long total = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    total += Math.max(count, 0);
+                }
+            }
+            return total;
+        }
+    }
+
+    private record RowCountingLogic(ResultSetProxyLogic delegate) implements ResultSetProxyLogic {
+
+        @Override
+        public Object invoke(Method method, Object[] args) throws Throwable {
+            Object result = delegate.invoke(method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                SqlStatementTracker.rowRead();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// SQL statements, rows and database time per HTTP request, from the SqlStatementTracker scope opened here. Runs in
+// front of Spring Security so the JWT principal lookup is counted too. Work handed to another thread (async exports,
+// event streams) is not part of the request's numbers.
+// - app.sqlStats.responseHeader: X-Sql-Statements, X-Sql-Rows and X-Sql-Time-Ms on every response (off in prod)
+// - app.metrics.sql.enabled: sql.request.* distributions per uri pattern
+// - app.sqlStats.repeatedStatementThreshold: the same statement shape this often in one request is logged as a
+//   suspected N+1 and counted in sql.suspected.n_plus_one
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementStatsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeader;
+    private final boolean metricsEnabled;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatementStatsFilter(MeterRegistry meterRegistry,
+                                   @Value("${app.sqlStats.responseHeader:false}") boolean responseHeader,
+                                   @Value("${app.metrics.sql.enabled:true}") boolean metricsEnabled,
+                                   @Value("${app.sqlStats.repeatedStatementThreshold:10}") int repeatedStatementThreshold) {
+        if (repeatedStatementThreshold < 2) {
+            throw new IllegalArgumentException("Repeated statement threshold must be at least 2");
+        }
+        this.meterRegistry = meterRegistry;
+        this.responseHeader = responseHeader;
+        this.metricsEnabled = metricsEnabled;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.open()) {
+            try {
+                // Headers have to be in place before the body starts, so they are written when the response commits
+                filterChain.doFilter(request, responseHeader ? new StatsHeaderResponse(response, scope) : response);
+            } finally {
+                if (responseHeader && !response.isCommitted()) {
+                    writeHeaders(response, scope);
+                }
+                report(request, scope);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementTracker.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Map<String, Integer> repeated = scope.repeatedShapes(repeatedStatementThreshold);
+        if (!repeated.isEmpty()) {
+            Map.Entry<String, Integer> worst = repeated.entrySet().iterator().next();
+            logger.warn("Suspected N+1 in {} {}: {} statements, {} repeated shape(s); most frequent ({}x): {}",
+                    request.getMethod(), uri, scope.statements(), repeated.size(), worst.getValue(), worst.getKey());
+        }
+        if (!metricsEnabled) {
+            return;
+        }
+        DistributionSummary.builder("sql.request.statements").tag("uri", uri)
+                .description("SQL statements executed per HTTP request").register(meterRegistry).record(scope.statements());
+        DistributionSummary.builder("sql.request.rows").tag("uri", uri).baseUnit("rows")
+                .register(meterRegistry).record(scope.rows());
+        Timer.builder("sql.request.time").tag("uri", uri)
+                .description("Time spent executing SQL per HTTP request").register(meterRegistry)
+                .record(scope.nanos(), TimeUnit.NANOSECONDS);
+        if (!repeated.isEmpty()) {
+            Counter.builder("sql.suspected.n_plus_one").tag("uri", uri).register(meterRegistry).increment();
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, SqlStatementTracker.Scope scope) {
+        response.setHeader("X-Sql-Statements", Integer.toString(scope.statements()));
+        response.setHeader("X-Sql-Rows", Long.toString(scope.rows()));
+        response.setHeader("X-Sql-Time-Ms", Long.toString(TimeUnit.NANOSECONDS.toMillis(scope.nanos())));
+    }
+
+    private static final class StatsHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final SqlStatementTracker.Scope scope;
+
+        private StatsHeaderResponse(HttpServletResponse response, SqlStatementTracker.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders((HttpServletResponse) getResponse(), scope);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Per-thread statement accounting fed by the datasource proxy (see SqlStatementStatsConfig). Scopes nest: a
+// statement counts towards every open scope on the thread, so a test budget and the request filter can both watch
+// the same call. Statements on other threads (async exports, @Scheduled work) only count in scopes of their own.
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    // Kept per scope for failure messages and N+1 reports
+    private static final int MAX_RECORDED_STATEMENTS = 200;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+
+    private SqlStatementTracker() {}
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    // Batches count as one round trip and are left out of the repeated-shape check
+    static void statement(String sql, boolean batch, long elapsedNanos, long affectedRows) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        String shape = batch ? null : shapeOf(sql);
+        for (; scope != null; scope = scope.parent) {
+            scope.record(sql, shape, elapsedNanos, affectedRows);
+        }
+    }
+
+    static void rowRead() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.rows++;
+        }
+    }
+
+    // Literals and IN-list lengths removed, so the same query with other arguments has the same shape
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return PLACEHOLDER_LIST.matcher(shape).replaceAll("?");
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final List<String> recorded = new ArrayList<>();
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int statements;
+        private long rows;
+        private long nanos;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String sql, String shape, long elapsedNanos, long affectedRows) {
+            statements++;
+            rows += affectedRows;
+            nanos += elapsedNanos;
+            if (recorded.size() < MAX_RECORDED_STATEMENTS) {
+                recorded.add(sql);
+            }
+            if (shape != null) {
+                shapes.merge(shape, 1, Integer::sum);
+            }
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        // Rows read through result sets plus rows reported by inserts, updates and deletes
+        public long rows() {
+            return rows;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+
+        public List<String> recordedStatements() {
+            return Collections.unmodifiableList(recorded);
+        }
+
+        // Statement shapes executed at least threshold times, most frequent first
+        public Map<String, Integer> repeatedShapes(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+
+        // Scopes must be closed in the reverse order they were opened
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() != this) {
+                throw new IllegalStateException("SQL statement scopes closed out of order");
+            }
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
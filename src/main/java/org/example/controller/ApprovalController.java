@@ -1,8 +1,14 @@
 package org.example.controller;
 
 import org.example.dto.request.ApprovalRequestDTO;
+import org.example.dto.request.BulkApprovalRequestDTO;
+import org.example.dto.response.ApprovalInboxCountDTO;
 import org.example.dto.response.ApprovalResponseDTO;
+import org.example.dto.response.BulkApprovalResultDTO;
+import org.example.dto.response.PendingApprovalPageDTO;
 import org.example.service.Approval.ApprovalService;
+import org.example.service.ApprovalInbox.ApprovalInboxService;
+import org.example.security.JwtUserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +24,9 @@ public class ApprovalController {
     @Autowired
     private ApprovalService approvalService;
 
+    @Autowired
+    private ApprovalInboxService approvalInboxService;
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     public ResponseEntity<List<ApprovalResponseDTO>> getAllApprovals() {
@@ -95,9 +104,9 @@ public class ApprovalController {
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
             }
             
-            // Cast to our User class to get employee information
-            org.example.model.User user = (org.example.model.User) authentication.getPrincipal();
-            Integer employeeId = user.getEmployee() != null ? user.getEmployee().getEmployeeId() : null;
+            // The principal carries the employee id from the token claims
+            JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
+            Integer employeeId = principal.getEmployeeId();
             
             if (employeeId == null) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -110,6 +119,75 @@ public class ApprovalController {
         }
     }
 
+    // Timesheets waiting on the current user, oldest period first; cursor is the nextCursor of the previous page
+    @GetMapping("/inbox")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<PendingApprovalPageDTO> getInbox(@RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer size) {
+        try {
+            Integer employeeId = currentEmployeeId();
+            if (employeeId == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            return new ResponseEntity<>(approvalInboxService.findPending(employeeId, cursor, size), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Badge count only; served from a per-approver counter
+    @GetMapping("/inbox/count")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApprovalInboxCountDTO> getInboxCount() {
+        try {
+            Integer employeeId = currentEmployeeId();
+            if (employeeId == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            return new ResponseEntity<>(new ApprovalInboxCountDTO(employeeId, approvalInboxService.countPending(employeeId)),
+                    HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // One decision for many approvals and/or timesheets; items that cannot be decided are reported, not failed
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<BulkApprovalResultDTO> decideAll(@RequestBody BulkApprovalRequestDTO request) {
+        try {
+            Integer employeeId = currentEmployeeId();
+            if (employeeId == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            return new ResponseEntity<>(approvalService.decideAll(request, employeeId, currentUserIsAdmin()), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static boolean currentUserIsAdmin() {
+        org.springframework.security.core.Authentication authentication =
+            org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
+    private static Integer currentEmployeeId() {
+        org.springframework.security.core.Authentication authentication =
+            org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtUserPrincipal principal)) {
+            return null;
+        }
+        return principal.getEmployeeId();
+    }
+
     // Inner class for delete response
     public static class DeleteResponse {
         private boolean status;
@@ -7,7 +7,6 @@ import org.example.dto.response.MessageResponseDTO;
 import org.example.dto.response.UserResponseDTO;
 import org.example.dto.response.LoginErrorResponseDTO;
 import org.example.model.Employee;
-import org.example.model.Role;
 import org.example.model.User;
 import org.example.model.UserRole;
 import org.example.repository.DepartmentRepository;
@@ -16,21 +15,28 @@ import org.example.repository.RoleRepository;
 import org.example.repository.UserRepository;
 import org.example.repository.UserRoleRepository;
 import org.example.security.JwtTokenProvider;
+import org.example.security.PasswordHashingBusyException;
+import org.example.security.UserSnapshot;
+import org.example.service.LoginAudit.LoginAuditService;
+import org.example.service.ReferenceData.ReferenceDataService;
+import org.example.service.ReferenceData.RoleSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -41,6 +47,8 @@ import java.util.stream.Collectors;
              maxAge = 3600)
 public class AuthController {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
+
     @Autowired
     private AuthenticationManager authenticationManager;
 
@@ -59,12 +67,18 @@ public class AuthController {
     @Autowired
     private UserRoleRepository userRoleRepository;
 
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private LoginAuditService loginAuditService;
+
     @GetMapping("/test/{userName}")
     public ResponseEntity<?> testUser(@PathVariable String userName) {
         User user = userRepository.findByUserName(userName);
@@ -102,39 +116,40 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@RequestBody LoginRequestDTO loginRequest) {
         try {
-            System.out.println("Attempting login for user: " + loginRequest.getUserName());
+            logger.debug("Attempting login for user: {}", loginRequest.getUserName());
             
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(loginRequest.getUserName(), loginRequest.getPassword()));
 
-            System.out.println("Authentication successful for user: " + loginRequest.getUserName());
-            
             SecurityContextHolder.getContext().setAuthentication(authentication);
             String jwt = tokenProvider.generateToken(authentication);
 
-            User userDetails = (User) authentication.getPrincipal();
-            List<String> roles = userDetails.getAuthorities().stream()
-                    .map(item -> item.getAuthority())
-                    .collect(Collectors.toList());
+            UserSnapshot userDetails = (UserSnapshot) authentication.getPrincipal();
+            List<String> roles = userDetails.getRoleNames();
 
-            // Update last login
-            userDetails.setLastLogin(LocalDateTime.now());
-            userRepository.save(userDetails);
+            // Written in coalesced batches off the request path
+            loginAuditService.recordLogin(userDetails.getUserId(), LocalDateTime.now());
 
             // Create UserResponseDTO with employee information
             UserResponseDTO infoUser = new UserResponseDTO(
-                userDetails.getEmployee() != null ? userDetails.getEmployee().getEmployeeId() : null,
-                userDetails.getEmployee() != null ? userDetails.getEmployee().getFirstName() : null,
-                userDetails.getEmployee() != null ? userDetails.getEmployee().getLastName() : null,
-                userDetails.getEmployee() != null ? userDetails.getEmployee().getEmail() : null,
-                userDetails.getEmployee() != null && userDetails.getEmployee().getManager() != null ? userDetails.getEmployee().getManager().getEmployeeId() : null
+                userDetails.getEmployeeId(),
+                userDetails.getEmployeeFirstName(),
+                userDetails.getEmployeeLastName(),
+                userDetails.getEmployeeEmail(),
+                userDetails.getManagerId()
             );
 
-            System.out.println("Login successful, returning JWT token");
             return ResponseEntity.ok(new JwtResponseDTO(jwt, userDetails.getUserId(), userDetails.getUserName(), roles, infoUser));
+        } catch (PasswordHashingBusyException e) {
+            logger.warn("Login rejected for user {}: {}", loginRequest.getUserName(), e.getMessage());
+            return ResponseEntity.status(503).header("Retry-After", "1")
+                    .body(new LoginErrorResponseDTO(503, "LOGIN_BUSY", "Too many logins in progress. Please try again shortly."));
+        } catch (AuthenticationException e) {
+            logger.info("Login failed for user {}: {}", loginRequest.getUserName(), e.getMessage());
+            String errorMessage = "Invalid username or password. Please check your credentials and try again.";
+            return ResponseEntity.status(401).body(new LoginErrorResponseDTO(401, "AUTHENTICATION_FAILED", errorMessage));
         } catch (Exception e) {
-            System.out.println("Login failed with exception: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Login failed for user {}", loginRequest.getUserName(), e);
             String errorMessage = "Invalid username or password. Please check your credentials and try again.";
             return ResponseEntity.status(401).body(new LoginErrorResponseDTO(401, "AUTHENTICATION_FAILED", errorMessage));
         }
@@ -200,23 +215,24 @@ public class AuthController {
         user = userRepository.save(user);
 
         Set<String> strRoles = signupRequest.getRoles();
-        Set<Role> roles = new HashSet<>();
+        // Roles are resolved from the reference data cache; the UserRole rows only need their ids
+        Set<Integer> roleIds = new LinkedHashSet<>();
 
         if (strRoles == null) {
-            Role userRole = roleRepository.findByRoleName("EMPLOYEE")
+            RoleSnapshot userRole = referenceDataService.findRole("EMPLOYEE")
                     .orElseThrow(() -> new RuntimeException("Error: Role is not found."));
-            roles.add(userRole);
+            roleIds.add(userRole.roleId());
         } else {
             strRoles.forEach(role -> {
-                Role foundRole = roleRepository.findByRoleName(role.toUpperCase())
+                RoleSnapshot foundRole = referenceDataService.findRole(role.toUpperCase())
                         .orElseThrow(() -> new RuntimeException("Error: Role " + role + " is not found."));
-                roles.add(foundRole);
+                roleIds.add(foundRole.roleId());
             });
         }
 
         // Create UserRole entries
-        for (Role role : roles) {
-            UserRole userRole = new UserRole(user, role);
+        for (Integer roleId : roleIds) {
+            UserRole userRole = new UserRole(user, roleRepository.getReferenceById(roleId));
             userRoleRepository.save(userRole);
         }
 
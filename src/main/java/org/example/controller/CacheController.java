@@ -0,0 +1,74 @@
+package org.example.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.dto.response.CacheStatsDTO;
+import org.example.dto.response.ClusterEventStatsDTO;
+import org.example.dto.response.ConditionalGetStatsDTO;
+import org.example.security.UserDetailsCache;
+import org.example.service.ApprovalInbox.ApprovalInboxService;
+import org.example.service.ClusterEvent.ClusterEventTransport;
+import org.example.service.ReferenceData.ReferenceDataService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+public class CacheController {
+    private final UserDetailsCache userDetailsCache;
+    private final ReferenceDataService referenceDataService;
+    private final ConditionalGetSupport conditionalGetSupport;
+    private final ApprovalInboxService approvalInboxService;
+    private final ClusterEventTransport clusterEventTransport;
+
+    @Autowired
+    public CacheController(UserDetailsCache userDetailsCache, ReferenceDataService referenceDataService,
+                           ConditionalGetSupport conditionalGetSupport, ApprovalInboxService approvalInboxService,
+                           ClusterEventTransport clusterEventTransport) {
+        this.userDetailsCache = userDetailsCache;
+        this.referenceDataService = referenceDataService;
+        this.conditionalGetSupport = conditionalGetSupport;
+        this.approvalInboxService = approvalInboxService;
+        this.clusterEventTransport = clusterEventTransport;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        try {
+            List<CacheStatsDTO> stats = new ArrayList<>();
+            stats.add(userDetailsCache.stats());
+            stats.addAll(referenceDataService.stats());
+            stats.add(approvalInboxService.stats());
+            return new ResponseEntity<>(stats, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 304 Not Modified ratio per endpoint that supports conditional GET
+    @GetMapping("/conditional-get")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<ConditionalGetStatsDTO>> getConditionalGetStats() {
+        try {
+            return new ResponseEntity<>(conditionalGetSupport.stats(), HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Invalidations and status events received from other pods, with their delivery lag
+    @GetMapping("/cluster-events")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ClusterEventStatsDTO> getClusterEventStats() {
+        try {
+            return new ResponseEntity<>(clusterEventTransport.stats(), HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.controller;
+
+import org.example.dto.response.ConditionalGetStatsDTO;
+import org.example.service.ResourceVersion.ResourceVersion;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Answers If-None-Match from a ResourceVersion before the response is built, and counts how often each endpoint
+// could answer 304 Not Modified. No Last-Modified is sent: a delete leaves MAX(updatedAt) where it was and the header
+// only has second precision, so If-Modified-Since alone could return a stale copy.
+@Component
+public class ConditionalGetSupport {
+
+    private final Map<String, Counters> countersByEndpoint = new ConcurrentHashMap<>();
+
+    // Sets the ETag on the response; true means the client's copy is current and 304 was set
+    public boolean checkNotModified(String endpoint, ResourceVersion version, WebRequest request) {
+        boolean notModified = request.checkNotModified("\"" + version.fingerprint() + "\"");
+
+        Counters counters = countersByEndpoint.computeIfAbsent(endpoint, key -> new Counters());
+        counters.requests.increment();
+        if (notModified) {
+            counters.notModified.increment();
+        }
+        return notModified;
+    }
+
+    public List<ConditionalGetStatsDTO> stats() {
+        return countersByEndpoint.entrySet().stream()
+                .map(entry -> {
+                    long requests = entry.getValue().requests.sum();
+                    long notModified = entry.getValue().notModified.sum();
+                    return new ConditionalGetStatsDTO(entry.getKey(), requests, notModified,
+                            requests == 0 ? 0.0 : (double) notModified / requests);
+                })
+                .sorted(Comparator.comparing(ConditionalGetStatsDTO::endpoint))
+                .toList();
+    }
+
+    private static final class Counters {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder notModified = new LongAdder();
+    }
+}
@@ -3,6 +3,7 @@ package org.example.controller;
 import org.example.dto.response.MessageResponseDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -33,6 +34,12 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(new MessageResponseDTO(message), HttpStatus.BAD_REQUEST);
     }
 
+    // Method security denials would otherwise fall through to the generic handler below as a 500
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<MessageResponseDTO> handleAccessDenied(AccessDeniedException ex) {
+        return new ResponseEntity<>(new MessageResponseDTO("Access denied"), HttpStatus.FORBIDDEN);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<MessageResponseDTO> handleGenericException(Exception ex) {
         String message = "An unexpected error occurred: " + ex.getMessage();
@@ -2,6 +2,7 @@ package org.example.controller;
 
 import org.example.dto.response.ProjectResponseDTO;
 import org.example.service.Project.ProjectService;
+import org.example.service.ResourceVersion.ResourceVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,15 +19,23 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ResourceVersionService resourceVersionService;
+    private final ConditionalGetSupport conditionalGetSupport;
 
     @Autowired
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ResourceVersionService resourceVersionService,
+                             ConditionalGetSupport conditionalGetSupport) {
         this.projectService = projectService;
+        this.resourceVersionService = resourceVersionService;
+        this.conditionalGetSupport = conditionalGetSupport;
     }
 
     @GetMapping
-    public ResponseEntity<List<ProjectResponseDTO>> getAllProjects() {
+    public ResponseEntity<List<ProjectResponseDTO>> getAllProjects(WebRequest webRequest) {
         try {
+            if (conditionalGetSupport.checkNotModified("GET /api/projects", resourceVersionService.projects(), webRequest)) {
+                return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+            }
             List<ProjectResponseDTO> projects = projectService.findAll();
             return new ResponseEntity<>(projects, HttpStatus.OK);
         } catch (Exception e) {
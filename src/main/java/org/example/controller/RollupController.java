@@ -0,0 +1,31 @@
+package org.example.controller;
+
+import org.example.dto.response.RollupRebuildDTO;
+import org.example.service.HoursRollup.HoursRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/rollups")
+public class RollupController {
+    private final HoursRollupService hoursRollupService;
+
+    @Autowired
+    public RollupController(HoursRollupService hoursRollupService) {
+        this.hoursRollupService = hoursRollupService;
+    }
+
+    // Backfill or repair: recomputes every hours rollup from the raw timesheet entries
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RollupRebuildDTO> rebuild() {
+        try {
+            return new ResponseEntity<>(hoursRollupService.rebuild(), HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
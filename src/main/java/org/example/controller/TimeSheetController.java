@@ -1,16 +1,30 @@
 package org.example.controller;
 
+import org.example.dto.request.TimeSheetFilterDTO;
 import org.example.dto.request.TimeSheetRequestDTO;
 import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
 import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.dto.response.TimeSheetEntryDeltaDTO;
 import org.example.dto.response.MessageResponseDTO;
 import org.example.dto.response.TimeSheetDetailResponseDTO;
+import org.example.dto.response.TimeSheetPageResponseDTO;
+import org.example.dto.response.TimeSheetEventStatsDTO;
+import org.example.model.TimeSheet;
+import org.example.service.TimeSheet.TimeSheetReconciliation;
 import org.example.service.TimeSheet.TimeSheetService;
+import org.example.service.TimeSheetExport.TimeSheetExportService;
+import org.example.service.ResourceVersion.ResourceVersionService;
+import org.example.security.JwtUserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.time.LocalDate;
@@ -33,10 +47,20 @@ import java.time.LocalDate;
 public class TimeSheetController {
 
     private final TimeSheetService timeSheetService;
+    private final TimeSheetExportService timeSheetExportService;
+    private final ResourceVersionService resourceVersionService;
+    private final ConditionalGetSupport conditionalGetSupport;
+    private final TimeSheetEventStreams timeSheetEventStreams;
 
     @Autowired
-    public TimeSheetController(TimeSheetService timeSheetService) {
+    public TimeSheetController(TimeSheetService timeSheetService, TimeSheetExportService timeSheetExportService,
+                               ResourceVersionService resourceVersionService, ConditionalGetSupport conditionalGetSupport,
+                               TimeSheetEventStreams timeSheetEventStreams) {
         this.timeSheetService = timeSheetService;
+        this.timeSheetExportService = timeSheetExportService;
+        this.resourceVersionService = resourceVersionService;
+        this.conditionalGetSupport = conditionalGetSupport;
+        this.timeSheetEventStreams = timeSheetEventStreams;
     }
 
     @PostMapping
@@ -67,17 +91,58 @@ public class TimeSheetController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
-    public ResponseEntity<List<TimeSheetResponseDTO>> getAllTimeSheets() {
+    public ResponseEntity<?> getAllTimeSheets(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer employeeId,
+            @RequestParam(required = false) Integer departmentId,
+            @RequestParam(required = false) LocalDate periodFrom,
+            @RequestParam(required = false) LocalDate periodTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
-            List<TimeSheetResponseDTO> timeSheets = timeSheetService.findAll();
-            return new ResponseEntity<>(timeSheets, HttpStatus.OK);
+            TimeSheetFilterDTO filter = new TimeSheetFilterDTO(status, employeeId, departmentId, periodFrom, periodTo);
+            TimeSheetPageResponseDTO page = timeSheetService.findPage(filter, cursor, size);
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new MessageResponseDTO(e.getMessage()), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> exportTimeSheets(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer employeeId,
+            @RequestParam(required = false) Integer departmentId,
+            @RequestParam(required = false) LocalDate periodFrom,
+            @RequestParam(required = false) LocalDate periodTo) {
+        TimeSheetExportService.Format exportFormat;
+        try {
+            exportFormat = TimeSheetExportService.Format.valueOf(format.toUpperCase());
+            if (status != null) {
+                TimeSheet.TimeSheetStatus.valueOf(status.toUpperCase());
+            }
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new MessageResponseDTO("Invalid export parameter: " + e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+
+        TimeSheetFilterDTO filter = new TimeSheetFilterDTO(status, employeeId, departmentId, periodFrom, periodTo);
+        // Rows are written to the response as they are read, on the async request thread
+        StreamingResponseBody body = outputStream -> timeSheetExportService.export(filter, exportFormat, outputStream);
+
+        boolean csv = exportFormat == TimeSheetExportService.Format.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : new MediaType("application", "x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"timesheets." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or #id == authentication.principal.employee.employeeId")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or #id == authentication.principal.employeeId")
     public ResponseEntity<TimeSheetResponseDTO> getTimeSheetById(@PathVariable Integer id) {
         try {
             TimeSheetResponseDTO timeSheet = timeSheetService.findById(id);
@@ -92,7 +157,7 @@ public class TimeSheetController {
     }
 
     @GetMapping("/{id}/detail")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or #id == authentication.principal.employee.employeeId")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or #id == authentication.principal.employeeId")
     public ResponseEntity<TimeSheetDetailResponseDTO> getTimeSheetDetailById(@PathVariable Integer id) {
         try {
             TimeSheetDetailResponseDTO timeSheetDetail = timeSheetService.findDetailById(id);
@@ -106,7 +171,7 @@ public class TimeSheetController {
 
     @GetMapping("/user")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('EMPLOYEE')")
-    public ResponseEntity<List<TimeSheetResponseDTO>> getTimeSheetsByCurrentUser() {
+    public ResponseEntity<List<TimeSheetResponseDTO>> getTimeSheetsByCurrentUser(WebRequest webRequest) {
         try {
             // Get the authenticated user's employeeId from the security context
             org.springframework.security.core.Authentication authentication = 
@@ -116,14 +181,20 @@ public class TimeSheetController {
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
             }
             
-            // Cast to our User class to get employee information
-            org.example.model.User user = (org.example.model.User) authentication.getPrincipal();
-            Integer employeeId = user.getEmployee() != null ? user.getEmployee().getEmployeeId() : null;
+            // The principal carries the employee id from the token claims
+            JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
+            Integer employeeId = principal.getEmployeeId();
             
             if (employeeId == null) {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
             
+            // Polling clients send the last ETag back; an unchanged fingerprint skips loading the timesheets
+            if (conditionalGetSupport.checkNotModified("GET /api/timesheets/user",
+                    resourceVersionService.timesheetsOfEmployee(employeeId), webRequest)) {
+                return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+            }
+
             List<TimeSheetResponseDTO> timeSheets = timeSheetService.findByEmployeeId(employeeId);
             return new ResponseEntity<>(timeSheets, HttpStatus.OK);
         } catch (Exception e) {
@@ -131,6 +202,40 @@ public class TimeSheetController {
         }
     }
 
+    // Status changes of the current user's timesheets and approvals, plus submissions of their reports, as server-sent
+    // events. Replaces polling /user; a reconnecting EventSource sends Last-Event-ID and gets what it missed.
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('EMPLOYEE')")
+    public ResponseEntity<SseEmitter> streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            org.springframework.security.core.Authentication authentication =
+                org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !(authentication.getPrincipal() instanceof JwtUserPrincipal principal)
+                    || principal.getEmployeeId() == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            // X-Accel-Buffering stops nginx from holding events back
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .header("X-Accel-Buffering", "no")
+                    .body(timeSheetEventStreams.open(principal.getEmployeeId(), lastEventId));
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/events/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TimeSheetEventStatsDTO> getEventStats() {
+        try {
+            return new ResponseEntity<>(timeSheetEventStreams.stats(), HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/employee/{employeeId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('EMPLOYEE')")
     public ResponseEntity<?> getTimeSheetsByEmployeeAndPeriod(
@@ -157,7 +262,7 @@ public class TimeSheetController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or #id == authentication.principal.employee.employeeId")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or #id == authentication.principal.employeeId")
     public ResponseEntity<TimeSheetResponseDTO> updateTimeSheet(@PathVariable Integer id, @RequestBody TimeSheetRequestDTO timeSheetRequestDTO) {
         try {
             TimeSheetResponseDTO updatedTimeSheet = timeSheetService.update(id, timeSheetRequestDTO);
@@ -173,8 +278,13 @@ public class TimeSheetController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('EMPLOYEE')")
     public ResponseEntity<Object> updateTimeSheetWithEntries(@PathVariable Integer id, @RequestBody TimeSheetWithEntriesRequestDTO timeSheetWithEntriesRequestDTO) {
         try {
-            TimeSheetResponseDTO updatedTimeSheet = timeSheetService.updateWithEntries(id, timeSheetWithEntriesRequestDTO);
-            return new ResponseEntity<>(updatedTimeSheet, HttpStatus.OK);
+            TimeSheetReconciliation reconciliation = timeSheetService.reconcileWithEntries(id, timeSheetWithEntriesRequestDTO);
+            TimeSheetEntryDeltaDTO delta = reconciliation.delta();
+            return ResponseEntity.ok()
+                    .header("X-Entries-Inserted", String.valueOf(delta.inserted()))
+                    .header("X-Entries-Updated", String.valueOf(delta.updated()))
+                    .header("X-Entries-Deleted", String.valueOf(delta.deleted()))
+                    .body(reconciliation.timeSheet());
         } catch (RuntimeException e) {
             // Check if it's a business rule violation (status not DRAFT)
             if (e.getMessage() != null && e.getMessage().contains("Cannot update timesheet with status")) {
@@ -0,0 +1,178 @@
+package org.example.controller;
+
+import jakarta.annotation.PreDestroy;
+import org.example.dto.response.TimeSheetEventDTO;
+import org.example.dto.response.TimeSheetEventStatsDTO;
+import org.example.service.TimeSheetEvent.TimeSheetEventService;
+import org.example.service.TimeSheetEvent.TimeSheetEventSubscription;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Server-sent event connections for GET /api/timesheets/events. An idle connection holds no thread: events and
+// heartbeats are queued per connection and written, in order, by a virtual thread that exits once the queue is empty.
+// A client that falls queueCapacity events behind is disconnected and catches up through Last-Event-ID.
+@Component
+public class TimeSheetEventStreams {
+
+    private final TimeSheetEventService timeSheetEventService;
+    private final long streamTimeoutMillis;
+    private final long retryMillis;
+    private final int maxConnections;
+    private final int queueCapacity;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder dropped = new LongAdder();
+
+    public TimeSheetEventStreams(TimeSheetEventService timeSheetEventService,
+                                 @Value("${app.timeSheetEvents.streamTimeoutMs:1800000}") long streamTimeoutMillis,
+                                 @Value("${app.timeSheetEvents.retryMs:5000}") long retryMillis,
+                                 @Value("${app.timeSheetEvents.maxConnections:20000}") int maxConnections,
+                                 @Value("${app.timeSheetEvents.queueCapacity:256}") int queueCapacity) {
+        this.timeSheetEventService = timeSheetEventService;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        this.retryMillis = retryMillis;
+        this.maxConnections = maxConnections;
+        this.queueCapacity = queueCapacity;
+    }
+
+    // Throws IllegalStateException when the pod already serves maxConnections streams
+    public SseEmitter open(Integer employeeId, String lastEventId) {
+        if (connections.size() >= maxConnections) {
+            throw new IllegalStateException("Too many event streams");
+        }
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Connection connection = new Connection(emitter);
+        connections.add(connection);
+        emitter.onCompletion(connection::close);
+        emitter.onError(error -> connection.close());
+        emitter.onTimeout(() -> {
+            connection.close();
+            emitter.complete();
+        });
+
+        connection.offer(SseEmitter.event().reconnectTime(retryMillis).comment("connected"));
+        TimeSheetEventSubscription subscription = timeSheetEventService.subscribe(employeeId, lastEventId,
+                event -> connection.offer(toSseEvent(event)), () -> connection.offer(reset()));
+        if (subscription.missedEvents()) {
+            connection.offer(reset());
+        }
+        connection.subscribed(subscription);
+        return emitter;
+    }
+
+    // Keeps proxies from closing idle streams and finds connections whose client has gone away
+    @Scheduled(fixedDelayString = "${app.timeSheetEvents.heartbeatMs:25000}")
+    public void heartbeat() {
+        for (Connection connection : connections) {
+            connection.offer(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    public TimeSheetEventStatsDTO stats() {
+        return timeSheetEventService.stats().withConnections(connections.size(), dropped.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Connection connection : List.copyOf(connections)) {
+            connection.close();
+            connection.emitter.complete();
+        }
+        writers.shutdown();
+    }
+
+    // No id, so the client's Last-Event-ID stays where it was
+    private static SseEmitter.SseEventBuilder reset() {
+        return SseEmitter.event().name("reset").data("reload");
+    }
+
+    private static SseEmitter.SseEventBuilder toSseEvent(TimeSheetEventDTO event) {
+        return SseEmitter.event()
+                .id(Long.toString(event.eventId()))
+                .name(event.kind())
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private final class Connection {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile TimeSheetEventSubscription subscription;
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void subscribed(TimeSheetEventSubscription subscription) {
+            this.subscription = subscription;
+            if (closed.get()) {
+                subscription.cancel();
+            }
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > queueCapacity) {
+                dropped.increment();
+                close();
+                emitter.complete();
+                return;
+            }
+            queue.add(event);
+            if (writing.compareAndSet(false, true)) {
+                writers.execute(this::write);
+            }
+        }
+
+        private void write() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The container reports the broken connection to the emitter as well
+                close();
+            } finally {
+                writing.set(false);
+            }
+            // An event offered after the last poll but before writing was cleared would otherwise wait for the next one
+            if (!closed.get() && !queue.isEmpty() && writing.compareAndSet(false, true)) {
+                writers.execute(this::write);
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            connections.remove(this);
+            queue.clear();
+            TimeSheetEventSubscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
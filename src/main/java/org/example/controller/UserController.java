@@ -2,12 +2,18 @@ package org.example.controller;
 
 import java.util.List;
 
+import org.example.dto.response.MessageResponseDTO;
 import org.example.dto.response.UserResponseDTO;
 import org.example.service.User.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -41,4 +47,56 @@ public class UserController {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    @PutMapping("/{userId}/active")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MessageResponseDTO> updateActive(@PathVariable Integer userId, @RequestParam boolean active) {
+        try {
+            userService.updateActive(userId, active);
+            return new ResponseEntity<>(new MessageResponseDTO(active ? "User activated" : "User deactivated"), HttpStatus.OK);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(new MessageResponseDTO(e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("/{userId}/revoke-tokens")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MessageResponseDTO> revokeTokens(@PathVariable Integer userId) {
+        try {
+            userService.revokeTokens(userId);
+            return new ResponseEntity<>(new MessageResponseDTO("Tokens revoked"), HttpStatus.OK);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(new MessageResponseDTO(e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PutMapping("/{userId}/roles/{roleName}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MessageResponseDTO> assignRole(@PathVariable Integer userId, @PathVariable String roleName) {
+        try {
+            userService.assignRole(userId, roleName);
+            return new ResponseEntity<>(new MessageResponseDTO("Role assigned"), HttpStatus.OK);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(new MessageResponseDTO(e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @DeleteMapping("/{userId}/roles/{roleName}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MessageResponseDTO> removeRole(@PathVariable Integer userId, @PathVariable String roleName) {
+        try {
+            userService.removeRole(userId, roleName);
+            return new ResponseEntity<>(new MessageResponseDTO("Role removed"), HttpStatus.OK);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(new MessageResponseDTO(e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
 }
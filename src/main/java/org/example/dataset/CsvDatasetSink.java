@@ -0,0 +1,155 @@
+package org.example.dataset;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+// One <Table>.csv per table plus load scripts for both databases, for loads too large for JDBC batches:
+// - load-mysql.sql: LOAD DATA LOCAL INFILE (mysql --local-infile=1 timesheetdb < load-mysql.sql)
+// - load-h2.sql: INSERT ... SELECT from CSVREAD (RUNSCRIPT FROM '.../load-h2.sql')
+// NULL is written as \N, booleans as 1/0 and timestamps as yyyy-MM-dd HH:mm:ss, which both databases read.
+// Both scripts end by rebuilding the hours rollups from the loaded entries, as the JDBC path does through
+// HoursRollupService.rebuild; only the week and month start expressions differ between the two.
+public class CsvDatasetSink implements DatasetSink {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String NULL = "\\N";
+
+    private static final String REBUILD_DAYS = """
+            DELETE FROM DepartmentMonthHours;
+            DELETE FROM ProjectWeekHours;
+            DELETE FROM EmployeeProjectDayHours;
+            INSERT INTO EmployeeProjectDayHours (employeeId, projectId, workDate, totalHours, approvedHours, entryCount)
+            SELECT t.employeeId, e.projectId, e.date, SUM(e.hoursWorked),
+            SUM(CASE WHEN t.status = 'APPROVED' THEN e.hoursWorked ELSE 0 END), COUNT(*)
+            FROM TimesheetEntry e JOIN Timesheet t ON t.timesheetId = e.timesheetId
+            GROUP BY t.employeeId, e.projectId, e.date;
+            """;
+    // %1$s is the start of the week (Monday) of d.workDate, %2$s the start of its month
+    private static final String REBUILD_PERIODS = """
+            INSERT INTO ProjectWeekHours (projectId, weekStart, totalHours, approvedHours, entryCount)
+            SELECT d.projectId, %1$s, SUM(d.totalHours), SUM(d.approvedHours), SUM(d.entryCount)
+            FROM EmployeeProjectDayHours d GROUP BY d.projectId, %1$s;
+            INSERT INTO DepartmentMonthHours (departmentId, monthStart, totalHours, approvedHours, entryCount)
+            SELECT emp.departmentId, %2$s, SUM(d.totalHours), SUM(d.approvedHours), SUM(d.entryCount)
+            FROM EmployeeProjectDayHours d JOIN Employee emp ON emp.employeeId = d.employeeId
+            WHERE emp.departmentId IS NOT NULL GROUP BY emp.departmentId, %2$s;
+            """;
+
+    private final Path directory;
+    private final Map<DatasetTable, Writer> writers = new EnumMap<>(DatasetTable.class);
+
+    public CsvDatasetSink(Path directory) {
+        this.directory = directory.toAbsolutePath();
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create " + this.directory, e);
+        }
+    }
+
+    @Override
+    public void write(DatasetTable table, Object... values) {
+        try {
+            Writer writer = writers.get(table);
+            if (writer == null) {
+                writer = Files.newBufferedWriter(file(table), StandardCharsets.UTF_8);
+                writer.write(String.join(",", table.columns()));
+                writer.write('\n');
+                writers.put(table, writer);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(format(values[i]));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + table.tableName() + ".csv", e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            for (Writer writer : writers.values()) {
+                writer.flush();
+            }
+            writeScripts();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not finish the CSV files in " + directory, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        IOException failure = null;
+        for (Writer writer : writers.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Could not close the CSV files in " + directory, failure);
+        }
+    }
+
+    private void writeScripts() throws IOException {
+        try (BufferedWriter mysql = Files.newBufferedWriter(directory.resolve("load-mysql.sql"), StandardCharsets.UTF_8);
+             BufferedWriter h2 = Files.newBufferedWriter(directory.resolve("load-h2.sql"), StandardCharsets.UTF_8)) {
+            mysql.write("SET FOREIGN_KEY_CHECKS = 0;\nSET UNIQUE_CHECKS = 0;\n");
+            h2.write("SET REFERENTIAL_INTEGRITY FALSE;\n");
+            for (DatasetTable table : writers.keySet()) {
+                String columns = String.join(", ", table.columns());
+                String file = file(table).toString().replace("\\", "/").replace("'", "''");
+                mysql.write("LOAD DATA LOCAL INFILE '" + file + "' INTO TABLE " + table.tableName()
+                        + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"'"
+                        + " LINES TERMINATED BY '\\n' IGNORE 1 LINES (" + columns + ");\n");
+                // CSVREAD options treat a backslash as an escape, so \N is written as \\N
+                h2.write("INSERT INTO " + table.tableName() + " (" + columns + ") SELECT * FROM CSVREAD('" + file
+                        + "', NULL, 'charset=UTF-8 nullString=\\\\N');\n");
+            }
+            mysql.write("SET UNIQUE_CHECKS = 1;\nSET FOREIGN_KEY_CHECKS = 1;\n");
+            h2.write("SET REFERENTIAL_INTEGRITY TRUE;\n");
+            mysql.write(REBUILD_DAYS);
+            mysql.write(REBUILD_PERIODS.formatted("DATE_SUB(d.workDate, INTERVAL WEEKDAY(d.workDate) DAY)",
+                    "DATE_SUB(d.workDate, INTERVAL DAYOFMONTH(d.workDate) - 1 DAY)"));
+            h2.write(REBUILD_DAYS);
+            h2.write(REBUILD_PERIODS.formatted("DATEADD(DAY, 1 - ISO_DAY_OF_WEEK(d.workDate), d.workDate)",
+                    "DATEADD(DAY, 1 - DAY_OF_MONTH(d.workDate), d.workDate)"));
+        }
+    }
+
+    private Path file(DatasetTable table) {
+        return directory.resolve(table.tableName() + ".csv");
+    }
+
+    // Generated text never contains backslashes, so quoting only has to handle separators and quotes
+    private static String format(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        if (value instanceof Boolean flag) {
+            return flag ? "1" : "0";
+        }
+        if (value instanceof LocalDateTime timestamp) {
+            return TIMESTAMP.format(timestamp);
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
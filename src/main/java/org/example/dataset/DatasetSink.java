@@ -0,0 +1,14 @@
+package org.example.dataset;
+
+// Destination of generated rows. Rows of one table arrive in id order, but tables are interleaved (a timesheet, its
+// entries and its approval), so sinks must not rely on foreign keys being satisfied before the load completes.
+public interface DatasetSink extends AutoCloseable {
+
+    void write(DatasetTable table, Object... values);
+
+    // Makes everything written so far durable; called once after the last row
+    void finish();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,74 @@
+package org.example.dataset;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+// Size and shape of a generated dataset. Everything is derived from the seed and these numbers, so the same spec
+// always produces the same rows. Counts of departments, projects and clients follow from the employee count.
+public record DatasetSpec(
+        long seed,
+        int employees,
+        int weeks,
+        LocalDate firstMonday,
+        int teamSize,
+        int departmentSize,
+        int employeesPerProject,
+        int projectsPerClient,
+        int projectsPerEmployee,
+        int entriesPerTimesheet,
+        String password
+) {
+
+    public DatasetSpec {
+        if (employees < 1 || weeks < 1) {
+            throw new IllegalArgumentException("A dataset needs at least one employee and one week");
+        }
+        if (teamSize < 2 || departmentSize < 2 || employeesPerProject < 1 || projectsPerClient < 1) {
+            throw new IllegalArgumentException("Team size and department size must be at least 2, per-project and per-client counts at least 1");
+        }
+        if (projectsPerEmployee < 1 || entriesPerTimesheet < 1 || entriesPerTimesheet > 7 * 4) {
+            throw new IllegalArgumentException("Each employee needs a project, and a timesheet between 1 and 28 entries");
+        }
+        // Ids are INT columns
+        if ((long) employees * weeks * entriesPerTimesheet > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("More than " + Integer.MAX_VALUE + " timesheet entries requested");
+        }
+        if (firstMonday.getDayOfWeek() != DayOfWeek.MONDAY) {
+            throw new IllegalArgumentException("First week must start on a Monday: " + firstMonday);
+        }
+    }
+
+    // Reads the app.dataset.* names without prefix (employees, weeks, ...); anything missing keeps its default
+    public static DatasetSpec from(Function<String, String> property) {
+        return new DatasetSpec(
+                Long.parseLong(value(property, "seed", "42")),
+                Integer.parseInt(value(property, "employees", "1000")),
+                Integer.parseInt(value(property, "weeks", "52")),
+                LocalDate.parse(value(property, "firstMonday", "2021-01-04")),
+                Integer.parseInt(value(property, "teamSize", "8")),
+                Integer.parseInt(value(property, "departmentSize", "150")),
+                Integer.parseInt(value(property, "employeesPerProject", "12")),
+                Integer.parseInt(value(property, "projectsPerClient", "4")),
+                Integer.parseInt(value(property, "projectsPerEmployee", "3")),
+                Integer.parseInt(value(property, "entriesPerTimesheet", "5")),
+                value(property, "password", "password"));
+    }
+
+    public int projects() {
+        return Math.max(1, employees / employeesPerProject);
+    }
+
+    public int clients() {
+        return Math.max(1, projects() / projectsPerClient);
+    }
+
+    public LocalDate lastSunday() {
+        return firstMonday.plusWeeks(weeks).minusDays(1);
+    }
+
+    private static String value(Function<String, String> property, String name, String defaultValue) {
+        String value = property.apply(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.dataset;
+
+import java.util.List;
+
+// Tables written by the generator, in load order, with the columns of each row it emits
+public enum DatasetTable {
+
+    ROLE("Role", "roleId", "roleName", "description", "createdAt", "updatedAt"),
+    DEPARTMENT("Department", "departmentId", "name", "headEmployeeId", "createdAt", "updatedAt"),
+    EMPLOYEE("Employee", "employeeId", "firstName", "lastName", "email", "position", "departmentId", "managerId",
+            "createdAt", "updatedAt"),
+    CLIENT("Client", "clientId", "clientName", "contactEmail", "contactPhone", "address", "createdAt", "updatedAt"),
+    PROJECT("Project", "projectId", "name", "description", "startDate", "endDate", "clientId", "projectManagerId", "status",
+            "createdAt", "updatedAt"),
+    EMPLOYEE_PROJECT("EmployeeProject", "employeeProjectId", "employeeId", "projectId", "roleInProject", "assignedDate",
+            "isActive", "createdAt", "updatedAt"),
+    USER("User", "userId", "userName", "password", "employeeId", "isActive", "tokenVersion", "createdAt", "updatedAt"),
+    USER_ROLE("UserRole", "userRoleId", "userId", "roleId", "assignedDate", "createdAt", "updatedAt"),
+    TIMESHEET("Timesheet", "timesheetId", "employeeId", "periodStartDate", "periodEndDate", "status", "submissionDate",
+            "totalHours", "createdAt", "updatedAt"),
+    TIMESHEET_ENTRY("TimesheetEntry", "entryId", "timesheetId", "date", "projectId", "taskDescription", "hoursWorked",
+            "createdAt", "updatedAt"),
+    APPROVAL("Approval", "approvalId", "timesheetId", "approvedBy", "approvedAt", "status", "comments", "createdAt",
+            "updatedAt");
+
+    private final String tableName;
+    private final List<String> columns;
+
+    DatasetTable(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    public String insertSql() {
+        return "INSERT INTO " + tableName + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+    }
+}
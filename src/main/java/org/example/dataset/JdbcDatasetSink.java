@@ -0,0 +1,105 @@
+package org.example.dataset;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Batched inserts over one connection, committed every batchSize rows. Foreign key checks are off while loading
+// (per session on MySQL, database-wide on H2), since departments reference their head employee and the generator
+// interleaves tables; the generator only writes ids it has written or will write.
+public class JdbcDatasetSink implements DatasetSink {
+
+    private final Connection connection;
+    private final boolean h2;
+    private final int batchSize;
+    private final Map<DatasetTable, PreparedStatement> statements = new EnumMap<>(DatasetTable.class);
+    private final Map<DatasetTable, Integer> pending = new EnumMap<>(DatasetTable.class);
+    private int uncommitted;
+
+    public JdbcDatasetSink(DataSource dataSource, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+        try {
+            this.connection = dataSource.getConnection();
+            this.h2 = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("h2");
+            connection.setAutoCommit(false);
+            execute(h2 ? "SET REFERENTIAL_INTEGRITY FALSE" : "SET FOREIGN_KEY_CHECKS = 0");
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not open a connection for the dataset load", e);
+        }
+    }
+
+    @Override
+    public void write(DatasetTable table, Object... values) {
+        try {
+            PreparedStatement statement = statements.get(table);
+            if (statement == null) {
+                statement = connection.prepareStatement(table.insertSql());
+                statements.put(table, statement);
+            }
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            if (pending.merge(table, 1, Integer::sum) >= batchSize) {
+                flush(table, statement);
+            }
+            if (++uncommitted >= batchSize) {
+                commit();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not insert into " + table.tableName(), e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not commit the dataset load", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+            connection.rollback();
+            execute(h2 ? "SET REFERENTIAL_INTEGRITY TRUE" : "SET FOREIGN_KEY_CHECKS = 1");
+            connection.setAutoCommit(true);
+            connection.close();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not close the dataset load connection", e);
+        }
+    }
+
+    private void commit() throws SQLException {
+        for (Map.Entry<DatasetTable, PreparedStatement> entry : statements.entrySet()) {
+            if (pending.getOrDefault(entry.getKey(), 0) > 0) {
+                flush(entry.getKey(), entry.getValue());
+            }
+        }
+        connection.commit();
+        uncommitted = 0;
+    }
+
+    private void flush(DatasetTable table, PreparedStatement statement) throws SQLException {
+        statement.executeBatch();
+        pending.put(table, 0);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
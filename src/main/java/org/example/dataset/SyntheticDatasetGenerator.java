@@ -0,0 +1,352 @@
+package org.example.dataset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Generates an organization and its timesheet history from a DatasetSpec:
+// - a management tree under one CEO, teams of teamSize/2 to 3*teamSize/2 direct reports
+// - departments that follow the tree: every CEO report heads one, and within a department of more than
+//   departmentSize people, a subtree of at least departmentSize/2 splits off into a department of its own
+// - clients and projects; a team shares most of its projects, and entries mostly go to an employee's first project
+// - one user per employee (userName(employeeId), all with the same password), EMPLOYEE role for everyone, MANAGER
+//   for everyone with reports, ADMIN for the CEO
+// - a weekly timesheet per employee with entries and an approval by the manager; old weeks are approved (a few
+//   rejected), the second-to-last week is partly pending, the last week is partly still a draft
+// Each employee's rows come from a random stream seeded with the spec's seed and the employee id, so an employee
+// looks the same in a larger dataset with the same seed. Rows are streamed to the sink; memory is a few ints per
+// employee, whatever the number of entries.
+public class SyntheticDatasetGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDatasetGenerator.class);
+
+    public static final String ADMIN_ROLE = "ADMIN";
+    public static final String MANAGER_ROLE = "MANAGER";
+    public static final String EMPLOYEE_ROLE = "EMPLOYEE";
+
+    private static final String[] FIRST_NAMES = {"Alex", "Maria", "James", "Linh", "Olivia", "Noah", "Sofia", "Liam", "Amara",
+            "Mateo", "Hana", "Ethan", "Priya", "Lucas", "Chloe", "Omar", "Emma", "Kenji", "Zara", "Daniel", "Mei", "Ivan",
+            "Grace", "Tomas", "Aisha", "Felix", "Nora", "Diego", "Ingrid", "Samuel"};
+    private static final String[] LAST_NAMES = {"Nguyen", "Smith", "Garcia", "Kim", "Müller", "Rossi", "Tanaka", "Silva",
+            "Johnson", "Kowalski", "Okafor", "Brown", "Dubois", "Patel", "Andersen", "Lopez", "Chen", "Novak", "Wilson",
+            "Haddad", "Larsen", "Costa", "Murphy", "Schmidt", "Ivanova", "Tran", "Walker", "Moreau", "Singh", "Yilmaz"};
+    private static final String[] DEPARTMENT_NAMES = {"Engineering", "Consulting", "Operations", "Finance", "Sales",
+            "Marketing", "Human Resources", "Quality Assurance", "Data Analytics", "Customer Success", "Design", "Legal"};
+    private static final String[] POSITIONS = {"Software Engineer", "Senior Software Engineer", "QA Engineer", "Business Analyst",
+            "Consultant", "Designer", "Data Analyst", "DevOps Engineer", "Project Coordinator", "Technical Writer"};
+    private static final String[] CLIENT_WORDS = {"Northwind", "Bluewater", "Summit", "Evergreen", "Ironclad", "Brightpath",
+            "Silverline", "Redwood", "Harbor", "Keystone", "Pioneer", "Lumen", "Atlas", "Crescent", "Granite", "Meridian"};
+    private static final String[] CLIENT_SUFFIXES = {"Logistics", "Health", "Bank", "Retail", "Energy", "Insurance", "Media", "Foods"};
+    private static final String[] PROJECT_KINDS = {"Portal", "Migration", "Data Platform", "Mobile App", "Audit", "Integration",
+            "Redesign", "Automation", "Analytics", "Support"};
+    private static final String[] TASKS = {"Feature development", "Code review", "Bug fixing", "Client meeting", "Testing",
+            "Requirements analysis", "Documentation", "Deployment", "Sprint planning", "Design review", "Support tickets"};
+    private static final String[] PROJECT_ROLES = {"Developer", "Developer", "Developer", "Tester", "Analyst", "Lead"};
+
+    private final DatasetSpec spec;
+    private final String passwordHash;
+    private final Map<String, Integer> roleIds;
+    // Creation time of reference rows; fixed, so that runs are reproducible
+    private final LocalDateTime createdAt;
+
+    // Empty roleIds: the roles do not exist yet and are written with ids 1 to 3
+    public SyntheticDatasetGenerator(DatasetSpec spec, String passwordHash, Map<String, Integer> roleIds) {
+        this.spec = spec;
+        this.passwordHash = passwordHash;
+        this.roleIds = roleIds;
+        this.createdAt = spec.firstMonday().minusWeeks(1).atTime(LocalTime.of(9, 0));
+    }
+
+    public static String userName(int employeeId) {
+        return "user" + employeeId;
+    }
+
+    public Map<DatasetTable, Long> generate(DatasetSink target) {
+        Map<DatasetTable, Long> counts = new EnumMap<>(DatasetTable.class);
+        DatasetSink sink = new DatasetSink() {
+            @Override
+            public void write(DatasetTable table, Object... values) {
+                target.write(table, values);
+                counts.merge(table, 1L, Long::sum);
+            }
+
+            @Override
+            public void finish() {
+                target.finish();
+            }
+
+            @Override
+            public void close() {
+                target.close();
+            }
+        };
+
+        Map<String, Integer> roles = roleIds.isEmpty() ? writeRoles(sink) : roleIds;
+        Organization organization = organize();
+        writeDepartments(sink, organization);
+        writeEmployees(sink, organization);
+        writeClientsAndProjects(sink, organization);
+        int[] employeeProjects = writeAssignments(sink, organization);
+        writeUsers(sink, organization, roles);
+        writeTimesheets(sink, organization, employeeProjects);
+        sink.finish();
+        return counts;
+    }
+
+    private Map<String, Integer> writeRoles(DatasetSink sink) {
+        Map<String, Integer> roles = Map.of(ADMIN_ROLE, 1, MANAGER_ROLE, 2, EMPLOYEE_ROLE, 3);
+        sink.write(DatasetTable.ROLE, 1, ADMIN_ROLE, "Administrator with full access", createdAt, createdAt);
+        sink.write(DatasetTable.ROLE, 2, MANAGER_ROLE, "Manager with department access", createdAt, createdAt);
+        sink.write(DatasetTable.ROLE, 3, EMPLOYEE_ROLE, "Regular employee", createdAt, createdAt);
+        return roles;
+    }
+
+    // Manager and department of every employee; employee 1 is the CEO, and a manager always has a lower id
+    private Organization organize() {
+        int employees = spec.employees();
+        int[] manager = new int[employees + 1];
+        int[] department = new int[employees + 1];
+        List<Integer> heads = new ArrayList<>();
+        boolean[] hasReports = new boolean[employees + 1];
+        SplittableRandom random = new SplittableRandom(spec.seed());
+
+        int parent = 1;
+        int openSlots = teamSize(random);
+        for (int id = 2; id <= employees; id++) {
+            manager[id] = parent;
+            hasReports[parent] = true;
+            if (--openSlots == 0) {
+                parent++;
+                openSlots = teamSize(random);
+            }
+        }
+        // Managers have lower ids, so one backwards pass sums every subtree
+        int[] subtree = new int[employees + 1];
+        for (int id = employees; id >= 1; id--) {
+            subtree[id]++;
+            if (id > 1) {
+                subtree[manager[id]] += subtree[id];
+            }
+        }
+        heads.add(1);
+        department[1] = 1;
+        for (int id = 2; id <= employees; id++) {
+            int inherited = department[manager[id]];
+            boolean oversized = subtree[heads.get(inherited - 1)] > spec.departmentSize()
+                    && subtree[id] >= spec.departmentSize() / 2;
+            if (manager[id] == 1 || oversized) {
+                heads.add(id);
+                department[id] = heads.size();
+            } else {
+                department[id] = inherited;
+            }
+        }
+        List<Integer> managers = new ArrayList<>();
+        for (int id = 1; id <= employees; id++) {
+            if (hasReports[id]) {
+                managers.add(id);
+            }
+        }
+        return new Organization(manager, department, hasReports, heads, managers);
+    }
+
+    private int teamSize(SplittableRandom random) {
+        int teamSize = spec.teamSize();
+        return random.nextInt(Math.max(1, teamSize / 2), teamSize + teamSize / 2 + 1);
+    }
+
+    private void writeDepartments(DatasetSink sink, Organization organization) {
+        List<Integer> heads = organization.heads();
+        for (int departmentId = 1; departmentId <= heads.size(); departmentId++) {
+            String name = departmentId == 1 ? "Executive Office" : numbered(DEPARTMENT_NAMES, departmentId - 2);
+            sink.write(DatasetTable.DEPARTMENT, departmentId, name, heads.get(departmentId - 1), createdAt, createdAt);
+        }
+    }
+
+    private void writeEmployees(DatasetSink sink, Organization organization) {
+        for (int id = 1; id <= spec.employees(); id++) {
+            SplittableRandom random = random(id);
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String position;
+            if (id == 1) {
+                position = "Chief Executive Officer";
+            } else if (organization.heads().get(organization.department()[id] - 1) == id) {
+                position = "Head of Department";
+            } else if (organization.hasReports()[id]) {
+                position = "Team Lead";
+            } else {
+                position = POSITIONS[random.nextInt(POSITIONS.length)];
+            }
+            String email = (ascii(firstName) + "." + ascii(lastName) + "." + id + "@example.com").toLowerCase();
+            sink.write(DatasetTable.EMPLOYEE, id, firstName, lastName, email, position, organization.department()[id],
+                    id == 1 ? null : organization.manager()[id], createdAt, createdAt);
+        }
+    }
+
+    private void writeClientsAndProjects(DatasetSink sink, Organization organization) {
+        SplittableRandom random = new SplittableRandom(spec.seed() ^ 0x5DEECE66DL);
+        for (int clientId = 1; clientId <= spec.clients(); clientId++) {
+            String name = numbered(CLIENT_WORDS, clientId - 1) + " " + CLIENT_SUFFIXES[random.nextInt(CLIENT_SUFFIXES.length)];
+            sink.write(DatasetTable.CLIENT, clientId, name, "contact" + clientId + "@client.example.com",
+                    String.format("+1-555-%04d", clientId % 10_000), (100 + random.nextInt(900)) + " Market Street, Springfield",
+                    createdAt, createdAt);
+        }
+        List<Integer> managers = organization.managers();
+        for (int projectId = 1; projectId <= spec.projects(); projectId++) {
+            int clientId = (projectId - 1) % spec.clients() + 1;
+            int projectManager = managers.isEmpty() ? 1 : managers.get(random.nextInt(managers.size()));
+            LocalDate startDate = spec.firstMonday().minusWeeks(random.nextInt(1, 27));
+            int kind = random.nextInt(100);
+            String status = kind < 85 ? "ACTIVE" : kind < 95 ? "COMPLETED" : "PLANNING";
+            sink.write(DatasetTable.PROJECT, projectId, PROJECT_KINDS[random.nextInt(PROJECT_KINDS.length)] + " " + projectId,
+                    "Delivery project " + projectId + " for client " + clientId, startDate,
+                    "COMPLETED".equals(status) ? spec.lastSunday() : null, clientId, projectManager, status, createdAt, createdAt);
+        }
+    }
+
+    // Projects of every employee, projectsPerEmployee each, flattened by employee id; all but the last are chosen
+    // from the manager's id so that a team books onto the same projects
+    private int[] writeAssignments(DatasetSink sink, Organization organization) {
+        int perEmployee = Math.min(spec.projectsPerEmployee(), spec.projects());
+        int[] employeeProjects = new int[spec.employees() * perEmployee];
+        int assignmentId = 0;
+        for (int id = 1; id <= spec.employees(); id++) {
+            SplittableRandom team = random(-organization.manager()[id] - 1);
+            SplittableRandom own = random(id);
+            int offset = (id - 1) * perEmployee;
+            for (int k = 0; k < perEmployee; k++) {
+                int project = (k < perEmployee - 1 ? team : own).nextInt(spec.projects()) + 1;
+                while (contains(employeeProjects, offset, k, project)) {
+                    project = project % spec.projects() + 1;
+                }
+                employeeProjects[offset + k] = project;
+                LocalDate assigned = spec.firstMonday().minusWeeks(own.nextInt(0, 13));
+                sink.write(DatasetTable.EMPLOYEE_PROJECT, ++assignmentId, id, project,
+                        PROJECT_ROLES[own.nextInt(PROJECT_ROLES.length)], assigned, true, createdAt, createdAt);
+            }
+        }
+        return employeeProjects;
+    }
+
+    private void writeUsers(DatasetSink sink, Organization organization, Map<String, Integer> roles) {
+        int userRoleId = 0;
+        for (int id = 1; id <= spec.employees(); id++) {
+            sink.write(DatasetTable.USER, id, userName(id), passwordHash, id, true, 0, createdAt, createdAt);
+            sink.write(DatasetTable.USER_ROLE, ++userRoleId, id, roles.get(EMPLOYEE_ROLE), createdAt.toLocalDate(), createdAt, createdAt);
+            if (organization.hasReports()[id]) {
+                sink.write(DatasetTable.USER_ROLE, ++userRoleId, id, roles.get(MANAGER_ROLE), createdAt.toLocalDate(), createdAt, createdAt);
+            }
+            if (id == 1) {
+                sink.write(DatasetTable.USER_ROLE, ++userRoleId, id, roles.get(ADMIN_ROLE), createdAt.toLocalDate(), createdAt, createdAt);
+            }
+        }
+    }
+
+    private void writeTimesheets(DatasetSink sink, Organization organization, int[] employeeProjects) {
+        int perEmployee = employeeProjects.length / spec.employees();
+        int timesheetId = 0;
+        int entryId = 0;
+        int approvalId = 0;
+        int progressStep = Math.max(1, spec.employees() / 10);
+        for (int id = 1; id <= spec.employees(); id++) {
+            SplittableRandom random = random(id).split();
+            int approver = id == 1 ? 1 : organization.manager()[id];
+            for (int week = 0; week < spec.weeks(); week++) {
+                // Vacation
+                if (random.nextInt(100) < 4) {
+                    continue;
+                }
+                LocalDate start = spec.firstMonday().plusWeeks(week);
+                String status = status(random, spec.weeks() - 1 - week);
+                int entries = "DRAFT".equals(status) ? random.nextInt(1, spec.entriesPerTimesheet() + 1) : spec.entriesPerTimesheet();
+                LocalDateTime submitted = "DRAFT".equals(status) ? null
+                        : start.plusDays(4).atTime(16, 0).plusMinutes(random.nextInt(180));
+                LocalDateTime updatedAt = submitted != null ? submitted
+                        : start.plusDays((long) (entries - 1) * 5 / spec.entriesPerTimesheet()).atTime(17, 30);
+
+                timesheetId++;
+                BigDecimal total = BigDecimal.ZERO;
+                List<Object[]> entryRows = new ArrayList<>(entries);
+                for (int k = 0; k < entries; k++) {
+                    int project = random.nextInt(100) < 60 ? employeeProjects[(id - 1) * perEmployee]
+                            : employeeProjects[(id - 1) * perEmployee + random.nextInt(perEmployee)];
+                    BigDecimal hours = hours(random);
+                    total = total.add(hours);
+                    LocalDate date = start.plusDays((long) k * 5 / spec.entriesPerTimesheet());
+                    entryRows.add(new Object[]{++entryId, timesheetId, date, project, TASKS[random.nextInt(TASKS.length)],
+                            hours, date.atTime(12, 0), updatedAt});
+                }
+                sink.write(DatasetTable.TIMESHEET, timesheetId, id, start, start.plusDays(6), status, submitted, total,
+                        start.atTime(9, 0), updatedAt);
+                for (Object[] entry : entryRows) {
+                    sink.write(DatasetTable.TIMESHEET_ENTRY, entry);
+                }
+                if (submitted != null) {
+                    boolean decided = !"SUBMITTED".equals(status);
+                    LocalDateTime approvedAt = decided ? start.plusWeeks(1).atTime(9, 0).plusMinutes(random.nextInt(480)) : null;
+                    String approvalStatus = decided ? status : "PENDING";
+                    String comments = "REJECTED".equals(status) ? "Please split the hours by task" : null;
+                    sink.write(DatasetTable.APPROVAL, ++approvalId, timesheetId, approver, approvedAt, approvalStatus, comments,
+                            submitted, decided ? approvedAt : submitted);
+                }
+            }
+            if (id % progressStep == 0) {
+                logger.info("Generated timesheets of {}/{} employees ({} entries)", id, spec.employees(), entryId);
+            }
+        }
+    }
+
+    // Status of a timesheet weeksAgo weeks before the last generated week
+    private static String status(SplittableRandom random, int weeksAgo) {
+        int roll = random.nextInt(100);
+        if (weeksAgo == 0) {
+            return roll < 50 ? "DRAFT" : "SUBMITTED";
+        }
+        if (weeksAgo == 1) {
+            return roll < 60 ? "SUBMITTED" : "APPROVED";
+        }
+        return roll < 96 ? "APPROVED" : "REJECTED";
+    }
+
+    // Quarter hours, mostly between 6 and 9, as a day's work would be booked
+    private BigDecimal hours(SplittableRandom random) {
+        int quarters = (8 * 4 * 5 / spec.entriesPerTimesheet()) + random.nextInt(-4, 5);
+        return BigDecimal.valueOf(Math.max(1, quarters) * 25L, 2);
+    }
+
+    private SplittableRandom random(long id) {
+        return new SplittableRandom(spec.seed() * 1_000_003L + id);
+    }
+
+    private static boolean contains(int[] values, int offset, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[offset + i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "Engineering", ..., "Legal", then "Engineering 2", ...
+    private static String numbered(String[] names, int index) {
+        String name = names[index % names.length];
+        return index < names.length ? name : name + " " + (index / names.length + 1);
+    }
+
+    private static String ascii(String name) {
+        return name.replace("ü", "ue");
+    }
+
+    private record Organization(int[] manager, int[] department, boolean[] hasReports, List<Integer> heads,
+                                List<Integer> managers) {}
+}
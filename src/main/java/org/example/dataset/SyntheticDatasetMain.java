@@ -0,0 +1,60 @@
+package org.example.dataset;
+
+import org.example.TimeSheetManagementApplication;
+import org.example.security.ConfigurablePasswordEncoder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Command line generator. Plain options are the app.dataset.* names without prefix; dotted ones (--spring.*,
+// --server.*, ...) are passed on to the application as they are.
+//   --output=csv --csvDirectory=target/dataset --employees=100000 --weeks=260
+//       writes CSV files and load scripts, without a database connection
+//   --employees=8000 --weeks=260 --spring.datasource.url=jdbc:mysql://...
+//       starts the application under the "dataset" profile, loads the database, then exits
+public final class SyntheticDatasetMain {
+
+    private SyntheticDatasetMain() {}
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (name.contains(".")) {
+                springArgs.add(arg);
+            } else {
+                options.put(name, value);
+                springArgs.add("--app.dataset." + name + "=" + value);
+            }
+        }
+
+        if ("csv".equalsIgnoreCase(options.get("output"))) {
+            DatasetSpec spec = DatasetSpec.from(options::get);
+            // Same hash as the application's default (bcrypt, cost 10); other settings rehash on first login
+            String passwordHash = new ConfigurablePasswordEncoder("bcrypt", 10).encode(spec.password());
+            try (CsvDatasetSink sink = new CsvDatasetSink(Path.of(options.getOrDefault("csvDirectory", "target/dataset")))) {
+                System.out.println("Generated " + new SyntheticDatasetGenerator(spec, passwordHash, Map.of()).generate(sink));
+            }
+            return;
+        }
+
+        // The security configuration needs the MVC infrastructure, so the web context starts, on a free port
+        if (springArgs.stream().noneMatch(arg -> arg.startsWith("--server.port="))) {
+            springArgs.add("--server.port=0");
+        }
+        SpringApplication application = new SpringApplication(TimeSheetManagementApplication.class);
+        application.setAdditionalProfiles("dataset");
+        ConfigurableApplicationContext context = application.run(springArgs.toArray(String[]::new));
+        System.exit(SpringApplication.exit(context));
+    }
+}
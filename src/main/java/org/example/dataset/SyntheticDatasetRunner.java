@@ -0,0 +1,94 @@
+package org.example.dataset;
+
+import org.example.model.Role;
+import org.example.repository.RoleRepository;
+import org.example.service.HoursRollup.HoursRollupService;
+import org.example.service.SeedData.SeedDataService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.Map;
+
+// Start with the "dataset" profile to fill the configured database with a synthetic dataset (app.dataset.* in
+// application.properties) before the application starts serving; SyntheticDatasetMain does the same and exits.
+// app.dataset.output=csv writes CSV files and load scripts to app.dataset.csvDirectory instead.
+@Component
+@Profile("dataset")
+public class SyntheticDatasetRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDatasetRunner.class);
+
+    private final Environment environment;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final RoleRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final SeedDataService seedDataService;
+    private final HoursRollupService hoursRollupService;
+
+    public SyntheticDatasetRunner(Environment environment, DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                  RoleRepository roleRepository, PasswordEncoder passwordEncoder,
+                                  SeedDataService seedDataService, HoursRollupService hoursRollupService) {
+        this.environment = environment;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.roleRepository = roleRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.seedDataService = seedDataService;
+        this.hoursRollupService = hoursRollupService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        DatasetSpec spec = DatasetSpec.from(name -> environment.getProperty("app.dataset." + name));
+        String passwordHash = passwordEncoder.encode(spec.password());
+        long started = System.nanoTime();
+
+        if ("csv".equalsIgnoreCase(environment.getProperty("app.dataset.output", "jdbc"))) {
+            Path directory = Path.of(environment.getProperty("app.dataset.csvDirectory", "target/dataset"));
+            try (CsvDatasetSink sink = new CsvDatasetSink(directory)) {
+                report(new SyntheticDatasetGenerator(spec, passwordHash, Map.of()).generate(sink), started);
+            }
+            logger.info("Dataset written to {}; load it with load-mysql.sql or load-h2.sql, which also rebuild the hours rollups",
+                    directory.toAbsolutePath());
+            return;
+        }
+
+        Integer employees = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Employee", Integer.class);
+        if (employees != null && employees > 0) {
+            throw new IllegalStateException("A synthetic dataset needs an empty schema, but Employee has " + employees + " rows");
+        }
+        // Runner order is not defined, and test profiles replace DataInitializer, so the roles may not exist yet
+        seedDataService.ensureRoles();
+        Map<String, Integer> roleIds = Map.of(
+                SyntheticDatasetGenerator.ADMIN_ROLE, roleId(SyntheticDatasetGenerator.ADMIN_ROLE),
+                SyntheticDatasetGenerator.MANAGER_ROLE, roleId(SyntheticDatasetGenerator.MANAGER_ROLE),
+                SyntheticDatasetGenerator.EMPLOYEE_ROLE, roleId(SyntheticDatasetGenerator.EMPLOYEE_ROLE));
+        int batchSize = environment.getProperty("app.dataset.batchSize", Integer.class, 5000);
+        try (JdbcDatasetSink sink = new JdbcDatasetSink(dataSource, batchSize)) {
+            report(new SyntheticDatasetGenerator(spec, passwordHash, roleIds).generate(sink), started);
+        }
+        hoursRollupService.rebuild();
+        logger.info("Dataset loaded and hours rollups rebuilt in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private Integer roleId(String roleName) {
+        return roleRepository.findByRoleName(roleName).map(Role::getRoleId)
+                .orElseThrow(() -> new IllegalStateException("Role " + roleName + " does not exist"));
+    }
+
+    private static void report(Map<DatasetTable, Long> counts, long started) {
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        long rows = counts.values().stream().mapToLong(Long::longValue).sum();
+        logger.info("Generated {} rows in {} ms ({} rows/s): {}", rows, elapsedMs, elapsedMs > 0 ? rows * 1000 / elapsedMs : rows, counts);
+    }
+}
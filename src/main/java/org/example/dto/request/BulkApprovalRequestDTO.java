@@ -0,0 +1,10 @@
+package org.example.dto.request;
+
+import java.util.List;
+
+public record BulkApprovalRequestDTO(
+    List<Integer> approvalIds,
+    List<Integer> timesheetIds,
+    String decision,
+    String comments
+) {}
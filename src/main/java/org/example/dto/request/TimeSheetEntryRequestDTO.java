@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 public record TimeSheetEntryRequestDTO(
+    Integer entryId,
     Integer timesheetId,
     LocalDate date,
     Integer projectId,
@@ -0,0 +1,11 @@
+package org.example.dto.request;
+
+import java.time.LocalDate;
+
+public record TimeSheetFilterDTO(
+    String status,
+    Integer employeeId,
+    Integer departmentId,
+    LocalDate periodFrom,
+    LocalDate periodTo
+) {}
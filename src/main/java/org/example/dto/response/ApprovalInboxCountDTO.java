@@ -0,0 +1,6 @@
+package org.example.dto.response;
+
+public record ApprovalInboxCountDTO(
+    Integer approverId,
+    long pending
+) {}
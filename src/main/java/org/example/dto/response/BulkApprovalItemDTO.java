@@ -0,0 +1,7 @@
+package org.example.dto.response;
+
+public record BulkApprovalItemDTO(
+    Integer approvalId,
+    Integer timesheetId,
+    String outcome
+) {}
@@ -0,0 +1,10 @@
+package org.example.dto.response;
+
+import java.util.List;
+
+public record BulkApprovalResultDTO(
+    String decision,
+    int requested,
+    int applied,
+    List<BulkApprovalItemDTO> items
+) {}
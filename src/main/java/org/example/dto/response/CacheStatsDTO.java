@@ -0,0 +1,12 @@
+package org.example.dto.response;
+
+public record CacheStatsDTO(
+    String name,
+    int size,
+    int maxSize,
+    long hits,
+    long misses,
+    long evictions,
+    long expirations,
+    long invalidations
+) {}
@@ -0,0 +1,14 @@
+package org.example.dto.response;
+
+public record ClusterEventStatsDTO(
+        String transport,
+        String nodeId,
+        long published,
+        long delivered,
+        long position,
+        long lastLagMillis,
+        long maxLagMillis,
+        double averageLagMillis,
+        long skippedGaps,
+        long lateEvents
+) {}
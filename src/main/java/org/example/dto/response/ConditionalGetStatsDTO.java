@@ -0,0 +1,8 @@
+package org.example.dto.response;
+
+public record ConditionalGetStatsDTO(
+    String endpoint,
+    long requests,
+    long notModified,
+    double notModifiedRatio
+) {}
@@ -0,0 +1,11 @@
+package org.example.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DepartmentMonthHoursDTO(
+    Integer departmentId,
+    LocalDate monthStart,
+    BigDecimal totalHours,
+    BigDecimal approvedHours
+) {}
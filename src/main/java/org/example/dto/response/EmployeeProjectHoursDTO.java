@@ -0,0 +1,10 @@
+package org.example.dto.response;
+
+import java.math.BigDecimal;
+
+public record EmployeeProjectHoursDTO(
+    Integer employeeId,
+    Integer projectId,
+    BigDecimal totalHours,
+    BigDecimal approvedHours
+) {}
@@ -0,0 +1,14 @@
+package org.example.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record HoursReportDTO(
+    String groupBy,
+    LocalDate from,
+    LocalDate to,
+    boolean approvedOnly,
+    BigDecimal totalHours,
+    List<HoursReportRowDTO> rows
+) {}
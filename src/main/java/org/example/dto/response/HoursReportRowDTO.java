@@ -0,0 +1,9 @@
+package org.example.dto.response;
+
+import java.math.BigDecimal;
+
+public record HoursReportRowDTO(
+    Integer id,
+    String name,
+    BigDecimal hours
+) {}
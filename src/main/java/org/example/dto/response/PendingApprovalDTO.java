@@ -0,0 +1,17 @@
+package org.example.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record PendingApprovalDTO(
+    Integer timesheetId,
+    Integer approvalId,
+    Integer employeeId,
+    String employeeName,
+    LocalDate periodStartDate,
+    LocalDate periodEndDate,
+    LocalDateTime submissionDate,
+    BigDecimal totalHours,
+    long entryCount
+) {}
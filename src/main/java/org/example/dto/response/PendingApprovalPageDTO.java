@@ -0,0 +1,10 @@
+package org.example.dto.response;
+
+import java.util.List;
+
+public record PendingApprovalPageDTO(
+    List<PendingApprovalDTO> items,
+    int size,
+    boolean hasMore,
+    String nextCursor
+) {}
@@ -0,0 +1,11 @@
+package org.example.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ProjectWeekHoursDTO(
+    Integer projectId,
+    LocalDate weekStart,
+    BigDecimal totalHours,
+    BigDecimal approvedHours
+) {}
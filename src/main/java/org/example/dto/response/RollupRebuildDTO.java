@@ -0,0 +1,8 @@
+package org.example.dto.response;
+
+public record RollupRebuildDTO(
+    int employeeProjectDayRows,
+    int projectWeekRows,
+    int departmentMonthRows,
+    long elapsedMs
+) {}
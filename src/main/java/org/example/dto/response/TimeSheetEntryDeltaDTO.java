@@ -0,0 +1,12 @@
+package org.example.dto.response;
+
+public record TimeSheetEntryDeltaDTO(
+    int inserted,
+    int updated,
+    int deleted,
+    int unchanged
+) {
+    public int changed() {
+        return inserted + updated + deleted;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.dto.response;
+
+import java.time.LocalDateTime;
+
+public record TimeSheetEventDTO(
+        long eventId,
+        String kind,
+        Integer timesheetId,
+        Integer approvalId,
+        Integer employeeId,
+        String status,
+        String previousStatus,
+        LocalDateTime occurredAt
+) {}
@@ -0,0 +1,18 @@
+package org.example.dto.response;
+
+public record TimeSheetEventStatsDTO(
+        long published,
+        long delivered,
+        long replayed,
+        long missedReplays,
+        long lateEvents,
+        int subscribers,
+        int buffered,
+        int connections,
+        long droppedConnections
+) {
+    public TimeSheetEventStatsDTO withConnections(int connections, long droppedConnections) {
+        return new TimeSheetEventStatsDTO(published, delivered, replayed, missedReplays, lateEvents, subscribers, buffered,
+                connections, droppedConnections);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.dto.response;
+
+import org.example.model.TimeSheet;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TimeSheetExportRowDTO(
+    Integer timesheetId,
+    Integer employeeId,
+    String employeeFirstName,
+    String employeeLastName,
+    LocalDate periodStartDate,
+    LocalDate periodEndDate,
+    TimeSheet.TimeSheetStatus status,
+    Integer entryId,
+    LocalDate date,
+    Integer projectId,
+    String projectName,
+    String taskDescription,
+    BigDecimal hoursWorked
+) {}
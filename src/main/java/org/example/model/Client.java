@@ -1,10 +1,16 @@
 package org.example.model;
 
 import jakarta.persistence.*;
+import org.example.service.ReferenceData.ReferenceDataInvalidationListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "Client")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.client")
+@EntityListeners(ReferenceDataInvalidationListener.class)
 public class Client {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -41,6 +47,12 @@ public class Client {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // Every change moves updatedAt, which the conditional GET fingerprints rely on
+    @PreUpdate
+    void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // Getters and Setters
     public Integer getClientId() {
         return clientId;
@@ -0,0 +1,58 @@
+package org.example.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Rows of the cluster event outbox; written and read by OutboxClusterEventTransport through SQL, never through JPA
+@Entity
+@Table(name = "ClusterEventOutbox",
+        indexes = @Index(name = "idx_cluster_event_created", columnList = "createdAt"))
+public class ClusterEventOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "eventId")
+    private Long eventId;
+
+    @Column(name = "entityType", length = 32, nullable = false)
+    private String entityType;
+
+    @Column(name = "action", length = 32, nullable = false)
+    private String action;
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "origin", length = 64, nullable = false)
+    private String origin;
+
+    @Column(name = "createdAt", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public ClusterEventOutbox() {}
+
+    // Getters
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -1,10 +1,16 @@
 package org.example.model;
 
 import jakarta.persistence.*;
+import org.example.service.ReferenceData.ReferenceDataInvalidationListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "Department")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.department")
+@EntityListeners(ReferenceDataInvalidationListener.class)
 public class Department {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
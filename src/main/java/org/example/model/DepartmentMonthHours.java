@@ -0,0 +1,60 @@
+package org.example.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Hours per employee department and month (monthStart is the first day); maintained by HoursRollupService through SQL upserts, never written through JPA
+@Entity
+@Table(name = "DepartmentMonthHours",
+        uniqueConstraints = @UniqueConstraint(name = "uk_department_month", columnNames = {"departmentId", "monthStart"}),
+        indexes = @Index(name = "idx_department_month_start", columnList = "monthStart"))
+public class DepartmentMonthHours {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollupId")
+    private Long rollupId;
+
+    @Column(name = "departmentId", nullable = false)
+    private Integer departmentId;
+
+    @Column(name = "monthStart", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "totalHours", precision = 12, scale = 2, nullable = false)
+    private BigDecimal totalHours = BigDecimal.ZERO;
+
+    @Column(name = "approvedHours", precision = 12, scale = 2, nullable = false)
+    private BigDecimal approvedHours = BigDecimal.ZERO;
+
+    @Column(name = "entryCount", nullable = false)
+    private Integer entryCount = 0;
+
+    // Constructors
+    public DepartmentMonthHours() {}
+
+    // Getters
+    public Long getRollupId() {
+        return rollupId;
+    }
+
+    public Integer getDepartmentId() {
+        return departmentId;
+    }
+
+    public LocalDate getMonthStart() {
+        return monthStart;
+    }
+
+    public BigDecimal getTotalHours() {
+        return totalHours;
+    }
+
+    public BigDecimal getApprovedHours() {
+        return approvedHours;
+    }
+
+    public Integer getEntryCount() {
+        return entryCount;
+    }
+}
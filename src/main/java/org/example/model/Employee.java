@@ -1,10 +1,12 @@
 package org.example.model;
 
 import jakarta.persistence.*;
+import org.example.service.ReferenceData.ReferenceDataInvalidationListener;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "Employee")
+@EntityListeners(ReferenceDataInvalidationListener.class)
 public class Employee {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -51,6 +53,12 @@ public class Employee {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // Every change moves updatedAt, which the conditional GET fingerprints rely on
+    @PreUpdate
+    void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // Getters and Setters
     public Integer getEmployeeId() {
         return employeeId;
@@ -0,0 +1,67 @@
+package org.example.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Hours per employee, project and day; maintained by HoursRollupService through SQL upserts, never written through JPA
+@Entity
+@Table(name = "EmployeeProjectDayHours",
+        uniqueConstraints = @UniqueConstraint(name = "uk_employee_project_day", columnNames = {"employeeId", "projectId", "workDate"}),
+        indexes = @Index(name = "idx_employee_project_day_date", columnList = "workDate"))
+public class EmployeeProjectDayHours {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollupId")
+    private Long rollupId;
+
+    @Column(name = "employeeId", nullable = false)
+    private Integer employeeId;
+
+    @Column(name = "projectId", nullable = false)
+    private Integer projectId;
+
+    @Column(name = "workDate", nullable = false)
+    private LocalDate workDate;
+
+    @Column(name = "totalHours", precision = 12, scale = 2, nullable = false)
+    private BigDecimal totalHours = BigDecimal.ZERO;
+
+    @Column(name = "approvedHours", precision = 12, scale = 2, nullable = false)
+    private BigDecimal approvedHours = BigDecimal.ZERO;
+
+    @Column(name = "entryCount", nullable = false)
+    private Integer entryCount = 0;
+
+    // Constructors
+    public EmployeeProjectDayHours() {}
+
+    // Getters
+    public Long getRollupId() {
+        return rollupId;
+    }
+
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+
+    public Integer getProjectId() {
+        return projectId;
+    }
+
+    public LocalDate getWorkDate() {
+        return workDate;
+    }
+
+    public BigDecimal getTotalHours() {
+        return totalHours;
+    }
+
+    public BigDecimal getApprovedHours() {
+        return approvedHours;
+    }
+
+    public Integer getEntryCount() {
+        return entryCount;
+    }
+}
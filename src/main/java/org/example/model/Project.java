@@ -1,11 +1,17 @@
 package org.example.model;
 
 import jakarta.persistence.*;
+import org.example.service.ReferenceData.ReferenceDataInvalidationListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "Project")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.project")
+@EntityListeners(ReferenceDataInvalidationListener.class)
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -65,6 +71,12 @@ public class Project {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // Every change moves updatedAt, which the conditional GET fingerprints rely on
+    @PreUpdate
+    void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // Getters and Setters
     public Integer getProjectId() {
         return projectId;
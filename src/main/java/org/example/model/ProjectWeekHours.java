@@ -0,0 +1,60 @@
+package org.example.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Hours per project and ISO week (weekStart is the Monday); maintained by HoursRollupService through SQL upserts, never written through JPA
+@Entity
+@Table(name = "ProjectWeekHours",
+        uniqueConstraints = @UniqueConstraint(name = "uk_project_week", columnNames = {"projectId", "weekStart"}),
+        indexes = @Index(name = "idx_project_week_start", columnList = "weekStart"))
+public class ProjectWeekHours {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollupId")
+    private Long rollupId;
+
+    @Column(name = "projectId", nullable = false)
+    private Integer projectId;
+
+    @Column(name = "weekStart", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "totalHours", precision = 12, scale = 2, nullable = false)
+    private BigDecimal totalHours = BigDecimal.ZERO;
+
+    @Column(name = "approvedHours", precision = 12, scale = 2, nullable = false)
+    private BigDecimal approvedHours = BigDecimal.ZERO;
+
+    @Column(name = "entryCount", nullable = false)
+    private Integer entryCount = 0;
+
+    // Constructors
+    public ProjectWeekHours() {}
+
+    // Getters
+    public Long getRollupId() {
+        return rollupId;
+    }
+
+    public Integer getProjectId() {
+        return projectId;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public BigDecimal getTotalHours() {
+        return totalHours;
+    }
+
+    public BigDecimal getApprovedHours() {
+        return approvedHours;
+    }
+
+    public Integer getEntryCount() {
+        return entryCount;
+    }
+}
@@ -59,6 +59,12 @@ public class TimeSheet {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // Every change moves updatedAt, which the conditional GET fingerprints rely on
+    @PreUpdate
+    void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // Getters and Setters
     public Integer getTimesheetId() {
         return timesheetId;
@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "TimesheetEntry")
 public class TimeSheetEntry {
+    // Hibernate cannot batch IDENTITY inserts, so the lines of a whole timesheet are inserted with one JDBC batch in
+    // TimeSheetEntryServiceImpl instead
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "entryId")
@@ -50,6 +52,12 @@ public class TimeSheetEntry {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // Every change moves updatedAt, which the conditional GET fingerprints rely on
+    @PreUpdate
+    void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // Getters and Setters
     public Integer getEntryId() {
         return entryId;
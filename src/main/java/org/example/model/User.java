@@ -1,6 +1,7 @@
 package org.example.model;
 
 import jakarta.persistence.*;
+import org.example.security.UserDetailsCacheInvalidationListener;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +14,7 @@ import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "User")
+@EntityListeners(UserDetailsCacheInvalidationListener.class)
 public class User implements UserDetails {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +34,10 @@ public class User implements UserDetails {
     @Column(name = "isActive")
     private Boolean isActive = true;
 
+    // Bumped to invalidate every token issued to this user before the change
+    @Column(name = "tokenVersion", nullable = false)
+    private Integer tokenVersion = 0;
+
     @Column(name = "lastLogin")
     private LocalDateTime lastLogin;
 
@@ -134,6 +140,14 @@ public class User implements UserDetails {
         this.isActive = isActive;
     }
 
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     public LocalDateTime getLastLogin() {
         return lastLogin;
     }
@@ -1,11 +1,13 @@
 package org.example.model;
 
 import jakarta.persistence.*;
+import org.example.security.UserDetailsCacheInvalidationListener;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "UserRole")
+@EntityListeners(UserDetailsCacheInvalidationListener.class)
 public class UserRole {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
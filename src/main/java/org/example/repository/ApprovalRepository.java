@@ -1,6 +1,7 @@
 package org.example.repository;
 
 import org.example.model.Approval;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,5 +13,8 @@ public interface ApprovalRepository extends JpaRepository<Approval, Integer> {
     List<Approval> findByApprovedByEmployeeId(Integer employeeId);
     List<Approval> findByStatus(Approval.ApprovalStatus status);
     Approval findByTimesheetTimesheetIdAndStatus(Integer timesheetId, Approval.ApprovalStatus status);
+    // The approver's name is part of every approval response
+    @EntityGraph(attributePaths = "approvedBy")
+    List<Approval> findAllWithApproverBy();
     void deleteByTimesheetTimesheetId(Integer timesheetId);
 } 
\ No newline at end of file
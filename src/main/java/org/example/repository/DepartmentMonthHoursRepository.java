@@ -0,0 +1,19 @@
+package org.example.repository;
+
+import org.example.dto.response.DepartmentMonthHoursDTO;
+import org.example.model.DepartmentMonthHours;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DepartmentMonthHoursRepository extends JpaRepository<DepartmentMonthHours, Long> {
+    @Query("select new org.example.dto.response.DepartmentMonthHoursDTO(h.departmentId, h.monthStart, h.totalHours, h.approvedHours) " +
+           "from DepartmentMonthHours h where h.monthStart between :from and :to and h.entryCount > 0 " +
+           "order by h.departmentId, h.monthStart")
+    List<DepartmentMonthHoursDTO> findByMonthStartBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,9 +1,22 @@
 package org.example.repository;
 
 import org.example.model.Department;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Integer> {
+    @EntityGraph(attributePaths = "headEmployee")
+    Optional<Department> findWithHeadEmployeeByDepartmentId(Integer departmentId);
+
+    @EntityGraph(attributePaths = "headEmployee")
+    List<Department> findAllWithHeadEmployeeBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = "headEmployee")
+    List<Department> findAllWithHeadEmployeeBy();
 } 
\ No newline at end of file
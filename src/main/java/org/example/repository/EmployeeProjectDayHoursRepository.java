@@ -0,0 +1,47 @@
+package org.example.repository;
+
+import org.example.dto.response.EmployeeProjectHoursDTO;
+import org.example.model.EmployeeProjectDayHours;
+import org.example.service.Report.HoursAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface EmployeeProjectDayHoursRepository extends JpaRepository<EmployeeProjectDayHours, Long> {
+    @Query("select new org.example.dto.response.EmployeeProjectHoursDTO(h.employeeId, h.projectId, sum(h.totalHours), sum(h.approvedHours)) " +
+           "from EmployeeProjectDayHours h where h.workDate between :from and :to " +
+           "group by h.employeeId, h.projectId having sum(h.entryCount) > 0 " +
+           "order by h.employeeId, h.projectId")
+    List<EmployeeProjectHoursDTO> sumByEmployeeAndProject(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Report aggregates: one grouped query each, projected straight into HoursAggregate without loading entities
+
+    @Query("select new org.example.service.Report.HoursAggregate(p.projectId, p.name, sum(h.totalHours), sum(h.approvedHours)) " +
+           "from EmployeeProjectDayHours h join Project p on p.projectId = h.projectId " +
+           "where h.workDate between :from and :to " +
+           "group by p.projectId, p.name having sum(h.entryCount) > 0 order by p.name, p.projectId")
+    List<HoursAggregate> sumByProject(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select new org.example.service.Report.HoursAggregate(c.clientId, c.clientName, sum(h.totalHours), sum(h.approvedHours)) " +
+           "from EmployeeProjectDayHours h join Project p on p.projectId = h.projectId left join p.client c " +
+           "where h.workDate between :from and :to " +
+           "group by c.clientId, c.clientName having sum(h.entryCount) > 0 order by c.clientName, c.clientId")
+    List<HoursAggregate> sumByClient(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select new org.example.service.Report.HoursAggregate(d.departmentId, d.name, sum(h.totalHours), sum(h.approvedHours)) " +
+           "from EmployeeProjectDayHours h join Employee e on e.employeeId = h.employeeId left join e.department d " +
+           "where h.workDate between :from and :to " +
+           "group by d.departmentId, d.name having sum(h.entryCount) > 0 order by d.name, d.departmentId")
+    List<HoursAggregate> sumByDepartment(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select new org.example.service.Report.HoursAggregate(e.employeeId, concat(e.firstName, ' ', e.lastName), sum(h.totalHours), sum(h.approvedHours)) " +
+           "from EmployeeProjectDayHours h join Employee e on e.employeeId = h.employeeId " +
+           "where h.workDate between :from and :to " +
+           "group by e.employeeId, e.firstName, e.lastName having sum(h.entryCount) > 0 order by e.lastName, e.firstName, e.employeeId")
+    List<HoursAggregate> sumByEmployee(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,10 +1,21 @@
 package org.example.repository;
 
 import org.example.model.Employee;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
-    // You can add custom query methods here if needed
+    @EntityGraph(attributePaths = {"department", "manager"})
+    List<Employee> findAllWithDepartmentAndManagerBy();
+
+    // Empty when the employee has no department
+    @Query("select e.department.departmentId from Employee e where e.employeeId = :employeeId")
+    Optional<Integer> findDepartmentIdByEmployeeId(@Param("employeeId") Integer employeeId);
 }
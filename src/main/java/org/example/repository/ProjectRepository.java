@@ -1,14 +1,27 @@
 package org.example.repository;
 
 import org.example.model.Project;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Integer> {
     List<Project> findByClientClientId(Integer clientId);
     List<Project> findByProjectManagerEmployeeId(Integer projectManagerId);
     List<Project> findByStatus(Project.ProjectStatus status);
+
+    // Reference-data snapshots carry the manager's name, so it is fetched in the same select
+    @EntityGraph(attributePaths = "projectManager")
+    Optional<Project> findWithManagerByProjectId(Integer projectId);
+
+    @EntityGraph(attributePaths = "projectManager")
+    List<Project> findAllWithManagerBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"client", "projectManager"})
+    List<Project> findAllWithClientAndManagerBy();
 } 
\ No newline at end of file
@@ -0,0 +1,19 @@
+package org.example.repository;
+
+import org.example.dto.response.ProjectWeekHoursDTO;
+import org.example.model.ProjectWeekHours;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProjectWeekHoursRepository extends JpaRepository<ProjectWeekHours, Long> {
+    @Query("select new org.example.dto.response.ProjectWeekHoursDTO(h.projectId, h.weekStart, h.totalHours, h.approvedHours) " +
+           "from ProjectWeekHours h where h.weekStart between :from and :to and h.entryCount > 0 " +
+           "order by h.projectId, h.weekStart")
+    List<ProjectWeekHoursDTO> findByWeekStartBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
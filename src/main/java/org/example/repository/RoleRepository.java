@@ -1,12 +1,16 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.model.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Integer> {
+    // Served from the query cache when the Hibernate second-level cache is on; ignored otherwise
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Role> findByRoleName(String roleName);
 } 
\ No newline at end of file
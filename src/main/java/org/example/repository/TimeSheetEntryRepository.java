@@ -1,17 +1,63 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.dto.response.TimeSheetExportRowDTO;
+import org.example.model.TimeSheet;
 import org.example.model.TimeSheetEntry;
+import org.example.service.HoursRollup.EntryHours;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TimeSheetEntryRepository extends JpaRepository<TimeSheetEntry, Integer> {
     List<TimeSheetEntry> findByTimesheetTimesheetId(Integer timesheetId);
-    void deleteByTimesheetTimesheetId(Integer timesheetId);
     List<TimeSheetEntry> findByProjectProjectId(Integer projectId);
     List<TimeSheetEntry> findByDateBetween(LocalDate startDate, LocalDate endDate);
     List<TimeSheetEntry> findByTimesheetTimesheetIdAndDate(Integer timesheetId, LocalDate date);
-} 
\ No newline at end of file
+
+    @Query("select e from TimeSheetEntry e left join fetch e.project where e.timesheet.timesheetId in :timesheetIds")
+    List<TimeSheetEntry> findWithProjectByTimesheetIdIn(@Param("timesheetIds") Collection<Integer> timesheetIds);
+
+    @Query("select e from TimeSheetEntry e left join fetch e.project")
+    List<TimeSheetEntry> findAllWithProject();
+
+    // Stored hours of one timesheet per (project, day), as booked into the rollups
+    @Query("select new org.example.service.HoursRollup.EntryHours(e.project.projectId, e.date, sum(e.hoursWorked), count(e)) " +
+           "from TimeSheetEntry e where e.timesheet.timesheetId = :timesheetId group by e.project.projectId, e.date")
+    List<EntryHours> sumHoursByTimesheetId(@Param("timesheetId") Integer timesheetId);
+
+    @Modifying
+    @Query("delete from TimeSheetEntry e where e.timesheet.timesheetId = :timesheetId")
+    int deleteAllByTimesheetId(@Param("timesheetId") Integer timesheetId);
+
+    // Flat rows for export; must be consumed inside a transaction and closed by the caller
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new org.example.dto.response.TimeSheetExportRowDTO(" +
+           "t.timesheetId, emp.employeeId, emp.firstName, emp.lastName, t.periodStartDate, t.periodEndDate, t.status, " +
+           "e.entryId, e.date, p.projectId, p.name, e.taskDescription, e.hoursWorked) " +
+           "from TimeSheetEntry e join e.timesheet t join t.employee emp join e.project p " +
+           "where (:status is null or t.status = :status) " +
+           "and (:employeeId is null or emp.employeeId = :employeeId) " +
+           "and (:departmentId is null or emp.department.departmentId = :departmentId) " +
+           "and (:periodFrom is null or t.periodStartDate >= :periodFrom) " +
+           "and (:periodTo is null or t.periodStartDate <= :periodTo) " +
+           "order by t.timesheetId, e.entryId")
+    Stream<TimeSheetExportRowDTO> streamExportRows(@Param("status") TimeSheet.TimeSheetStatus status,
+                                                   @Param("employeeId") Integer employeeId,
+                                                   @Param("departmentId") Integer departmentId,
+                                                   @Param("periodFrom") LocalDate periodFrom,
+                                                   @Param("periodTo") LocalDate periodTo);
+} 
@@ -1,7 +1,10 @@
 package org.example.repository;
 
 import org.example.model.TimeSheet;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -14,4 +17,50 @@ public interface TimeSheetRepository extends JpaRepository<TimeSheet, Integer> {
     List<TimeSheet> findByPeriodStartDateBetween(LocalDate startDate, LocalDate endDate);
     List<TimeSheet> findByStatus(TimeSheet.TimeSheetStatus status);
     List<TimeSheet> findByEmployeeEmployeeIdAndPeriodStartDateBetween(Integer employeeId, LocalDate startDate, LocalDate endDate);
-} 
\ No newline at end of file
+
+    // List-assembly variants: fetch the employee in the same query so mapping does not lazy load it per row
+    @Query("select t from TimeSheet t left join fetch t.employee")
+    List<TimeSheet> findAllWithEmployee();
+
+    @Query("select t from TimeSheet t left join fetch t.employee e where e.employeeId = :employeeId")
+    List<TimeSheet> findWithEmployeeByEmployeeId(@Param("employeeId") Integer employeeId);
+
+    @Query("select t from TimeSheet t left join fetch t.employee e " +
+           "where e.employeeId = :employeeId and t.periodStartDate between :startDate and :endDate")
+    List<TimeSheet> findWithEmployeeByEmployeeIdAndPeriodStartDateBetween(@Param("employeeId") Integer employeeId,
+                                                                          @Param("startDate") LocalDate startDate,
+                                                                          @Param("endDate") LocalDate endDate);
+
+    // Keyset pages ordered by (periodStartDate, timesheetId); null filters are ignored.
+    // Pageable is only used for the row limit, so no count query is issued.
+    @Query("select t from TimeSheet t join fetch t.employee e " +
+           "where (:status is null or t.status = :status) " +
+           "and (:employeeId is null or e.employeeId = :employeeId) " +
+           "and (:departmentId is null or e.department.departmentId = :departmentId) " +
+           "and (:periodFrom is null or t.periodStartDate >= :periodFrom) " +
+           "and (:periodTo is null or t.periodStartDate <= :periodTo) " +
+           "order by t.periodStartDate, t.timesheetId")
+    List<TimeSheet> findFirstPage(@Param("status") TimeSheet.TimeSheetStatus status,
+                                  @Param("employeeId") Integer employeeId,
+                                  @Param("departmentId") Integer departmentId,
+                                  @Param("periodFrom") LocalDate periodFrom,
+                                  @Param("periodTo") LocalDate periodTo,
+                                  Pageable pageable);
+
+    @Query("select t from TimeSheet t join fetch t.employee e " +
+           "where (:status is null or t.status = :status) " +
+           "and (:employeeId is null or e.employeeId = :employeeId) " +
+           "and (:departmentId is null or e.department.departmentId = :departmentId) " +
+           "and (:periodFrom is null or t.periodStartDate >= :periodFrom) " +
+           "and (:periodTo is null or t.periodStartDate <= :periodTo) " +
+           "and (t.periodStartDate > :afterDate or (t.periodStartDate = :afterDate and t.timesheetId > :afterId)) " +
+           "order by t.periodStartDate, t.timesheetId")
+    List<TimeSheet> findPageAfter(@Param("status") TimeSheet.TimeSheetStatus status,
+                                  @Param("employeeId") Integer employeeId,
+                                  @Param("departmentId") Integer departmentId,
+                                  @Param("periodFrom") LocalDate periodFrom,
+                                  @Param("periodTo") LocalDate periodTo,
+                                  @Param("afterDate") LocalDate afterDate,
+                                  @Param("afterId") Integer afterId,
+                                  Pageable pageable);
+} 
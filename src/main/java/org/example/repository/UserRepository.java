@@ -1,11 +1,41 @@
 package org.example.repository;
 
 import org.example.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
     User findByUserNameAndPassword(String userName, String password);
+    // Loads everything a UserSnapshot needs in one statement
+    @EntityGraph(attributePaths = {"employee", "employee.manager", "userRoles", "userRoles.role"})
     User findByUserName(String userName);
-} 
\ No newline at end of file
+
+    // The user list maps the employee, and the roles are eager; one statement instead of two per user
+    @EntityGraph(attributePaths = {"employee", "userRoles", "userRoles.role"})
+    List<User> findAllWithEmployeeBy();
+
+    Optional<TokenState> findTokenStateByUserId(Integer userId);
+
+    @Modifying
+    @Query("update User u set u.tokenVersion = u.tokenVersion + 1, u.updatedAt = :now where u.userId = :userId")
+    int incrementTokenVersion(@Param("userId") Integer userId, @Param("now") LocalDateTime now);
+
+    // Password-only write; leaves the token version untouched, unlike a credential change by the user
+    @Modifying
+    @Query("update User u set u.password = :password, u.updatedAt = :now where u.userId = :userId")
+    int updatePassword(@Param("userId") Integer userId, @Param("password") String password, @Param("now") LocalDateTime now);
+
+    interface TokenState {
+        Integer getTokenVersion();
+        Boolean getIsActive();
+    }
+}
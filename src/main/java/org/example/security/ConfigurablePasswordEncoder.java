@@ -0,0 +1,83 @@
+package org.example.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Hashes with the configured algorithm/cost and verifies every supported format, so the target can change
+// without invalidating stored hashes. BCrypt hashes stay unprefixed, as they have always been stored.
+public class ConfigurablePasswordEncoder implements PasswordEncoder {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final String PBKDF2_PREFIX = "{" + PBKDF2 + "}";
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[abyx]?\\$(\\d\\d)\\$.{53}$");
+
+    private final String algorithm;
+    private final int bcryptCost;
+    private final BCryptPasswordEncoder bcrypt;
+    private final Pbkdf2PasswordEncoder pbkdf2;
+
+    public ConfigurablePasswordEncoder(String algorithm, int bcryptCost) {
+        if (!BCRYPT.equals(algorithm) && !PBKDF2.equals(algorithm)) {
+            throw new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.bcryptCost = bcryptCost;
+        this.bcrypt = new BCryptPasswordEncoder(bcryptCost);
+        this.pbkdf2 = Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        if (PBKDF2.equals(algorithm)) {
+            return PBKDF2_PREFIX + pbkdf2.encode(rawPassword);
+        }
+        return bcrypt.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        if (encodedPassword.startsWith(PBKDF2_PREFIX)) {
+            return pbkdf2.matches(rawPassword, encodedPassword.substring(PBKDF2_PREFIX.length()));
+        }
+        // BCrypt reads the cost from the hash itself, so any stored cost verifies
+        return bcrypt.matches(rawPassword, encodedPassword);
+    }
+
+    // True when the stored hash was not produced with the current algorithm and cost, in either direction
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        if (encodedPassword.startsWith(PBKDF2_PREFIX)) {
+            return !PBKDF2.equals(algorithm);
+        }
+        Integer cost = bcryptCost(encodedPassword);
+        if (cost == null) {
+            return false;
+        }
+        return !BCRYPT.equals(algorithm) || cost != bcryptCost;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getBcryptCost() {
+        return bcryptCost;
+    }
+
+    static Integer bcryptCost(String encodedPassword) {
+        Matcher matcher = BCRYPT_HASH.matcher(encodedPassword);
+        return matcher.matches() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+}
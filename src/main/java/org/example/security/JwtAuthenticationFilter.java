@@ -1,11 +1,15 @@
 package org.example.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.service.TokenVersion.TokenVersionService;
 import org.example.service.User.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,6 +20,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -27,6 +33,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.metrics.jwt.enabled:true}")
+    private boolean timingEnabled;
+
+    // security.jwt.validation: signature, expiry and token version checks per request that carries a token
+    private Timer acceptedTimer;
+    private Timer rejectedTimer;
+
+    @Override
+    protected void initFilterBean() {
+        if (timingEnabled) {
+            acceptedTimer = validationTimer("accepted");
+            rejectedTimer = validationTimer("rejected");
+        }
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -36,17 +63,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 logger.debug("JWT header present: {}", StringUtils.hasText(jwt));
             }
 
-            boolean valid = StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt);
+            // Signature and expiry are verified once per token, not once per accessor
+            long started = System.nanoTime();
+            Optional<JwtClaims> claims = tokenProvider.getValidatedClaims(jwt);
             if (logger.isDebugEnabled()) {
-                logger.debug("JWT valid: {} for uri {}", valid, request.getRequestURI());
+                logger.debug("JWT valid: {} for uri {}", claims.isPresent(), request.getRequestURI());
             }
 
-            if (valid) {
-                String username = tokenProvider.getUsernameFromJWT(jwt);
-
-                UserDetails userDetails = userService.loadUserByUsername(username);
+            JwtUserPrincipal principal = claims.map(this::resolvePrincipal).orElse(null);
+            if (jwt != null && acceptedTimer != null) {
+                (principal != null ? acceptedTimer : rejectedTimer).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+                        principal, null, principal.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -58,6 +88,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private JwtUserPrincipal resolvePrincipal(JwtClaims claims) {
+        if (claims.hasIdentity()) {
+            // Only the per-user token version is checked, against an in-memory cache
+            if (!tokenVersionService.isCurrent(claims.userId(), claims.tokenVersion())) {
+                logger.debug("Rejecting revoked token for user {}", claims.subject());
+                return null;
+            }
+            return JwtUserPrincipal.fromClaims(claims);
+        }
+
+        // Tokens issued before identity claims existed still resolve through the user store until they expire
+        UserDetails userDetails = userService.loadUserByUsername(claims.subject());
+        if (!userDetails.isEnabled() || !(userDetails instanceof UserSnapshot user)) {
+            return null;
+        }
+        return JwtUserPrincipal.fromSnapshot(user);
+    }
+
+    private Timer validationTimer(String outcome) {
+        return Timer.builder("security.jwt.validation")
+                .tag("outcome", outcome)
+                .description("Bearer token validation in JwtAuthenticationFilter")
+                .register(meterRegistry);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,25 @@
+package org.example.security;
+
+import java.util.Date;
+import java.util.List;
+
+// Claims of a token whose signature and expiry have already been verified
+public record JwtClaims(
+    String subject,
+    Date issuedAt,
+    Date expiration,
+    List<String> roles,
+    Integer userId,
+    Integer employeeId,
+    Integer managerId,
+    Integer tokenVersion
+) {
+    public boolean isExpired(long nowMillis) {
+        return expiration != null && expiration.getTime() <= nowMillis;
+    }
+
+    // Tokens issued before identity claims were added only carry the subject
+    public boolean hasIdentity() {
+        return userId != null && tokenVersion != null;
+    }
+}
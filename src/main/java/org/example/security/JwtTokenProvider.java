@@ -4,56 +4,134 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${app.jwtSecret:defaultSecretKey}")
-    private String jwtSecret;
+    static final String ROLES_CLAIM = "roles";
+    static final String USER_ID_CLAIM = "uid";
+    static final String EMPLOYEE_ID_CLAIM = "eid";
+    static final String MANAGER_ID_CLAIM = "mid";
+    static final String TOKEN_VERSION_CLAIM = "ver";
 
-    @Value("${app.jwtExpirationInMs:86400000}")
-    private int jwtExpirationInMs;
+    private final int jwtExpirationInMs;
+    // Key and parser are immutable and thread-safe, so they are built once rather than per request
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    public JwtTokenProvider(@Value("${app.jwtSecret:defaultSecretKey}") String jwtSecret,
+                            @Value("${app.jwtExpirationInMs:86400000}") int jwtExpirationInMs,
+                            @Value("${app.jwtVerifiedTokenCacheSize:10000}") int verifiedTokenCacheSize) {
+        this.jwtExpirationInMs = jwtExpirationInMs;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheSize);
     }
 
     public String generateToken(Authentication authentication) {
         String username = authentication.getName();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .claim(ROLES_CLAIM, roles)
+                .setIssuedAt(now)
+                .setExpiration(expiryDate);
+
+        // Identity claims let the authentication filter build the principal without loading the user
+        if (authentication.getPrincipal() instanceof UserSnapshot user) {
+            builder.claim(USER_ID_CLAIM, user.getUserId())
+                    .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+            if (user.getEmployeeId() != null) {
+                builder.claim(EMPLOYEE_ID_CLAIM, user.getEmployeeId());
+            }
+            if (user.getManagerId() != null) {
+                builder.claim(MANAGER_ID_CLAIM, user.getManagerId());
+            }
+        }
+
+        return builder
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    public String getUsernameFromJWT(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Verifies signature and expiry once and returns the claims; empty for missing, malformed or expired tokens
+    public Optional<JwtClaims> getValidatedClaims(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
 
-        return claims.getSubject();
+        long now = System.currentTimeMillis();
+        String digest = digest(token);
+        JwtClaims cached = verifiedTokenCache.get(digest, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            JwtClaims validated = new JwtClaims(claims.getSubject(), claims.getIssuedAt(), claims.getExpiration(), roles(claims),
+                    claims.get(USER_ID_CLAIM, Integer.class), claims.get(EMPLOYEE_ID_CLAIM, Integer.class),
+                    claims.get(MANAGER_ID_CLAIM, Integer.class), claims.get(TOKEN_VERSION_CLAIM, Integer.class));
+            verifiedTokenCache.put(digest, validated);
+            return Optional.of(validated);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Called when the user's tokens are revoked; their version check would reject them anyway, this frees the entries
+    public void evictVerifiedTokens(Integer userId) {
+        verifiedTokenCache.evictUser(userId);
+    }
+
+    public String getUsernameFromJWT(String token) {
+        return getValidatedClaims(token)
+                .map(JwtClaims::subject)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     public boolean validateToken(String authToken) {
+        return getValidatedClaims(authToken).isPresent();
+    }
+
+    private static List<String> roles(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(roles instanceof List<?> values)) {
+            return List.of();
+        }
+        return values.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    // Cache key; keeps bearer tokens themselves out of the heap-resident cache
+    private static String digest(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package org.example.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Authenticated principal built from token claims, so authorizing a request needs no database access
+public class JwtUserPrincipal implements UserDetails {
+
+    private final Integer userId;
+    private final String username;
+    private final Integer employeeId;
+    private final Integer managerId;
+    private final Integer tokenVersion;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtUserPrincipal(Integer userId, String username, Integer employeeId, Integer managerId,
+                            Integer tokenVersion, List<String> roles) {
+        this.userId = userId;
+        this.username = username;
+        this.employeeId = employeeId;
+        this.managerId = managerId;
+        this.tokenVersion = tokenVersion;
+        this.authorities = roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public static JwtUserPrincipal fromClaims(JwtClaims claims) {
+        return new JwtUserPrincipal(claims.userId(), claims.subject(), claims.employeeId(), claims.managerId(),
+                claims.tokenVersion(), claims.roles());
+    }
+
+    public static JwtUserPrincipal fromSnapshot(UserSnapshot user) {
+        return new JwtUserPrincipal(user.getUserId(), user.getUsername(), user.getEmployeeId(), user.getManagerId(),
+                user.getTokenVersion(), user.getRoleNames());
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+
+    public Integer getManagerId() {
+        return managerId;
+    }
+
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// Raised when the password hashing executor is saturated; callers should answer 503 rather than 401
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.security;
+
+import org.example.config.GenerationalCache;
+import org.example.dto.response.CacheStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Bounded map of userName -> UserSnapshot with a time-to-live, so loadUserByUsername rarely reaches the database.
+// Every authenticated request without a cached token reads it, so reads take no lock.
+@Component
+public class UserDetailsCache {
+
+    public static final String NAME = "userDetails";
+
+    private final GenerationalCache<String, UserSnapshot> entries;
+
+    public UserDetailsCache(@Value("${app.userDetailsCacheMaxSize:1000}") int maxSize,
+                            @Value("${app.userDetailsCacheTtlMs:60000}") long ttlMillis) {
+        this.entries = new GenerationalCache<>(NAME, maxSize, ttlMillis);
+    }
+
+    public UserSnapshot get(String userName) {
+        return entries.get(userName);
+    }
+
+    public void put(UserSnapshot snapshot) {
+        entries.put(snapshot.getUsername(), snapshot);
+    }
+
+    public UserSnapshot peek(Integer userId) {
+        return userId == null ? null : entries.find(snapshot -> userId.equals(snapshot.getUserId()));
+    }
+
+    // Evicts now and, inside a transaction, again after commit so a concurrent load cannot re-cache the old row
+    public void invalidate(Integer userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public CacheStatsDTO stats() {
+        return entries.stats();
+    }
+
+    private void evict(Integer userId) {
+        if (userId != null) {
+            entries.invalidateIf(snapshot -> userId.equals(snapshot.getUserId()));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.security;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.model.User;
+import org.example.model.UserRole;
+import org.example.service.ClusterEvent.ClusterEntityType;
+import org.example.service.ClusterEvent.ClusterEventTransport;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+// JPA listener on User and UserRole; Hibernate obtains it from the Spring context. Invalidations also go out as USER
+// cluster events (payload = user id) so the other pods drop their copy.
+@Component
+public class UserDetailsCacheInvalidationListener {
+
+    public static final String INVALIDATE = "invalidate";
+
+    private final UserDetailsCache userDetailsCache;
+    private final ClusterEventTransport clusterEventTransport;
+
+    // Lazy because the transport is created after the entity manager factory that registers this listener
+    public UserDetailsCacheInvalidationListener(UserDetailsCache userDetailsCache,
+                                                @Lazy ClusterEventTransport clusterEventTransport) {
+        this.userDetailsCache = userDetailsCache;
+        this.clusterEventTransport = clusterEventTransport;
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        if (entity instanceof User user) {
+            // lastLogin and similar bookkeeping updates leave the cached principal valid; when this pod holds no
+            // copy to compare with, the other pods are told anyway
+            UserSnapshot cached = userDetailsCache.peek(user.getUserId());
+            if (cached == null) {
+                announce(user.getUserId());
+            } else if (cached.isStaleFor(user)) {
+                userDetailsCache.invalidate(user.getUserId());
+                announce(user.getUserId());
+            }
+        } else {
+            onPersistOrRemove(entity);
+        }
+    }
+
+    @PostPersist
+    @PostRemove
+    public void onPersistOrRemove(Object entity) {
+        if (entity instanceof User user) {
+            userDetailsCache.invalidate(user.getUserId());
+            announce(user.getUserId());
+        } else if (entity instanceof UserRole userRole && userRole.getUser() != null) {
+            userDetailsCache.invalidate(userRole.getUser().getUserId());
+            announce(userRole.getUser().getUserId());
+        }
+    }
+
+    private void announce(Integer userId) {
+        if (userId != null) {
+            clusterEventTransport.publish(ClusterEntityType.USER, INVALIDATE, userId.toString());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.security;
+
+import org.example.model.Employee;
+import org.example.model.User;
+import org.example.model.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// Immutable copy of a User and its employee/roles; safe to cache and to use after the session has closed
+public final class UserSnapshot implements UserDetails {
+
+    private final Integer userId;
+    private final String userName;
+    private final String password;
+    private final boolean active;
+    private final Integer tokenVersion;
+    private final Integer employeeId;
+    private final String employeeFirstName;
+    private final String employeeLastName;
+    private final String employeeEmail;
+    private final Integer managerId;
+    private final List<GrantedAuthority> authorities;
+
+    private UserSnapshot(UserSnapshot source, String password) {
+        this.userId = source.userId;
+        this.userName = source.userName;
+        this.password = password;
+        this.active = source.active;
+        this.tokenVersion = source.tokenVersion;
+        this.employeeId = source.employeeId;
+        this.employeeFirstName = source.employeeFirstName;
+        this.employeeLastName = source.employeeLastName;
+        this.employeeEmail = source.employeeEmail;
+        this.managerId = source.managerId;
+        this.authorities = source.authorities;
+    }
+
+    private UserSnapshot(User user) {
+        this.userId = user.getUserId();
+        this.userName = user.getUserName();
+        this.password = user.getPassword();
+        this.active = user.isEnabled();
+        this.tokenVersion = user.getTokenVersion();
+        Employee employee = user.getEmployee();
+        this.employeeId = employee != null ? employee.getEmployeeId() : null;
+        this.employeeFirstName = employee != null ? employee.getFirstName() : null;
+        this.employeeLastName = employee != null ? employee.getLastName() : null;
+        this.employeeEmail = employee != null ? employee.getEmail() : null;
+        this.managerId = employee != null && employee.getManager() != null ? employee.getManager().getEmployeeId() : null;
+        List<GrantedAuthority> roles = new ArrayList<>();
+        if (user.getUserRoles() != null) {
+            for (UserRole userRole : user.getUserRoles()) {
+                roles.add(new SimpleGrantedAuthority("ROLE_" + userRole.getRole().getRoleName()));
+            }
+        }
+        this.authorities = List.copyOf(roles);
+    }
+
+    // Must be called while the user's employee, manager and roles can still be loaded
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(user);
+    }
+
+    public UserSnapshot withPassword(String password) {
+        return new UserSnapshot(this, password);
+    }
+
+    // True when the entity differs from this snapshot in a field that affects authentication
+    public boolean isStaleFor(User user) {
+        return !Objects.equals(userName, user.getUserName())
+                || !Objects.equals(password, user.getPassword())
+                || active != user.isEnabled()
+                || !Objects.equals(tokenVersion, user.getTokenVersion());
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getEmployeeFirstName() {
+        return employeeFirstName;
+    }
+
+    public String getEmployeeLastName() {
+        return employeeLastName;
+    }
+
+    public String getEmployeeEmail() {
+        return employeeEmail;
+    }
+
+    public Integer getManagerId() {
+        return managerId;
+    }
+
+    public List<String> getRoleNames() {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return userName;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Bounded map of token digest -> verified claims; entries past their token's expiry are never returned. Every
+// authenticated request reads it, so reads take no lock. Only a put into a full cache locks, to drop expired entries
+// (at most once a second) and then the soonest-expiring of a few sampled entries.
+class VerifiedTokenCache {
+
+    private static final int EVICTION_SAMPLE = 8;
+    private static final long SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, JwtClaims> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private long lastSweepMillis;
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    JwtClaims get(String digest, long nowMillis) {
+        JwtClaims claims = entries.get(digest);
+        if (claims != null && claims.isExpired(nowMillis)) {
+            entries.remove(digest, claims);
+            return null;
+        }
+        return claims;
+    }
+
+    void put(String digest, JwtClaims claims) {
+        long now = System.currentTimeMillis();
+        if (maxSize <= 0 || claims.expiration() == null || claims.isExpired(now)) {
+            return;
+        }
+        if (entries.size() < maxSize || entries.containsKey(digest)) {
+            entries.put(digest, claims);
+            return;
+        }
+        evictionLock.lock();
+        try {
+            makeRoom(now);
+            entries.put(digest, claims);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // Drops the verified tokens of one user, whose outstanding tokens have just been revoked
+    void evictUser(Integer userId) {
+        entries.values().removeIf(claims -> userId.equals(claims.userId()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // Called with the eviction lock held
+    private void makeRoom(long now) {
+        if (now - lastSweepMillis >= SWEEP_INTERVAL_MILLIS) {
+            lastSweepMillis = now;
+            entries.values().removeIf(claims -> claims.isExpired(now));
+        }
+        while (entries.size() >= maxSize) {
+            Map.Entry<String, JwtClaims> victim = null;
+            Iterator<Map.Entry<String, JwtClaims>> sample = entries.entrySet().iterator();
+            for (int i = 0; i < EVICTION_SAMPLE && sample.hasNext(); i++) {
+                Map.Entry<String, JwtClaims> candidate = sample.next();
+                if (victim == null || candidate.getValue().expiration().before(victim.getValue().expiration())) {
+                    victim = candidate;
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            entries.remove(victim.getKey(), victim.getValue());
+        }
+    }
+}
@@ -3,7 +3,9 @@ package org.example.service.Approval;
 import java.util.List;
 
 import org.example.dto.request.ApprovalRequestDTO;
+import org.example.dto.request.BulkApprovalRequestDTO;
 import org.example.dto.response.ApprovalResponseDTO;
+import org.example.dto.response.BulkApprovalResultDTO;
 
 public interface ApprovalService {
     ApprovalResponseDTO save(ApprovalRequestDTO approvalRequestDTO);
@@ -12,4 +14,5 @@ public interface ApprovalService {
     ApprovalResponseDTO update(Integer id, ApprovalRequestDTO approvalRequestDTO);
     void deleteById(Integer id);
     List<ApprovalResponseDTO> findByApprovedByEmployeeId(Integer employeeId);
+    BulkApprovalResultDTO decideAll(BulkApprovalRequestDTO request, Integer deciderId, boolean admin);
 }
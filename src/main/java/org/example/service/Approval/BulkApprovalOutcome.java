@@ -0,0 +1,11 @@
+package org.example.service.Approval;
+
+// Per-item result of a bulk decision; only APPLIED items were changed
+public enum BulkApprovalOutcome {
+    APPLIED,
+    NOT_FOUND,
+    DUPLICATE,
+    NOT_SUBMITTED,
+    NOT_PENDING,
+    NOT_ASSIGNED
+}
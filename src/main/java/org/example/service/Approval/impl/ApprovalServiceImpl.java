@@ -1,11 +1,25 @@
 package org.example.service.Approval.impl;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.example.config.DtoMappingMetrics;
 import org.example.dto.request.ApprovalRequestDTO;
+import org.example.dto.request.BulkApprovalRequestDTO;
 import org.example.dto.response.ApprovalResponseDTO;
+import org.example.dto.response.BulkApprovalItemDTO;
+import org.example.dto.response.BulkApprovalResultDTO;
 import org.example.model.Approval;
 import org.example.model.Employee;
 import org.example.model.TimeSheet;
@@ -13,27 +27,73 @@ import org.example.repository.ApprovalRepository;
 import org.example.repository.EmployeeRepository;
 import org.example.repository.TimeSheetRepository;
 import org.example.service.Approval.ApprovalService;
+import org.example.service.Approval.BulkApprovalOutcome;
+import org.example.service.ApprovalInbox.ApprovalInboxService;
+import org.example.service.HoursRollup.HoursRollupService;
+import org.example.service.HoursRollup.RollupScope;
+import org.example.service.HoursRollup.TimesheetScopeChange;
+import org.example.service.TimeSheetEvent.TimeSheetEventService;
+import org.example.service.TimeSheetEvent.TimeSheetStatusEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ApprovalServiceImpl implements ApprovalService {
 
+    // Keeps IN lists well below driver and optimizer limits
+    private static final int IDS_PER_STATEMENT = 500;
+
+    private static final String CANDIDATE_COLUMNS = "SELECT a.approvalId, a.status AS approvalStatus, a.approvedBy, "
+            + "t.timesheetId, t.status AS timesheetStatus, t.employeeId, e.managerId, "
+            + "CASE WHEN EXISTS (SELECT 1 FROM Approval x WHERE x.timesheetId = t.timesheetId) THEN 1 ELSE 0 END AS hasApproval ";
+    private static final String CANDIDATES_BY_APPROVAL = CANDIDATE_COLUMNS
+            + "FROM Approval a JOIN Timesheet t ON t.timesheetId = a.timesheetId JOIN Employee e ON e.employeeId = t.employeeId "
+            + "WHERE a.approvalId IN (%s)";
+    // Only PENDING rows are joined; a timesheet without one still comes back once, with null approval columns
+    private static final String CANDIDATES_BY_TIMESHEET = CANDIDATE_COLUMNS
+            + "FROM Timesheet t JOIN Employee e ON e.employeeId = t.employeeId "
+            + "LEFT JOIN Approval a ON a.timesheetId = t.timesheetId AND a.status = 'PENDING' "
+            + "WHERE t.timesheetId IN (%s)";
+
     private final ApprovalRepository approvalRepository;
     private final TimeSheetRepository timeSheetRepository;
     private final EmployeeRepository employeeRepository;
+    private final ApprovalInboxService approvalInboxService;
+    private final HoursRollupService hoursRollupService;
+    private final TimeSheetEventService timeSheetEventService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxBulkItems;
+    private final DtoMappingMetrics dtoMappingMetrics;
 
     public ApprovalServiceImpl(ApprovalRepository approvalRepository,
                              TimeSheetRepository timeSheetRepository,
-                             EmployeeRepository employeeRepository) {
+                             EmployeeRepository employeeRepository,
+                             ApprovalInboxService approvalInboxService,
+                             HoursRollupService hoursRollupService,
+                             TimeSheetEventService timeSheetEventService,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${app.approvals.maxBulkItems:5000}") int maxBulkItems,
+                             DtoMappingMetrics dtoMappingMetrics) {
         this.approvalRepository = approvalRepository;
         this.timeSheetRepository = timeSheetRepository;
         this.employeeRepository = employeeRepository;
+        this.approvalInboxService = approvalInboxService;
+        this.hoursRollupService = hoursRollupService;
+        this.timeSheetEventService = timeSheetEventService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxBulkItems = maxBulkItems;
+        this.dtoMappingMetrics = dtoMappingMetrics;
     }
 
     @Override
+    @Transactional
     public ApprovalResponseDTO save(ApprovalRequestDTO approvalRequestDTO) {
         TimeSheet timeSheet = timeSheetRepository.findById(approvalRequestDTO.timesheetId())
                 .orElseThrow(() -> new RuntimeException("TimeSheet not found with id: " + approvalRequestDTO.timesheetId()));
+        // The first Approval row takes the timesheet out of the manager's inbox
+        approvalInboxService.timesheetsChanging(List.of(timeSheet.getTimesheetId()));
         
         Employee approvedBy = employeeRepository.findById(approvalRequestDTO.approvedBy())
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + approvalRequestDTO.approvedBy()));
@@ -49,12 +109,13 @@ public class ApprovalServiceImpl implements ApprovalService {
         }
 
         Approval saved = approvalRepository.save(approval);
+        timeSheetEventService.publish(List.of(statusEvent(saved, null)));
         return toApprovalResponseDTO(saved);
     }
 
     @Override
     public List<ApprovalResponseDTO> findAll() {
-        return approvalRepository.findAll()
+        return approvalRepository.findAllWithApproverBy()
                 .stream()
                 .map(this::toApprovalResponseDTO)
                 .collect(Collectors.toList());
@@ -68,16 +129,19 @@ public class ApprovalServiceImpl implements ApprovalService {
     }
 
     @Override
+    @Transactional
     public ApprovalResponseDTO update(Integer id, ApprovalRequestDTO approvalRequestDTO) {
         Approval existingApproval = approvalRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Approval not found with id: " + id));
 
         TimeSheet timeSheet = timeSheetRepository.findById(approvalRequestDTO.timesheetId())
                 .orElseThrow(() -> new RuntimeException("TimeSheet not found with id: " + approvalRequestDTO.timesheetId()));
+        approvalInboxService.timesheetsChanging(List.of(existingApproval.getTimesheet().getTimesheetId(), timeSheet.getTimesheetId()));
         
         Employee approvedBy = employeeRepository.findById(approvalRequestDTO.approvedBy())
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + approvalRequestDTO.approvedBy()));
 
+        Approval.ApprovalStatus previousStatus = existingApproval.getStatus();
         existingApproval.setTimesheet(timeSheet);
         existingApproval.setApprovedBy(approvedBy);
         
@@ -97,11 +161,17 @@ public class ApprovalServiceImpl implements ApprovalService {
         }
 
         Approval updated = approvalRepository.save(existingApproval);
+        if (updated.getStatus() != previousStatus) {
+            timeSheetEventService.publish(List.of(statusEvent(updated, previousStatus)));
+        }
         return toApprovalResponseDTO(updated);
     }
 
     @Override
+    @Transactional
     public void deleteById(Integer id) {
+        approvalRepository.findById(id).ifPresent(approval ->
+                approvalInboxService.timesheetsChanging(List.of(approval.getTimesheet().getTimesheetId())));
         approvalRepository.deleteById(id);
     }
 
@@ -113,8 +183,221 @@ public class ApprovalServiceImpl implements ApprovalService {
                 .collect(Collectors.toList());
     }
 
+    // One decision for many approvals or timesheets. Items are validated with a few set-based queries and only the valid
+    // ones are written, with one UPDATE per IN batch for Approval and Timesheet and one batched INSERT for timesheets
+    // that had no Approval row yet. Everything happens in one transaction; per-item outcomes say what was applied.
+    @Override
+    @Transactional
+    public BulkApprovalResultDTO decideAll(BulkApprovalRequestDTO request, Integer deciderId, boolean admin) {
+        Approval.ApprovalStatus decision = parseDecision(request.decision());
+        List<Integer> approvalIds = request.approvalIds() != null ? request.approvalIds() : List.of();
+        List<Integer> timesheetIds = request.timesheetIds() != null ? request.timesheetIds() : List.of();
+        int requested = approvalIds.size() + timesheetIds.size();
+        if (requested == 0) {
+            throw new IllegalArgumentException("No approval or timesheet ids given");
+        }
+        if (requested > maxBulkItems) {
+            throw new IllegalArgumentException("At most " + maxBulkItems + " items can be decided at once");
+        }
+
+        Map<Integer, Candidate> byApprovalId = new HashMap<>();
+        for (Candidate candidate : findCandidates(CANDIDATES_BY_APPROVAL, approvalIds)) {
+            byApprovalId.put(candidate.approvalId(), candidate);
+        }
+        Map<Integer, List<Candidate>> byTimesheetId = new HashMap<>();
+        for (Candidate candidate : findCandidates(CANDIDATES_BY_TIMESHEET, timesheetIds)) {
+            byTimesheetId.computeIfAbsent(candidate.timesheetId(), id -> new ArrayList<>()).add(candidate);
+        }
+
+        List<BulkApprovalItemDTO> items = new ArrayList<>(requested);
+        // Timesheet id -> the candidate to apply; a null approvalId means a new Approval row
+        Map<Integer, Candidate> accepted = new LinkedHashMap<>();
+        for (Integer approvalId : approvalIds) {
+            Candidate candidate = byApprovalId.get(approvalId);
+            BulkApprovalOutcome outcome = candidate == null ? BulkApprovalOutcome.NOT_FOUND
+                    : accept(candidate, checkApproval(candidate, deciderId, admin), accepted);
+            items.add(new BulkApprovalItemDTO(approvalId, candidate != null ? candidate.timesheetId() : null, outcome.name()));
+        }
+        for (Integer timesheetId : timesheetIds) {
+            List<Candidate> candidates = byTimesheetId.get(timesheetId);
+            if (candidates == null) {
+                items.add(new BulkApprovalItemDTO(null, timesheetId, BulkApprovalOutcome.NOT_FOUND.name()));
+                continue;
+            }
+            Candidate candidate = pickForTimesheet(candidates, deciderId);
+            BulkApprovalOutcome outcome = accept(candidate, checkTimesheet(candidate, deciderId, admin), accepted);
+            items.add(new BulkApprovalItemDTO(candidate.approvalId(), timesheetId, outcome.name()));
+        }
+
+        if (!accepted.isEmpty()) {
+            apply(decision, request.comments(), deciderId, accepted);
+        }
+        int applied = (int) items.stream().filter(item -> BulkApprovalOutcome.APPLIED.name().equals(item.outcome())).count();
+        return new BulkApprovalResultDTO(decision.name(), requested, applied, items);
+    }
+
+    private void apply(Approval.ApprovalStatus decision, String comments, Integer deciderId, Map<Integer, Candidate> accepted) {
+        List<Integer> timesheetIds = new ArrayList<>(accepted.keySet());
+        List<Integer> pendingApprovalIds = new ArrayList<>();
+        List<Object[]> newApprovals = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Candidate candidate : accepted.values()) {
+            if (candidate.approvalId() != null) {
+                pendingApprovalIds.add(candidate.approvalId());
+            } else {
+                newApprovals.add(new Object[]{candidate.timesheetId(), deciderId, now, decision.name(), comments, now, now});
+            }
+        }
+
+        approvalInboxService.timesheetsChanging(timesheetIds);
+
+        // The status guards make a concurrent decision show up as a short count instead of being overwritten
+        int approvalsUpdated = updateInBatches("UPDATE Approval SET status = ?, approvedAt = ?, comments = COALESCE(?, comments), "
+                + "updatedAt = ? WHERE status = 'PENDING' AND approvalId IN (%s)", pendingApprovalIds,
+                decision.name(), now, comments, now);
+        if (!newApprovals.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO Approval (timesheetId, approvedBy, approvedAt, status, comments, createdAt, updatedAt) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)", newApprovals);
+        }
+        // updatedAt moves the conditional GET fingerprints of the timesheet lists
+        int timesheetsUpdated = updateInBatches("UPDATE Timesheet SET status = ?, updatedAt = ? "
+                + "WHERE status = 'SUBMITTED' AND timesheetId IN (%s)", timesheetIds, decision.name(), now);
+        if (approvalsUpdated != pendingApprovalIds.size() || timesheetsUpdated != timesheetIds.size()) {
+            throw new IllegalStateException("Some items were decided concurrently; nothing was changed, please retry");
+        }
+
+        List<TimeSheetStatusEvent> events = new ArrayList<>(accepted.size());
+        for (Candidate candidate : accepted.values()) {
+            events.add(TimeSheetStatusEvent.timesheet(candidate.timesheetId(), candidate.employeeId(), candidate.managerId(),
+                    decision.name(), "SUBMITTED"));
+        }
+        timeSheetEventService.publish(events);
+
+        if (decision == Approval.ApprovalStatus.APPROVED) {
+            List<TimesheetScopeChange> changes = new ArrayList<>(accepted.size());
+            for (Candidate candidate : accepted.values()) {
+                changes.add(new TimesheetScopeChange(candidate.timesheetId(),
+                        new RollupScope(candidate.employeeId(), false), new RollupScope(candidate.employeeId(), true)));
+            }
+            hoursRollupService.moveTimesheetHours(changes);
+        }
+    }
+
+    private static TimeSheetStatusEvent statusEvent(Approval approval, Approval.ApprovalStatus previousStatus) {
+        TimeSheet timeSheet = approval.getTimesheet();
+        return TimeSheetStatusEvent.approval(approval.getApprovalId(), timeSheet.getTimesheetId(),
+                timeSheet.getEmployee().getEmployeeId(), approval.getApprovedBy().getEmployeeId(),
+                approval.getStatus() != null ? approval.getStatus().name() : null,
+                previousStatus != null ? previousStatus.name() : null);
+    }
+
+    private static BulkApprovalOutcome accept(Candidate candidate, BulkApprovalOutcome outcome, Map<Integer, Candidate> accepted) {
+        if (outcome != BulkApprovalOutcome.APPLIED) {
+            return outcome;
+        }
+        if (accepted.putIfAbsent(candidate.timesheetId(), candidate) != null) {
+            return BulkApprovalOutcome.DUPLICATE;
+        }
+        return BulkApprovalOutcome.APPLIED;
+    }
+
+    private static BulkApprovalOutcome checkApproval(Candidate candidate, Integer deciderId, boolean admin) {
+        if (!"PENDING".equals(candidate.approvalStatus())) {
+            return BulkApprovalOutcome.NOT_PENDING;
+        }
+        if (!"SUBMITTED".equals(candidate.timesheetStatus())) {
+            return BulkApprovalOutcome.NOT_SUBMITTED;
+        }
+        if (!admin && !Objects.equals(candidate.approvedBy(), deciderId)) {
+            return BulkApprovalOutcome.NOT_ASSIGNED;
+        }
+        return BulkApprovalOutcome.APPLIED;
+    }
+
+    // Same assignment rule as the approval inbox: a PENDING row names the approver, otherwise the employee's manager
+    // decides until some Approval row exists
+    private static BulkApprovalOutcome checkTimesheet(Candidate candidate, Integer deciderId, boolean admin) {
+        if (!"SUBMITTED".equals(candidate.timesheetStatus())) {
+            return BulkApprovalOutcome.NOT_SUBMITTED;
+        }
+        if (candidate.approvalId() != null) {
+            return checkApproval(candidate, deciderId, admin);
+        }
+        if (candidate.hasApproval()) {
+            return BulkApprovalOutcome.NOT_PENDING;
+        }
+        if (!admin && !Objects.equals(candidate.managerId(), deciderId)) {
+            return BulkApprovalOutcome.NOT_ASSIGNED;
+        }
+        return BulkApprovalOutcome.APPLIED;
+    }
+
+    // A timesheet may hold several PENDING rows; prefer the decider's own
+    private static Candidate pickForTimesheet(List<Candidate> candidates, Integer deciderId) {
+        for (Candidate candidate : candidates) {
+            if (Objects.equals(candidate.approvedBy(), deciderId)) {
+                return candidate;
+            }
+        }
+        return candidates.get(0);
+    }
+
+    private List<Candidate> findCandidates(String sqlTemplate, List<Integer> ids) {
+        List<Integer> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<Candidate> candidates = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += IDS_PER_STATEMENT) {
+            List<Integer> batch = distinct.subList(from, Math.min(from + IDS_PER_STATEMENT, distinct.size()));
+            candidates.addAll(jdbcTemplate.query(String.format(sqlTemplate, placeholders(batch.size())),
+                    ApprovalServiceImpl::toCandidate, batch.toArray()));
+        }
+        return candidates;
+    }
+
+    private int updateInBatches(String sqlTemplate, List<Integer> ids, Object... leadingArgs) {
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += IDS_PER_STATEMENT) {
+            List<Integer> batch = ids.subList(from, Math.min(from + IDS_PER_STATEMENT, ids.size()));
+            // Arrays.asList: leading arguments may be null, like a decision without comments
+            List<Object> args = new ArrayList<>(Arrays.asList(leadingArgs));
+            args.addAll(batch);
+            updated += jdbcTemplate.update(String.format(sqlTemplate, placeholders(batch.size())), args.toArray());
+        }
+        return updated;
+    }
+
+    private static Approval.ApprovalStatus parseDecision(String decision) {
+        if (decision != null) {
+            if (decision.equalsIgnoreCase("APPROVED")) {
+                return Approval.ApprovalStatus.APPROVED;
+            }
+            if (decision.equalsIgnoreCase("REJECTED")) {
+                return Approval.ApprovalStatus.REJECTED;
+            }
+        }
+        throw new IllegalArgumentException("Decision must be APPROVED or REJECTED");
+    }
+
+    private static Candidate toCandidate(ResultSet rs, int rowNum) throws SQLException {
+        return new Candidate(
+                rs.getObject("approvalId", Integer.class),
+                rs.getString("approvalStatus"),
+                rs.getObject("approvedBy", Integer.class),
+                rs.getInt("timesheetId"),
+                rs.getString("timesheetStatus"),
+                rs.getInt("employeeId"),
+                rs.getObject("managerId", Integer.class),
+                rs.getInt("hasApproval") == 1);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private record Candidate(Integer approvalId, String approvalStatus, Integer approvedBy, Integer timesheetId,
+                             String timesheetStatus, Integer employeeId, Integer managerId, boolean hasApproval) {}
+
     private ApprovalResponseDTO toApprovalResponseDTO(Approval approval) {
-        return new ApprovalResponseDTO(
+        return dtoMappingMetrics.time(ApprovalResponseDTO.class, () -> new ApprovalResponseDTO(
                 approval.getApprovalId(),
                 approval.getTimesheet() != null ? approval.getTimesheet().getTimesheetId() : null,
                 approval.getApprovedBy() != null ? approval.getApprovedBy().getEmployeeId() : null,
@@ -123,6 +406,6 @@ public class ApprovalServiceImpl implements ApprovalService {
                 approval.getApprovedAt(),
                 approval.getStatus() != null ? approval.getStatus().name() : null,
                 approval.getComments()
-        );
+        ));
     }
 }
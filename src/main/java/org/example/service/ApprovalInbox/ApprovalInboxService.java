@@ -0,0 +1,15 @@
+package org.example.service.ApprovalInbox;
+
+import org.example.dto.response.CacheStatsDTO;
+import org.example.dto.response.PendingApprovalPageDTO;
+
+import java.util.Collection;
+
+public interface ApprovalInboxService {
+    long countPending(Integer approverId);
+    PendingApprovalPageDTO findPending(Integer approverId, String cursor, Integer size);
+    // Call before changing timesheet status, timesheet owner or approval rows; counts are refreshed once the change commits
+    void timesheetsChanging(Collection<Integer> timesheetIds);
+    void approversChanging(Collection<Integer> approverIds);
+    CacheStatsDTO stats();
+}
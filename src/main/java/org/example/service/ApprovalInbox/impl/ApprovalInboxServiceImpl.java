@@ -0,0 +1,280 @@
+package org.example.service.ApprovalInbox.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.GenerationalCache;
+import org.example.dto.response.CacheStatsDTO;
+import org.example.dto.response.PendingApprovalDTO;
+import org.example.dto.response.PendingApprovalPageDTO;
+import org.example.service.ApprovalInbox.ApprovalInboxService;
+import org.example.service.ClusterEvent.ClusterEntityType;
+import org.example.service.ClusterEvent.ClusterEvent;
+import org.example.service.ClusterEvent.ClusterEventTransport;
+import org.example.service.TimeSheet.TimeSheetCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// A timesheet waits on approver X when it is SUBMITTED and X holds a PENDING Approval row for it, or, while no Approval
+// row exists yet, when X manages the timesheet's employee. Each path is one index lookup driven by the approver id.
+// Other pods hear about every change through an "inbox" cluster event and recount the badges they have cached.
+@Service
+public class ApprovalInboxServiceImpl implements ApprovalInboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApprovalInboxServiceImpl.class);
+    private static final String INBOX_ACTION = "inbox";
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+    // Keeps IN lists well below driver and optimizer limits
+    private static final int IDS_PER_STATEMENT = 500;
+
+    public static final String COUNT_PENDING_SQL = "SELECT "
+            + "(SELECT COUNT(DISTINCT a.timesheetId) FROM Approval a JOIN Timesheet t ON t.timesheetId = a.timesheetId "
+            + "WHERE a.approvedBy = ? AND a.status = 'PENDING' AND t.status = 'SUBMITTED') + "
+            + "(SELECT COUNT(*) FROM Employee s JOIN Timesheet t ON t.employeeId = s.employeeId "
+            + "WHERE s.managerId = ? AND t.status = 'SUBMITTED' "
+            + "AND NOT EXISTS (SELECT 1 FROM Approval a WHERE a.timesheetId = t.timesheetId))";
+
+    public static final String PENDING_PAGE_SQL = "SELECT t.timesheetId, p.approvalId, t.employeeId, e.firstName, e.lastName, "
+            + "t.periodStartDate, t.periodEndDate, t.submissionDate FROM ("
+            + "SELECT a.timesheetId, MIN(a.approvalId) AS approvalId FROM Approval a "
+            + "WHERE a.approvedBy = ? AND a.status = 'PENDING' GROUP BY a.timesheetId "
+            + "UNION ALL "
+            + "SELECT t.timesheetId, NULL FROM Employee s JOIN Timesheet t ON t.employeeId = s.employeeId "
+            + "WHERE s.managerId = ? AND t.status = 'SUBMITTED' "
+            + "AND NOT EXISTS (SELECT 1 FROM Approval a WHERE a.timesheetId = t.timesheetId)"
+            + ") p JOIN Timesheet t ON t.timesheetId = p.timesheetId JOIN Employee e ON e.employeeId = t.employeeId "
+            + "WHERE t.status = 'SUBMITTED'";
+    private static final String PENDING_PAGE_AFTER = " AND (t.periodStartDate > ? OR (t.periodStartDate = ? AND t.timesheetId > ?))";
+    private static final String PENDING_PAGE_ORDER = " ORDER BY t.periodStartDate, t.timesheetId LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterEventTransport clusterEventTransport;
+    private final ObjectMapper objectMapper;
+    private final GenerationalCache<Integer, Long> counts;
+
+    public ApprovalInboxServiceImpl(JdbcTemplate jdbcTemplate,
+                                    ClusterEventTransport clusterEventTransport,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.approvalInbox.maxCachedCounts:10000}") int maxCachedCounts,
+                                    @Value("${app.approvalInbox.countTtlMs:300000}") long countTtlMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterEventTransport = clusterEventTransport;
+        this.objectMapper = objectMapper;
+        this.counts = new GenerationalCache<>("approvalInbox.pendingCount", maxCachedCounts, countTtlMillis);
+        clusterEventTransport.subscribe(ClusterEntityType.TIMESHEET, this::onClusterEvent);
+    }
+
+    @Override
+    public long countPending(Integer approverId) {
+        Long cached = counts.get(approverId);
+        if (cached != null) {
+            return cached;
+        }
+        return recount(approverId);
+    }
+
+    @Override
+    public PendingApprovalPageDTO findPending(Integer approverId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // Fetch one extra row to know whether another page exists
+        List<PendingApprovalDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = jdbcTemplate.query(PENDING_PAGE_SQL + PENDING_PAGE_ORDER, this::toPendingApproval,
+                    approverId, approverId, pageSize + 1);
+        } else {
+            TimeSheetCursor after = TimeSheetCursor.decode(cursor);
+            Date afterDate = Date.valueOf(after.periodStartDate());
+            rows = jdbcTemplate.query(PENDING_PAGE_SQL + PENDING_PAGE_AFTER + PENDING_PAGE_ORDER, this::toPendingApproval,
+                    approverId, approverId, afterDate, afterDate, after.timesheetId(), pageSize + 1);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<PendingApprovalDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            PendingApprovalDTO last = page.get(page.size() - 1);
+            nextCursor = new TimeSheetCursor(last.periodStartDate(), last.timesheetId()).encode();
+        }
+        return new PendingApprovalPageDTO(withTotals(page), page.size(), hasMore, nextCursor);
+    }
+
+    @Override
+    public void timesheetsChanging(Collection<Integer> timesheetIds) {
+        List<Integer> ids = timesheetIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<Integer> before = approversOf(ids);
+        announce(ids, before);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(before);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                Set<Integer> affected = new LinkedHashSet<>(before);
+                if (status == STATUS_COMMITTED) {
+                    affected.addAll(approversOf(ids));
+                }
+                refresh(affected);
+            }
+        });
+    }
+
+    @Override
+    public void approversChanging(Collection<Integer> approverIds) {
+        Set<Integer> affected = new LinkedHashSet<>(approverIds);
+        affected.remove(null);
+        if (affected.isEmpty()) {
+            return;
+        }
+        announce(List.of(), affected);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(affected);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                refresh(affected);
+            }
+        });
+    }
+
+    @Override
+    public CacheStatsDTO stats() {
+        return counts.stats();
+    }
+
+    // Goes out with the surrounding transaction; the receiving pods work out the new approvers themselves
+    private void announce(List<Integer> timesheetIds, Set<Integer> approverIds) {
+        try {
+            clusterEventTransport.publish(ClusterEntityType.TIMESHEET, INBOX_ACTION,
+                    objectMapper.writeValueAsString(new InboxChange(timesheetIds, approverIds)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize inbox change", e);
+        }
+    }
+
+    private void onClusterEvent(ClusterEvent event) {
+        if (event.local() || !INBOX_ACTION.equals(event.action())) {
+            return;
+        }
+        InboxChange change;
+        try {
+            change = objectMapper.readValue(event.payload(), InboxChange.class);
+        } catch (JsonProcessingException e) {
+            logger.warn("Skipping unreadable inbox event {}: {}", event.eventId(), e.getMessage());
+            return;
+        }
+        Set<Integer> affected = new LinkedHashSet<>(change.approverIds());
+        if (!change.timesheetIds().isEmpty()) {
+            affected.addAll(approversOf(change.timesheetIds()));
+        }
+        refresh(affected);
+    }
+
+    // Recounts straight away for approvers whose badge was cached, so their next read stays a hit
+    private void refresh(Set<Integer> approverIds) {
+        for (Integer approverId : approverIds) {
+            if (counts.invalidate(approverId)) {
+                recount(approverId);
+            }
+        }
+    }
+
+    private long recount(Integer approverId) {
+        long generation = counts.generation(approverId);
+        Long count = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Long.class, approverId, approverId);
+        long pending = count != null ? count : 0;
+        counts.put(approverId, pending, generation);
+        return pending;
+    }
+
+    // Current approvers of the timesheets: the employee's manager and every holder of a PENDING Approval row
+    private Set<Integer> approversOf(List<Integer> timesheetIds) {
+        Set<Integer> approvers = new LinkedHashSet<>();
+        for (int from = 0; from < timesheetIds.size(); from += IDS_PER_STATEMENT) {
+            List<Integer> batch = timesheetIds.subList(from, Math.min(from + IDS_PER_STATEMENT, timesheetIds.size()));
+            String in = placeholders(batch.size());
+            List<Object> args = new ArrayList<>(batch);
+            args.addAll(batch);
+            approvers.addAll(jdbcTemplate.queryForList(
+                    "SELECT e.managerId FROM Timesheet t JOIN Employee e ON e.employeeId = t.employeeId "
+                            + "WHERE t.timesheetId IN (" + in + ") AND e.managerId IS NOT NULL "
+                            + "UNION SELECT a.approvedBy FROM Approval a WHERE a.timesheetId IN (" + in + ") AND a.status = 'PENDING'",
+                    Integer.class, args.toArray()));
+        }
+        return approvers;
+    }
+
+    // One grouped query over the page's timesheets; the entries themselves are never loaded
+    private List<PendingApprovalDTO> withTotals(List<PendingApprovalDTO> page) {
+        if (page.isEmpty()) {
+            return page;
+        }
+        Map<Integer, Object[]> totals = new HashMap<>();
+        jdbcTemplate.query("SELECT timesheetId, COALESCE(SUM(hoursWorked), 0), COUNT(*) FROM TimesheetEntry "
+                        + "WHERE timesheetId IN (" + placeholders(page.size()) + ") GROUP BY timesheetId",
+                (ResultSet rs) -> {
+                    totals.put(rs.getInt(1), new Object[]{rs.getBigDecimal(2), rs.getLong(3)});
+                },
+                page.stream().map(PendingApprovalDTO::timesheetId).toArray());
+
+        List<PendingApprovalDTO> items = new ArrayList<>(page.size());
+        for (PendingApprovalDTO row : page) {
+            Object[] total = totals.get(row.timesheetId());
+            BigDecimal hours = total != null ? (BigDecimal) total[0] : BigDecimal.ZERO;
+            long entries = total != null ? (Long) total[1] : 0;
+            items.add(new PendingApprovalDTO(row.timesheetId(), row.approvalId(), row.employeeId(), row.employeeName(),
+                    row.periodStartDate(), row.periodEndDate(), row.submissionDate(), hours, entries));
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private PendingApprovalDTO toPendingApproval(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp submitted = rs.getTimestamp("submissionDate");
+        return new PendingApprovalDTO(
+                rs.getInt("timesheetId"),
+                rs.getObject("approvalId") != null ? rs.getInt("approvalId") : null,
+                rs.getInt("employeeId"),
+                rs.getString("firstName") + " " + rs.getString("lastName"),
+                rs.getDate("periodStartDate").toLocalDate(),
+                rs.getDate("periodEndDate").toLocalDate(),
+                submitted != null ? submitted.toLocalDateTime() : null,
+                BigDecimal.ZERO,
+                0);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    record InboxChange(List<Integer> timesheetIds, Set<Integer> approverIds) {}
+}
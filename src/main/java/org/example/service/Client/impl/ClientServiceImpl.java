@@ -1,10 +1,13 @@
 package org.example.service.Client.impl;
 
+import org.example.config.DtoMappingMetrics;
 import org.example.dto.request.ClientRequestDTO;
 import org.example.dto.response.ClientResponseDTO;
 import org.example.model.Client;
 import org.example.repository.ClientRepository;
 import org.example.service.Client.ClientService;
+import org.example.service.ReferenceData.ClientSnapshot;
+import org.example.service.ReferenceData.ReferenceDataService;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -15,9 +18,14 @@ import java.util.stream.Collectors;
 public class ClientServiceImpl implements ClientService {
     
     private final ClientRepository clientRepository;
+    private final ReferenceDataService referenceDataService;
+    private final DtoMappingMetrics dtoMappingMetrics;
 
-    public ClientServiceImpl(ClientRepository clientRepository) {
+    public ClientServiceImpl(ClientRepository clientRepository, ReferenceDataService referenceDataService,
+                             DtoMappingMetrics dtoMappingMetrics) {
         this.clientRepository = clientRepository;
+        this.referenceDataService = referenceDataService;
+        this.dtoMappingMetrics = dtoMappingMetrics;
     }
 
     @Override
@@ -30,7 +38,7 @@ public class ClientServiceImpl implements ClientService {
 
     @Override
     public ClientResponseDTO findById(Integer id) {
-        return clientRepository.findById(id)
+        return referenceDataService.findClient(id)
                 .map(this::toClientResponseDTO)
                 .orElse(null);
     }
@@ -68,13 +76,23 @@ public class ClientServiceImpl implements ClientService {
         clientRepository.deleteById(id);
     }
 
+    private ClientResponseDTO toClientResponseDTO(ClientSnapshot client) {
+        return dtoMappingMetrics.time(ClientResponseDTO.class, () -> new ClientResponseDTO(
+                client.clientId(),
+                client.clientName(),
+                client.contactEmail(),
+                client.contactPhone(),
+                client.address()
+        ));
+    }
+
     private ClientResponseDTO toClientResponseDTO(Client client) {
-        return new ClientResponseDTO(
+        return dtoMappingMetrics.time(ClientResponseDTO.class, () -> new ClientResponseDTO(
                 client.getClientId(),
                 client.getClientName(),
                 client.getContactEmail(),
                 client.getContactPhone(),
                 client.getAddress()
-        );
+        ));
     }
 }
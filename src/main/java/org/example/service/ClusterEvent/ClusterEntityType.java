@@ -0,0 +1,8 @@
+package org.example.service.ClusterEvent;
+
+public enum ClusterEntityType {
+    TIMESHEET,
+    APPROVAL,
+    USER,
+    REFERENCE_DATA
+}
@@ -0,0 +1,8 @@
+package org.example.service.ClusterEvent;
+
+import java.time.LocalDateTime;
+
+// A delivered event. Ids grow in delivery order on every node, except for a late commit the outbox transport delivers
+// after its id was skipped; local is true on the node that published it.
+public record ClusterEvent(long eventId, ClusterEntityType entityType, String action, String payload, String origin,
+                           LocalDateTime createdAt, boolean local) {}
@@ -0,0 +1,4 @@
+package org.example.service.ClusterEvent;
+
+// An event on its way out; action and payload are defined by the publishing service
+public record ClusterEventMessage(ClusterEntityType entityType, String action, String payload) {}
@@ -0,0 +1,26 @@
+package org.example.service.ClusterEvent;
+
+import org.example.dto.response.ClusterEventStatsDTO;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+// Carries entity-change events to every node, including the publishing one. Selected with app.clusterEvents.transport:
+// "outbox" (MySQL table polled by each node) or "loopback" (this node only, for tests and single-node setups).
+public interface ClusterEventTransport {
+    // Joins the surrounding transaction: the events go out only if it commits
+    void publish(List<ClusterEventMessage> messages);
+
+    default void publish(ClusterEntityType entityType, String action, String payload) {
+        publish(List.of(new ClusterEventMessage(entityType, action, payload)));
+    }
+
+    // Listeners run on the delivering thread, one event at a time in id order (a late commit may come after higher
+    // ids, see OutboxClusterEventTransport), and should return quickly
+    void subscribe(ClusterEntityType entityType, Consumer<ClusterEvent> listener);
+
+    // Id before the first event this node delivers; older events are never seen here
+    long startPosition();
+
+    ClusterEventStatsDTO stats();
+}
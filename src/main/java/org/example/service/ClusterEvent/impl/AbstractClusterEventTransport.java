@@ -0,0 +1,93 @@
+package org.example.service.ClusterEvent.impl;
+
+import org.example.dto.response.ClusterEventStatsDTO;
+import org.example.service.ClusterEvent.ClusterEntityType;
+import org.example.service.ClusterEvent.ClusterEvent;
+import org.example.service.ClusterEvent.ClusterEventTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Subscriptions, dispatch and delivery lag bookkeeping shared by the transports
+abstract class AbstractClusterEventTransport implements ClusterEventTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractClusterEventTransport.class);
+
+    protected final String nodeId;
+    private final String name;
+    private final Map<ClusterEntityType, List<Consumer<ClusterEvent>>> listeners = new ConcurrentHashMap<>();
+    protected final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder totalLagMillis = new LongAdder();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+    protected final LongAdder skippedGaps = new LongAdder();
+    private final LongAdder lateEvents = new LongAdder();
+    private volatile long position;
+
+    protected AbstractClusterEventTransport(String name, String nodeId) {
+        this.name = name;
+        // Pods get their name in HOSTNAME; anything else gets a random id per start
+        String resolved = nodeId != null && !nodeId.isBlank() ? nodeId : System.getenv("HOSTNAME");
+        this.nodeId = resolved != null && !resolved.isBlank() ? resolved : UUID.randomUUID().toString();
+    }
+
+    @Override
+    public void subscribe(ClusterEntityType entityType, Consumer<ClusterEvent> listener) {
+        listeners.computeIfAbsent(entityType, type -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public ClusterEventStatsDTO stats() {
+        long count = delivered.sum();
+        return new ClusterEventStatsDTO(name, nodeId, published.sum(), count, position, lastLagMillis.get(),
+                maxLagMillis.get(), count == 0 ? 0.0 : (double) totalLagMillis.sum() / count, skippedGaps.sum(),
+                lateEvents.sum());
+    }
+
+    protected long position() {
+        return position;
+    }
+
+    protected void resumeAfter(long eventId) {
+        position = eventId;
+    }
+
+    // Callers deliver one event at a time, in id order
+    protected void dispatch(ClusterEvent event) {
+        deliver(event);
+        position = event.eventId();
+    }
+
+    // An event behind the position, such as a late commit: the listeners get it but the position stays
+    protected void deliverLate(ClusterEvent event) {
+        lateEvents.increment();
+        deliver(event);
+    }
+
+    private void deliver(ClusterEvent event) {
+        for (Consumer<ClusterEvent> listener : listeners.getOrDefault(event.entityType(), List.of())) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                logger.warn("Cluster event {} ({} {}) listener failed: {}", event.eventId(), event.entityType(),
+                        event.action(), e.getMessage());
+            }
+        }
+        long lag = Math.max(0, Duration.between(event.createdAt(), LocalDateTime.now()).toMillis());
+        delivered.increment();
+        totalLagMillis.add(lag);
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+    }
+}
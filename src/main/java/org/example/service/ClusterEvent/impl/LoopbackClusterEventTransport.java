@@ -0,0 +1,62 @@
+package org.example.service.ClusterEvent.impl;
+
+import org.example.service.ClusterEvent.ClusterEvent;
+import org.example.service.ClusterEvent.ClusterEventMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Delivers to this node only, synchronously after commit; used by the tests and by single-node deployments
+@Component
+@ConditionalOnProperty(name = "app.clusterEvents.transport", havingValue = "loopback")
+public class LoopbackClusterEventTransport extends AbstractClusterEventTransport {
+
+    private final Object lock = new Object();
+    private final long startPosition;
+    private long lastId;
+
+    public LoopbackClusterEventTransport(@Value("${app.clusterEvents.nodeId:}") String nodeId) {
+        super("loopback", nodeId);
+        // Ids keep growing across restarts, like the outbox ids do
+        this.startPosition = System.currentTimeMillis() * 1000;
+        this.lastId = startPosition;
+    }
+
+    @Override
+    public void publish(List<ClusterEventMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        LocalDateTime createdAt = LocalDateTime.now();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(messages, createdAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(messages, createdAt);
+            }
+        });
+    }
+
+    @Override
+    public long startPosition() {
+        return startPosition;
+    }
+
+    private void deliver(List<ClusterEventMessage> messages, LocalDateTime createdAt) {
+        synchronized (lock) {
+            for (ClusterEventMessage message : messages) {
+                published.increment();
+                dispatch(new ClusterEvent(++lastId, message.entityType(), message.action(), message.payload(), nodeId,
+                        createdAt, true));
+            }
+        }
+    }
+}
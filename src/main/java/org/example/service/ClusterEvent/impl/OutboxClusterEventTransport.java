@@ -0,0 +1,189 @@
+package org.example.service.ClusterEvent.impl;
+
+import org.example.service.ClusterEvent.ClusterEntityType;
+import org.example.service.ClusterEvent.ClusterEvent;
+import org.example.service.ClusterEvent.ClusterEventMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Publishing inserts into ClusterEventOutbox inside the caller's transaction; every node polls the rows after the last
+// id it delivered. A missing id usually belongs to a transaction that has not committed yet, so delivery waits up to
+// gapTimeoutMs for it before moving on; ids of rolled-back inserts never show up and cost that wait once. Skipped ids
+// are looked up again on every poll for lateWindowMs, and a late commit is delivered then, after newer events.
+@Component
+@ConditionalOnProperty(name = "app.clusterEvents.transport", havingValue = "outbox", matchIfMissing = true)
+public class OutboxClusterEventTransport extends AbstractClusterEventTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxClusterEventTransport.class);
+
+    private static final String INSERT_SQL = "INSERT INTO ClusterEventOutbox (entityType, action, payload, origin, createdAt) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final String POLL_SQL = "SELECT eventId, entityType, action, payload, origin, createdAt "
+            + "FROM ClusterEventOutbox WHERE eventId > ? ORDER BY eventId LIMIT ?";
+    private static final String LATE_SQL = "SELECT eventId, entityType, action, payload, origin, createdAt "
+            + "FROM ClusterEventOutbox WHERE eventId IN (%s) ORDER BY eventId";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final long retentionMillis;
+    private final long lateWindowMillis;
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private volatile Long startPosition;
+    // When the poller started waiting for the id after its position; 0 while it is not waiting
+    private long gapSince;
+    // Skipped ids still looked up, with when they were skipped; at most batchSize of them, the newest
+    private final NavigableMap<Long, Long> skippedIds = new TreeMap<>();
+
+    public OutboxClusterEventTransport(JdbcTemplate jdbcTemplate,
+                                       @Value("${app.clusterEvents.nodeId:}") String nodeId,
+                                       @Value("${app.clusterEvents.batchSize:500}") int batchSize,
+                                       @Value("${app.clusterEvents.gapTimeoutMs:2000}") long gapTimeoutMillis,
+                                       @Value("${app.clusterEvents.retentionMs:3600000}") long retentionMillis,
+                                       @Value("${app.clusterEvents.lateWindowMs:60000}") long lateWindowMillis) {
+        super("outbox", nodeId);
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.retentionMillis = retentionMillis;
+        this.lateWindowMillis = lateWindowMillis;
+    }
+
+    @Override
+    public void publish(List<ClusterEventMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(messages.size());
+        for (ClusterEventMessage message : messages) {
+            rows.add(new Object[]{message.entityType().name(), message.action(), message.payload(), nodeId, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            published.add(messages.size());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                published.add(messages.size());
+            }
+        });
+    }
+
+    // Read lazily: the table may not exist yet while the context starts
+    @Override
+    public long startPosition() {
+        Long start = startPosition;
+        if (start == null) {
+            synchronized (this) {
+                if (startPosition == null) {
+                    Long max = jdbcTemplate.queryForObject("SELECT MAX(eventId) FROM ClusterEventOutbox", Long.class);
+                    startPosition = max != null ? max : 0L;
+                    resumeAfter(startPosition);
+                }
+                start = startPosition;
+            }
+        }
+        return start;
+    }
+
+    // Returns the number of events delivered
+    @Scheduled(fixedDelayString = "${app.clusterEvents.pollIntervalMs:500}")
+    public int poll() {
+        if (!pollLock.tryLock()) {
+            return 0;
+        }
+        try {
+            startPosition();
+            int delivered = deliverLateEvents();
+            List<ClusterEvent> events = jdbcTemplate.query(POLL_SQL, this::toEvent, position(), batchSize);
+            for (ClusterEvent event : events) {
+                if (event.eventId() != position() + 1) {
+                    long now = System.nanoTime();
+                    if (gapSince == 0) {
+                        gapSince = now;
+                        break;
+                    }
+                    if (now - gapSince < gapTimeoutMillis * 1_000_000) {
+                        break;
+                    }
+                    skippedGaps.increment();
+                    logger.debug("Skipping cluster event ids {} to {}", position() + 1, event.eventId() - 1);
+                    skip(position() + 1, event.eventId() - 1, now);
+                }
+                gapSince = 0;
+                dispatch(event);
+                delivered++;
+            }
+            return delivered;
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    // Skipped ids that have committed since are delivered now; those skipped more than lateWindowMillis ago are dropped
+    private int deliverLateEvents() {
+        long now = System.nanoTime();
+        skippedIds.values().removeIf(skippedAt -> now - skippedAt >= lateWindowMillis * 1_000_000);
+        if (skippedIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(skippedIds.size(), "?"));
+        List<ClusterEvent> events = jdbcTemplate.query(LATE_SQL.formatted(placeholders), this::toEvent,
+                skippedIds.keySet().toArray());
+        for (ClusterEvent event : events) {
+            skippedIds.remove(event.eventId());
+            logger.debug("Delivering cluster event {} after its id was skipped", event.eventId());
+            deliverLate(event);
+        }
+        return events.size();
+    }
+
+    private void skip(long fromId, long toId, long now) {
+        for (long id = Math.max(fromId, toId - batchSize + 1); id <= toId; id++) {
+            skippedIds.put(id, now);
+        }
+        while (skippedIds.size() > batchSize) {
+            skippedIds.pollFirstEntry();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.clusterEvents.cleanupIntervalMs:600000}",
+            initialDelayString = "${app.clusterEvents.cleanupIntervalMs:600000}")
+    public int deleteExpired() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusNanos(retentionMillis * 1_000_000));
+        return jdbcTemplate.update("DELETE FROM ClusterEventOutbox WHERE createdAt < ?", cutoff);
+    }
+
+    private ClusterEvent toEvent(ResultSet rs, int rowNum) throws SQLException {
+        String origin = rs.getString("origin");
+        return new ClusterEvent(
+                rs.getLong("eventId"),
+                ClusterEntityType.valueOf(rs.getString("entityType")),
+                rs.getString("action"),
+                rs.getString("payload"),
+                origin,
+                rs.getTimestamp("createdAt").toLocalDateTime(),
+                nodeId.equals(origin));
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.service.Department.impl;
 
+import org.example.config.DtoMappingMetrics;
 import org.example.dto.request.DepartmentRequestDTO;
 import org.example.dto.response.DepartmentResponseDTO;
 import org.example.model.Department;
@@ -7,6 +8,8 @@ import org.example.model.Employee;
 import org.example.repository.DepartmentRepository;
 import org.example.repository.EmployeeRepository;
 import org.example.service.Department.DepartmentService;
+import org.example.service.ReferenceData.DepartmentSnapshot;
+import org.example.service.ReferenceData.ReferenceDataService;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -18,10 +21,16 @@ import java.util.stream.Collectors;
 public class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository;
+    private final ReferenceDataService referenceDataService;
+    private final DtoMappingMetrics dtoMappingMetrics;
 
-    public DepartmentServiceImpl(DepartmentRepository departmentRepository, EmployeeRepository employeeRepository) {
+    public DepartmentServiceImpl(DepartmentRepository departmentRepository, EmployeeRepository employeeRepository,
+                                 ReferenceDataService referenceDataService,
+                                 DtoMappingMetrics dtoMappingMetrics) {
         this.departmentRepository = departmentRepository;
         this.employeeRepository = employeeRepository;
+        this.referenceDataService = referenceDataService;
+        this.dtoMappingMetrics = dtoMappingMetrics;
     }
 
     @Override
@@ -44,7 +53,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public List<DepartmentResponseDTO> findAll() {
-        return departmentRepository.findAll()
+        return departmentRepository.findAllWithHeadEmployeeBy()
                 .stream()
                 .map(this::toDepartmentResponseDTO)
                 .collect(Collectors.toList());
@@ -52,7 +61,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public DepartmentResponseDTO findById(Integer id) {
-        return departmentRepository.findById(id)
+        return referenceDataService.findDepartment(id)
                 .map(this::toDepartmentResponseDTO)
                 .orElse(null);
     }
@@ -84,13 +93,22 @@ public class DepartmentServiceImpl implements DepartmentService {
         departmentRepository.deleteById(id);
     }
 
+    private DepartmentResponseDTO toDepartmentResponseDTO(DepartmentSnapshot department) {
+        return dtoMappingMetrics.time(DepartmentResponseDTO.class, () -> new DepartmentResponseDTO(
+                department.departmentId(),
+                department.name(),
+                department.headEmployeeId(),
+                department.headEmployeeName()
+        ));
+    }
+
     private DepartmentResponseDTO toDepartmentResponseDTO(Department department) {
-        return new DepartmentResponseDTO(
+        return dtoMappingMetrics.time(DepartmentResponseDTO.class, () -> new DepartmentResponseDTO(
                 department.getDepartmentId(),
                 department.getName(),
                 department.getHeadEmployee() != null ? department.getHeadEmployee().getEmployeeId() : null,
                 department.getHeadEmployee() != null ? 
                     department.getHeadEmployee().getFirstName() + " " + department.getHeadEmployee().getLastName() : null
-        );
+        ));
     }
 }
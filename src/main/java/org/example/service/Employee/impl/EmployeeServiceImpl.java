@@ -1,15 +1,21 @@
 package org.example.service.Employee.impl;
 
+import org.example.config.DtoMappingMetrics;
 import org.example.dto.request.EmployeeRequestDTO;
 import org.example.dto.response.EmployeeResponseDTO;
 import org.example.model.Employee;
 import org.example.model.Department;
 import org.example.repository.EmployeeRepository;
 import org.example.repository.DepartmentRepository;
+import org.example.service.ApprovalInbox.ApprovalInboxService;
 import org.example.service.Employee.EmployeeService;
+import org.example.service.HoursRollup.HoursRollupService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,10 +23,19 @@ public class EmployeeServiceImpl implements EmployeeService {
     
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
+    private final ApprovalInboxService approvalInboxService;
+    private final HoursRollupService hoursRollupService;
+    private final DtoMappingMetrics dtoMappingMetrics;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository, DepartmentRepository departmentRepository) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, DepartmentRepository departmentRepository,
+                               ApprovalInboxService approvalInboxService,
+                               HoursRollupService hoursRollupService,
+                               DtoMappingMetrics dtoMappingMetrics) {
         this.employeeRepository = employeeRepository;
         this.departmentRepository = departmentRepository;
+        this.approvalInboxService = approvalInboxService;
+        this.hoursRollupService = hoursRollupService;
+        this.dtoMappingMetrics = dtoMappingMetrics;
     }
 
     @Override
@@ -54,7 +69,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     public List<EmployeeResponseDTO> findAll() {
-        return employeeRepository.findAll()
+        return employeeRepository.findAllWithDepartmentAndManagerBy()
             .stream()
             .map(this::toEmployeeResponseDTO)
             .collect(Collectors.toList());
@@ -68,6 +83,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
+    @Transactional
     public EmployeeResponseDTO update(Integer id, EmployeeRequestDTO employeeRequestDTO) {
         Employee existingEmployee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
@@ -83,6 +99,11 @@ public class EmployeeServiceImpl implements EmployeeService {
             manager = employeeRepository.findById(employeeRequestDTO.managerId()).orElse(null);
         }
 
+        Integer previousManagerId = existingEmployee.getManager() != null ? existingEmployee.getManager().getEmployeeId() : null;
+        Integer managerId = manager != null ? manager.getEmployeeId() : null;
+        Integer previousDepartmentId = existingEmployee.getDepartment() != null ? existingEmployee.getDepartment().getDepartmentId() : null;
+        Integer departmentId = department != null ? department.getDepartmentId() : null;
+
         existingEmployee.setFirstName(employeeRequestDTO.firstName());
         existingEmployee.setLastName(employeeRequestDTO.lastName());
         existingEmployee.setEmail(employeeRequestDTO.email());
@@ -91,6 +112,14 @@ public class EmployeeServiceImpl implements EmployeeService {
         existingEmployee.setManager(manager);
 
         Employee updatedEmployee = employeeRepository.save(existingEmployee);
+        if (!Objects.equals(previousManagerId, managerId)) {
+            // Submitted timesheets without an Approval row follow the manager
+            approvalInboxService.approversChanging(Arrays.asList(previousManagerId, managerId));
+        }
+        if (!Objects.equals(previousDepartmentId, departmentId)) {
+            // Hours already booked move to the new department's months
+            hoursRollupService.moveEmployeeDepartment(id, previousDepartmentId, departmentId);
+        }
         return toEmployeeResponseDTO(updatedEmployee);
     }
 
@@ -100,7 +129,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     private EmployeeResponseDTO toEmployeeResponseDTO(Employee employee) {
-        return new EmployeeResponseDTO(
+        return dtoMappingMetrics.time(EmployeeResponseDTO.class, () -> new EmployeeResponseDTO(
             employee.getEmployeeId(),
             employee.getFirstName(),
             employee.getLastName(),
@@ -110,6 +139,6 @@ public class EmployeeServiceImpl implements EmployeeService {
             employee.getDepartment() != null ? employee.getDepartment().getName() : null,
             employee.getManager() != null ? employee.getManager().getEmployeeId() : null,
             employee.getManager() != null ? employee.getManager().getFirstName() + " " + employee.getManager().getLastName() : null
-        );
+        ));
     }
 }
@@ -0,0 +1,18 @@
+package org.example.service.HoursRollup;
+
+import org.example.model.TimeSheetEntry;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Hours and entry count of one (project, day) cell; negative values take hours out of the rollups
+public record EntryHours(Integer projectId, LocalDate date, BigDecimal hours, long entries) {
+
+    public static EntryHours of(TimeSheetEntry entry) {
+        return new EntryHours(entry.getProject().getProjectId(), entry.getDate(), entry.getHoursWorked(), 1);
+    }
+
+    public EntryHours negate() {
+        return new EntryHours(projectId, date, hours.negate(), -entries);
+    }
+}
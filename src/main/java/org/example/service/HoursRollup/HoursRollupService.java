@@ -0,0 +1,20 @@
+package org.example.service.HoursRollup;
+
+import org.example.dto.response.DepartmentMonthHoursDTO;
+import org.example.dto.response.EmployeeProjectHoursDTO;
+import org.example.dto.response.ProjectWeekHoursDTO;
+import org.example.dto.response.RollupRebuildDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface HoursRollupService {
+    void applyEntryChanges(RollupScope scope, List<EntryHours> changes);
+    void moveTimesheetHours(Integer timesheetId, RollupScope from, RollupScope to);
+    void moveTimesheetHours(List<TimesheetScopeChange> changes);
+    void moveEmployeeDepartment(Integer employeeId, Integer fromDepartmentId, Integer toDepartmentId);
+    RollupRebuildDTO rebuild();
+    List<EmployeeProjectHoursDTO> findEmployeeProjectHours(LocalDate from, LocalDate to);
+    List<ProjectWeekHoursDTO> findProjectWeekHours(LocalDate from, LocalDate to);
+    List<DepartmentMonthHoursDTO> findDepartmentMonthHours(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,12 @@
+package org.example.service.HoursRollup;
+
+import org.example.model.TimeSheet;
+
+// Who the hours of a timesheet are booked to, and whether they count as approved
+public record RollupScope(Integer employeeId, boolean approved) {
+
+    public static RollupScope of(TimeSheet timeSheet) {
+        return new RollupScope(timeSheet.getEmployee().getEmployeeId(),
+                timeSheet.getStatus() == TimeSheet.TimeSheetStatus.APPROVED);
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.service.HoursRollup;
+
+// One timesheet whose stored entries move from one rollup scope to another
+public record TimesheetScopeChange(Integer timesheetId, RollupScope from, RollupScope to) {}
@@ -0,0 +1,310 @@
+package org.example.service.HoursRollup.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.dto.response.DepartmentMonthHoursDTO;
+import org.example.dto.response.EmployeeProjectHoursDTO;
+import org.example.dto.response.ProjectWeekHoursDTO;
+import org.example.dto.response.RollupRebuildDTO;
+import org.example.repository.DepartmentMonthHoursRepository;
+import org.example.repository.EmployeeProjectDayHoursRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectWeekHoursRepository;
+import org.example.repository.TimeSheetEntryRepository;
+import org.example.service.HoursRollup.EntryHours;
+import org.example.service.HoursRollup.HoursRollupService;
+import org.example.service.HoursRollup.RollupScope;
+import org.example.service.HoursRollup.TimesheetScopeChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class HoursRollupServiceImpl implements HoursRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoursRollupServiceImpl.class);
+
+    // Adds the delta to an existing group or creates it; the unique key on the grain makes this one round trip per group
+    private static final String UPSERT_SUFFIX = " ON DUPLICATE KEY UPDATE totalHours = totalHours + VALUES(totalHours), "
+            + "approvedHours = approvedHours + VALUES(approvedHours), entryCount = entryCount + VALUES(entryCount)";
+    private static final String UPSERT_DAY = "INSERT INTO EmployeeProjectDayHours "
+            + "(employeeId, projectId, workDate, totalHours, approvedHours, entryCount) VALUES (?, ?, ?, ?, ?, ?)" + UPSERT_SUFFIX;
+    private static final String UPSERT_PROJECT_WEEK = "INSERT INTO ProjectWeekHours "
+            + "(projectId, weekStart, totalHours, approvedHours, entryCount) VALUES (?, ?, ?, ?, ?)" + UPSERT_SUFFIX;
+    private static final String UPSERT_DEPARTMENT_MONTH = "INSERT INTO DepartmentMonthHours "
+            + "(departmentId, monthStart, totalHours, approvedHours, entryCount) VALUES (?, ?, ?, ?, ?)" + UPSERT_SUFFIX;
+
+    // Keeps IN lists well below driver and optimizer limits
+    private static final int IDS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeSheetEntryRepository timeSheetEntryRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeProjectDayHoursRepository employeeProjectDayHoursRepository;
+    private final ProjectWeekHoursRepository projectWeekHoursRepository;
+    private final DepartmentMonthHoursRepository departmentMonthHoursRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public HoursRollupServiceImpl(JdbcTemplate jdbcTemplate,
+                                  TimeSheetEntryRepository timeSheetEntryRepository,
+                                  EmployeeRepository employeeRepository,
+                                  EmployeeProjectDayHoursRepository employeeProjectDayHoursRepository,
+                                  ProjectWeekHoursRepository projectWeekHoursRepository,
+                                  DepartmentMonthHoursRepository departmentMonthHoursRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.timeSheetEntryRepository = timeSheetEntryRepository;
+        this.employeeRepository = employeeRepository;
+        this.employeeProjectDayHoursRepository = employeeProjectDayHoursRepository;
+        this.projectWeekHoursRepository = projectWeekHoursRepository;
+        this.departmentMonthHoursRepository = departmentMonthHoursRepository;
+    }
+
+    @Override
+    @Transactional
+    public void applyEntryChanges(RollupScope scope, List<EntryHours> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return;
+        }
+        RollupDeltas deltas = new RollupDeltas();
+        Integer departmentId = findDepartmentId(scope.employeeId());
+        for (EntryHours change : changes) {
+            deltas.add(scope, departmentId, change);
+        }
+        write(deltas);
+    }
+
+    // Re-books every stored entry of a timesheet when its employee or approval state changes; a null side adds or removes
+    @Override
+    @Transactional
+    public void moveTimesheetHours(Integer timesheetId, RollupScope from, RollupScope to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        List<EntryHours> stored = timeSheetEntryRepository.sumHoursByTimesheetId(timesheetId);
+        if (stored.isEmpty()) {
+            return;
+        }
+
+        RollupDeltas deltas = new RollupDeltas();
+        if (from != null) {
+            Integer departmentId = findDepartmentId(from.employeeId());
+            for (EntryHours hours : stored) {
+                deltas.add(from, departmentId, hours.negate());
+            }
+        }
+        if (to != null) {
+            Integer departmentId = findDepartmentId(to.employeeId());
+            for (EntryHours hours : stored) {
+                deltas.add(to, departmentId, hours);
+            }
+        }
+        write(deltas);
+    }
+
+    // Set-based variant for bulk status changes: stored hours and departments are read with a few IN queries
+    // instead of two queries per timesheet, and every group is written once
+    @Override
+    @Transactional
+    public void moveTimesheetHours(List<TimesheetScopeChange> changes) {
+        Map<Integer, TimesheetScopeChange> moving = new LinkedHashMap<>();
+        for (TimesheetScopeChange change : changes) {
+            if (!Objects.equals(change.from(), change.to())) {
+                moving.put(change.timesheetId(), change);
+            }
+        }
+        if (moving.isEmpty()) {
+            return;
+        }
+        // Pending entity changes must be visible to the SQL below
+        entityManager.flush();
+
+        Set<Integer> employeeIds = moving.values().stream()
+                .flatMap(change -> Stream.of(change.from(), change.to()))
+                .filter(Objects::nonNull)
+                .map(RollupScope::employeeId)
+                .collect(Collectors.toSet());
+        Map<Integer, Integer> departmentIds = findDepartmentIds(new ArrayList<>(employeeIds));
+
+        RollupDeltas deltas = new RollupDeltas();
+        List<Integer> timesheetIds = new ArrayList<>(moving.keySet());
+        for (int from = 0; from < timesheetIds.size(); from += IDS_PER_STATEMENT) {
+            List<Integer> batch = timesheetIds.subList(from, Math.min(from + IDS_PER_STATEMENT, timesheetIds.size()));
+            jdbcTemplate.query("SELECT timesheetId, projectId, date, SUM(hoursWorked), COUNT(*) FROM TimesheetEntry "
+                            + "WHERE timesheetId IN (" + placeholders(batch.size()) + ") GROUP BY timesheetId, projectId, date",
+                    (ResultSet rs) -> {
+                        TimesheetScopeChange change = moving.get(rs.getInt(1));
+                        EntryHours hours = new EntryHours(rs.getInt(2), rs.getDate(3).toLocalDate(), rs.getBigDecimal(4), rs.getLong(5));
+                        if (change.from() != null) {
+                            deltas.add(change.from(), departmentIds.get(change.from().employeeId()), hours.negate());
+                        }
+                        if (change.to() != null) {
+                            deltas.add(change.to(), departmentIds.get(change.to().employeeId()), hours);
+                        }
+                    },
+                    batch.toArray());
+        }
+        write(deltas);
+    }
+
+    // Department months follow the employee's current department, as a rebuild would book them; the employee's day
+    // rows hold everything they ever booked, so nothing is read from the raw entries
+    @Override
+    @Transactional
+    public void moveEmployeeDepartment(Integer employeeId, Integer fromDepartmentId, Integer toDepartmentId) {
+        if (Objects.equals(fromDepartmentId, toDepartmentId)) {
+            return;
+        }
+        RollupDeltas deltas = new RollupDeltas();
+        jdbcTemplate.query("SELECT workDate, totalHours, approvedHours, entryCount FROM EmployeeProjectDayHours WHERE employeeId = ?",
+                (ResultSet rs) -> {
+                    LocalDate workDate = rs.getDate(1).toLocalDate();
+                    BigDecimal total = rs.getBigDecimal(2);
+                    BigDecimal approved = rs.getBigDecimal(3);
+                    long entries = rs.getLong(4);
+                    deltas.addDepartmentMonth(fromDepartmentId, workDate, total.negate(), approved.negate(), -entries);
+                    deltas.addDepartmentMonth(toDepartmentId, workDate, total, approved, entries);
+                },
+                employeeId);
+        write(deltas);
+    }
+
+    // Recomputes all rollups from the raw entries; concurrent entry writes during a rebuild may be lost, so run it off-peak
+    @Override
+    @Transactional
+    public RollupRebuildDTO rebuild() {
+        long started = System.nanoTime();
+        // Pending entity changes must be visible to the SQL below
+        entityManager.flush();
+
+        jdbcTemplate.update("DELETE FROM DepartmentMonthHours");
+        jdbcTemplate.update("DELETE FROM ProjectWeekHours");
+        jdbcTemplate.update("DELETE FROM EmployeeProjectDayHours");
+
+        int dayRows = jdbcTemplate.update("INSERT INTO EmployeeProjectDayHours "
+                + "(employeeId, projectId, workDate, totalHours, approvedHours, entryCount) "
+                + "SELECT t.employeeId, e.projectId, e.date, SUM(e.hoursWorked), "
+                + "SUM(CASE WHEN t.status = 'APPROVED' THEN e.hoursWorked ELSE 0 END), COUNT(*) "
+                + "FROM TimesheetEntry e JOIN Timesheet t ON t.timesheetId = e.timesheetId "
+                + "GROUP BY t.employeeId, e.projectId, e.date");
+
+        // Weeks and months are folded from the day rows, which keeps date arithmetic out of vendor-specific SQL
+        RollupDeltas deltas = new RollupDeltas();
+        jdbcTemplate.query("SELECT d.projectId, d.workDate, d.totalHours, d.approvedHours, d.entryCount, emp.departmentId "
+                + "FROM EmployeeProjectDayHours d JOIN Employee emp ON emp.employeeId = d.employeeId", rs -> {
+            LocalDate workDate = rs.getDate("workDate").toLocalDate();
+            Integer departmentId = rs.getObject("departmentId", Integer.class);
+            deltas.addPeriods(rs.getInt("projectId"), departmentId, workDate,
+                    rs.getBigDecimal("totalHours"), rs.getBigDecimal("approvedHours"), rs.getLong("entryCount"));
+        });
+        int weekRows = batchUpdate(UPSERT_PROJECT_WEEK, projectWeekRows(deltas));
+        int monthRows = batchUpdate(UPSERT_DEPARTMENT_MONTH, departmentMonthRows(deltas));
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Rebuilt hours rollups: {} day, {} project-week, {} department-month rows in {} ms",
+                dayRows, weekRows, monthRows, elapsedMs);
+        return new RollupRebuildDTO(dayRows, weekRows, monthRows, elapsedMs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeProjectHoursDTO> findEmployeeProjectHours(LocalDate from, LocalDate to) {
+        return employeeProjectDayHoursRepository.sumByEmployeeAndProject(from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectWeekHoursDTO> findProjectWeekHours(LocalDate from, LocalDate to) {
+        return projectWeekHoursRepository.findByWeekStartBetween(from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DepartmentMonthHoursDTO> findDepartmentMonthHours(LocalDate from, LocalDate to) {
+        return departmentMonthHoursRepository.findByMonthStartBetween(from, to);
+    }
+
+    private Integer findDepartmentId(Integer employeeId) {
+        return employeeRepository.findDepartmentIdByEmployeeId(employeeId).orElse(null);
+    }
+
+    // Employees without a department are absent from the map
+    private Map<Integer, Integer> findDepartmentIds(List<Integer> employeeIds) {
+        Map<Integer, Integer> departmentIds = new HashMap<>();
+        for (int from = 0; from < employeeIds.size(); from += IDS_PER_STATEMENT) {
+            List<Integer> batch = employeeIds.subList(from, Math.min(from + IDS_PER_STATEMENT, employeeIds.size()));
+            jdbcTemplate.query("SELECT employeeId, departmentId FROM Employee WHERE departmentId IS NOT NULL "
+                            + "AND employeeId IN (" + placeholders(batch.size()) + ")",
+                    (ResultSet rs) -> {
+                        departmentIds.put(rs.getInt(1), rs.getInt(2));
+                    },
+                    batch.toArray());
+        }
+        return departmentIds;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    // Groups are written in key order so that concurrent transactions lock rollup rows in the same order
+    private void write(RollupDeltas deltas) {
+        List<Object[]> dayRows = new ArrayList<>();
+        deltas.days().forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                dayRows.add(new Object[]{key.employeeId(), key.projectId(), Date.valueOf(key.date()),
+                        delta.totalHours(), delta.approvedHours(), delta.entries()});
+            }
+        });
+        batchUpdate(UPSERT_DAY, dayRows);
+        batchUpdate(UPSERT_PROJECT_WEEK, projectWeekRows(deltas));
+        batchUpdate(UPSERT_DEPARTMENT_MONTH, departmentMonthRows(deltas));
+    }
+
+    private static List<Object[]> projectWeekRows(RollupDeltas deltas) {
+        List<Object[]> rows = new ArrayList<>();
+        deltas.projectWeeks().forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                rows.add(new Object[]{key.projectId(), Date.valueOf(key.weekStart()),
+                        delta.totalHours(), delta.approvedHours(), delta.entries()});
+            }
+        });
+        return rows;
+    }
+
+    private static List<Object[]> departmentMonthRows(RollupDeltas deltas) {
+        List<Object[]> rows = new ArrayList<>();
+        deltas.departmentMonths().forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                rows.add(new Object[]{key.departmentId(), Date.valueOf(key.monthStart()),
+                        delta.totalHours(), delta.approvedHours(), delta.entries()});
+            }
+        });
+        return rows;
+    }
+
+    private int batchUpdate(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+        return rows.size();
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.service.HoursRollup.impl;
+
+import org.example.service.HoursRollup.EntryHours;
+import org.example.service.HoursRollup.RollupScope;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Collapses entry-level changes into one signed delta per rollup group, so a write touches each group once
+class RollupDeltas {
+
+    record DayKey(Integer employeeId, Integer projectId, LocalDate date) {}
+
+    record ProjectWeekKey(Integer projectId, LocalDate weekStart) {}
+
+    record DepartmentMonthKey(Integer departmentId, LocalDate monthStart) {}
+
+    static final class Delta {
+        private BigDecimal totalHours = BigDecimal.ZERO;
+        private BigDecimal approvedHours = BigDecimal.ZERO;
+        private long entries;
+
+        void add(BigDecimal total, BigDecimal approved, long count) {
+            totalHours = totalHours.add(total);
+            approvedHours = approvedHours.add(approved);
+            entries += count;
+        }
+
+        boolean isZero() {
+            return totalHours.signum() == 0 && approvedHours.signum() == 0 && entries == 0;
+        }
+
+        BigDecimal totalHours() {
+            return totalHours;
+        }
+
+        BigDecimal approvedHours() {
+            return approvedHours;
+        }
+
+        long entries() {
+            return entries;
+        }
+    }
+
+    private final Map<DayKey, Delta> days = new TreeMap<>(Comparator.comparing(DayKey::employeeId)
+            .thenComparing(DayKey::projectId).thenComparing(DayKey::date));
+    private final Map<ProjectWeekKey, Delta> projectWeeks = new TreeMap<>(Comparator.comparing(ProjectWeekKey::projectId)
+            .thenComparing(ProjectWeekKey::weekStart));
+    private final Map<DepartmentMonthKey, Delta> departmentMonths = new TreeMap<>(Comparator.comparing(DepartmentMonthKey::departmentId)
+            .thenComparing(DepartmentMonthKey::monthStart));
+
+    // Employees without a department are left out of the department rollup
+    void add(RollupScope scope, Integer departmentId, EntryHours change) {
+        BigDecimal approved = scope.approved() ? change.hours() : BigDecimal.ZERO;
+        days.computeIfAbsent(new DayKey(scope.employeeId(), change.projectId(), change.date()), key -> new Delta())
+                .add(change.hours(), approved, change.entries());
+        addPeriods(change.projectId(), departmentId, change.date(), change.hours(), approved, change.entries());
+    }
+
+    void addPeriods(Integer projectId, Integer departmentId, LocalDate date, BigDecimal total, BigDecimal approved, long entries) {
+        projectWeeks.computeIfAbsent(new ProjectWeekKey(projectId, weekStart(date)), key -> new Delta())
+                .add(total, approved, entries);
+        addDepartmentMonth(departmentId, date, total, approved, entries);
+    }
+
+    void addDepartmentMonth(Integer departmentId, LocalDate date, BigDecimal total, BigDecimal approved, long entries) {
+        if (departmentId != null) {
+            departmentMonths.computeIfAbsent(new DepartmentMonthKey(departmentId, date.withDayOfMonth(1)), key -> new Delta())
+                    .add(total, approved, entries);
+        }
+    }
+
+    Map<DayKey, Delta> days() {
+        return days;
+    }
+
+    Map<ProjectWeekKey, Delta> projectWeeks() {
+        return projectWeeks;
+    }
+
+    Map<DepartmentMonthKey, Delta> departmentMonths() {
+        return departmentMonths;
+    }
+
+    static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.service.LoginAudit;
+
+import java.time.LocalDateTime;
+
+public interface LoginAuditService {
+    void recordLogin(Integer userId, LocalDateTime loginTime);
+    int flush();
+    int pendingCount();
+}
@@ -0,0 +1,108 @@
+package org.example.service.LoginAudit.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.example.service.LoginAudit.LoginAuditService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class LoginAuditServiceImpl implements LoginAuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAuditServiceImpl.class);
+
+    // Upper bound on the ids of one UPDATE, well below driver/database parameter limits
+    static final int USERS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    // Latest login per user since the last flush; repeated logins of one user collapse into one value
+    private final ConcurrentHashMap<Integer, LocalDateTime> pendingLogins = new ConcurrentHashMap<>();
+    // A lock rather than synchronized: the flush blocks on JDBC and would pin a virtual thread to its carrier
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public LoginAuditServiceImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void recordLogin(Integer userId, LocalDateTime loginTime) {
+        if (userId == null || loginTime == null) {
+            return;
+        }
+        pendingLogins.merge(userId, loginTime, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    // Writes every pending lastLogin with one targeted UPDATE per USERS_PER_STATEMENT users
+    @Override
+    @Scheduled(fixedDelayString = "${app.loginAuditFlushIntervalMs:5000}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            if (pendingLogins.isEmpty()) {
+                return 0;
+            }
+
+            Map<Integer, LocalDateTime> drained = new HashMap<>();
+            for (Integer userId : new ArrayList<>(pendingLogins.keySet())) {
+                LocalDateTime loginTime = pendingLogins.remove(userId);
+                if (loginTime != null) {
+                    drained.put(userId, loginTime);
+                }
+            }
+
+            List<Map.Entry<Integer, LocalDateTime>> logins = new ArrayList<>(drained.entrySet());
+            int updated = 0;
+            for (int from = 0; from < logins.size(); from += USERS_PER_STATEMENT) {
+                List<Map.Entry<Integer, LocalDateTime>> batch = logins.subList(from, Math.min(from + USERS_PER_STATEMENT, logins.size()));
+                try {
+                    updated += updateLastLogin(batch);
+                } catch (RuntimeException e) {
+                    // Requeue without overwriting newer logins recorded meanwhile; retried on the next flush
+                    batch.forEach(login -> recordLogin(login.getKey(), login.getValue()));
+                    logger.warn("Could not write lastLogin for {} users, will retry", batch.size(), e);
+                }
+            }
+            return updated;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public int pendingCount() {
+        return pendingLogins.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private int updateLastLogin(List<Map.Entry<Integer, LocalDateTime>> logins) {
+        StringBuilder sql = new StringBuilder("UPDATE User SET lastLogin = CASE userId");
+        List<Object> args = new ArrayList<>(logins.size() * 3);
+        for (Map.Entry<Integer, LocalDateTime> login : logins) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(login.getKey());
+            args.add(Timestamp.valueOf(login.getValue()));
+        }
+        sql.append(" ELSE lastLogin END WHERE userId IN (");
+        for (int i = 0; i < logins.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(logins.get(i).getKey());
+        }
+        sql.append(")");
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.service.Project.impl;
 
+import org.example.config.DtoMappingMetrics;
 import org.example.dto.request.ProjectRequestDTO;
 import org.example.dto.response.ProjectResponseDTO;
 import org.example.model.Project;
@@ -9,7 +10,11 @@ import org.example.repository.ProjectRepository;
 import org.example.repository.ClientRepository;
 import org.example.repository.EmployeeRepository;
 import org.example.service.Project.ProjectService;
+import org.example.service.ReferenceData.ClientSnapshot;
+import org.example.service.ReferenceData.ProjectSnapshot;
+import org.example.service.ReferenceData.ReferenceDataService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,19 +24,26 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final ClientRepository clientRepository;
     private final EmployeeRepository employeeRepository;
+    private final ReferenceDataService referenceDataService;
+    private final DtoMappingMetrics dtoMappingMetrics;
 
     public ProjectServiceImpl(ProjectRepository projectRepository, 
                             ClientRepository clientRepository, 
-                            EmployeeRepository employeeRepository) {
+                            EmployeeRepository employeeRepository,
+                            ReferenceDataService referenceDataService,
+                            DtoMappingMetrics dtoMappingMetrics) {
         this.projectRepository = projectRepository;
         this.clientRepository = clientRepository;
         this.employeeRepository = employeeRepository;
+        this.referenceDataService = referenceDataService;
+        this.dtoMappingMetrics = dtoMappingMetrics;
     }
 
     @Override
+    @Transactional
     public ProjectResponseDTO save(ProjectRequestDTO projectRequestDTO) {
-        Client client = clientRepository.findById(projectRequestDTO.clientId())
-                .orElseThrow(() -> new RuntimeException("Client not found with id: " + projectRequestDTO.clientId()));
+        ClientSnapshot clientSnapshot = requireClient(projectRequestDTO.clientId());
+        Client client = clientRepository.getReferenceById(clientSnapshot.clientId());
 
         Employee projectManager = employeeRepository.findById(projectRequestDTO.projectManagerId())
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + projectRequestDTO.projectManagerId()));
@@ -50,12 +62,12 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         Project savedProject = projectRepository.save(project);
-        return toProjectResponseDTO(savedProject);
+        return toProjectResponseDTO(ProjectSnapshot.of(savedProject), clientSnapshot);
     }
 
     @Override
     public List<ProjectResponseDTO> findAll() {
-        return projectRepository.findAll()
+        return projectRepository.findAllWithClientAndManagerBy()
                 .stream()
                 .map(this::toProjectResponseDTO)
                 .collect(Collectors.toList());
@@ -63,18 +75,20 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public ProjectResponseDTO findById(Integer id) {
-        return projectRepository.findById(id)
-                .map(this::toProjectResponseDTO)
+        return referenceDataService.findProject(id)
+                .map(project -> toProjectResponseDTO(project,
+                        project.clientId() != null ? referenceDataService.findClient(project.clientId()).orElse(null) : null))
                 .orElse(null);
     }
 
     @Override
+    @Transactional
     public ProjectResponseDTO update(Integer id, ProjectRequestDTO projectRequestDTO) {
         Project existingProject = projectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
 
-        Client client = clientRepository.findById(projectRequestDTO.clientId())
-                .orElseThrow(() -> new RuntimeException("Client not found with id: " + projectRequestDTO.clientId()));
+        ClientSnapshot clientSnapshot = requireClient(projectRequestDTO.clientId());
+        Client client = clientRepository.getReferenceById(clientSnapshot.clientId());
 
         Employee projectManager = employeeRepository.findById(projectRequestDTO.projectManagerId())
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + projectRequestDTO.projectManagerId()));
@@ -91,7 +105,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         Project updatedProject = projectRepository.save(existingProject);
-        return toProjectResponseDTO(updatedProject);
+        return toProjectResponseDTO(ProjectSnapshot.of(updatedProject), clientSnapshot);
     }
 
     @Override
@@ -99,8 +113,32 @@ public class ProjectServiceImpl implements ProjectService {
         projectRepository.deleteById(id);
     }
 
+    // The client is only checked against the cache; the project row just needs its id
+    private ClientSnapshot requireClient(Integer clientId) {
+        return referenceDataService.findClient(clientId)
+                .orElseThrow(() -> new RuntimeException("Client not found with id: " + clientId));
+    }
+
+    private ProjectResponseDTO toProjectResponseDTO(ProjectSnapshot project, ClientSnapshot client) {
+        return dtoMappingMetrics.time(ProjectResponseDTO.class, () -> new ProjectResponseDTO(
+                project.projectId(),
+                project.name(),
+                project.description(),
+                project.startDate(),
+                project.endDate(),
+                project.clientId(),
+                client != null ? client.clientName() : null,
+                client != null ? client.contactEmail() : null,
+                client != null ? client.contactPhone() : null,
+                client != null ? client.address() : null,
+                project.projectManagerId(),
+                project.projectManagerName(),
+                project.status()
+        ));
+    }
+
     private ProjectResponseDTO toProjectResponseDTO(Project project) {
-        return new ProjectResponseDTO(
+        return dtoMappingMetrics.time(ProjectResponseDTO.class, () -> new ProjectResponseDTO(
                 project.getProjectId(),
                 project.getName(),
                 project.getDescription(),
@@ -115,6 +153,6 @@ public class ProjectServiceImpl implements ProjectService {
                 project.getProjectManager() != null ? 
                     project.getProjectManager().getFirstName() + " " + project.getProjectManager().getLastName() : null,
                 project.getStatus() != null ? project.getStatus().name() : null
-        );
+        ));
     }
 }
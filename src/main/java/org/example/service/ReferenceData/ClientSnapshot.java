@@ -0,0 +1,16 @@
+package org.example.service.ReferenceData;
+
+import org.example.model.Client;
+
+public record ClientSnapshot(
+    Integer clientId,
+    String clientName,
+    String contactEmail,
+    String contactPhone,
+    String address
+) {
+    public static ClientSnapshot of(Client client) {
+        return new ClientSnapshot(client.getClientId(), client.getClientName(), client.getContactEmail(),
+                client.getContactPhone(), client.getAddress());
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.service.ReferenceData;
+
+import org.example.model.Department;
+
+public record DepartmentSnapshot(
+    Integer departmentId,
+    String name,
+    Integer headEmployeeId,
+    String headEmployeeName
+) {
+    public static DepartmentSnapshot of(Department department) {
+        return new DepartmentSnapshot(
+                department.getDepartmentId(),
+                department.getName(),
+                department.getHeadEmployee() != null ? department.getHeadEmployee().getEmployeeId() : null,
+                department.getHeadEmployee() != null ?
+                    department.getHeadEmployee().getFirstName() + " " + department.getHeadEmployee().getLastName() : null
+        );
+    }
+}
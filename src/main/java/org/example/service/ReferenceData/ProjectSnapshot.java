@@ -0,0 +1,33 @@
+package org.example.service.ReferenceData;
+
+import org.example.model.Project;
+
+import java.time.LocalDate;
+
+// Immutable copy of a project as the API shows it; client details live in ClientSnapshot
+public record ProjectSnapshot(
+    Integer projectId,
+    String name,
+    String description,
+    LocalDate startDate,
+    LocalDate endDate,
+    Integer clientId,
+    Integer projectManagerId,
+    String projectManagerName,
+    String status
+) {
+    public static ProjectSnapshot of(Project project) {
+        return new ProjectSnapshot(
+                project.getProjectId(),
+                project.getName(),
+                project.getDescription(),
+                project.getStartDate(),
+                project.getEndDate(),
+                project.getClient() != null ? project.getClient().getClientId() : null,
+                project.getProjectManager() != null ? project.getProjectManager().getEmployeeId() : null,
+                project.getProjectManager() != null ?
+                    project.getProjectManager().getFirstName() + " " + project.getProjectManager().getLastName() : null,
+                project.getStatus() != null ? project.getStatus().name() : null
+        );
+    }
+}
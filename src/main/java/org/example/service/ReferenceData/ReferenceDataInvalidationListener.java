@@ -0,0 +1,64 @@
+package org.example.service.ReferenceData;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.model.Client;
+import org.example.model.Department;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.model.Role;
+import org.example.service.ClusterEvent.ClusterEntityType;
+import org.example.service.ClusterEvent.ClusterEventTransport;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+// JPA listener on the cached reference entities and on Employee; Hibernate obtains it from the Spring context.
+// Each change also goes out as a REFERENCE_DATA cluster event (action = entity, payload = id) for the other pods.
+@Component
+public class ReferenceDataInvalidationListener {
+
+    public static final String PROJECT = "project";
+    public static final String CLIENT = "client";
+    public static final String DEPARTMENT = "department";
+    public static final String ROLE = "role";
+    public static final String EMPLOYEE = "employee";
+
+    private final ReferenceDataService referenceDataService;
+    private final ClusterEventTransport clusterEventTransport;
+
+    // Lazy because the service's repositories need the entity manager factory that registers this listener
+    public ReferenceDataInvalidationListener(@Lazy ReferenceDataService referenceDataService,
+                                             @Lazy ClusterEventTransport clusterEventTransport) {
+        this.referenceDataService = referenceDataService;
+        this.clusterEventTransport = clusterEventTransport;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Project project) {
+            referenceDataService.invalidateProject(project.getProjectId());
+            announce(PROJECT, project.getProjectId());
+        } else if (entity instanceof Client client) {
+            referenceDataService.invalidateClient(client.getClientId());
+            announce(CLIENT, client.getClientId());
+        } else if (entity instanceof Department department) {
+            referenceDataService.invalidateDepartment(department.getDepartmentId());
+            announce(DEPARTMENT, department.getDepartmentId());
+        } else if (entity instanceof Role role) {
+            referenceDataService.invalidateRole(role.getRoleId());
+            announce(ROLE, role.getRoleId());
+        } else if (entity instanceof Employee employee) {
+            referenceDataService.invalidateEmployee(employee.getEmployeeId());
+            announce(EMPLOYEE, employee.getEmployeeId());
+        }
+    }
+
+    private void announce(String entityName, Integer id) {
+        if (id != null) {
+            clusterEventTransport.publish(ClusterEntityType.REFERENCE_DATA, entityName, id.toString());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.service.ReferenceData;
+
+import org.example.dto.response.CacheStatsDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReferenceDataService {
+    Optional<ProjectSnapshot> findProject(Integer projectId);
+    Optional<ClientSnapshot> findClient(Integer clientId);
+    Optional<DepartmentSnapshot> findDepartment(Integer departmentId);
+    Optional<RoleSnapshot> findRole(String roleName);
+    void invalidateProject(Integer projectId);
+    void invalidateClient(Integer clientId);
+    void invalidateDepartment(Integer departmentId);
+    void invalidateRole(Integer roleId);
+    void invalidateEmployee(Integer employeeId);
+    int preload();
+    List<CacheStatsDTO> stats();
+}
@@ -0,0 +1,10 @@
+package org.example.service.ReferenceData;
+
+import org.example.model.Role;
+
+public record RoleSnapshot(Integer roleId, String roleName, String description) {
+
+    public static RoleSnapshot of(Role role) {
+        return new RoleSnapshot(role.getRoleId(), role.getRoleName(), role.getDescription());
+    }
+}
@@ -0,0 +1,223 @@
+package org.example.service.ReferenceData.impl;
+
+import org.example.config.GenerationalCache;
+import org.example.dto.response.CacheStatsDTO;
+import org.example.model.Role;
+import org.example.repository.ClientRepository;
+import org.example.repository.DepartmentRepository;
+import org.example.repository.ProjectRepository;
+import org.example.repository.RoleRepository;
+import org.example.service.ReferenceData.ClientSnapshot;
+import org.example.service.ReferenceData.DepartmentSnapshot;
+import org.example.service.ReferenceData.ProjectSnapshot;
+import org.example.service.ReferenceData.ReferenceDataService;
+import org.example.service.ReferenceData.RoleSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+// Read-through snapshots of projects, clients, departments and roles. In "hibernate" mode the in-memory maps are
+// bypassed and lookups go to the repositories, where the second-level cache regions answer them instead.
+@Service
+public class ReferenceDataServiceImpl implements ReferenceDataService {
+
+    public static final String MODE_MEMORY = "memory";
+    public static final String MODE_HIBERNATE = "hibernate";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataServiceImpl.class);
+
+    private final ProjectRepository projectRepository;
+    private final ClientRepository clientRepository;
+    private final DepartmentRepository departmentRepository;
+    private final RoleRepository roleRepository;
+    private final boolean inMemory;
+    private final int maxSize;
+
+    private final GenerationalCache<Integer, ProjectSnapshot> projects;
+    private final GenerationalCache<Integer, ClientSnapshot> clients;
+    private final GenerationalCache<Integer, DepartmentSnapshot> departments;
+    private final GenerationalCache<String, RoleSnapshot> roles;
+
+    public ReferenceDataServiceImpl(ProjectRepository projectRepository,
+                                    ClientRepository clientRepository,
+                                    DepartmentRepository departmentRepository,
+                                    RoleRepository roleRepository,
+                                    @Value("${app.referenceDataCache.mode:memory}") String mode,
+                                    @Value("${app.referenceDataCache.maxSize:5000}") int maxSize,
+                                    @Value("${app.referenceDataCache.ttlMs:600000}") long ttlMillis) {
+        this.projectRepository = projectRepository;
+        this.clientRepository = clientRepository;
+        this.departmentRepository = departmentRepository;
+        this.roleRepository = roleRepository;
+        this.inMemory = !MODE_HIBERNATE.equalsIgnoreCase(mode);
+        this.maxSize = maxSize;
+        int mapSize = inMemory ? maxSize : 0;
+        this.projects = new GenerationalCache<>("referenceData.project", mapSize, ttlMillis);
+        this.clients = new GenerationalCache<>("referenceData.client", mapSize, ttlMillis);
+        this.departments = new GenerationalCache<>("referenceData.department", mapSize, ttlMillis);
+        this.roles = new GenerationalCache<>("referenceData.role", mapSize, ttlMillis);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProjectSnapshot> findProject(Integer projectId) {
+        if (!inMemory) {
+            return projectRepository.findById(projectId).map(ProjectSnapshot::of);
+        }
+        return readThrough(projects, projectId,
+                id -> projectRepository.findWithManagerByProjectId(id).map(ProjectSnapshot::of).orElse(null));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ClientSnapshot> findClient(Integer clientId) {
+        if (!inMemory) {
+            return clientRepository.findById(clientId).map(ClientSnapshot::of);
+        }
+        return readThrough(clients, clientId, id -> clientRepository.findById(id).map(ClientSnapshot::of).orElse(null));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<DepartmentSnapshot> findDepartment(Integer departmentId) {
+        if (!inMemory) {
+            return departmentRepository.findById(departmentId).map(DepartmentSnapshot::of);
+        }
+        return readThrough(departments, departmentId,
+                id -> departmentRepository.findWithHeadEmployeeByDepartmentId(id).map(DepartmentSnapshot::of).orElse(null));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RoleSnapshot> findRole(String roleName) {
+        if (!inMemory) {
+            return roleRepository.findByRoleName(roleName).map(RoleSnapshot::of);
+        }
+        return readThrough(roles, roleName, name -> roleRepository.findByRoleName(name).map(RoleSnapshot::of).orElse(null));
+    }
+
+    @Override
+    public void invalidateProject(Integer projectId) {
+        invalidate(() -> projects.invalidate(projectId));
+    }
+
+    @Override
+    public void invalidateClient(Integer clientId) {
+        invalidate(() -> clients.invalidate(clientId));
+    }
+
+    @Override
+    public void invalidateDepartment(Integer departmentId) {
+        invalidate(() -> departments.invalidate(departmentId));
+    }
+
+    @Override
+    public void invalidateRole(Integer roleId) {
+        invalidate(() -> roles.invalidateIf(role -> Objects.equals(role.roleId(), roleId)));
+    }
+
+    // Project managers and department heads are copied into snapshots by name
+    @Override
+    public void invalidateEmployee(Integer employeeId) {
+        invalidate(() -> {
+            projects.invalidateIf(project -> Objects.equals(project.projectManagerId(), employeeId));
+            departments.invalidateIf(department -> Objects.equals(department.headEmployeeId(), employeeId));
+        });
+    }
+
+    // Fills each cache with up to maxSize rows in one select per type, so the first requests after startup are hits
+    @Override
+    @Transactional(readOnly = true)
+    public int preload() {
+        long started = System.nanoTime();
+        PageRequest page = PageRequest.of(0, Math.max(maxSize, 1));
+        long projectGeneration = projects.generation();
+        long clientGeneration = clients.generation();
+        long departmentGeneration = departments.generation();
+        long roleGeneration = roles.generation();
+
+        List<ProjectSnapshot> projectSnapshots = projectRepository.findAllWithManagerBy(page).stream().map(ProjectSnapshot::of).toList();
+        List<ClientSnapshot> clientSnapshots = clientRepository.findAll(page).stream().map(ClientSnapshot::of).toList();
+        List<DepartmentSnapshot> departmentSnapshots = departmentRepository.findAllWithHeadEmployeeBy(page).stream()
+                .map(DepartmentSnapshot::of).toList();
+        List<Role> roleEntities = roleRepository.findAll(page).getContent();
+
+        if (inMemory) {
+            projects.putAll(byKey(projectSnapshots, ProjectSnapshot::projectId), projectGeneration);
+            clients.putAll(byKey(clientSnapshots, ClientSnapshot::clientId), clientGeneration);
+            departments.putAll(byKey(departmentSnapshots, DepartmentSnapshot::departmentId), departmentGeneration);
+            roles.putAll(byKey(roleEntities.stream().map(RoleSnapshot::of).toList(), RoleSnapshot::roleName), roleGeneration);
+        }
+        int loaded = projectSnapshots.size() + clientSnapshots.size() + departmentSnapshots.size() + roleEntities.size();
+        logger.info("Preloaded {} reference data rows in {} ms", loaded, (System.nanoTime() - started) / 1_000_000);
+        return loaded;
+    }
+
+    @Override
+    public List<CacheStatsDTO> stats() {
+        return List.of(projects.stats(), clients.stats(), departments.stats(), roles.stats());
+    }
+
+    private static <K, V> Map<K, V> byKey(List<V> snapshots, Function<V, K> key) {
+        Map<K, V> byKey = new LinkedHashMap<>();
+        snapshots.forEach(snapshot -> byKey.put(key.apply(snapshot), snapshot));
+        return byKey;
+    }
+
+    private <K, V> Optional<V> readThrough(GenerationalCache<K, V> cache, K key, Function<K, V> loader) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        V cached = cache.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = cache.generation(key);
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            cache.put(key, loaded, generation);
+            evictIfRolledBack(cache, key);
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    // Inside a read-write transaction the row may carry changes that are never committed
+    private static <K, V> void evictIfRolledBack(GenerationalCache<K, V> cache, K key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        cache.invalidate(key);
+                    }
+                }
+            });
+        }
+    }
+
+    // Evicts now and again once the writing transaction ends, so a load that overlapped the write cannot re-cache the old row
+    private static void invalidate(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.service.Report;
+
+import java.math.BigDecimal;
+
+// One group of a hours report as computed by the database; both totals come from the same aggregate
+public record HoursAggregate(Integer id, String name, BigDecimal totalHours, BigDecimal approvedHours) {}
@@ -0,0 +1,12 @@
+package org.example.service.Report;
+
+import org.example.dto.response.HoursReportDTO;
+
+import java.time.LocalDate;
+
+public interface ReportService {
+    HoursReportDTO hoursByProject(LocalDate from, LocalDate to, boolean approvedOnly);
+    HoursReportDTO hoursByClient(LocalDate from, LocalDate to, boolean approvedOnly);
+    HoursReportDTO hoursByDepartment(LocalDate from, LocalDate to, boolean approvedOnly);
+    HoursReportDTO hoursByEmployee(LocalDate from, LocalDate to, boolean approvedOnly);
+}
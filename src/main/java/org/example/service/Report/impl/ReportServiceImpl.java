@@ -0,0 +1,70 @@
+package org.example.service.Report.impl;
+
+import org.example.dto.response.HoursReportDTO;
+import org.example.dto.response.HoursReportRowDTO;
+import org.example.repository.EmployeeProjectDayHoursRepository;
+import org.example.service.Report.HoursAggregate;
+import org.example.service.Report.ReportService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+// Reports read the employee x project x day rollup, so their cost follows the number of groups in the range, not the entries
+@Service
+@Transactional(readOnly = true)
+public class ReportServiceImpl implements ReportService {
+
+    private final EmployeeProjectDayHoursRepository employeeProjectDayHoursRepository;
+
+    public ReportServiceImpl(EmployeeProjectDayHoursRepository employeeProjectDayHoursRepository) {
+        this.employeeProjectDayHoursRepository = employeeProjectDayHoursRepository;
+    }
+
+    @Override
+    public HoursReportDTO hoursByProject(LocalDate from, LocalDate to, boolean approvedOnly) {
+        return report("project", from, to, approvedOnly, employeeProjectDayHoursRepository::sumByProject);
+    }
+
+    @Override
+    public HoursReportDTO hoursByClient(LocalDate from, LocalDate to, boolean approvedOnly) {
+        return report("client", from, to, approvedOnly, employeeProjectDayHoursRepository::sumByClient);
+    }
+
+    @Override
+    public HoursReportDTO hoursByDepartment(LocalDate from, LocalDate to, boolean approvedOnly) {
+        return report("department", from, to, approvedOnly, employeeProjectDayHoursRepository::sumByDepartment);
+    }
+
+    @Override
+    public HoursReportDTO hoursByEmployee(LocalDate from, LocalDate to, boolean approvedOnly) {
+        return report("employee", from, to, approvedOnly, employeeProjectDayHoursRepository::sumByEmployee);
+    }
+
+    private static HoursReportDTO report(String groupBy, LocalDate from, LocalDate to, boolean approvedOnly,
+                                         BiFunction<LocalDate, LocalDate, List<HoursAggregate>> query) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+
+        List<HoursReportRowDTO> rows = new ArrayList<>();
+        BigDecimal totalHours = BigDecimal.ZERO;
+        for (HoursAggregate aggregate : query.apply(from, to)) {
+            BigDecimal hours = approvedOnly ? aggregate.approvedHours() : aggregate.totalHours();
+            // Groups without approved hours are left out of the approved-only view
+            if (approvedOnly && hours.signum() == 0) {
+                continue;
+            }
+            rows.add(new HoursReportRowDTO(aggregate.id(), aggregate.name(), hours));
+            totalHours = totalHours.add(hours);
+        }
+        return new HoursReportDTO(groupBy, from, to, approvedOnly, totalHours, rows);
+    }
+}
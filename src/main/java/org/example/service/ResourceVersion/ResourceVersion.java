@@ -0,0 +1,4 @@
+package org.example.service.ResourceVersion;
+
+// Fingerprint of everything a response is built from; equal fingerprints mean an identical body
+public record ResourceVersion(String fingerprint) {}
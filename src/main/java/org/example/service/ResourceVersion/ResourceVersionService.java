@@ -0,0 +1,6 @@
+package org.example.service.ResourceVersion;
+
+public interface ResourceVersionService {
+    ResourceVersion timesheetsOfEmployee(Integer employeeId);
+    ResourceVersion projects();
+}
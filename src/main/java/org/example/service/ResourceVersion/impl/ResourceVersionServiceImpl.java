@@ -0,0 +1,71 @@
+package org.example.service.ResourceVersion.impl;
+
+import org.example.service.ResourceVersion.ResourceVersion;
+import org.example.service.ResourceVersion.ResourceVersionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.HexFormat;
+
+// Versions are computed with one aggregate query per scope: row count, id sum and MAX(updatedAt) of every table
+// the response reads. Inserts and updates move MAX(updatedAt); deletes move the count and the id sum.
+@Service
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    // Timesheets, their entries, the projects named on the entries and the employee named on the timesheets
+    private static final String TIMESHEETS_OF_EMPLOYEE = "SELECT COUNT(*), COALESCE(SUM(t.timesheetId), 0), MAX(t.updatedAt) "
+            + "FROM Timesheet t WHERE t.employeeId = ? "
+            + "UNION ALL SELECT COUNT(*), COALESCE(SUM(e.entryId), 0), MAX(e.updatedAt) "
+            + "FROM TimesheetEntry e JOIN Timesheet t ON t.timesheetId = e.timesheetId WHERE t.employeeId = ? "
+            + "UNION ALL SELECT COUNT(DISTINCT p.projectId), COALESCE(SUM(DISTINCT p.projectId), 0), MAX(p.updatedAt) "
+            + "FROM TimesheetEntry e JOIN Timesheet t ON t.timesheetId = e.timesheetId "
+            + "JOIN Project p ON p.projectId = e.projectId WHERE t.employeeId = ? "
+            + "UNION ALL SELECT COUNT(*), COALESCE(SUM(emp.employeeId), 0), MAX(emp.updatedAt) "
+            + "FROM Employee emp WHERE emp.employeeId = ?";
+
+    // Projects with the client and manager shown on each
+    private static final String PROJECTS = "SELECT COUNT(*), COALESCE(SUM(p.projectId), 0), MAX(p.updatedAt) FROM Project p "
+            + "UNION ALL SELECT COUNT(c.clientId), COALESCE(SUM(c.clientId), 0), MAX(c.updatedAt) "
+            + "FROM Project p LEFT JOIN Client c ON c.clientId = p.clientId "
+            + "UNION ALL SELECT COUNT(m.employeeId), COALESCE(SUM(m.employeeId), 0), MAX(m.updatedAt) "
+            + "FROM Project p LEFT JOIN Employee m ON m.employeeId = p.projectManagerId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResourceVersionServiceImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public ResourceVersion timesheetsOfEmployee(Integer employeeId) {
+        return version("timesheetsOfEmployee:" + employeeId, TIMESHEETS_OF_EMPLOYEE, employeeId, employeeId, employeeId, employeeId);
+    }
+
+    @Override
+    public ResourceVersion projects() {
+        return version("projects", PROJECTS);
+    }
+
+    private ResourceVersion version(String scope, String sql, Object... args) {
+        StringBuilder parts = new StringBuilder(scope);
+        jdbcTemplate.query(sql, rs -> {
+            Timestamp updatedAt = rs.getTimestamp(3);
+            parts.append('|').append(rs.getLong(1)).append(':').append(rs.getLong(2)).append(':')
+                    .append(updatedAt != null ? updatedAt.toLocalDateTime() : "-");
+        }, args);
+        return new ResourceVersion(digest(parts.toString()));
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
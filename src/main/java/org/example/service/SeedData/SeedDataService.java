@@ -0,0 +1,5 @@
+package org.example.service.SeedData;
+
+public interface SeedDataService {
+    void ensureRoles();
+}
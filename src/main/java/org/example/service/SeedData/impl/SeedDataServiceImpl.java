@@ -0,0 +1,36 @@
+package org.example.service.SeedData.impl;
+
+import org.example.model.Role;
+import org.example.repository.RoleRepository;
+import org.example.service.SeedData.SeedDataService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+// Rows every schema needs, whichever runner (DataInitializer, the dataset loader) gets there first
+@Service
+public class SeedDataServiceImpl implements SeedDataService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeedDataServiceImpl.class);
+
+    private final RoleRepository roleRepository;
+
+    public SeedDataServiceImpl(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    // Idempotent
+    @Override
+    public void ensureRoles() {
+        ensureRoleExists("ADMIN", "Administrator with full access");
+        ensureRoleExists("MANAGER", "Manager with department access");
+        ensureRoleExists("EMPLOYEE", "Regular employee");
+    }
+
+    private void ensureRoleExists(String roleName, String description) {
+        if (roleRepository.findByRoleName(roleName).isEmpty()) {
+            roleRepository.save(new Role(roleName, description));
+            logger.info("Initialized missing role: {}", roleName);
+        }
+    }
+}
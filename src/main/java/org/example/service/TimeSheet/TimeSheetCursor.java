@@ -0,0 +1,32 @@
+package org.example.service.TimeSheet;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the timesheet listing, ordered by (periodStartDate, timesheetId).
+ * Clients only ever see the encoded form and must treat it as opaque.
+ */
+public record TimeSheetCursor(LocalDate periodStartDate, Integer timesheetId) {
+
+    public String encode() {
+        String raw = periodStartDate + "|" + timesheetId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimeSheetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new TimeSheetCursor(LocalDate.parse(raw.substring(0, separator)),
+                    Integer.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
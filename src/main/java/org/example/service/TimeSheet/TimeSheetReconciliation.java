@@ -0,0 +1,9 @@
+package org.example.service.TimeSheet;
+
+import org.example.dto.response.TimeSheetEntryDeltaDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+
+public record TimeSheetReconciliation(
+    TimeSheetResponseDTO timeSheet,
+    TimeSheetEntryDeltaDTO delta
+) {}
@@ -3,18 +3,22 @@ package org.example.service.TimeSheet;
 import java.util.List;
 import java.time.LocalDate;
 
+import org.example.dto.request.TimeSheetFilterDTO;
 import org.example.dto.request.TimeSheetRequestDTO;
 import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
 import org.example.dto.response.TimeSheetResponseDTO;
 import org.example.dto.response.TimeSheetDetailResponseDTO;
+import org.example.dto.response.TimeSheetPageResponseDTO;
 
 public interface TimeSheetService {
     List<TimeSheetResponseDTO> findAll();
+    TimeSheetPageResponseDTO findPage(TimeSheetFilterDTO filter, String cursor, Integer size);
     TimeSheetResponseDTO findById(Integer id);
     TimeSheetResponseDTO save(TimeSheetRequestDTO timeSheetRequestDTO);
     TimeSheetResponseDTO saveWithEntries(TimeSheetWithEntriesRequestDTO timeSheetWithEntriesRequestDTO);
     TimeSheetResponseDTO update(Integer id, TimeSheetRequestDTO timeSheetRequestDTO);
     TimeSheetResponseDTO updateWithEntries(Integer id, TimeSheetWithEntriesRequestDTO timeSheetWithEntriesRequestDTO);
+    TimeSheetReconciliation reconcileWithEntries(Integer id, TimeSheetWithEntriesRequestDTO timeSheetWithEntriesRequestDTO);
     void deleteById(Integer id);
     TimeSheetDetailResponseDTO findDetailById(Integer id);
     List<TimeSheetResponseDTO> findByEmployeeId(Integer employeeId);
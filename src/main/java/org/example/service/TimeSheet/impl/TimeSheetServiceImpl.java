@@ -1,17 +1,30 @@
 package org.example.service.TimeSheet.impl;
 
+import org.example.config.DtoMappingMetrics;
+import org.example.dto.request.TimeSheetFilterDTO;
 import org.example.dto.request.TimeSheetRequestDTO;
 import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
 import org.example.dto.request.TimeSheetEntryRequestDTO;
 import org.example.dto.response.TimeSheetResponseDTO;
 import org.example.dto.response.TimeSheetDetailResponseDTO;
+import org.example.dto.response.TimeSheetEntryResponseDTO;
+import org.example.dto.response.TimeSheetPageResponseDTO;
 import org.example.model.TimeSheet;
 import org.example.model.Employee;
 import org.example.repository.TimeSheetRepository;
 import org.example.repository.EmployeeRepository;
 import org.example.repository.ApprovalRepository;
+import org.example.service.ApprovalInbox.ApprovalInboxService;
+import org.example.service.HoursRollup.HoursRollupService;
+import org.example.service.HoursRollup.RollupScope;
+import org.example.service.TimeSheet.TimeSheetCursor;
+import org.example.service.TimeSheet.TimeSheetReconciliation;
 import org.example.service.TimeSheet.TimeSheetService;
+import org.example.service.TimeSheetEvent.TimeSheetEventService;
+import org.example.service.TimeSheetEvent.TimeSheetStatusEvent;
+import org.example.service.TimeSheetEntry.TimeSheetEntryReconciliation;
 import org.example.service.TimeSheetEntry.TimeSheetEntryService;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,32 +32,79 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class TimeSheetServiceImpl implements TimeSheetService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
     private final TimeSheetRepository timeSheetRepository;
     private final EmployeeRepository employeeRepository;
     private final TimeSheetEntryService timeSheetEntryService;
     private final ApprovalRepository approvalRepository;
+    private final HoursRollupService hoursRollupService;
+    private final ApprovalInboxService approvalInboxService;
+    private final TimeSheetEventService timeSheetEventService;
+    private final DtoMappingMetrics dtoMappingMetrics;
 
     public TimeSheetServiceImpl(TimeSheetRepository timeSheetRepository, 
                               EmployeeRepository employeeRepository,
                               TimeSheetEntryService timeSheetEntryService,
-                              ApprovalRepository approvalRepository) {
+                              ApprovalRepository approvalRepository,
+                              HoursRollupService hoursRollupService,
+                              ApprovalInboxService approvalInboxService,
+                              TimeSheetEventService timeSheetEventService,
+                              DtoMappingMetrics dtoMappingMetrics) {
         this.timeSheetRepository = timeSheetRepository;
         this.employeeRepository = employeeRepository;
         this.timeSheetEntryService = timeSheetEntryService;
         this.approvalRepository = approvalRepository;
+        this.hoursRollupService = hoursRollupService;
+        this.approvalInboxService = approvalInboxService;
+        this.timeSheetEventService = timeSheetEventService;
+        this.dtoMappingMetrics = dtoMappingMetrics;
     }
 
     @Override
     public List<TimeSheetResponseDTO> findAll() {
-        return timeSheetRepository.findAll()
-                .stream()
-                .map(this::toTimeSheetResponseDTO)
-                .collect(Collectors.toList());
+        return toTimeSheetResponseDTOs(timeSheetRepository.findAllWithEmployee());
+    }
+
+    @Override
+    public TimeSheetPageResponseDTO findPage(TimeSheetFilterDTO filter, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        TimeSheet.TimeSheetStatus status = filter.status() != null
+                ? TimeSheet.TimeSheetStatus.valueOf(filter.status().toUpperCase())
+                : null;
+
+        // Fetch one extra row to know whether another page exists
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<TimeSheet> timeSheets;
+        if (cursor == null || cursor.isBlank()) {
+            timeSheets = timeSheetRepository.findFirstPage(status, filter.employeeId(), filter.departmentId(),
+                    filter.periodFrom(), filter.periodTo(), limit);
+        } else {
+            TimeSheetCursor after = TimeSheetCursor.decode(cursor);
+            timeSheets = timeSheetRepository.findPageAfter(status, filter.employeeId(), filter.departmentId(),
+                    filter.periodFrom(), filter.periodTo(), after.periodStartDate(), after.timesheetId(), limit);
+        }
+
+        boolean hasMore = timeSheets.size() > pageSize;
+        List<TimeSheet> page = hasMore ? timeSheets.subList(0, pageSize) : timeSheets;
+        String nextCursor = null;
+        if (hasMore) {
+            TimeSheet last = page.get(page.size() - 1);
+            nextCursor = new TimeSheetCursor(last.getPeriodStartDate(), last.getTimesheetId()).encode();
+        }
+
+        return new TimeSheetPageResponseDTO(toTimeSheetResponseDTOs(page), page.size(), hasMore, nextCursor);
     }
 
     @Override
@@ -103,35 +163,37 @@ public class TimeSheetServiceImpl implements TimeSheetService {
         timeSheet.setUpdatedAt(LocalDateTime.now());
 
         TimeSheet savedTimeSheet = timeSheetRepository.save(timeSheet);
-
-        // Create and save timesheet entries
-        if (dto.timeSheetEntries() != null && !dto.timeSheetEntries().isEmpty()) {
-            for (TimeSheetEntryRequestDTO entryDto : dto.timeSheetEntries()) {
-                TimeSheetEntryRequestDTO newEntryDto = new TimeSheetEntryRequestDTO(
-                    savedTimeSheet.getTimesheetId(),
-                    entryDto.date(),
-                    entryDto.projectId(),
-                    entryDto.taskDescription(),
-                    entryDto.hoursWorked()
-                );
-                timeSheetEntryService.save(newEntryDto);
-            }
+        if (savedTimeSheet.getStatus() == TimeSheet.TimeSheetStatus.SUBMITTED) {
+            approvalInboxService.timesheetsChanging(List.of(savedTimeSheet.getTimesheetId()));
+        }
+        if (savedTimeSheet.getStatus() != TimeSheet.TimeSheetStatus.DRAFT) {
+            timeSheetEventService.publish(List.of(statusEvent(savedTimeSheet, null)));
         }
 
-        return toTimeSheetResponseDTO(savedTimeSheet);
+        // Create timesheet entries in one batch against the already-loaded parent
+        List<TimeSheetEntryResponseDTO> savedEntries = timeSheetEntryService.saveAll(savedTimeSheet, dto.timeSheetEntries());
+
+        return toTimeSheetResponseDTO(savedTimeSheet, savedEntries);
     }
 
     @Override
+    @Transactional
     public TimeSheetResponseDTO update(Integer id, TimeSheetRequestDTO dto) {
         TimeSheet existingTimeSheet = timeSheetRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Timesheet not found with id: " + id));
+        RollupScope previousScope = RollupScope.of(existingTimeSheet);
 
         Employee employee = employeeRepository.findById(dto.employeeId())
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + dto.employeeId()));
+        if (!employee.getEmployeeId().equals(previousScope.employeeId())) {
+            // A new owner may have a different manager
+            approvalInboxService.timesheetsChanging(List.of(id));
+        }
 
         existingTimeSheet.setEmployee(employee);
         existingTimeSheet.setPeriodStartDate(dto.periodStartDate());
         existingTimeSheet.setPeriodEndDate(dto.periodEndDate());
+        hoursRollupService.moveTimesheetHours(id, previousScope, RollupScope.of(existingTimeSheet));
 
         TimeSheet updated = timeSheetRepository.save(existingTimeSheet);
         return toTimeSheetResponseDTO(updated);
@@ -140,6 +202,12 @@ public class TimeSheetServiceImpl implements TimeSheetService {
     @Override
     @Transactional
     public TimeSheetResponseDTO updateWithEntries(Integer id, TimeSheetWithEntriesRequestDTO dto) {
+        return reconcileWithEntries(id, dto).timeSheet();
+    }
+
+    @Override
+    @Transactional
+    public TimeSheetReconciliation reconcileWithEntries(Integer id, TimeSheetWithEntriesRequestDTO dto) {
         TimeSheet existingTimeSheet = timeSheetRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Timesheet not found with id: " + id));
 
@@ -147,9 +215,16 @@ public class TimeSheetServiceImpl implements TimeSheetService {
         if (existingTimeSheet.getStatus() != TimeSheet.TimeSheetStatus.DRAFT) {
             throw new RuntimeException("Cannot update timesheet with status: " + existingTimeSheet.getStatus() + ". Only DRAFT timesheets can be updated.");
         }
+        RollupScope previousScope = RollupScope.of(existingTimeSheet);
 
         Employee employee = employeeRepository.findById(dto.employeeId())
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + dto.employeeId()));
+        // Plain grid saves of a draft leave every inbox as it is
+        boolean statusChanges = dto.status() != null && !dto.status().equalsIgnoreCase(existingTimeSheet.getStatus().name());
+        if (statusChanges || !employee.getEmployeeId().equals(previousScope.employeeId())) {
+            approvalInboxService.timesheetsChanging(List.of(id));
+        }
+        TimeSheet.TimeSheetStatus previousStatus = existingTimeSheet.getStatus();
 
         // Update timesheet basic information
         existingTimeSheet.setEmployee(employee);
@@ -168,26 +243,20 @@ public class TimeSheetServiceImpl implements TimeSheetService {
             existingTimeSheet.setTotalHours(dto.totalHours());
         }
 
-        TimeSheet updatedTimeSheet = timeSheetRepository.save(existingTimeSheet);
+        existingTimeSheet.setUpdatedAt(LocalDateTime.now());
 
-        // Delete existing entries and create new ones
-        timeSheetEntryService.deleteByTimesheetId(id);
-        
-        // Create and save new timesheet entries
-        if (dto.timeSheetEntries() != null && !dto.timeSheetEntries().isEmpty()) {
-            for (TimeSheetEntryRequestDTO entryDto : dto.timeSheetEntries()) {
-                TimeSheetEntryRequestDTO newEntryDto = new TimeSheetEntryRequestDTO(
-                    updatedTimeSheet.getTimesheetId(),
-                    entryDto.date(),
-                    entryDto.projectId(),
-                    entryDto.taskDescription(),
-                    entryDto.hoursWorked()
-                );
-                timeSheetEntryService.save(newEntryDto);
-            }
+        // Re-book the stored entries first if the employee or approval state changed; the entry changes below use the new scope
+        hoursRollupService.moveTimesheetHours(id, previousScope, RollupScope.of(existingTimeSheet));
+
+        TimeSheet updatedTimeSheet = timeSheetRepository.save(existingTimeSheet);
+        if (updatedTimeSheet.getStatus() != previousStatus) {
+            timeSheetEventService.publish(List.of(statusEvent(updatedTimeSheet, previousStatus)));
         }
 
-        return toTimeSheetResponseDTO(updatedTimeSheet);
+        // Apply only the difference between the submitted grid and the stored entries
+        TimeSheetEntryReconciliation reconciliation = timeSheetEntryService.reconcile(updatedTimeSheet, dto.timeSheetEntries());
+
+        return new TimeSheetReconciliation(toTimeSheetResponseDTO(updatedTimeSheet, reconciliation.entries()), reconciliation.delta());
     }
 
     @Override
@@ -241,24 +310,43 @@ public class TimeSheetServiceImpl implements TimeSheetService {
 
     @Override
     public List<TimeSheetResponseDTO> findByEmployeeId(Integer employeeId) {
-        return timeSheetRepository.findByEmployeeEmployeeId(employeeId)
-                .stream()
-                .map(this::toTimeSheetResponseDTO)
-                .collect(Collectors.toList());
+        return toTimeSheetResponseDTOs(timeSheetRepository.findWithEmployeeByEmployeeId(employeeId));
     }
 
     @Override
     public List<TimeSheetResponseDTO> findByEmployeeIdAndPeriod(Integer employeeId, LocalDate periodStart, LocalDate periodEnd) {
-        return timeSheetRepository.findByEmployeeEmployeeIdAndPeriodStartDateBetween(employeeId, periodStart, periodEnd)
-                .stream()
-                .map(this::toTimeSheetResponseDTO)
+        return toTimeSheetResponseDTOs(
+                timeSheetRepository.findWithEmployeeByEmployeeIdAndPeriodStartDateBetween(employeeId, periodStart, periodEnd));
+    }
+
+    // Builds a list of responses with one entry query per batch of timesheets instead of one per timesheet.
+    // Callers are expected to have fetched the employee together with the timesheets.
+    private List<TimeSheetResponseDTO> toTimeSheetResponseDTOs(List<TimeSheet> timeSheets) {
+        Map<Integer, List<TimeSheetEntryResponseDTO>> entriesByTimesheetId = timeSheetEntryService.findByTimesheetIds(
+                timeSheets.stream().map(TimeSheet::getTimesheetId).collect(Collectors.toList()));
+
+        return timeSheets.stream()
+                .map(timeSheet -> toTimeSheetResponseDTO(timeSheet,
+                        entriesByTimesheetId.getOrDefault(timeSheet.getTimesheetId(), List.of())))
                 .collect(Collectors.toList());
     }
 
+    private static TimeSheetStatusEvent statusEvent(TimeSheet timeSheet, TimeSheet.TimeSheetStatus previousStatus) {
+        Employee employee = timeSheet.getEmployee();
+        return TimeSheetStatusEvent.timesheet(timeSheet.getTimesheetId(), employee.getEmployeeId(),
+                employee.getManager() != null ? employee.getManager().getEmployeeId() : null,
+                timeSheet.getStatus().name(), previousStatus != null ? previousStatus.name() : null);
+    }
+
     private TimeSheetResponseDTO toTimeSheetResponseDTO(TimeSheet timeSheet) {
-        // Get timesheet entries for this timesheet
-        var timeSheetEntries = timeSheetEntryService.findByTimesheetId(timeSheet.getTimesheetId());
-        
+        return toTimeSheetResponseDTO(timeSheet, timeSheetEntryService.findByTimesheetId(timeSheet.getTimesheetId()));
+    }
+
+    private TimeSheetResponseDTO toTimeSheetResponseDTO(TimeSheet timeSheet, List<TimeSheetEntryResponseDTO> timeSheetEntries) {
+        return dtoMappingMetrics.time(TimeSheetResponseDTO.class, () -> mapTimeSheet(timeSheet, timeSheetEntries));
+    }
+
+    private static TimeSheetResponseDTO mapTimeSheet(TimeSheet timeSheet, List<TimeSheetEntryResponseDTO> timeSheetEntries) {
         // Calculate total hours from entries
         BigDecimal calculatedTotalHours = timeSheetEntries.stream()
                 .map(entry -> entry.hoursWorked())
@@ -0,0 +1,12 @@
+package org.example.service.TimeSheetEntry;
+
+import java.util.List;
+
+import org.example.dto.response.TimeSheetEntryDeltaDTO;
+import org.example.dto.response.TimeSheetEntryResponseDTO;
+
+// Entries of a timesheet after applying a submitted grid, together with what actually had to change
+public record TimeSheetEntryReconciliation(
+    List<TimeSheetEntryResponseDTO> entries,
+    TimeSheetEntryDeltaDTO delta
+) {}
@@ -1,16 +1,22 @@
 package org.example.service.TimeSheetEntry;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.example.dto.request.TimeSheetEntryRequestDTO;
 import org.example.dto.response.TimeSheetEntryResponseDTO;
+import org.example.model.TimeSheet;
 
 public interface TimeSheetEntryService {
     List<TimeSheetEntryResponseDTO> findAll();
     TimeSheetEntryResponseDTO findById(Integer id);
     TimeSheetEntryResponseDTO save(TimeSheetEntryRequestDTO timeSheetEntryRequestDTO);
+    List<TimeSheetEntryResponseDTO> saveAll(TimeSheet timeSheet, List<TimeSheetEntryRequestDTO> timeSheetEntryRequestDTOs);
+    TimeSheetEntryReconciliation reconcile(TimeSheet timeSheet, List<TimeSheetEntryRequestDTO> timeSheetEntryRequestDTOs);
     TimeSheetEntryResponseDTO update(Integer id, TimeSheetEntryRequestDTO timeSheetEntryRequestDTO);
     void deleteById(Integer id);
     void deleteByTimesheetId(Integer timesheetId);
     List<TimeSheetEntryResponseDTO> findByTimesheetId(Integer timesheetId);
+    Map<Integer, List<TimeSheetEntryResponseDTO>> findByTimesheetIds(Collection<Integer> timesheetIds);
 }
@@ -1,6 +1,8 @@
 package org.example.service.TimeSheetEntry.impl;
 
+import org.example.config.DtoMappingMetrics;
 import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.response.TimeSheetEntryDeltaDTO;
 import org.example.dto.response.TimeSheetEntryResponseDTO;
 import org.example.model.Project;
 import org.example.model.TimeSheet;
@@ -8,11 +10,33 @@ import org.example.model.TimeSheetEntry;
 import org.example.repository.ProjectRepository;
 import org.example.repository.TimeSheetEntryRepository;
 import org.example.repository.TimeSheetRepository;
+import org.example.service.HoursRollup.EntryHours;
+import org.example.service.HoursRollup.HoursRollupService;
+import org.example.service.HoursRollup.RollupScope;
+import org.example.service.ReferenceData.ProjectSnapshot;
+import org.example.service.ReferenceData.ReferenceDataService;
+import org.example.service.TimeSheetEntry.TimeSheetEntryReconciliation;
 import org.example.service.TimeSheetEntry.TimeSheetEntryService;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.time.LocalDateTime;
 import java.math.BigDecimal;
@@ -20,25 +44,46 @@ import java.math.BigDecimal;
 @Service
 public class TimeSheetEntryServiceImpl implements TimeSheetEntryService {
 
+    // Keeps the IN list of a single batched lookup well below driver/database parameter limits
+    private static final int TIMESHEET_ID_BATCH_SIZE = 1000;
+
+    private static final String INSERT_ENTRY = "INSERT INTO TimesheetEntry "
+            + "(timesheetId, date, projectId, taskDescription, hoursWorked, createdAt, updatedAt) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
     private final TimeSheetEntryRepository timeSheetEntryRepository;
     private final TimeSheetRepository timeSheetRepository;
     private final ProjectRepository projectRepository;
+    private final HoursRollupService hoursRollupService;
+    private final ReferenceDataService referenceDataService;
+    private final DtoMappingMetrics dtoMappingMetrics;
+    private final JdbcTemplate jdbcTemplate;
 
     public TimeSheetEntryServiceImpl(TimeSheetEntryRepository timeSheetEntryRepository,
                                    TimeSheetRepository timeSheetRepository,
-                                   ProjectRepository projectRepository) {
+                                   ProjectRepository projectRepository,
+                                   HoursRollupService hoursRollupService,
+                                   ReferenceDataService referenceDataService,
+                                   DtoMappingMetrics dtoMappingMetrics,
+                                   JdbcTemplate jdbcTemplate) {
         this.timeSheetEntryRepository = timeSheetEntryRepository;
         this.timeSheetRepository = timeSheetRepository;
         this.projectRepository = projectRepository;
+        this.hoursRollupService = hoursRollupService;
+        this.referenceDataService = referenceDataService;
+        this.dtoMappingMetrics = dtoMappingMetrics;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
+    @Transactional
     public TimeSheetEntryResponseDTO save(TimeSheetEntryRequestDTO timeSheetEntryRequestDTO) {
         TimeSheet timeSheet = timeSheetRepository.findById(timeSheetEntryRequestDTO.timesheetId())
                 .orElseThrow(() -> new RuntimeException("Timesheet not found with id: " + timeSheetEntryRequestDTO.timesheetId()));
 
-        Project project = projectRepository.findById(timeSheetEntryRequestDTO.projectId())
+        // The project is checked against the reference data cache; the entry row only needs its id
+        ProjectSnapshot projectSnapshot = referenceDataService.findProject(timeSheetEntryRequestDTO.projectId())
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + timeSheetEntryRequestDTO.projectId()));
+        Project project = projectRepository.getReferenceById(projectSnapshot.projectId());
 
         TimeSheetEntry timeSheetEntry = new TimeSheetEntry();
         timeSheetEntry.setTimesheet(timeSheet);
@@ -51,19 +96,139 @@ public class TimeSheetEntryServiceImpl implements TimeSheetEntryService {
         timeSheetEntry.setUpdatedAt(LocalDateTime.now());
 
         TimeSheetEntry savedEntry = timeSheetEntryRepository.save(timeSheetEntry);
-        return toTimeSheetEntryResponseDTO(savedEntry);
+        hoursRollupService.applyEntryChanges(RollupScope.of(timeSheet), List.of(EntryHours.of(savedEntry)));
+        return toTimeSheetEntryResponseDTO(savedEntry, projectSnapshot.name());
+    }
+
+    @Override
+    @Transactional
+    public List<TimeSheetEntryResponseDTO> saveAll(TimeSheet timeSheet, List<TimeSheetEntryRequestDTO> timeSheetEntryRequestDTOs) {
+        if (timeSheetEntryRequestDTOs == null || timeSheetEntryRequestDTOs.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, Project> projectsById = findProjectsById(timeSheetEntryRequestDTOs);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TimeSheetEntry> entries = new ArrayList<>(timeSheetEntryRequestDTOs.size());
+        for (TimeSheetEntryRequestDTO dto : timeSheetEntryRequestDTOs) {
+            entries.add(newTimeSheetEntry(timeSheet, dto, projectsById, now));
+        }
+
+        insertAll(entries);
+        hoursRollupService.applyEntryChanges(RollupScope.of(timeSheet),
+                entries.stream().map(EntryHours::of).collect(Collectors.toList()));
+        return entries.stream()
+                .map(this::toTimeSheetEntryResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public TimeSheetEntryReconciliation reconcile(TimeSheet timeSheet, List<TimeSheetEntryRequestDTO> timeSheetEntryRequestDTOs) {
+        List<TimeSheetEntryRequestDTO> desiredEntries = timeSheetEntryRequestDTOs != null ? timeSheetEntryRequestDTOs : List.of();
+
+        Map<Integer, TimeSheetEntry> storedById = new LinkedHashMap<>();
+        for (TimeSheetEntry entry : timeSheetEntryRepository.findWithProjectByTimesheetIdIn(List.of(timeSheet.getTimesheetId()))) {
+            storedById.put(entry.getEntryId(), entry);
+        }
+
+        // Split the submitted lines into inserts and updates; stored lines left unclaimed are deletes
+        List<TimeSheetEntryRequestDTO> toInsert = new ArrayList<>();
+        Map<TimeSheetEntry, TimeSheetEntryRequestDTO> toUpdate = new LinkedHashMap<>();
+        List<TimeSheetEntry> kept = new ArrayList<>();
+        Set<Integer> claimedIds = new HashSet<>();
+        for (TimeSheetEntryRequestDTO dto : desiredEntries) {
+            if (dto.entryId() == null) {
+                toInsert.add(dto);
+                continue;
+            }
+            TimeSheetEntry stored = storedById.get(dto.entryId());
+            if (stored == null) {
+                throw new RuntimeException("Timesheet entry not found with id: " + dto.entryId() + " in timesheet: " + timeSheet.getTimesheetId());
+            }
+            if (!claimedIds.add(dto.entryId())) {
+                throw new RuntimeException("Timesheet entry submitted more than once with id: " + dto.entryId());
+            }
+            if (isModified(stored, dto)) {
+                toUpdate.put(stored, dto);
+            }
+            kept.add(stored);
+        }
+        // Signed hour changes for the rollups: stored values come out, new values go in
+        List<EntryHours> rollupChanges = new ArrayList<>();
+        List<Integer> toDelete = new ArrayList<>();
+        for (TimeSheetEntry stored : storedById.values()) {
+            if (!claimedIds.contains(stored.getEntryId())) {
+                toDelete.add(stored.getEntryId());
+                rollupChanges.add(EntryHours.of(stored).negate());
+            }
+        }
+
+        // Only projects that an insert or a changed line points at need to be looked up
+        List<TimeSheetEntryRequestDTO> needingProjects = new ArrayList<>(toInsert);
+        for (Map.Entry<TimeSheetEntry, TimeSheetEntryRequestDTO> update : toUpdate.entrySet()) {
+            if (!sameProject(update.getKey(), update.getValue())) {
+                needingProjects.add(update.getValue());
+            }
+        }
+        Map<Integer, Project> projectsById = findProjectsById(needingProjects);
+
+        if (!toDelete.isEmpty()) {
+            timeSheetEntryRepository.deleteAllByIdInBatch(toDelete);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        // Managed entities, so the changes are flushed as batched UPDATEs at commit
+        for (Map.Entry<TimeSheetEntry, TimeSheetEntryRequestDTO> update : toUpdate.entrySet()) {
+            TimeSheetEntry entry = update.getKey();
+            TimeSheetEntryRequestDTO dto = update.getValue();
+            rollupChanges.add(EntryHours.of(entry).negate());
+            if (!sameProject(entry, dto)) {
+                entry.setProject(requireProject(projectsById, dto.projectId()));
+            }
+            entry.setDate(dto.date());
+            entry.setTaskDescription(dto.taskDescription());
+            entry.setHoursWorked(dto.hoursWorked());
+            entry.setUpdatedAt(now);
+            rollupChanges.add(EntryHours.of(entry));
+        }
+
+        List<TimeSheetEntry> inserted = new ArrayList<>(toInsert.size());
+        for (TimeSheetEntryRequestDTO dto : toInsert) {
+            inserted.add(newTimeSheetEntry(timeSheet, dto, projectsById, now));
+        }
+        if (!inserted.isEmpty()) {
+            insertAll(inserted);
+            kept.addAll(inserted);
+            inserted.forEach(entry -> rollupChanges.add(EntryHours.of(entry)));
+        }
+        hoursRollupService.applyEntryChanges(RollupScope.of(timeSheet), rollupChanges);
+
+        List<TimeSheetEntryResponseDTO> entries = kept.stream()
+                .map(this::toTimeSheetEntryResponseDTO)
+                .collect(Collectors.toList());
+        TimeSheetEntryDeltaDTO delta = new TimeSheetEntryDeltaDTO(inserted.size(), toUpdate.size(), toDelete.size(),
+                kept.size() - inserted.size() - toUpdate.size());
+        return new TimeSheetEntryReconciliation(entries, delta);
     }
 
     @Override
+    @Transactional
     public TimeSheetEntryResponseDTO update(Integer id, TimeSheetEntryRequestDTO timeSheetEntryRequestDTO) {
         TimeSheetEntry existingEntry = timeSheetEntryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Timesheet entry not found with id: " + id));
+        // The entry may move to another timesheet, so the old hours come out of the old timesheet's scope
+        RollupScope previousScope = RollupScope.of(existingEntry.getTimesheet());
+        EntryHours previousHours = EntryHours.of(existingEntry);
 
         TimeSheet timeSheet = timeSheetRepository.findById(timeSheetEntryRequestDTO.timesheetId())
                 .orElseThrow(() -> new RuntimeException("Timesheet not found with id: " + timeSheetEntryRequestDTO.timesheetId()));
 
-        Project project = projectRepository.findById(timeSheetEntryRequestDTO.projectId())
+        // The project is checked against the reference data cache; the entry row only needs its id
+        ProjectSnapshot projectSnapshot = referenceDataService.findProject(timeSheetEntryRequestDTO.projectId())
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + timeSheetEntryRequestDTO.projectId()));
+        Project project = projectRepository.getReferenceById(projectSnapshot.projectId());
 
         existingEntry.setTimesheet(timeSheet);
         existingEntry.setDate(timeSheetEntryRequestDTO.date());
@@ -72,12 +237,19 @@ public class TimeSheetEntryServiceImpl implements TimeSheetEntryService {
         existingEntry.setHoursWorked(timeSheetEntryRequestDTO.hoursWorked());
 
         TimeSheetEntry updatedEntry = timeSheetEntryRepository.save(existingEntry);
-        return toTimeSheetEntryResponseDTO(updatedEntry);
+        RollupScope scope = RollupScope.of(timeSheet);
+        if (scope.equals(previousScope)) {
+            hoursRollupService.applyEntryChanges(scope, List.of(previousHours.negate(), EntryHours.of(updatedEntry)));
+        } else {
+            hoursRollupService.applyEntryChanges(previousScope, List.of(previousHours.negate()));
+            hoursRollupService.applyEntryChanges(scope, List.of(EntryHours.of(updatedEntry)));
+        }
+        return toTimeSheetEntryResponseDTO(updatedEntry, projectSnapshot.name());
     }
 
     @Override
     public List<TimeSheetEntryResponseDTO> findAll() {
-        return timeSheetEntryRepository.findAll().stream()
+        return timeSheetEntryRepository.findAllWithProject().stream()
                 .map(this::toTimeSheetEntryResponseDTO)
                 .collect(Collectors.toList());
     }
@@ -106,6 +278,7 @@ public class TimeSheetEntryServiceImpl implements TimeSheetEntryService {
         }
         
         // Delete the entry
+        hoursRollupService.applyEntryChanges(RollupScope.of(parentTimeSheet), List.of(EntryHours.of(timeSheetEntry).negate()));
         timeSheetEntryRepository.deleteById(id);
         
         // Recalculate and update the timesheet's total hours
@@ -120,8 +293,11 @@ public class TimeSheetEntryServiceImpl implements TimeSheetEntryService {
     }
 
     @Override
+    @Transactional
     public void deleteByTimesheetId(Integer timesheetId) {
-        timeSheetEntryRepository.deleteByTimesheetTimesheetId(timesheetId);
+        timeSheetRepository.findById(timesheetId).ifPresent(timeSheet ->
+                hoursRollupService.moveTimesheetHours(timesheetId, RollupScope.of(timeSheet), null));
+        timeSheetEntryRepository.deleteAllByTimesheetId(timesheetId);
     }
 
     @Override
@@ -131,15 +307,124 @@ public class TimeSheetEntryServiceImpl implements TimeSheetEntryService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Map<Integer, List<TimeSheetEntryResponseDTO>> findByTimesheetIds(Collection<Integer> timesheetIds) {
+        Map<Integer, List<TimeSheetEntryResponseDTO>> entriesByTimesheetId = new HashMap<>();
+        if (timesheetIds == null || timesheetIds.isEmpty()) {
+            return entriesByTimesheetId;
+        }
+
+        List<Integer> ids = new ArrayList<>(timesheetIds);
+        for (int from = 0; from < ids.size(); from += TIMESHEET_ID_BATCH_SIZE) {
+            List<Integer> batch = ids.subList(from, Math.min(from + TIMESHEET_ID_BATCH_SIZE, ids.size()));
+            for (TimeSheetEntry entry : timeSheetEntryRepository.findWithProjectByTimesheetIdIn(batch)) {
+                TimeSheetEntryResponseDTO dto = toTimeSheetEntryResponseDTO(entry);
+                entriesByTimesheetId.computeIfAbsent(dto.timesheetId(), id -> new ArrayList<>()).add(dto);
+            }
+        }
+        return entriesByTimesheetId;
+    }
+
+    // Resolves every referenced project with a single query
+    private Map<Integer, Project> findProjectsById(List<TimeSheetEntryRequestDTO> timeSheetEntryRequestDTOs) {
+        Set<Integer> projectIds = new HashSet<>();
+        for (TimeSheetEntryRequestDTO dto : timeSheetEntryRequestDTOs) {
+            projectIds.add(dto.projectId());
+        }
+        if (projectIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getProjectId, Function.identity()));
+    }
+
+    // One JDBC batch, which Connector/J sends as a single multi-row INSERT (rewriteBatchedStatements). The AUTO_INCREMENT
+    // ids come back as generated keys in row order. The entries stay detached: they are only mapped to responses.
+    private void insertAll(List<TimeSheetEntry> entries) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_ENTRY, new String[]{"entryId"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        TimeSheetEntry entry = entries.get(i);
+                        statement.setInt(1, entry.getTimesheet().getTimesheetId());
+                        statement.setObject(2, entry.getDate());
+                        statement.setInt(3, entry.getProject().getProjectId());
+                        statement.setString(4, entry.getTaskDescription());
+                        statement.setBigDecimal(5, entry.getHoursWorked());
+                        statement.setTimestamp(6, Timestamp.valueOf(entry.getCreatedAt()));
+                        statement.setTimestamp(7, Timestamp.valueOf(entry.getUpdatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entries.size();
+                    }
+                }, keyHolder);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != entries.size()) {
+            throw new IllegalStateException("Expected " + entries.size() + " generated entry ids, got " + keys.size());
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).setEntryId(((Number) keys.get(i).values().iterator().next()).intValue());
+        }
+    }
+
+    private static Project requireProject(Map<Integer, Project> projectsById, Integer projectId) {
+        Project project = projectsById.get(projectId);
+        if (project == null) {
+            throw new RuntimeException("Project not found with id: " + projectId);
+        }
+        return project;
+    }
+
+    private static TimeSheetEntry newTimeSheetEntry(TimeSheet timeSheet, TimeSheetEntryRequestDTO dto,
+                                                    Map<Integer, Project> projectsById, LocalDateTime now) {
+        TimeSheetEntry timeSheetEntry = new TimeSheetEntry();
+        timeSheetEntry.setTimesheet(timeSheet);
+        timeSheetEntry.setDate(dto.date());
+        timeSheetEntry.setProject(requireProject(projectsById, dto.projectId()));
+        timeSheetEntry.setTaskDescription(dto.taskDescription());
+        timeSheetEntry.setHoursWorked(dto.hoursWorked());
+        timeSheetEntry.setCreatedAt(now);
+        timeSheetEntry.setUpdatedAt(now);
+        return timeSheetEntry;
+    }
+
+    private static boolean sameProject(TimeSheetEntry entry, TimeSheetEntryRequestDTO dto) {
+        return entry.getProject() != null && Objects.equals(entry.getProject().getProjectId(), dto.projectId());
+    }
+
+    private static boolean isModified(TimeSheetEntry entry, TimeSheetEntryRequestDTO dto) {
+        return !sameProject(entry, dto)
+                || !Objects.equals(entry.getDate(), dto.date())
+                || !Objects.equals(entry.getTaskDescription(), dto.taskDescription())
+                || !sameHours(entry.getHoursWorked(), dto.hoursWorked());
+    }
+
+    // 8 and 8.00 are the same number of hours
+    private static boolean sameHours(BigDecimal stored, BigDecimal submitted) {
+        if (stored == null || submitted == null) {
+            return stored == submitted;
+        }
+        return stored.compareTo(submitted) == 0;
+    }
+
     private TimeSheetEntryResponseDTO toTimeSheetEntryResponseDTO(TimeSheetEntry timeSheetEntry) {
-        return new TimeSheetEntryResponseDTO(
+        return toTimeSheetEntryResponseDTO(timeSheetEntry,
+                timeSheetEntry.getProject() != null ? timeSheetEntry.getProject().getName() : null);
+    }
+
+    // Takes the project name separately so a project reference is not initialized just for the response
+    private TimeSheetEntryResponseDTO toTimeSheetEntryResponseDTO(TimeSheetEntry timeSheetEntry, String projectName) {
+        return dtoMappingMetrics.time(TimeSheetEntryResponseDTO.class, () -> new TimeSheetEntryResponseDTO(
                 timeSheetEntry.getEntryId(),
                 timeSheetEntry.getTimesheet() != null ? timeSheetEntry.getTimesheet().getTimesheetId() : null,
                 timeSheetEntry.getDate(),
                 timeSheetEntry.getProject() != null ? timeSheetEntry.getProject().getProjectId() : null,
-                timeSheetEntry.getProject() != null ? timeSheetEntry.getProject().getName() : null,
+                projectName,
                 timeSheetEntry.getTaskDescription(),
                 timeSheetEntry.getHoursWorked()
-        );
+        ));
     }
 }
@@ -0,0 +1,17 @@
+package org.example.service.TimeSheetEvent;
+
+import org.example.dto.response.TimeSheetEventDTO;
+import org.example.dto.response.TimeSheetEventStatsDTO;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface TimeSheetEventService {
+    // Delivered once the surrounding transaction commits, dropped if it rolls back
+    void publish(List<TimeSheetStatusEvent> events);
+    // Replays buffered events after lastEventId (if given) to the listener, then passes on new ones in order.
+    // reset runs instead when an event for the recipient committed too late to keep that order; the client reloads.
+    TimeSheetEventSubscription subscribe(Integer recipientId, String lastEventId, Consumer<TimeSheetEventDTO> listener,
+                                         Runnable reset);
+    TimeSheetEventStatsDTO stats();
+}
@@ -0,0 +1,10 @@
+package org.example.service.TimeSheetEvent;
+
+// missedEvents is true when a Last-Event-ID was given but the events after it are no longer buffered, or one of
+// them committed late; the client should reload instead of relying on the stream
+public record TimeSheetEventSubscription(boolean missedEvents, Runnable unsubscribe) {
+
+    public void cancel() {
+        unsubscribe.run();
+    }
+}
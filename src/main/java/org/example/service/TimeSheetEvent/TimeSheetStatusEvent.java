@@ -0,0 +1,34 @@
+package org.example.service.TimeSheetEvent;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// A status transition of a timesheet or of one of its approvals, and the employees who should hear about it
+public record TimeSheetStatusEvent(String kind, Integer timesheetId, Integer approvalId, Integer employeeId,
+                                   String status, String previousStatus, Set<Integer> audience) {
+
+    public static final String TIMESHEET = "timesheet";
+    public static final String APPROVAL = "approval";
+
+    // The owner always; the manager too when the timesheet arrives for approval
+    public static TimeSheetStatusEvent timesheet(Integer timesheetId, Integer employeeId, Integer managerId,
+                                                 String status, String previousStatus) {
+        Set<Integer> audience = new LinkedHashSet<>();
+        audience.add(employeeId);
+        if ("SUBMITTED".equals(status) && managerId != null) {
+            audience.add(managerId);
+        }
+        return new TimeSheetStatusEvent(TIMESHEET, timesheetId, null, employeeId, status, previousStatus, Set.copyOf(audience));
+    }
+
+    // The owner always; the approver too while the approval is waiting on them
+    public static TimeSheetStatusEvent approval(Integer approvalId, Integer timesheetId, Integer employeeId, Integer approverId,
+                                                String status, String previousStatus) {
+        Set<Integer> audience = new LinkedHashSet<>();
+        audience.add(employeeId);
+        if ("PENDING".equals(status) && approverId != null) {
+            audience.add(approverId);
+        }
+        return new TimeSheetStatusEvent(APPROVAL, timesheetId, approvalId, employeeId, status, previousStatus, Set.copyOf(audience));
+    }
+}
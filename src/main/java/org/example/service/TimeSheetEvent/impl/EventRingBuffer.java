@@ -0,0 +1,107 @@
+package org.example.service.TimeSheetEvent.impl;
+
+import org.example.dto.response.TimeSheetEventDTO;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+// The last capacity events, kept for Last-Event-ID replay. Ids only have to increase: cluster event ids skip the
+// events of other types. Every event after floorId that this node delivered is held, so replay is complete for
+// any id at or above the floor. An event that commits late arrives below ids already handed out; it is not held,
+// but marked, and a client whose Last-Event-ID may have passed it without seeing it is told to reload.
+// Not thread-safe; the owner locks.
+final class EventRingBuffer {
+
+    private final TimeSheetEventDTO[] events;
+    private final Object[] audiences;
+    private long floorId;
+    private long newestId;
+    private int oldest;
+    private int size;
+    // Oldest first; a mark is dropped once the floor has passed it, as every replay it affects then reloads anyway
+    private final Deque<LateMark> lateMarks = new ArrayDeque<>();
+
+    EventRingBuffer(int capacity, long floorId) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Replay buffer capacity must be positive");
+        }
+        this.events = new TimeSheetEventDTO[capacity];
+        this.audiences = new Object[capacity];
+        this.floorId = floorId;
+        this.newestId = floorId;
+    }
+
+    // Whether an event with this id would arrive in order; otherwise it is late and goes to markLate
+    boolean inOrder(long eventId) {
+        return eventId > newestId;
+    }
+
+    void add(TimeSheetEventDTO event, Set<Integer> audience) {
+        if (!inOrder(event.eventId())) {
+            throw new IllegalArgumentException("Event ids must increase");
+        }
+        if (size == events.length) {
+            // The evicted event is the newest one a replay can no longer start before
+            raiseFloor(events[oldest].eventId());
+            oldest = (oldest + 1) % events.length;
+            size--;
+        }
+        int slot = (oldest + size) % events.length;
+        events[slot] = event;
+        audiences[slot] = audience;
+        newestId = event.eventId();
+        size++;
+    }
+
+    // A client that saw any id from the late one up to the newest, or none after it, may have missed it
+    void markLate(long eventId, Set<Integer> audience) {
+        lateMarks.addLast(new LateMark(eventId, newestId, audience));
+        if (lateMarks.size() > events.length) {
+            raiseFloor(lateMarks.peekFirst().newestId());
+        }
+    }
+
+    // Events after lastEventId addressed to the recipient; null when some of them were already evicted, came
+    // before this node started delivering or committed late. An id beyond the newest one (another node got further)
+    // replays nothing.
+    @SuppressWarnings("unchecked")
+    List<TimeSheetEventDTO> after(Integer recipientId, long lastEventId) {
+        if (lastEventId < floorId) {
+            return null;
+        }
+        for (LateMark mark : lateMarks) {
+            if (lastEventId <= mark.newestId() && mark.audience().contains(recipientId)) {
+                return null;
+            }
+        }
+        List<TimeSheetEventDTO> missed = new ArrayList<>();
+        for (int i = size - 1; i >= 0; i--) {
+            int slot = (oldest + i) % events.length;
+            if (events[slot].eventId() <= lastEventId) {
+                break;
+            }
+            if (((Set<Integer>) audiences[slot]).contains(recipientId)) {
+                missed.add(events[slot]);
+            }
+        }
+        Collections.reverse(missed);
+        return missed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void raiseFloor(long id) {
+        floorId = Math.max(floorId, id);
+        while (!lateMarks.isEmpty() && lateMarks.peekFirst().newestId() < floorId) {
+            lateMarks.removeFirst();
+        }
+    }
+
+    private record LateMark(long eventId, long newestId, Set<Integer> audience) {}
+}
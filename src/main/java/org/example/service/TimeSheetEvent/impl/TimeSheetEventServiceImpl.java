@@ -0,0 +1,193 @@
+package org.example.service.TimeSheetEvent.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.response.TimeSheetEventDTO;
+import org.example.dto.response.TimeSheetEventStatsDTO;
+import org.example.service.ClusterEvent.ClusterEntityType;
+import org.example.service.ClusterEvent.ClusterEvent;
+import org.example.service.ClusterEvent.ClusterEventMessage;
+import org.example.service.ClusterEvent.ClusterEventTransport;
+import org.example.service.TimeSheetEvent.TimeSheetEventService;
+import org.example.service.TimeSheetEvent.TimeSheetEventSubscription;
+import org.example.service.TimeSheetEvent.TimeSheetStatusEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Timesheet and approval status changes travel through the cluster event transport, so a stream on any pod hears
+// about writes made on every pod, and event ids (the cluster event ids) mean the same thing on all of them.
+// Delivered events are buffered and fanned out under one lock, so every listener sees its events in id order and
+// a replay never overlaps or skips live events. Listeners are expected to only queue the event. An event whose
+// transaction committed after newer ones had been delivered cannot be slotted into that order: its recipients are
+// told to reload instead, and so are replays that may have passed it.
+@Service
+public class TimeSheetEventServiceImpl implements TimeSheetEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimeSheetEventServiceImpl.class);
+    private static final String STATUS_ACTION = "status";
+
+    private final ClusterEventTransport clusterEventTransport;
+    private final ObjectMapper objectMapper;
+    private final int replayBufferSize;
+    private final Object lock = new Object();
+    private final Map<Integer, Set<Subscriber>> listeners = new ConcurrentHashMap<>();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder missedReplays = new LongAdder();
+    private final LongAdder lateEvents = new LongAdder();
+    private EventRingBuffer buffer;
+
+    public TimeSheetEventServiceImpl(ClusterEventTransport clusterEventTransport,
+                                     ObjectMapper objectMapper,
+                                     @Value("${app.timeSheetEvents.replayBufferSize:10000}") int replayBufferSize) {
+        if (replayBufferSize < 1) {
+            throw new IllegalArgumentException("Replay buffer capacity must be positive");
+        }
+        this.clusterEventTransport = clusterEventTransport;
+        this.objectMapper = objectMapper;
+        this.replayBufferSize = replayBufferSize;
+        clusterEventTransport.subscribe(ClusterEntityType.TIMESHEET, this::deliver);
+        clusterEventTransport.subscribe(ClusterEntityType.APPROVAL, this::deliver);
+    }
+
+    @Override
+    public void publish(List<TimeSheetStatusEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<ClusterEventMessage> messages = new ArrayList<>(events.size());
+        for (TimeSheetStatusEvent event : events) {
+            ClusterEntityType type = TimeSheetStatusEvent.APPROVAL.equals(event.kind())
+                    ? ClusterEntityType.APPROVAL : ClusterEntityType.TIMESHEET;
+            try {
+                messages.add(new ClusterEventMessage(type, STATUS_ACTION, objectMapper.writeValueAsString(event)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize timesheet event", e);
+            }
+        }
+        clusterEventTransport.publish(messages);
+    }
+
+    @Override
+    public TimeSheetEventSubscription subscribe(Integer recipientId, String lastEventId, Consumer<TimeSheetEventDTO> listener,
+                                                Runnable reset) {
+        boolean missedEvents = false;
+        Consumer<TimeSheetEventDTO> registered = listener;
+        Subscriber subscriber;
+        synchronized (lock) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                Long lastId = parseId(lastEventId);
+                List<TimeSheetEventDTO> missed = lastId != null ? buffer().after(recipientId, lastId) : null;
+                if (missed == null) {
+                    missedEvents = true;
+                    missedReplays.increment();
+                } else {
+                    missed.forEach(listener);
+                    replayed.add(missed.size());
+                    // The client may have seen events on another pod that this one has not delivered yet
+                    registered = event -> {
+                        if (event.eventId() > lastId) {
+                            listener.accept(event);
+                        }
+                    };
+                }
+            }
+            Subscriber added = new Subscriber(registered, reset);
+            listeners.compute(recipientId, (id, current) -> {
+                Set<Subscriber> updated = current != null ? current : ConcurrentHashMap.newKeySet();
+                updated.add(added);
+                return updated;
+            });
+            subscriber = added;
+        }
+        Subscriber added = subscriber;
+        return new TimeSheetEventSubscription(missedEvents, () -> unsubscribe(recipientId, added));
+    }
+
+    @Override
+    public TimeSheetEventStatsDTO stats() {
+        int subscribers = listeners.values().stream().mapToInt(Set::size).sum();
+        int buffered;
+        synchronized (lock) {
+            buffered = buffer != null ? buffer.size() : 0;
+        }
+        return new TimeSheetEventStatsDTO(published.sum(), delivered.sum(), replayed.sum(), missedReplays.sum(),
+                lateEvents.sum(), subscribers, buffered, 0, 0);
+    }
+
+    private void deliver(ClusterEvent clusterEvent) {
+        if (!STATUS_ACTION.equals(clusterEvent.action())) {
+            return;
+        }
+        TimeSheetStatusEvent event;
+        try {
+            event = objectMapper.readValue(clusterEvent.payload(), TimeSheetStatusEvent.class);
+        } catch (JsonProcessingException e) {
+            logger.warn("Skipping unreadable timesheet event {}: {}", clusterEvent.eventId(), e.getMessage());
+            return;
+        }
+        TimeSheetEventDTO dto = new TimeSheetEventDTO(clusterEvent.eventId(), event.kind(), event.timesheetId(),
+                event.approvalId(), event.employeeId(), event.status(), event.previousStatus(), clusterEvent.createdAt());
+        synchronized (lock) {
+            published.increment();
+            boolean late = !buffer().inOrder(dto.eventId());
+            if (late) {
+                buffer().markLate(dto.eventId(), event.audience());
+                lateEvents.increment();
+                logger.debug("Timesheet event {} committed late; asking its recipients to reload", dto.eventId());
+            } else {
+                buffer().add(dto, event.audience());
+            }
+            for (Integer recipientId : event.audience()) {
+                for (Subscriber subscriber : listeners.getOrDefault(recipientId, Set.of())) {
+                    try {
+                        if (late) {
+                            subscriber.reset().run();
+                        } else {
+                            subscriber.listener().accept(dto);
+                            delivered.increment();
+                        }
+                    } catch (RuntimeException e) {
+                        logger.warn("Timesheet event listener for employee {} failed: {}", recipientId, e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    // Created on first use: the transport's start position may need the database. Caller holds the lock.
+    private EventRingBuffer buffer() {
+        if (buffer == null) {
+            buffer = new EventRingBuffer(replayBufferSize, clusterEventTransport.startPosition());
+        }
+        return buffer;
+    }
+
+    private void unsubscribe(Integer recipientId, Subscriber subscriber) {
+        listeners.computeIfPresent(recipientId, (id, registered) -> {
+            registered.remove(subscriber);
+            return registered.isEmpty() ? null : registered;
+        });
+    }
+
+    private record Subscriber(Consumer<TimeSheetEventDTO> listener, Runnable reset) {}
+
+    private static Long parseId(String eventId) {
+        try {
+            return Long.parseLong(eventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.service.TimeSheetExport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.example.dto.request.TimeSheetFilterDTO;
+
+public interface TimeSheetExportService {
+    enum Format {
+        NDJSON,
+        CSV
+    }
+
+    void export(TimeSheetFilterDTO filter, Format format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,123 @@
+package org.example.service.TimeSheetExport.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.dto.request.TimeSheetFilterDTO;
+import org.example.dto.response.TimeSheetExportRowDTO;
+import org.example.model.TimeSheet;
+import org.example.repository.TimeSheetEntryRepository;
+import org.example.service.TimeSheetExport.TimeSheetExportService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class TimeSheetExportServiceImpl implements TimeSheetExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // Rows between explicit flushes; the first row is always flushed so the client sees bytes immediately
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private static final String CSV_HEADER = "timesheetId,employeeId,employeeFirstName,employeeLastName,"
+            + "periodStartDate,periodEndDate,status,entryId,date,projectId,projectName,taskDescription,hoursWorked";
+
+    private final TimeSheetEntryRepository timeSheetEntryRepository;
+    private final ObjectWriter rowWriter;
+    private final ObjectMapper objectMapper;
+
+    public TimeSheetExportServiceImpl(TimeSheetEntryRepository timeSheetEntryRepository, ObjectMapper objectMapper) {
+        this.timeSheetEntryRepository = timeSheetEntryRepository;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(TimeSheetFilterDTO filter, Format format, OutputStream outputStream) throws IOException {
+        TimeSheet.TimeSheetStatus status = filter.status() != null
+                ? TimeSheet.TimeSheetStatus.valueOf(filter.status().toUpperCase())
+                : null;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        try (Stream<TimeSheetExportRowDTO> rows = timeSheetEntryRepository.streamExportRows(status,
+                filter.employeeId(), filter.departmentId(), filter.periodFrom(), filter.periodTo())) {
+            if (format == Format.CSV) {
+                writeCsv(rows.iterator(), writer);
+            } else {
+                writeNdjson(rows.iterator(), writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<TimeSheetExportRowDTO> rows, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Rows are separated by the explicit newline below, not Jackson's default space
+        generator.setRootValueSeparator(null);
+        long count = 0;
+        while (rows.hasNext()) {
+            rowWriter.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+            count = flushPeriodically(generator, count);
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<TimeSheetExportRowDTO> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = 0;
+        StringBuilder line = new StringBuilder(256);
+        while (rows.hasNext()) {
+            TimeSheetExportRowDTO row = rows.next();
+            line.setLength(0);
+            line.append(row.timesheetId()).append(',')
+                .append(row.employeeId()).append(',');
+            appendCsv(line, row.employeeFirstName()).append(',');
+            appendCsv(line, row.employeeLastName()).append(',');
+            line.append(row.periodStartDate()).append(',')
+                .append(row.periodEndDate()).append(',')
+                .append(row.status() != null ? row.status().name() : "").append(',')
+                .append(row.entryId()).append(',')
+                .append(row.date()).append(',')
+                .append(row.projectId()).append(',');
+            appendCsv(line, row.projectName()).append(',');
+            appendCsv(line, row.taskDescription()).append(',');
+            line.append(row.hoursWorked() != null ? row.hoursWorked().toPlainString() : "").append('\n');
+            writer.append(line);
+            count = flushPeriodically(writer, count);
+        }
+    }
+
+    private static long flushPeriodically(Flushable target, long count) throws IOException {
+        count++;
+        if (count == 1 || count % FLUSH_EVERY_ROWS == 0) {
+            target.flush();
+        }
+        return count;
+    }
+
+    private static StringBuilder appendCsv(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            return line.append(value);
+        }
+        return line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
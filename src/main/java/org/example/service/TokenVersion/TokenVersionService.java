@@ -0,0 +1,7 @@
+package org.example.service.TokenVersion;
+
+public interface TokenVersionService {
+    boolean isCurrent(Integer userId, Integer tokenVersion);
+    void revokeTokens(Integer userId);
+    void evict(Integer userId);
+}
@@ -0,0 +1,102 @@
+package org.example.service.TokenVersion.impl;
+
+import org.example.repository.UserRepository;
+import org.example.security.JwtTokenProvider;
+import org.example.security.UserDetailsCache;
+import org.example.service.ClusterEvent.ClusterEntityType;
+import org.example.service.ClusterEvent.ClusterEventTransport;
+import org.example.service.TokenVersion.TokenVersionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class TokenVersionServiceImpl implements TokenVersionService {
+
+    public static final String REVOKE = "revoke";
+
+    private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final ClusterEventTransport clusterEventTransport;
+    private final JwtTokenProvider tokenProvider;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<Integer, TokenState> tokenStates = new ConcurrentHashMap<>();
+
+    public TokenVersionServiceImpl(UserRepository userRepository,
+                                   UserDetailsCache userDetailsCache,
+                                   ClusterEventTransport clusterEventTransport,
+                                   JwtTokenProvider tokenProvider,
+                                   @Value("${app.jwtTokenVersionCacheTtlMs:30000}") long ttlMillis,
+                                   @Value("${app.jwtTokenVersionCacheMaxSize:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.clusterEventTransport = clusterEventTransport;
+        this.tokenProvider = tokenProvider;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    // A token is current while its user exists, is active and has not been revoked since it was issued.
+    // Revocations on another instance arrive as USER cluster events; other changes made there are picked up once the
+    // cached state is older than the TTL.
+    @Override
+    public boolean isCurrent(Integer userId, Integer tokenVersion) {
+        if (userId == null || tokenVersion == null) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        TokenState state = tokenStates.get(userId);
+        if (state == null || now - state.loadedAt() >= ttlMillis) {
+            state = userRepository.findTokenStateByUserId(userId)
+                    .map(view -> new TokenState(view.getTokenVersion(), Boolean.TRUE.equals(view.getIsActive()), now))
+                    .orElse(null);
+            if (state == null) {
+                tokenStates.remove(userId);
+                return false;
+            }
+            if (tokenStates.size() >= maxSize) {
+                tokenStates.clear();
+            }
+            tokenStates.put(userId, state);
+        }
+        return state.active() && tokenVersion.equals(state.tokenVersion());
+    }
+
+    @Override
+    @Transactional
+    public void revokeTokens(Integer userId) {
+        if (userRepository.incrementTokenVersion(userId, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("User not found with id: " + userId);
+        }
+        // The bulk update bypasses entity listeners, so the cached principal is dropped here
+        userDetailsCache.invalidate(userId);
+        evict(userId);
+        tokenProvider.evictVerifiedTokens(userId);
+        clusterEventTransport.publish(ClusterEntityType.USER, REVOKE, userId.toString());
+    }
+
+    // Evicts after commit when called inside a transaction, so a concurrent request cannot re-cache the old state
+    @Override
+    public void evict(Integer userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tokenStates.remove(userId);
+                }
+            });
+        } else {
+            tokenStates.remove(userId);
+        }
+    }
+
+    private record TokenState(Integer tokenVersion, boolean active, long loadedAt) {}
+}
@@ -1,11 +1,16 @@
 package org.example.service.User;
 
 import org.example.dto.response.UserResponseDTO;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.util.List;
 
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
     UserResponseDTO getInfoUser(String userName, String password);
     List<UserResponseDTO> getAllUsers();
+    void updateActive(Integer userId, boolean active);
+    void revokeTokens(Integer userId);
+    void assignRole(Integer userId, String roleName);
+    void removeRole(Integer userId, String roleName);
 }
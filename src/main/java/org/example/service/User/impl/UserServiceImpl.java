@@ -1,15 +1,24 @@
 package org.example.service.User.impl;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.example.dto.response.UserResponseDTO;
+import org.example.model.Role;
 import org.example.model.User;
+import org.example.model.UserRole;
+import org.example.repository.RoleRepository;
 import org.example.repository.UserRepository;
+import org.example.repository.UserRoleRepository;
+import org.example.security.UserDetailsCache;
+import org.example.security.UserSnapshot;
+import org.example.service.TokenVersion.TokenVersionService;
 import org.example.service.User.UserService;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,22 +27,49 @@ public class UserServiceImpl implements UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
     private final UserRepository userRepository;
+    private final TokenVersionService tokenVersionService;
+    private final UserDetailsCache userDetailsCache;
+    private final RoleRepository roleRepository;
+    private final UserRoleRepository userRoleRepository;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, TokenVersionService tokenVersionService,
+                           UserDetailsCache userDetailsCache, RoleRepository roleRepository,
+                           UserRoleRepository userRoleRepository) {
         this.userRepository = userRepository;
+        this.tokenVersionService = tokenVersionService;
+        this.userDetailsCache = userDetailsCache;
+        this.roleRepository = roleRepository;
+        this.userRoleRepository = userRoleRepository;
     }
 
     @Override
     public UserDetails loadUserByUsername(String userName) throws UsernameNotFoundException {
-        logger.info("Loading user by username: {}", userName);
+        UserSnapshot cached = userDetailsCache.get(userName);
+        if (cached != null) {
+            return cached;
+        }
+
+        logger.debug("Loading user by username: {}", userName);
         User user = userRepository.findByUserName(userName);
         if (user == null) {
-            logger.error("User not found with username: {}", userName);
+            logger.warn("User not found with username: {}", userName);
             throw new UsernameNotFoundException("User not found with username: " + userName);
         }
-        logger.info("User found: {}, isActive: {}, authorities: {}", 
-                   user.getUserName(), user.getIsActive(), user.getAuthorities());
-        return user;
+        // Detached copy, so callers never touch lazy associations after the session has closed
+        UserSnapshot snapshot = UserSnapshot.of(user);
+        userDetailsCache.put(snapshot);
+        return snapshot;
+    }
+
+    // Called by the authentication provider after a successful login whose stored hash needs rehashing
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserSnapshot snapshot = user instanceof UserSnapshot cached ? cached : (UserSnapshot) loadUserByUsername(user.getUsername());
+        userRepository.updatePassword(snapshot.getUserId(), newPassword, LocalDateTime.now());
+        userDetailsCache.invalidate(snapshot.getUserId());
+        logger.debug("Rehashed password for user: {}", snapshot.getUsername());
+        return snapshot.withPassword(newPassword);
     }
 
     @Override
@@ -53,7 +89,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<UserResponseDTO> getAllUsers() {
-        List<UserResponseDTO> users = userRepository.findAll().stream()
+        List<UserResponseDTO> users = userRepository.findAllWithEmployeeBy().stream()
             .map(user -> new UserResponseDTO(
                 user.getEmployee() != null ? user.getEmployee().getEmployeeId() : null,
                 user.getEmployee() != null ? user.getEmployee().getFirstName() : null,
@@ -65,4 +101,49 @@ public class UserServiceImpl implements UserService {
 
             return users;
     }
+
+    @Override
+    @Transactional
+    public void updateActive(Integer userId, boolean active) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        user.setIsActive(active);
+        user.setUpdatedAt(LocalDateTime.now());
+        userRepository.save(user);
+        // Outstanding tokens must not outlive a deactivation
+        tokenVersionService.revokeTokens(userId);
+    }
+
+    @Override
+    public void revokeTokens(Integer userId) {
+        tokenVersionService.revokeTokens(userId);
+    }
+
+    // Tokens carry the roles they were issued with, so every role change revokes them
+    @Override
+    @Transactional
+    public void assignRole(Integer userId, String roleName) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        Role role = roleRepository.findByRoleName(roleName)
+                .orElseThrow(() -> new RuntimeException("Role not found: " + roleName));
+        boolean assigned = userRoleRepository.findByUserUserId(userId).stream()
+                .anyMatch(userRole -> userRole.getRole().getRoleId().equals(role.getRoleId()));
+        if (!assigned) {
+            userRoleRepository.save(new UserRole(user, role));
+            tokenVersionService.revokeTokens(userId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void removeRole(Integer userId, String roleName) {
+        List<UserRole> removed = userRoleRepository.findByUserUserId(userId).stream()
+                .filter(userRole -> userRole.getRole().getRoleName().equals(roleName))
+                .toList();
+        if (!removed.isEmpty()) {
+            userRoleRepository.deleteAll(removed);
+            tokenVersionService.revokeTokens(userId);
+        }
+    }
 }
@@ -0,0 +1,6 @@
+-- Conditional GET fingerprints use MAX(updatedAt); whole seconds would hide a second change within the same second
+ALTER TABLE Employee MODIFY updatedAt DATETIME(6) NOT NULL;
+ALTER TABLE Client MODIFY updatedAt DATETIME(6) NOT NULL;
+ALTER TABLE Project MODIFY updatedAt DATETIME(6) NOT NULL;
+ALTER TABLE Timesheet MODIFY updatedAt DATETIME(6) NOT NULL;
+ALTER TABLE TimesheetEntry MODIFY updatedAt DATETIME(6) NOT NULL;
@@ -0,0 +1,85 @@
+package org.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private JdbcDataSource target;
+
+    @BeforeEach
+    void setUp() {
+        target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1");
+    }
+
+    @Test
+    void testCheckoutsBeyondTheLimitWaitThenTimeOut() throws Exception {
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, 50);
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.stats().timeouts());
+        assertEquals(2, dataSource.stats().inUse());
+
+        first.close();
+        try (Connection third = dataSource.getConnection()) {
+            assertTrue(third.isValid(1));
+        }
+        second.close();
+        assertEquals(0, dataSource.stats().inUse());
+        assertEquals(3, dataSource.stats().acquired());
+    }
+
+    @Test
+    void testWaitingCheckoutProceedsWhenAConnectionIsReturned() throws Exception {
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 5_000);
+        Connection held = dataSource.getConnection();
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return connection.isValid(1);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (dataSource.stats().waiting() == 0) {
+            Thread.onSpinWait();
+        }
+        held.close();
+
+        assertTrue(waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(0, dataSource.stats().timeouts());
+    }
+
+    @Test
+    void testClosingTwiceReturnsOnePermit() throws Exception {
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 50);
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertEquals(0, dataSource.stats().inUse());
+        assertEquals(1, dataSource.stats().maxConcurrent());
+    }
+
+    @Test
+    void testLimitNeverExceedsThePoolSize() {
+        try (HikariDataSource hikari = new HikariDataSource()) {
+            hikari.setMaximumPoolSize(8);
+            assertEquals(8, DatabaseConcurrencyConfig.limitFor(hikari, 0));
+            assertEquals(4, DatabaseConcurrencyConfig.limitFor(hikari, 4));
+            assertEquals(8, DatabaseConcurrencyConfig.limitFor(hikari, 50));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.config;
+
+import org.example.dto.response.CacheStatsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationalCacheTest {
+
+    @Test
+    void testFullCacheDropsExpiredEntriesBeforeCachingANewKey() throws InterruptedException {
+        GenerationalCache<Integer, Long> cache = new GenerationalCache<>("test", 2, 20);
+        cache.put(1, 3L, cache.generation(1));
+        cache.put(2, 5L, cache.generation(2));
+        Thread.sleep(40);
+
+        cache.put(3, 7L, cache.generation(3));
+
+        assertEquals(7L, cache.get(3));
+        CacheStatsDTO stats = cache.stats();
+        assertEquals(1, stats.size());
+        assertEquals(2, stats.expirations());
+        assertEquals(0, stats.evictions());
+    }
+
+    @Test
+    void testFullCacheEvictsALiveEntryForANewKey() {
+        GenerationalCache<Integer, Long> cache = new GenerationalCache<>("test", 2, 60_000);
+        cache.put(1, 3L, cache.generation(1));
+        cache.put(2, 5L, cache.generation(2));
+
+        cache.put(3, 7L, cache.generation(3));
+
+        assertEquals(7L, cache.get(3));
+        CacheStatsDTO stats = cache.stats();
+        assertEquals(2, stats.size());
+        assertEquals(1, stats.evictions());
+    }
+
+    @Test
+    void testValueLoadedBeforeAnInvalidationIsNotCached() {
+        GenerationalCache<Integer, Long> cache = new GenerationalCache<>("test", 2, 60_000);
+        long generation = cache.generation(1);
+        cache.invalidate(1);
+
+        cache.put(1, 3L, generation);
+
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    void testInvalidateIfDropsMatchingValuesAndLoadsStartedBeforeIt() {
+        GenerationalCache<String, Integer> cache = new GenerationalCache<>("test", 10, 60_000);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        long generation = cache.generation("c");
+
+        cache.invalidateIf(value -> value == 1);
+        cache.put("c", 3, generation);
+
+        assertNull(cache.get("a"));
+        assertEquals(2, cache.get("b"));
+        assertNull(cache.get("c"));
+        assertEquals(2, cache.find(value -> value > 1));
+        assertEquals(1, cache.stats().invalidations());
+    }
+
+    @Test
+    void testBulkLoadIsDroppedAfterAnyInvalidation() {
+        GenerationalCache<String, Integer> cache = new GenerationalCache<>("test", 10, 60_000);
+        Map<String, Integer> loaded = new LinkedHashMap<>();
+        loaded.put("a", 1);
+        loaded.put("b", 2);
+
+        long stale = cache.generation();
+        cache.invalidate("z");
+        cache.putAll(loaded, stale);
+        assertEquals(0, cache.size());
+
+        cache.putAll(loaded, cache.generation());
+        assertEquals(2, cache.size());
+    }
+}
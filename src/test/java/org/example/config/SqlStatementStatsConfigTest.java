@@ -0,0 +1,68 @@
+package org.example.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementStatsConfigTest {
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1");
+        try (Connection connection = target.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists item (id int primary key, name varchar(20))");
+            statement.execute("delete from item");
+        }
+        dataSource = (DataSource) SqlStatementStatsConfig.sqlStatementStatsProxy(new MockEnvironment())
+                .postProcessAfterInitialization(target, "dataSource");
+    }
+
+    @Test
+    void testStatementsRowsAndRepeatedShapesAreCountedInEveryOpenScope() throws Exception {
+        try (SqlStatementTracker.Scope outer = SqlStatementTracker.open();
+             Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("insert into item values (?, ?)")) {
+                for (int id = 1; id <= 3; id++) {
+                    insert.setInt(1, id);
+                    insert.setString(2, "item " + id);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (SqlStatementTracker.Scope inner = SqlStatementTracker.open()) {
+                for (int id = 1; id <= 3; id++) {
+                    try (PreparedStatement select = connection.prepareStatement("select name from item where id = " + id);
+                         ResultSet rows = select.executeQuery()) {
+                        assertTrue(rows.next());
+                    }
+                }
+                assertEquals(3, inner.statements());
+                assertEquals(3, inner.rows());
+                assertEquals(3, inner.repeatedShapes(3).get("select name from item where id = ?"));
+            }
+            // The batch is one statement and three rows; batches are never reported as repeated
+            assertEquals(4, outer.statements());
+            assertEquals(6, outer.rows());
+            assertEquals(1, outer.repeatedShapes(2).size());
+        }
+        assertFalse(SqlStatementTracker.active());
+    }
+
+    @Test
+    void testShapesIgnoreLiteralsAndInListLength() {
+        assertEquals(SqlStatementTracker.shapeOf("select * from t where id in (?, ?, ?) and name = 'a'"),
+                SqlStatementTracker.shapeOf("select *  from t\n where id in (?) and name = 'b'"));
+    }
+}
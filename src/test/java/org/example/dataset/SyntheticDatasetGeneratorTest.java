@@ -0,0 +1,166 @@
+package org.example.dataset;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticDatasetGeneratorTest {
+
+    private static final Map<String, String> SMALL = Map.of("employees", "300", "weeks", "6", "departmentSize", "40",
+            "employeesPerProject", "10");
+
+    @Test
+    void testSameSeedGivesSameRowsAndAnotherSeedDoesNot() {
+        Map<DatasetTable, List<List<Object>>> first = generate(SMALL);
+        Map<DatasetTable, List<List<Object>>> second = generate(SMALL);
+        Map<String, String> reseeded = new HashMap<>(SMALL);
+        reseeded.put("seed", "7");
+
+        assertEquals(first, second);
+        assertNotEquals(first.get(DatasetTable.TIMESHEET_ENTRY), generate(reseeded).get(DatasetTable.TIMESHEET_ENTRY));
+    }
+
+    @Test
+    void testRowsReferenceOnlyRowsOfTheDataset() {
+        Map<DatasetTable, List<List<Object>>> rows = generate(SMALL);
+
+        Set<Object> employees = ids(rows.get(DatasetTable.EMPLOYEE));
+        Set<Object> departments = ids(rows.get(DatasetTable.DEPARTMENT));
+        Set<Object> projects = ids(rows.get(DatasetTable.PROJECT));
+        Set<Object> timesheets = ids(rows.get(DatasetTable.TIMESHEET));
+        assertEquals(300, employees.size());
+        assertEquals(30, projects.size());
+        assertEquals(3, rows.get(DatasetTable.ROLE).size());
+        for (List<Object> employee : rows.get(DatasetTable.EMPLOYEE)) {
+            assertTrue(departments.contains(employee.get(5)));
+            // Managers come first, so rows can be inserted in id order
+            Object manager = employee.get(6);
+            assertTrue(employee.get(0).equals(1) ? manager == null : (Integer) manager < (Integer) employee.get(0));
+        }
+        for (List<Object> department : rows.get(DatasetTable.DEPARTMENT)) {
+            assertTrue(employees.contains(department.get(2)));
+        }
+        for (List<Object> entry : rows.get(DatasetTable.TIMESHEET_ENTRY)) {
+            assertTrue(timesheets.contains(entry.get(1)));
+            assertTrue(projects.contains(entry.get(3)));
+        }
+        for (List<Object> approval : rows.get(DatasetTable.APPROVAL)) {
+            assertTrue(timesheets.contains(approval.get(1)));
+            assertTrue(employees.contains(approval.get(2)));
+        }
+        assertEquals(employees.size(), rows.get(DatasetTable.USER).size());
+    }
+
+    @Test
+    void testTimesheetTotalsMatchTheirEntries() {
+        Map<DatasetTable, List<List<Object>>> rows = generate(SMALL);
+
+        Map<Object, BigDecimal> entryTotals = new HashMap<>();
+        for (List<Object> entry : rows.get(DatasetTable.TIMESHEET_ENTRY)) {
+            entryTotals.merge(entry.get(1), (BigDecimal) entry.get(5), BigDecimal::add);
+        }
+        for (List<Object> timesheet : rows.get(DatasetTable.TIMESHEET)) {
+            assertEquals(0, ((BigDecimal) timesheet.get(6)).compareTo(entryTotals.get(timesheet.get(0))));
+            // Only drafts are unsubmitted
+            assertEquals("DRAFT".equals(timesheet.get(4)), timesheet.get(5) == null);
+        }
+        long submitted = rows.get(DatasetTable.TIMESHEET).stream().filter(timesheet -> timesheet.get(5) != null).count();
+        assertEquals(submitted, rows.get(DatasetTable.APPROVAL).size());
+    }
+
+    @Test
+    void testCsvSinkWritesOneFilePerTableAndLoadScripts(@TempDir Path directory) throws Exception {
+        DatasetSpec spec = DatasetSpec.from(Map.of("employees", "20", "weeks", "2")::get);
+        Map<DatasetTable, Long> counts;
+        try (CsvDatasetSink sink = new CsvDatasetSink(directory)) {
+            counts = new SyntheticDatasetGenerator(spec, "hash", Map.of()).generate(sink);
+        }
+
+        for (DatasetTable table : DatasetTable.values()) {
+            List<String> lines = Files.readAllLines(directory.resolve(table.tableName() + ".csv"));
+            assertEquals(String.join(",", table.columns()), lines.get(0));
+            assertEquals(lines.size() - 1L, counts.get(table).longValue());
+        }
+        // Addresses contain a comma and employee 1 has no manager
+        assertTrue(Files.readString(directory.resolve("Client.csv")).contains(", Springfield\""));
+        assertTrue(Files.readAllLines(directory.resolve("Employee.csv")).get(1).contains(",\\N,"));
+        assertTrue(Files.readString(directory.resolve("load-mysql.sql")).contains("LOAD DATA LOCAL INFILE"));
+        assertTrue(Files.readString(directory.resolve("load-h2.sql")).contains("CSVREAD"));
+    }
+
+    @Test
+    void testH2LoadScriptRebuildsTheHoursRollups(@TempDir Path directory) {
+        DatasetSpec spec = DatasetSpec.from(Map.of("employees", "20", "weeks", "5")::get);
+        try (CsvDatasetSink sink = new CsvDatasetSink(directory)) {
+            new SyntheticDatasetGenerator(spec, "hash", Map.of()).generate(sink);
+        }
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:csvloaddb;DB_CLOSE_DELAY=-1;"
+                + "MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;NON_KEYWORDS=USER", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("RUNSCRIPT FROM '" + directory.resolve("load-h2.sql").toString().replace("\\", "/") + "'");
+
+        BigDecimal entryHours = jdbcTemplate.queryForObject("SELECT SUM(hoursWorked) FROM TimesheetEntry", BigDecimal.class);
+        Long entries = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TimesheetEntry", Long.class);
+        assertTrue(entries > 0);
+        for (String rollup : List.of("EmployeeProjectDayHours", "ProjectWeekHours", "DepartmentMonthHours")) {
+            assertEquals(0, entryHours.compareTo(jdbcTemplate.queryForObject("SELECT SUM(totalHours) FROM " + rollup,
+                    BigDecimal.class)), rollup);
+            assertEquals(entries, jdbcTemplate.queryForObject("SELECT SUM(entryCount) FROM " + rollup, Long.class), rollup);
+        }
+        for (LocalDate weekStart : jdbcTemplate.queryForList("SELECT weekStart FROM ProjectWeekHours", LocalDate.class)) {
+            assertEquals(DayOfWeek.MONDAY, weekStart.getDayOfWeek());
+        }
+        for (LocalDate monthStart : jdbcTemplate.queryForList("SELECT monthStart FROM DepartmentMonthHours", LocalDate.class)) {
+            assertEquals(1, monthStart.getDayOfMonth());
+        }
+    }
+
+    private static Map<DatasetTable, List<List<Object>>> generate(Map<String, String> options) {
+        Map<DatasetTable, List<List<Object>>> rows = new EnumMap<>(DatasetTable.class);
+        DatasetSink sink = new DatasetSink() {
+            @Override
+            public void write(DatasetTable table, Object... values) {
+                assertEquals(table.columns().size(), values.length, table.tableName());
+                rows.computeIfAbsent(table, key -> new ArrayList<>()).add(Arrays.asList(values.clone()));
+            }
+
+            @Override
+            public void finish() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        new SyntheticDatasetGenerator(DatasetSpec.from(options::get), "hash", Map.of()).generate(sink);
+        return rows;
+    }
+
+    private static Set<Object> ids(List<List<Object>> rows) {
+        Set<Object> ids = new HashSet<>();
+        for (List<Object> row : rows) {
+            ids.add(row.get(0));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.integration;
+
+import org.example.dto.request.ApprovalRequestDTO;
+import org.example.dto.request.EmployeeRequestDTO;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
+import org.example.dto.response.ApprovalResponseDTO;
+import org.example.dto.response.CacheStatsDTO;
+import org.example.dto.response.PendingApprovalDTO;
+import org.example.dto.response.PendingApprovalPageDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Client;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.repository.ClientRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.service.Approval.ApprovalService;
+import org.example.service.ApprovalInbox.ApprovalInboxService;
+import org.example.service.Employee.EmployeeService;
+import org.example.service.TimeSheet.TimeSheetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Counters are refreshed after commit, so this class commits for real, on a database of its own
+@SpringBootTest
+@OwnDatabase
+@ActiveProfiles({"integration", "ci"})
+class ApprovalInboxIntegrationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2036, 3, 3);
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private ApprovalInboxService approvalInboxService;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private TimeSheetService timeSheetService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Employee manager;
+    private Employee staff;
+    private Employee approver;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        manager = employee("Mona", null);
+        staff = employee("Sam", manager);
+        approver = employee("Abe", null);
+        Client client = clientRepository.save(new Client("Inbox Client " + SEQUENCE.get(), "client@inbox.test", "555-0417", "17 Queue Street"));
+        project = projectRepository.save(new Project("Inbox Project " + SEQUENCE.get(), "Approvals", MONDAY, null, client, manager));
+    }
+
+    @Test
+    void testManagerSeesSubmittedSheetsUntilAnApprovalRowExists() {
+        TimeSheetResponseDTO submitted = timeSheet(staff, MONDAY, "SUBMITTED");
+        timeSheet(staff, MONDAY.plusWeeks(1), "DRAFT");
+
+        assertEquals(1, approvalInboxService.countPending(manager.getEmployeeId()));
+        PendingApprovalDTO pending = single(approvalInboxService.findPending(manager.getEmployeeId(), null, null));
+        assertEquals(submitted.timesheetId(), pending.timesheetId());
+        assertNull(pending.approvalId());
+        assertEquals("Sam Inbox", pending.employeeName());
+        assertEquals(0, new BigDecimal("14.00").compareTo(pending.totalHours()));
+        assertEquals(2, pending.entryCount());
+
+        ApprovalResponseDTO approval = approvalService.save(
+                new ApprovalRequestDTO(submitted.timesheetId(), approver.getEmployeeId(), "PENDING", null));
+        assertEquals(0, approvalInboxService.countPending(manager.getEmployeeId()));
+        assertEquals(1, approvalInboxService.countPending(approver.getEmployeeId()));
+        assertEquals(approval.approvalId(),
+                single(approvalInboxService.findPending(approver.getEmployeeId(), null, null)).approvalId());
+
+        approvalService.update(approval.approvalId(),
+                new ApprovalRequestDTO(submitted.timesheetId(), approver.getEmployeeId(), "APPROVED", "Fine"));
+        assertEquals(0, approvalInboxService.countPending(approver.getEmployeeId()));
+        assertTrue(approvalInboxService.findPending(approver.getEmployeeId(), null, null).items().isEmpty());
+    }
+
+    @Test
+    void testBadgeIsServedFromTheCounterAndRecountedOnTransitions() {
+        timeSheet(staff, MONDAY, "SUBMITTED");
+        assertEquals(1, approvalInboxService.countPending(manager.getEmployeeId()));
+
+        CacheStatsDTO before = approvalInboxService.stats();
+        assertEquals(1, approvalInboxService.countPending(manager.getEmployeeId()));
+        assertEquals(before.hits() + 1, approvalInboxService.stats().hits());
+
+        // The submit recounts the cached badge after commit, so the next read is still a hit
+        timeSheet(staff, MONDAY.plusWeeks(1), "SUBMITTED");
+        CacheStatsDTO afterSubmit = approvalInboxService.stats();
+        assertEquals(2, approvalInboxService.countPending(manager.getEmployeeId()));
+        assertEquals(afterSubmit.misses(), approvalInboxService.stats().misses());
+        assertTrue(approvalInboxService.stats().invalidations() > before.invalidations());
+    }
+
+    @Test
+    void testPagesFollowTheCursorInPeriodOrder() {
+        for (int week = 4; week >= 0; week--) {
+            timeSheet(staff, MONDAY.plusWeeks(week), "SUBMITTED");
+        }
+
+        List<PendingApprovalDTO> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PendingApprovalPageDTO page = approvalInboxService.findPending(manager.getEmployeeId(), cursor, 2);
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(5, seen.size());
+        for (int i = 0; i < seen.size(); i++) {
+            assertEquals(MONDAY.plusWeeks(i), seen.get(i).periodStartDate());
+        }
+        assertThrows(IllegalArgumentException.class, () -> approvalInboxService.findPending(manager.getEmployeeId(), null, 0));
+    }
+
+    @Test
+    void testManagerChangeMovesSheetsWithoutApprovalRows() {
+        Employee newManager = employee("Nia", null);
+        timeSheet(staff, MONDAY, "SUBMITTED");
+        assertEquals(1, approvalInboxService.countPending(manager.getEmployeeId()));
+        assertEquals(0, approvalInboxService.countPending(newManager.getEmployeeId()));
+
+        employeeService.update(staff.getEmployeeId(), new EmployeeRequestDTO(staff.getFirstName(), staff.getLastName(),
+                staff.getEmail(), staff.getPosition(), null, newManager.getEmployeeId()));
+
+        assertEquals(0, approvalInboxService.countPending(manager.getEmployeeId()));
+        assertEquals(1, approvalInboxService.countPending(newManager.getEmployeeId()));
+    }
+
+    private Employee employee(String firstName, Employee manager) {
+        int n = SEQUENCE.incrementAndGet();
+        return employeeRepository.save(new Employee(firstName, "Inbox", firstName.toLowerCase() + n + "@inbox.test",
+                "Developer", null, manager));
+    }
+
+    private TimeSheetResponseDTO timeSheet(Employee employee, LocalDate start, String status) {
+        return timeSheetService.saveWithEntries(new TimeSheetWithEntriesRequestDTO(
+                employee.getEmployeeId(), start, start.plusDays(6), status, null, null, List.of(
+                        new TimeSheetEntryRequestDTO(null, null, start, project.getProjectId(), "Mon", new BigDecimal("8.00")),
+                        new TimeSheetEntryRequestDTO(null, null, start.plusDays(1), project.getProjectId(), "Tue", new BigDecimal("6.00")))));
+    }
+
+    private static PendingApprovalDTO single(PendingApprovalPageDTO page) {
+        assertEquals(1, page.items().size());
+        assertFalse(page.hasMore());
+        return page.items().get(0);
+    }
+}
@@ -0,0 +1,242 @@
+package org.example.integration;
+
+import org.example.dto.request.ApprovalRequestDTO;
+import org.example.dto.request.BulkApprovalRequestDTO;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
+import org.example.dto.response.ApprovalResponseDTO;
+import org.example.dto.response.BulkApprovalItemDTO;
+import org.example.dto.response.BulkApprovalResultDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Client;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.repository.ClientRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.service.Approval.ApprovalService;
+import org.example.service.ApprovalInbox.ApprovalInboxService;
+import org.example.service.TimeSheet.TimeSheetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Decisions are written with plain SQL and counters are refreshed after commit, so this class commits for real
+@SpringBootTest
+@OwnDatabase
+@ActiveProfiles({"integration", "ci"})
+class BulkApprovalIntegrationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2037, 6, 1);
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final int LARGE_BATCH = 2_000;
+    private static final long BUDGET_MS = Long.getLong("approvals.bulkBudgetMs", 3_000);
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private ApprovalInboxService approvalInboxService;
+
+    @Autowired
+    private TimeSheetService timeSheetService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Employee manager;
+    private Employee staff;
+    private Employee approver;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        manager = employee("Mara", null);
+        staff = employee("Stan", manager);
+        approver = employee("Ari", null);
+        Client client = clientRepository.save(new Client("Bulk Client " + SEQUENCE.get(), "client@bulk.test", "555-0418", "18 Batch Lane"));
+        project = projectRepository.save(new Project("Bulk Project " + SEQUENCE.get(), "Approvals", MONDAY, null, client, manager));
+    }
+
+    @Test
+    void testEachItemGetsAnOutcomeAndOnlyValidOnesAreApplied() {
+        TimeSheetResponseDTO unassigned = timeSheet(staff, MONDAY, "SUBMITTED");
+        TimeSheetResponseDTO assigned = timeSheet(staff, MONDAY.plusWeeks(1), "SUBMITTED");
+        TimeSheetResponseDTO draft = timeSheet(staff, MONDAY.plusWeeks(2), "DRAFT");
+        TimeSheetResponseDTO someoneElses = timeSheet(staff, MONDAY.plusWeeks(3), "SUBMITTED");
+        ApprovalResponseDTO mine = pending(assigned, manager);
+        ApprovalResponseDTO theirs = pending(someoneElses, approver);
+        assertEquals(2, approvalInboxService.countPending(manager.getEmployeeId()));
+        LocalDateTime before = updatedAt(assigned.timesheetId());
+
+        BulkApprovalResultDTO result = approvalService.decideAll(new BulkApprovalRequestDTO(
+                List.of(mine.approvalId(), theirs.approvalId(), 999_999),
+                List.of(unassigned.timesheetId(), assigned.timesheetId(), draft.timesheetId()),
+                "approved", "Looks right"), manager.getEmployeeId(), false);
+
+        assertEquals("APPROVED", result.decision());
+        assertEquals(6, result.requested());
+        assertEquals(2, result.applied());
+        assertEquals(List.of("APPLIED", "NOT_ASSIGNED", "NOT_FOUND", "APPLIED", "DUPLICATE", "NOT_SUBMITTED"),
+                result.items().stream().map(BulkApprovalItemDTO::outcome).toList());
+
+        assertEquals("APPROVED", timesheetStatus(assigned.timesheetId()));
+        assertEquals("APPROVED", timesheetStatus(unassigned.timesheetId()));
+        assertEquals("SUBMITTED", timesheetStatus(someoneElses.timesheetId()));
+        assertEquals("DRAFT", timesheetStatus(draft.timesheetId()));
+        assertTrue(updatedAt(assigned.timesheetId()).isAfter(before));
+
+        // The manager decided a timesheet nobody had picked up yet, so the decision gets a row of its own
+        Map<String, Object> created = jdbcTemplate.queryForMap(
+                "SELECT approvedBy, status, comments FROM Approval WHERE timesheetId = ?", unassigned.timesheetId());
+        assertEquals(manager.getEmployeeId(), ((Number) created.get("approvedBy")).intValue());
+        assertEquals("APPROVED", created.get("status"));
+        assertEquals("Looks right", created.get("comments"));
+
+        assertEquals(0, new BigDecimal("28.00").compareTo(approvedHours(staff)));
+        assertEquals(0, approvalInboxService.countPending(manager.getEmployeeId()));
+        assertEquals(1, approvalInboxService.countPending(approver.getEmployeeId()));
+    }
+
+    @Test
+    void testAdminRejectionLeavesHoursUnapproved() {
+        TimeSheetResponseDTO sheet = timeSheet(staff, MONDAY, "SUBMITTED");
+        ApprovalResponseDTO approval = pending(sheet, approver);
+
+        BulkApprovalResultDTO notAssigned = approvalService.decideAll(new BulkApprovalRequestDTO(
+                List.of(approval.approvalId()), null, "REJECTED", null), manager.getEmployeeId(), false);
+        assertEquals(0, notAssigned.applied());
+
+        BulkApprovalResultDTO result = approvalService.decideAll(new BulkApprovalRequestDTO(
+                null, List.of(sheet.timesheetId()), "REJECTED", "Missing Friday"), manager.getEmployeeId(), true);
+        assertEquals(1, result.applied());
+        assertEquals(approval.approvalId(), result.items().get(0).approvalId());
+        assertEquals("REJECTED", timesheetStatus(sheet.timesheetId()));
+        assertEquals("REJECTED", jdbcTemplate.queryForObject(
+                "SELECT status FROM Approval WHERE approvalId = ?", String.class, approval.approvalId()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(approvedHours(staff)));
+
+        BulkApprovalResultDTO again = approvalService.decideAll(new BulkApprovalRequestDTO(
+                null, List.of(sheet.timesheetId()), "APPROVED", null), manager.getEmployeeId(), true);
+        assertEquals("NOT_SUBMITTED", again.items().get(0).outcome());
+    }
+
+    @Test
+    void testAssignedApprovalCanBeDecidedWithoutComments() {
+        TimeSheetResponseDTO sheet = timeSheet(staff, MONDAY, "SUBMITTED");
+        ApprovalResponseDTO approval = pending(sheet, manager);
+
+        BulkApprovalResultDTO result = approvalService.decideAll(new BulkApprovalRequestDTO(
+                List.of(approval.approvalId()), null, "APPROVED", null), manager.getEmployeeId(), false);
+
+        assertEquals(1, result.applied());
+        assertEquals("APPROVED", timesheetStatus(sheet.timesheetId()));
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT comments FROM Approval WHERE approvalId = ?", String.class, approval.approvalId()));
+    }
+
+    @Test
+    void testRejectsMalformedRequests() {
+        assertThrows(IllegalArgumentException.class, () -> approvalService.decideAll(
+                new BulkApprovalRequestDTO(List.of(1), null, "PENDING", null), manager.getEmployeeId(), true));
+        assertThrows(IllegalArgumentException.class, () -> approvalService.decideAll(
+                new BulkApprovalRequestDTO(null, List.of(), "APPROVED", null), manager.getEmployeeId(), true));
+    }
+
+    @Test
+    void testTwoThousandTimesheetsWithinBudget() {
+        List<Integer> timesheetIds = seedSubmitted(LARGE_BATCH);
+
+        long started = System.nanoTime();
+        BulkApprovalResultDTO result = approvalService.decideAll(new BulkApprovalRequestDTO(
+                null, timesheetIds, "APPROVED", null), manager.getEmployeeId(), false);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(LARGE_BATCH, result.applied());
+        assertEquals(LARGE_BATCH, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM Timesheet WHERE employeeId = ? AND status = 'APPROVED'", Integer.class, staff.getEmployeeId()));
+        assertEquals(0, new BigDecimal(LARGE_BATCH * 8).compareTo(approvedHours(staff)));
+        assertTrue(elapsedMillis < BUDGET_MS, "bulk approval of " + LARGE_BATCH + " took " + elapsedMillis + " ms");
+    }
+
+    // Plain JDBC so the seed does not dominate the run; entry ids are taken far above the generator's range
+    private List<Integer> seedSubmitted(int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int base = 10_000_000 + SEQUENCE.incrementAndGet() * 100_000;
+        List<Object[]> sheets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = MONDAY.plusWeeks(10 + i);
+            sheets.add(new Object[]{staff.getEmployeeId(), Date.valueOf(start), Date.valueOf(start.plusDays(6)), now, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Timesheet (employeeId, periodStartDate, periodEndDate, status, submissionDate, "
+                + "createdAt, updatedAt) VALUES (?, ?, ?, 'SUBMITTED', ?, ?, ?)", sheets);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT timesheetId, periodStartDate FROM Timesheet WHERE employeeId = ? AND status = 'SUBMITTED'", staff.getEmployeeId());
+
+        List<Integer> ids = new ArrayList<>(count);
+        List<Object[]> entries = new ArrayList<>(count);
+        for (Map<String, Object> row : rows) {
+            int timesheetId = ((Number) row.get("timesheetId")).intValue();
+            ids.add(timesheetId);
+            entries.add(new Object[]{base + ids.size(), timesheetId, row.get("periodStartDate"), project.getProjectId(), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO TimesheetEntry (entryId, timesheetId, date, projectId, taskDescription, hoursWorked, "
+                + "createdAt, updatedAt) VALUES (?, ?, ?, ?, 'Seeded', 8.00, ?, ?)", entries);
+        return ids;
+    }
+
+    private Employee employee(String firstName, Employee manager) {
+        int n = SEQUENCE.incrementAndGet();
+        return employeeRepository.save(new Employee(firstName, "Bulk", firstName.toLowerCase() + n + "@bulk.test",
+                "Developer", null, manager));
+    }
+
+    private TimeSheetResponseDTO timeSheet(Employee employee, LocalDate start, String status) {
+        return timeSheetService.saveWithEntries(new TimeSheetWithEntriesRequestDTO(
+                employee.getEmployeeId(), start, start.plusDays(6), status, null, null, List.of(
+                        new TimeSheetEntryRequestDTO(null, null, start, project.getProjectId(), "Mon", new BigDecimal("8.00")),
+                        new TimeSheetEntryRequestDTO(null, null, start.plusDays(1), project.getProjectId(), "Tue", new BigDecimal("6.00")))));
+    }
+
+    private ApprovalResponseDTO pending(TimeSheetResponseDTO sheet, Employee approver) {
+        return approvalService.save(new ApprovalRequestDTO(sheet.timesheetId(), approver.getEmployeeId(), "PENDING", null));
+    }
+
+    private String timesheetStatus(Integer timesheetId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM Timesheet WHERE timesheetId = ?", String.class, timesheetId);
+    }
+
+    private LocalDateTime updatedAt(Integer timesheetId) {
+        return jdbcTemplate.queryForObject("SELECT updatedAt FROM Timesheet WHERE timesheetId = ?", Timestamp.class, timesheetId)
+                .toLocalDateTime();
+    }
+
+    private BigDecimal approvedHours(Employee employee) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(approvedHours), 0) FROM EmployeeProjectDayHours WHERE employeeId = ?",
+                BigDecimal.class, employee.getEmployeeId());
+    }
+}
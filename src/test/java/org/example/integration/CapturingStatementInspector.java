@@ -0,0 +1,29 @@
+package org.example.integration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Records every SQL statement Hibernate prepares; registered by the migration test profile
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static String last() {
+        if (STATEMENTS.isEmpty()) {
+            throw new IllegalStateException("No statement captured");
+        }
+        return STATEMENTS.get(STATEMENTS.size() - 1);
+    }
+}
@@ -0,0 +1,270 @@
+package org.example.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.config.ClusterCacheInvalidation;
+import org.example.dto.response.CacheStatsDTO;
+import org.example.dto.response.ClusterEventStatsDTO;
+import org.example.model.Client;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.repository.ClientRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.security.JwtTokenProvider;
+import org.example.security.UserDetailsCache;
+import org.example.service.ClusterEvent.ClusterEntityType;
+import org.example.service.ClusterEvent.ClusterEvent;
+import org.example.service.ClusterEvent.impl.OutboxClusterEventTransport;
+import org.example.service.ReferenceData.ReferenceDataInvalidationListener;
+import org.example.service.ReferenceData.ReferenceDataService;
+import org.example.service.TimeSheetEvent.TimeSheetStatusEvent;
+import org.example.service.TimeSheetEvent.impl.TimeSheetEventServiceImpl;
+import org.example.service.TokenVersion.TokenVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two outbox transports with different node ids stand in for two pods sharing one database
+@SpringBootTest
+@ActiveProfiles({"integration", "ci"})
+class ClusterEventOutboxIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private OutboxClusterEventTransport podA;
+    private OutboxClusterEventTransport podB;
+
+    @BeforeEach
+    void setUp() {
+        podA = transport("pod-a", 2000);
+        podB = transport("pod-b", 2000);
+        podA.startPosition();
+        podB.startPosition();
+    }
+
+    @Test
+    void testCommittedEventsReachEveryPodInOrderAndByType() {
+        List<ClusterEvent> userEventsOnA = new CopyOnWriteArrayList<>();
+        List<ClusterEvent> userEventsOnB = new CopyOnWriteArrayList<>();
+        List<ClusterEvent> timesheetEventsOnB = new CopyOnWriteArrayList<>();
+        podA.subscribe(ClusterEntityType.USER, userEventsOnA::add);
+        podB.subscribe(ClusterEntityType.USER, userEventsOnB::add);
+        podB.subscribe(ClusterEntityType.TIMESHEET, timesheetEventsOnB::add);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            podA.publish(ClusterEntityType.USER, "invalidate", "7");
+            podA.publish(ClusterEntityType.USER, "revoke", "8");
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            podA.publish(ClusterEntityType.USER, "invalidate", "9");
+            status.setRollbackOnly();
+        });
+        assertEquals(2, podB.poll());
+        assertEquals(2, podA.poll());
+
+        assertEquals(List.of("7", "8"), userEventsOnB.stream().map(ClusterEvent::payload).toList());
+        assertTrue(userEventsOnB.get(0).eventId() < userEventsOnB.get(1).eventId());
+        assertTrue(userEventsOnB.stream().noneMatch(ClusterEvent::local));
+        assertTrue(userEventsOnA.stream().allMatch(ClusterEvent::local));
+        assertTrue(timesheetEventsOnB.isEmpty());
+
+        ClusterEventStatsDTO stats = podB.stats();
+        assertEquals(2, stats.delivered());
+        assertEquals(userEventsOnB.get(1).eventId(), stats.position());
+        assertTrue(stats.maxLagMillis() >= stats.lastLagMillis());
+        assertEquals(2, podA.stats().published());
+    }
+
+    @Test
+    void testMissingIdIsWaitedForBeforeItIsSkipped() throws Exception {
+        OutboxClusterEventTransport impatient = transport("pod-c", 200);
+        impatient.startPosition();
+        List<ClusterEvent> received = new CopyOnWriteArrayList<>();
+        impatient.subscribe(ClusterEntityType.APPROVAL, received::add);
+
+        // The rolled-back insert leaves a hole in the ids, as an uncommitted one would
+        transactionTemplate.executeWithoutResult(status -> {
+            podA.publish(ClusterEntityType.APPROVAL, "status", "{}");
+            status.setRollbackOnly();
+        });
+        podA.publish(ClusterEntityType.APPROVAL, "status", "{}");
+
+        assertEquals(0, impatient.poll());
+        assertEquals(0, impatient.poll());
+        Thread.sleep(300);
+        assertEquals(1, impatient.poll());
+        assertEquals(1, received.size());
+        assertEquals(1, impatient.stats().skippedGaps());
+    }
+
+    @Test
+    void testSkippedIdThatCommitsLateIsStillDelivered() throws Exception {
+        OutboxClusterEventTransport impatient = transport("pod-e", 100);
+        impatient.startPosition();
+        List<String> received = new CopyOnWriteArrayList<>();
+        impatient.subscribe(ClusterEntityType.APPROVAL, event -> received.add(event.payload()));
+
+        // A slow transaction takes the next id and commits only after the poller gave up on it
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        Thread slow = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            podA.publish(ClusterEntityType.APPROVAL, "status", "slow");
+            inserted.countDown();
+            await(commit);
+        }));
+        slow.start();
+        assertTrue(inserted.await(5, TimeUnit.SECONDS));
+        podA.publish(ClusterEntityType.APPROVAL, "status", "fast");
+
+        assertEquals(0, impatient.poll());
+        Thread.sleep(200);
+        assertEquals(1, impatient.poll());
+        assertEquals(List.of("fast"), received);
+
+        commit.countDown();
+        slow.join(5000);
+        assertEquals(1, impatient.poll());
+        assertEquals(List.of("fast", "slow"), received);
+        assertEquals(0, impatient.poll());
+        ClusterEventStatsDTO stats = impatient.stats();
+        assertEquals(1, stats.skippedGaps());
+        assertEquals(1, stats.lateEvents());
+    }
+
+    @Test
+    void testLateStatusEventMakesItsRecipientsReload() throws Exception {
+        OutboxClusterEventTransport impatient = transport("pod-f", 100);
+        impatient.startPosition();
+        TimeSheetEventServiceImpl events = new TimeSheetEventServiceImpl(impatient, objectMapper, 16);
+        List<Long> streamed = new CopyOnWriteArrayList<>();
+        AtomicInteger resets = new AtomicInteger();
+        AtomicInteger otherResets = new AtomicInteger();
+        events.subscribe(7, null, event -> streamed.add(event.eventId()), resets::incrementAndGet);
+        events.subscribe(8, null, event -> { }, otherResets::incrementAndGet);
+
+        // The approval's transaction commits after the poller skipped its id and delivered a newer event
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        Thread slow = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            events.publish(List.of(TimeSheetStatusEvent.approval(31, 30, 7, null, "APPROVED", "PENDING")));
+            inserted.countDown();
+            await(commit);
+        }));
+        slow.start();
+        assertTrue(inserted.await(5, TimeUnit.SECONDS));
+        events.publish(List.of(TimeSheetStatusEvent.timesheet(40, 7, null, "SUBMITTED", "DRAFT")));
+
+        assertEquals(0, impatient.poll());
+        Thread.sleep(200);
+        assertEquals(1, impatient.poll());
+        assertEquals(1, streamed.size());
+        String lastSeen = streamed.get(0).toString();
+
+        commit.countDown();
+        slow.join(5000);
+        assertEquals(1, impatient.poll());
+
+        // Streamed clients of the audience reload; the late id is never streamed behind a higher one
+        assertEquals(1, resets.get());
+        assertEquals(0, otherResets.get());
+        assertEquals(1, streamed.size());
+        assertEquals(1, events.stats().lateEvents());
+        // A client reconnecting from the id it saw may have passed the late event, so it reloads too
+        assertTrue(events.subscribe(7, lastSeen, event -> { }, () -> { }).missedEvents());
+        assertFalse(events.subscribe(8, lastSeen, event -> { }, () -> { }).missedEvents());
+    }
+
+    @Test
+    void testOtherPodsDropTheirCopyOfChangedReferenceData() {
+        new ClusterCacheInvalidation(podB, userDetailsCache, tokenVersionService, tokenProvider, referenceDataService, entityManagerFactory);
+        Employee manager = employeeRepository.save(new Employee("Oli", "Outbox", "oli@outbox.test", "Manager", null, null));
+        Client client = clientRepository.save(new Client("Outbox Client", "client@outbox.test", "555-0420", "20 Poll Lane"));
+        Project project = projectRepository.save(new Project("Outbox Project", "Fan-out", LocalDate.of(2039, 1, 3), null,
+                client, manager));
+        podB.poll();
+        referenceDataService.findProject(project.getProjectId());
+        long misses = projectStats().misses();
+        referenceDataService.findProject(project.getProjectId());
+        assertEquals(misses, projectStats().misses());
+
+        podA.publish(ClusterEntityType.REFERENCE_DATA, ReferenceDataInvalidationListener.PROJECT,
+                project.getProjectId().toString());
+        podB.poll();
+        referenceDataService.findProject(project.getProjectId());
+        assertEquals(misses + 1, projectStats().misses());
+    }
+
+    @Test
+    void testExpiredRowsAreDeleted() {
+        podA.publish(ClusterEntityType.USER, "invalidate", "1");
+        assertTrue(transport("pod-d", 2000, 0).deleteExpired() >= 1);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ClusterEventOutbox", Integer.class));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CacheStatsDTO projectStats() {
+        return referenceDataService.stats().stream().filter(stats -> stats.name().equals("referenceData.project"))
+                .findFirst().orElseThrow();
+    }
+
+    private OutboxClusterEventTransport transport(String nodeId, long gapTimeoutMillis) {
+        return transport(nodeId, gapTimeoutMillis, 3_600_000);
+    }
+
+    private OutboxClusterEventTransport transport(String nodeId, long gapTimeoutMillis, long retentionMillis) {
+        return new OutboxClusterEventTransport(jdbcTemplate, nodeId, 500, gapTimeoutMillis, retentionMillis, 60_000);
+    }
+}
@@ -0,0 +1,208 @@
+package org.example.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.controller.ConditionalGetSupport;
+import org.example.controller.ProjectController;
+import org.example.controller.TimeSheetController;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
+import org.example.dto.response.ConditionalGetStatsDTO;
+import org.example.dto.response.TimeSheetEntryResponseDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Client;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.repository.ClientRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.security.JwtUserPrincipal;
+import org.example.service.TimeSheet.TimeSheetService;
+import org.example.service.TimeSheetEntry.TimeSheetEntryService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"integration", "ci"})
+@Transactional
+class ConditionalGetIntegrationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2034, 1, 2);
+
+    @Autowired
+    private TimeSheetController timeSheetController;
+
+    @Autowired
+    private ProjectController projectController;
+
+    @Autowired
+    private ConditionalGetSupport conditionalGetSupport;
+
+    @Autowired
+    private TimeSheetService timeSheetService;
+
+    @Autowired
+    private TimeSheetEntryService timeSheetEntryService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Client client;
+    private Project project;
+    private TimeSheetResponseDTO timeSheet;
+
+    @BeforeEach
+    void setUp() {
+        Employee employee = employeeRepository.save(new Employee("Etta", "Tag", "etta.tag@company.com", "Developer", null, null));
+        client = clientRepository.save(new Client("Conditional Client", "client@etag.test", "555-0304", "304 Cache Road"));
+        project = projectRepository.save(new Project("Conditional Project", "Polled", MONDAY, null, client, employee));
+        timeSheet = timeSheetService.saveWithEntries(new TimeSheetWithEntriesRequestDTO(
+                employee.getEmployeeId(), MONDAY, MONDAY.plusDays(6), "DRAFT", null, null, List.of(
+                        new TimeSheetEntryRequestDTO(null, null, MONDAY, project.getProjectId(), "Mon", new BigDecimal("8.00")),
+                        new TimeSheetEntryRequestDTO(null, null, MONDAY.plusDays(1), project.getProjectId(), "Tue", new BigDecimal("6.00")))));
+        entityManager.flush();
+        entityManager.clear();
+
+        JwtUserPrincipal principal = new JwtUserPrincipal(null, "etta.tag", employee.getEmployeeId(), null, 0, List.of("ROLE_EMPLOYEE"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testUnchangedTimesheetsAreNotModifiedWithoutLoadingThem() {
+        Exchange first = get(timeSheetController::getTimeSheetsByCurrentUser, null);
+        assertEquals(HttpStatus.OK, first.status());
+        assertNotNull(first.etag());
+        assertNull(first.lastModified());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Exchange second = get(timeSheetController::getTimeSheetsByCurrentUser, first.etag());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, second.status());
+        assertNull(second.body());
+        assertEquals(first.etag(), second.etag());
+        // The fingerprint is one JdbcTemplate aggregate query; nothing goes through Hibernate
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testEntryChangesAndDeletesChangeTheEtag() {
+        String etag = get(timeSheetController::getTimeSheetsByCurrentUser, null).etag();
+        TimeSheetEntryResponseDTO entry = timeSheet.timeSheetEntries().get(0);
+
+        timeSheetEntryService.update(entry.entryId(), new TimeSheetEntryRequestDTO(null, timeSheet.timesheetId(),
+                entry.date(), entry.projectId(), entry.taskDescription(), new BigDecimal("7.50")));
+        entityManager.flush();
+        Exchange afterUpdate = get(timeSheetController::getTimeSheetsByCurrentUser, etag);
+        assertEquals(HttpStatus.OK, afterUpdate.status());
+        assertNotEquals(etag, afterUpdate.etag());
+
+        timeSheetEntryService.deleteById(timeSheet.timeSheetEntries().get(1).entryId());
+        entityManager.flush();
+        Exchange afterDelete = get(timeSheetController::getTimeSheetsByCurrentUser, afterUpdate.etag());
+        assertEquals(HttpStatus.OK, afterDelete.status());
+        assertNotEquals(afterUpdate.etag(), afterDelete.etag());
+    }
+
+    @Test
+    void testProjectListFollowsProjectAndClientChanges() {
+        Exchange first = get(projectController::getAllProjects, null);
+        assertEquals(HttpStatus.OK, first.status());
+        assertEquals(HttpStatus.NOT_MODIFIED, get(projectController::getAllProjects, first.etag()).status());
+
+        Client renamed = clientRepository.findById(client.getClientId()).orElseThrow();
+        renamed.setClientName("Renamed Conditional Client");
+        entityManager.flush();
+
+        Exchange afterRename = get(projectController::getAllProjects, first.etag());
+        assertEquals(HttpStatus.OK, afterRename.status());
+        assertNotEquals(first.etag(), afterRename.etag());
+    }
+
+    @Test
+    void testIfModifiedSinceAloneNeverHidesADelete() {
+        get(timeSheetController::getTimeSheetsByCurrentUser, null);
+        timeSheetEntryService.deleteById(timeSheet.timeSheetEntries().get(1).entryId());
+        entityManager.flush();
+
+        // A delete leaves MAX(updatedAt) unchanged, so only the ETag can tell
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/timesheets/user");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, System.currentTimeMillis() + 60_000);
+        ServletWebRequest webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+
+        assertEquals(HttpStatus.OK, timeSheetController.getTimeSheetsByCurrentUser(webRequest).getStatusCode());
+    }
+
+    @Test
+    void testNotModifiedStats() {
+        Exchange first = get(timeSheetController::getTimeSheetsByCurrentUser, null);
+        long before = notModifiedCount("GET /api/timesheets/user");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, get(timeSheetController::getTimeSheetsByCurrentUser, first.etag()).status());
+        assertEquals(before + 1, notModifiedCount("GET /api/timesheets/user"));
+        ConditionalGetStatsDTO stats = conditionalGetSupport.stats().stream()
+                .filter(endpoint -> endpoint.endpoint().equals("GET /api/timesheets/user")).findFirst().orElseThrow();
+        assertTrue(stats.notModifiedRatio() > 0 && stats.notModifiedRatio() <= 1);
+    }
+
+    private long notModifiedCount(String endpoint) {
+        return conditionalGetSupport.stats().stream()
+                .filter(stats -> stats.endpoint().equals(endpoint))
+                .mapToLong(ConditionalGetStatsDTO::notModified)
+                .sum();
+    }
+
+    private static Exchange get(Function<ServletWebRequest, ResponseEntity<?>> handler, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ResponseEntity<?> entity = handler.apply(new ServletWebRequest(request, response));
+        return new Exchange(HttpStatus.valueOf(entity.getStatusCode().value()), entity.getBody(),
+                response.getHeader(HttpHeaders.ETAG), response.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    private record Exchange(HttpStatus status, Object body, String etag, String lastModified) {}
+}
@@ -0,0 +1,226 @@
+package org.example.integration;
+
+import org.example.dto.request.EmployeeRequestDTO;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetRequestDTO;
+import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
+import org.example.dto.response.DepartmentMonthHoursDTO;
+import org.example.dto.response.EmployeeProjectHoursDTO;
+import org.example.dto.response.ProjectWeekHoursDTO;
+import org.example.dto.response.TimeSheetEntryResponseDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Client;
+import org.example.model.Department;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.repository.ClientRepository;
+import org.example.repository.DepartmentRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.service.Employee.EmployeeService;
+import org.example.service.HoursRollup.HoursRollupService;
+import org.example.service.TimeSheet.TimeSheetService;
+import org.example.service.TimeSheetEntry.TimeSheetEntryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"integration", "ci"})
+@Transactional
+class HoursRollupIntegrationTest {
+
+    // A week that straddles a month end, far from any other test data
+    private static final LocalDate MONDAY = LocalDate.of(2031, 3, 31);
+    private static final LocalDate RANGE_FROM = LocalDate.of(2031, 3, 1);
+    private static final LocalDate RANGE_TO = LocalDate.of(2031, 4, 30);
+
+    @Autowired
+    private HoursRollupService hoursRollupService;
+
+    @Autowired
+    private TimeSheetService timeSheetService;
+
+    @Autowired
+    private TimeSheetEntryService timeSheetEntryService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Department department;
+    private Employee employee;
+    private Project alpha;
+    private Project beta;
+
+    @BeforeEach
+    void setUp() {
+        department = newDepartment("Rollup Department");
+        employee = employeeRepository.save(new Employee("Rolf", "Up", "rolf.up@company.com", "Developer", department, null));
+        Client client = clientRepository.save(new Client("Rollup Client", "client@rollup.test", "555-0199", "9 Sum Street"));
+        alpha = projectRepository.save(new Project("Rollup Alpha", "First", MONDAY, null, client, employee));
+        beta = projectRepository.save(new Project("Rollup Beta", "Second", MONDAY, null, client, employee));
+    }
+
+    @Test
+    void testSavingEntriesUpdatesAllRollups() {
+        createTimeSheet();
+
+        assertEquals(List.of(
+                new EmployeeProjectHoursDTO(employee.getEmployeeId(), alpha.getProjectId(), hours("14.00"), hours("0.00")),
+                new EmployeeProjectHoursDTO(employee.getEmployeeId(), beta.getProjectId(), hours("2.00"), hours("0.00"))),
+                employeeProjectHours());
+        assertEquals(List.of(
+                new ProjectWeekHoursDTO(alpha.getProjectId(), MONDAY, hours("14.00"), hours("0.00")),
+                new ProjectWeekHoursDTO(beta.getProjectId(), MONDAY, hours("2.00"), hours("0.00"))),
+                projectWeekHours());
+        assertEquals(List.of(
+                new DepartmentMonthHoursDTO(department.getDepartmentId(), LocalDate.of(2031, 3, 1), hours("8.00"), hours("0.00")),
+                new DepartmentMonthHoursDTO(department.getDepartmentId(), LocalDate.of(2031, 4, 1), hours("8.00"), hours("0.00"))),
+                departmentMonthHours());
+    }
+
+    @Test
+    void testReconcileAppliesEntryChangesAndApproval() {
+        TimeSheetResponseDTO created = createTimeSheet();
+        List<TimeSheetEntryResponseDTO> stored = created.timeSheetEntries();
+
+        // Drop Monday, change Beta to 3h, add 1h on Wednesday and approve in the same request
+        List<TimeSheetEntryRequestDTO> entries = List.of(
+                toRequest(stored.get(1), stored.get(1).hoursWorked()),
+                toRequest(stored.get(2), hours("3.00")),
+                new TimeSheetEntryRequestDTO(null, null, MONDAY.plusDays(2), beta.getProjectId(), "New", hours("1.00")));
+        timeSheetService.reconcileWithEntries(created.timesheetId(), new TimeSheetWithEntriesRequestDTO(
+                employee.getEmployeeId(), MONDAY, MONDAY.plusDays(6), "APPROVED", null, null, entries));
+
+        assertEquals(List.of(
+                new EmployeeProjectHoursDTO(employee.getEmployeeId(), alpha.getProjectId(), hours("6.00"), hours("6.00")),
+                new EmployeeProjectHoursDTO(employee.getEmployeeId(), beta.getProjectId(), hours("4.00"), hours("4.00"))),
+                employeeProjectHours());
+        // March lost its only entry, so the group is gone
+        assertEquals(List.of(
+                new DepartmentMonthHoursDTO(department.getDepartmentId(), LocalDate.of(2031, 4, 1), hours("10.00"), hours("10.00"))),
+                departmentMonthHours());
+    }
+
+    @Test
+    void testEmployeeChangeMovesHoursAndDeleteRemovesThem() {
+        TimeSheetResponseDTO created = createTimeSheet();
+        Department otherDepartment = newDepartment("Other Rollup Department");
+        Employee other = employeeRepository.save(new Employee("Otto", "Other", "otto.other@company.com", "Developer", otherDepartment, null));
+
+        timeSheetService.update(created.timesheetId(), new TimeSheetRequestDTO(other.getEmployeeId(), MONDAY, MONDAY.plusDays(6)));
+
+        assertEquals(List.of(
+                new EmployeeProjectHoursDTO(other.getEmployeeId(), alpha.getProjectId(), hours("14.00"), hours("0.00")),
+                new EmployeeProjectHoursDTO(other.getEmployeeId(), beta.getProjectId(), hours("2.00"), hours("0.00"))),
+                employeeProjectHours());
+        assertTrue(departmentMonthHours().stream().allMatch(row -> row.departmentId().equals(otherDepartment.getDepartmentId())));
+
+        timeSheetEntryService.deleteById(created.timeSheetEntries().get(0).entryId());
+        assertEquals(hours("6.00"), employeeProjectHours().get(0).totalHours());
+
+        timeSheetService.deleteById(created.timesheetId());
+        assertTrue(employeeProjectHours().isEmpty());
+        assertTrue(projectWeekHours().isEmpty());
+        assertTrue(departmentMonthHours().isEmpty());
+    }
+
+    @Test
+    void testDepartmentChangeMovesDepartmentHours() {
+        createTimeSheet();
+        Department otherDepartment = newDepartment("Moved Rollup Department");
+
+        employeeService.update(employee.getEmployeeId(), new EmployeeRequestDTO(employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getPosition(), otherDepartment.getDepartmentId(), null));
+
+        List<DepartmentMonthHoursDTO> departmentMonthHours = departmentMonthHours();
+        assertFalse(departmentMonthHours.isEmpty());
+        assertTrue(departmentMonthHours.stream().allMatch(row -> row.departmentId().equals(otherDepartment.getDepartmentId())));
+        assertEquals(hours("16.00"), departmentMonthHours.stream().map(DepartmentMonthHoursDTO::totalHours)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+
+        hoursRollupService.rebuild();
+        assertEquals(departmentMonthHours, departmentMonthHours());
+    }
+
+    @Test
+    void testRebuildMatchesIncrementalRollups() {
+        TimeSheetResponseDTO created = createTimeSheet();
+        TimeSheetEntryResponseDTO first = created.timeSheetEntries().get(0);
+        timeSheetEntryService.update(first.entryId(), new TimeSheetEntryRequestDTO(null, created.timesheetId(),
+                first.date().plusDays(3), beta.getProjectId(), first.taskDescription(), hours("5.25")));
+
+        List<EmployeeProjectHoursDTO> employeeProjectHours = employeeProjectHours();
+        List<ProjectWeekHoursDTO> projectWeekHours = projectWeekHours();
+        List<DepartmentMonthHoursDTO> departmentMonthHours = departmentMonthHours();
+
+        assertTrue(hoursRollupService.rebuild().employeeProjectDayRows() >= 3);
+
+        assertEquals(employeeProjectHours, employeeProjectHours());
+        assertEquals(projectWeekHours, projectWeekHours());
+        assertEquals(departmentMonthHours, departmentMonthHours());
+    }
+
+    private TimeSheetResponseDTO createTimeSheet() {
+        List<TimeSheetEntryRequestDTO> entries = List.of(
+                new TimeSheetEntryRequestDTO(null, null, MONDAY, alpha.getProjectId(), "Mon", hours("8.00")),
+                new TimeSheetEntryRequestDTO(null, null, MONDAY.plusDays(1), alpha.getProjectId(), "Tue", hours("6.00")),
+                new TimeSheetEntryRequestDTO(null, null, MONDAY.plusDays(1), beta.getProjectId(), "Tue", hours("2.00")));
+        return timeSheetService.saveWithEntries(new TimeSheetWithEntriesRequestDTO(
+                employee.getEmployeeId(), MONDAY, MONDAY.plusDays(6), "DRAFT", null, null, entries));
+    }
+
+    private Department newDepartment(String name) {
+        Department newDepartment = new Department();
+        newDepartment.setName(name);
+        newDepartment.setCreatedAt(LocalDateTime.now());
+        newDepartment.setUpdatedAt(LocalDateTime.now());
+        return departmentRepository.save(newDepartment);
+    }
+
+    private List<EmployeeProjectHoursDTO> employeeProjectHours() {
+        return hoursRollupService.findEmployeeProjectHours(RANGE_FROM, RANGE_TO).stream()
+                .filter(row -> row.projectId().equals(alpha.getProjectId()) || row.projectId().equals(beta.getProjectId()))
+                .toList();
+    }
+
+    private List<ProjectWeekHoursDTO> projectWeekHours() {
+        return hoursRollupService.findProjectWeekHours(RANGE_FROM, RANGE_TO).stream()
+                .filter(row -> row.projectId().equals(alpha.getProjectId()) || row.projectId().equals(beta.getProjectId()))
+                .toList();
+    }
+
+    private List<DepartmentMonthHoursDTO> departmentMonthHours() {
+        return hoursRollupService.findDepartmentMonthHours(RANGE_FROM, RANGE_TO);
+    }
+
+    private static TimeSheetEntryRequestDTO toRequest(TimeSheetEntryResponseDTO entry, BigDecimal hoursWorked) {
+        return new TimeSheetEntryRequestDTO(entry.entryId(), null, entry.date(), entry.projectId(), entry.taskDescription(), hoursWorked);
+    }
+
+    private static BigDecimal hours(String value) {
+        return new BigDecimal(value);
+    }
+}
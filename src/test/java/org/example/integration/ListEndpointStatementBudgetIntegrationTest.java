@@ -0,0 +1,274 @@
+package org.example.integration;
+
+import org.example.dto.request.ApprovalRequestDTO;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Client;
+import org.example.model.Department;
+import org.example.model.Employee;
+import org.example.model.EmployeeProject;
+import org.example.model.Project;
+import org.example.model.Role;
+import org.example.model.User;
+import org.example.model.UserRole;
+import org.example.repository.ClientRepository;
+import org.example.repository.DepartmentRepository;
+import org.example.repository.EmployeeProjectRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.repository.RoleRepository;
+import org.example.repository.UserRepository;
+import org.example.repository.UserRoleRepository;
+import org.example.security.JwtTokenProvider;
+import org.example.security.UserSnapshot;
+import org.example.service.Approval.ApprovalService;
+import org.example.service.TimeSheet.TimeSheetService;
+import org.example.service.User.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Statement budgets for every list endpoint. The data has a dozen of everything, so a query per row blows the budget.
+// Every endpoint is called once while seeding, so caches are warm and budgets do not depend on test order.
+@SpringBootTest(properties = {
+        "app.jwtSecret=statement-budget-test-secret-long-enough-for-hs512-signatures-0123456789abcdef"})
+@OwnDatabase
+@ActiveProfiles({"integration", "ci"})
+@AutoConfigureMockMvc
+class ListEndpointStatementBudgetIntegrationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2042, 3, 3);
+    private static final String REPORT_RANGE = "?from=2042-03-01&to=2042-04-30";
+    private static final int STAFF = 12;
+
+    private static String token;
+    private static Integer staffId;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TimeSheetService timeSheetService;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeProjectRepository employeeProjectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (token != null) {
+            return;
+        }
+        Role adminRole = roleRepository.findByRoleName("ADMIN").orElseGet(() -> roleRepository.save(new Role("ADMIN", "Admin")));
+        Role employeeRole = roleRepository.findByRoleName("EMPLOYEE")
+                .orElseGet(() -> roleRepository.save(new Role("EMPLOYEE", "Employee")));
+        Employee admin = employeeRepository.save(new Employee("Ada", "Budget", "ada@budget.test", "Manager", null, null));
+        user("ada.budget", admin, adminRole);
+
+        // Distinct heads, managers and approvers, so a lazy reference per row is a statement per row
+        List<Employee> heads = new ArrayList<>();
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Employee head = employeeRepository.save(new Employee("Hal" + i, "Budget", "hal" + i + "@budget.test", "Head", null, admin));
+            heads.add(head);
+            departments.add(departmentRepository.save(new Department("Budget Department " + i, head)));
+        }
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Client client = clientRepository.save(new Client("Budget Client " + i, "client" + i + "@budget.test", "555-0422", i + " Count Street"));
+            projects.add(projectRepository.save(new Project("Budget Project " + i, "Budgets", MONDAY, null, client,
+                    heads.get(i % heads.size()))));
+        }
+
+        for (int i = 0; i < STAFF; i++) {
+            Employee manager = heads.get(i % heads.size());
+            Employee staff = employeeRepository.save(new Employee("Sam" + i, "Budget", "sam" + i + "@budget.test", "Developer",
+                    departments.get(i % departments.size()), manager));
+            user("sam" + i + ".budget", staff, employeeRole);
+            Project project = projects.get(i % projects.size());
+            employeeProjectRepository.save(new EmployeeProject(staff, project, "Developer"));
+            for (int week = 0; week < 2; week++) {
+                TimeSheetResponseDTO sheet = timeSheet(staff, MONDAY.plusWeeks(week), project);
+                Employee approver = week == 0 ? admin : manager;
+                approvalService.save(new ApprovalRequestDTO(sheet.timesheetId(), approver.getEmployeeId(), "PENDING", null));
+            }
+            staffId = staff.getEmployeeId();
+        }
+        for (int week = 0; week < STAFF; week++) {
+            timeSheet(admin, MONDAY.plusWeeks(week), projects.get(0));
+        }
+
+        UserSnapshot snapshot = (UserSnapshot) userService.loadUserByUsername("ada.budget");
+        token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(snapshot, null, snapshot.getAuthorities()));
+        for (String path : List.of("/api/approvals", "/api/approvals/my-approvals", "/api/approvals/inbox", "/api/clients",
+                "/api/departments", "/api/employees", "/api/projects", "/api/timesheets?size=50", "/api/timesheets/user",
+                "/api/timesheets/employee/" + staffId, "/api/timesheet-entries", "/api/users/all",
+                "/api/reports/hours/by-project" + REPORT_RANGE, "/api/reports/hours/by-client" + REPORT_RANGE,
+                "/api/reports/hours/by-department" + REPORT_RANGE, "/api/reports/hours/by-employee" + REPORT_RANGE)) {
+            list(path);
+        }
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void testAllApprovals() throws Exception {
+        list("/api/approvals");
+    }
+
+    @Test
+    // The approvals and their one approver
+    @SqlStatementBudget(2)
+    void testMyApprovals() throws Exception {
+        list("/api/approvals/my-approvals");
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void testApprovalInbox() throws Exception {
+        list("/api/approvals/inbox");
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void testClients() throws Exception {
+        list("/api/clients");
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void testDepartments() throws Exception {
+        list("/api/departments");
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void testEmployees() throws Exception {
+        list("/api/employees");
+    }
+
+    @Test
+    // Fingerprint for the ETag, then the projects with clients and managers
+    @SqlStatementBudget(2)
+    void testProjects() throws Exception {
+        list("/api/projects");
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void testTimeSheetPage() throws Exception {
+        list("/api/timesheets?size=50");
+    }
+
+    @Test
+    // Fingerprint, timesheets, then the entries of all of them in one statement
+    @SqlStatementBudget(3)
+    void testCurrentUsersTimeSheets() throws Exception {
+        list("/api/timesheets/user");
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void testEmployeeTimeSheets() throws Exception {
+        list("/api/timesheets/employee/" + staffId);
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void testTimeSheetEntries() throws Exception {
+        list("/api/timesheet-entries");
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void testUsers() throws Exception {
+        list("/api/users/all");
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void testHoursByProject() throws Exception {
+        list("/api/reports/hours/by-project" + REPORT_RANGE);
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void testHoursByClient() throws Exception {
+        list("/api/reports/hours/by-client" + REPORT_RANGE);
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void testHoursByDepartment() throws Exception {
+        list("/api/reports/hours/by-department" + REPORT_RANGE);
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void testHoursByEmployee() throws Exception {
+        list("/api/reports/hours/by-employee" + REPORT_RANGE);
+    }
+
+    private void list(String path) throws Exception {
+        MvcResult result = mockMvc.perform(get(path).header("Authorization", "Bearer " + token)).andReturn();
+        assertEquals(200, result.getResponse().getStatus(), () -> path + ": " + result.getResponse().getStatus());
+        assertNotNull(result.getResponse().getHeader("X-Sql-Statements"));
+    }
+
+    private void user(String userName, Employee employee, Role role) {
+        User user = new User(userName, "unused", employee);
+        user.setUserRoles(new ArrayList<>());
+        user = userRepository.save(user);
+        userRoleRepository.save(new UserRole(user, role));
+    }
+
+    private TimeSheetResponseDTO timeSheet(Employee employee, LocalDate start, Project project) {
+        return timeSheetService.saveWithEntries(new TimeSheetWithEntriesRequestDTO(
+                employee.getEmployeeId(), start, start.plusDays(6), "SUBMITTED", null, null, List.of(
+                        new TimeSheetEntryRequestDTO(null, null, start, project.getProjectId(), "Mon", new BigDecimal("8.00")),
+                        new TimeSheetEntryRequestDTO(null, null, start.plusDays(1), project.getProjectId(), "Tue", new BigDecimal("6.00")))));
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.integration;
+
+import jakarta.persistence.EntityManager;
+import org.example.model.User;
+import org.example.repository.UserRepository;
+import org.example.service.LoginAudit.LoginAuditService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"integration", "ci"})
+@Transactional
+class LoginAuditIntegrationTest {
+
+    @Autowired
+    private LoginAuditService loginAuditService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User first;
+    private User second;
+    private User untouched;
+
+    @BeforeEach
+    void setUp() {
+        loginAuditService.flush();
+        first = userRepository.save(new User("audit.first", "hash", null));
+        second = userRepository.save(new User("audit.second", "hash", null));
+        untouched = userRepository.save(new User("audit.untouched", "hash", null));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testFlushCoalescesLoginsIntoOneUpdate() {
+        LocalDateTime base = LocalDateTime.of(2025, 3, 3, 9, 0);
+        loginAuditService.recordLogin(first.getUserId(), base);
+        loginAuditService.recordLogin(first.getUserId(), base.plusMinutes(5));
+        // Out-of-order arrival must not move lastLogin backwards
+        loginAuditService.recordLogin(first.getUserId(), base.plusMinutes(2));
+        loginAuditService.recordLogin(second.getUserId(), base.plusMinutes(1));
+
+        assertEquals(2, loginAuditService.pendingCount());
+        assertEquals(2, loginAuditService.flush());
+        assertEquals(0, loginAuditService.pendingCount());
+
+        entityManager.clear();
+        assertEquals(base.plusMinutes(5), userRepository.findById(first.getUserId()).orElseThrow().getLastLogin());
+        assertEquals(base.plusMinutes(1), userRepository.findById(second.getUserId()).orElseThrow().getLastLogin());
+        assertNull(userRepository.findById(untouched.getUserId()).orElseThrow().getLastLogin());
+    }
+
+    @Test
+    void testFlushWithNothingPendingIssuesNoUpdate() {
+        assertEquals(0, loginAuditService.flush());
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.config.DtoMappingMetrics;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Client;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.model.Role;
+import org.example.model.User;
+import org.example.model.UserRole;
+import org.example.repository.ClientRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.repository.RoleRepository;
+import org.example.repository.UserRepository;
+import org.example.repository.UserRoleRepository;
+import org.example.security.JwtTokenProvider;
+import org.example.security.UserSnapshot;
+import org.example.service.TimeSheet.TimeSheetService;
+import org.example.service.User.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Scrapes the Prometheus endpoint over HTTP after one authenticated request, so every subsystem has recorded something
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.jwtSecret=metrics-test-secret-long-enough-for-hs512-signatures-0123456789abcdef-0123456789"})
+@ActiveProfiles({"integration", "ci"})
+@AutoConfigureObservability(tracing = false)
+class MetricsIntegrationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2040, 1, 2);
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TimeSheetService timeSheetService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    void testPrometheusEndpointExposesEverySubsystem() throws Exception {
+        Employee manager = employeeRepository.save(new Employee("Meg", "Metrics", "meg@metrics.test", "Manager", null, null));
+        Role managerRole = roleRepository.save(new Role("MANAGER", "Manager"));
+        User user = new User("meg.metrics", "unused", manager);
+        user.setUserRoles(new ArrayList<>());
+        user = userRepository.save(user);
+        userRoleRepository.save(new UserRole(user, managerRole));
+        Client client = clientRepository.save(new Client("Metrics Client", "client@metrics.test", "555-0421", "21 Scrape Street"));
+        Project project = projectRepository.save(new Project("Metrics Project", "Gauges", MONDAY, null, client, manager));
+        TimeSheetResponseDTO sheet = timeSheetService.saveWithEntries(new TimeSheetWithEntriesRequestDTO(
+                manager.getEmployeeId(), MONDAY, MONDAY.plusDays(6), "DRAFT", null, null, List.of(
+                        new TimeSheetEntryRequestDTO(null, null, MONDAY, project.getProjectId(), "Mon", new BigDecimal("8.00")))));
+
+        UserSnapshot snapshot = (UserSnapshot) userService.loadUserByUsername("meg.metrics");
+        String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(snapshot, null, snapshot.getAuthorities()));
+        HttpClient http = HttpClient.newHttpClient();
+        HttpResponse<String> timesheet = http.send(HttpRequest.newBuilder(url("/api/timesheets/" + sheet.timesheetId()))
+                .header("Authorization", "Bearer " + token).GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, timesheet.statusCode());
+        assertTrue(timesheet.headers().firstValue("X-Sql-Statements").isPresent());
+
+        // The API port does not serve the scrape without a token
+        HttpResponse<String> publicScrape = http.send(HttpRequest.newBuilder(url("/actuator/prometheus")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, publicScrape.statusCode());
+
+        // No token needed on the management port, which only the cluster can reach
+        HttpResponse<String> scrape = http.send(HttpRequest.newBuilder(URI.create("http://localhost:" + managementPort + "/actuator/prometheus"))
+                .GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, scrape.statusCode());
+        String metrics = scrape.body();
+        assertTrue(metrics.contains("http_server_requests_seconds_bucket{"), "histogram for the timesheet endpoint");
+        assertTrue(metrics.contains("uri=\"/api/timesheets/{id}\""));
+        assertTrue(metrics.contains("spring_data_repository_invocations_seconds_count{"));
+        assertTrue(metrics.contains("hikaricp_connections_pending"));
+        assertTrue(metrics.contains("security_jwt_validation_seconds_count{") && metrics.contains("outcome=\"accepted\""));
+        assertTrue(metrics.contains("dto_mapping_seconds_count{dto=\"TimeSheetResponseDTO\""));
+        assertTrue(metrics.contains("cluster_events_lag_last_milliseconds"));
+        assertTrue(metrics.contains("app_cache_hits_total{cache=\"userDetails\""));
+        assertTrue(metrics.contains("sql_request_statements_count{uri=\"/api/timesheets/{id}\""));
+    }
+
+    @Test
+    void testDisabledMappingMetricsRegisterNothing() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        assertEquals("mapped", new DtoMappingMetrics(registry, false).time(String.class, () -> "mapped"));
+        assertTrue(registry.getMeters().isEmpty());
+        new DtoMappingMetrics(registry, true).time(String.class, () -> "mapped");
+        assertEquals(1, registry.get("dto.mapping").tag("dto", "String").timer().count());
+    }
+
+    private URI url(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.integration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A database created before migrations, which already has some of their objects (from ddl-auto=update or a newer
+// database_schema.sql), is baselined at V1 and must still migrate to the latest version
+class MigrationBaselineTest {
+
+    private static final String URL = "jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;"
+            + "MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;NON_KEYWORDS=USER";
+
+    @Test
+    void testBaselinedDatabaseWithLaterObjectsMigrates() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL.formatted("baselinedb"), "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        jdbcTemplate.execute("DROP TABLE \"flyway_schema_history\"");
+
+        // What ddl-auto=update and the schema file used to add on top of V1
+        jdbcTemplate.execute("ALTER TABLE User ADD COLUMN tokenVersion INT NOT NULL DEFAULT 0");
+        jdbcTemplate.execute("CREATE TABLE IdSequence (sequenceName VARCHAR(255) NOT NULL PRIMARY KEY, nextValue BIGINT)");
+        jdbcTemplate.execute("CREATE INDEX idx_timesheet_employee_period ON Timesheet(employeeId, periodStartDate, timesheetId)");
+        jdbcTemplate.execute("DROP INDEX idx_timesheet_employee ON Timesheet");
+        jdbcTemplate.execute("CREATE INDEX idx_approval_approver_pending ON Approval(approvedBy, status, timesheetId)");
+        jdbcTemplate.execute("CREATE TABLE ProjectWeekHours (rollupId BIGINT AUTO_INCREMENT PRIMARY KEY, projectId INT NOT NULL, "
+                + "weekStart DATE NOT NULL, totalHours DECIMAL(12,2) NOT NULL DEFAULT 0, approvedHours DECIMAL(12,2) NOT NULL DEFAULT 0, "
+                + "entryCount INT NOT NULL DEFAULT 0, CONSTRAINT uk_project_week UNIQUE (projectId, weekStart))");
+        jdbcTemplate.execute("CREATE INDEX idx_project_week_start ON ProjectWeekHours(weekStart)");
+
+        MigrateResult result = Flyway.configure().dataSource(dataSource)
+                .baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+        assertTrue(result.success);
+        assertEquals("7", result.targetSchemaVersion);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES "
+                + "WHERE LOWER(INDEX_NAME) = 'idx_timesheet_employee_period'", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM IdSequence", Integer.class));
+    }
+
+    // Hours entered before V4 land in the rollups without a manual rebuild
+    @Test
+    void testExistingHoursAreBackfilledIntoTheRollups() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL.formatted("backfilldb"), "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).target("3").load().migrate();
+
+        jdbcTemplate.execute("INSERT INTO Department (departmentId, name, createdAt, updatedAt) VALUES (1, 'Delivery', NOW(), NOW())");
+        jdbcTemplate.execute("INSERT INTO Employee (employeeId, firstName, lastName, email, position, departmentId, createdAt, updatedAt) "
+                + "VALUES (1, 'Ada', 'Lovelace', 'ada@example.org', 'Engineer', 1, NOW(), NOW()), "
+                + "(2, 'Alan', 'Turing', 'alan@example.org', 'Engineer', NULL, NOW(), NOW())");
+        jdbcTemplate.execute("INSERT INTO Client (clientId, clientName, createdAt, updatedAt) VALUES (1, 'Acme', NOW(), NOW())");
+        jdbcTemplate.execute("INSERT INTO Project (projectId, name, startDate, clientId, projectManagerId, createdAt, updatedAt) "
+                + "VALUES (1, 'Portal', '2024-01-01', 1, 1, NOW(), NOW())");
+        jdbcTemplate.execute("INSERT INTO Timesheet (timesheetId, employeeId, periodStartDate, periodEndDate, status, createdAt, updatedAt) "
+                + "VALUES (1, 1, '2024-01-01', '2024-02-04', 'APPROVED', NOW(), NOW()), "
+                + "(2, 2, '2024-01-01', '2024-01-07', 'DRAFT', NOW(), NOW())");
+        jdbcTemplate.execute("INSERT INTO TimesheetEntry (timesheetId, date, projectId, taskDescription, hoursWorked, createdAt, updatedAt) "
+                + "VALUES (1, '2024-01-01', 1, 'Build', 8, NOW(), NOW()), (1, '2024-01-02', 1, 'Build', 4, NOW(), NOW()), "
+                + "(1, '2024-01-31', 1, 'Build', 2, NOW(), NOW()), (1, '2024-02-01', 1, 'Build', 3, NOW(), NOW()), "
+                + "(2, '2024-01-01', 1, 'Review', 5, NOW(), NOW())");
+
+        MigrateResult result = Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertTrue(result.success);
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM EmployeeProjectDayHours", Integer.class));
+        assertEquals(List.of("2024-01-01 17.00 12.00 3", "2024-01-29 5.00 5.00 2"), jdbcTemplate.queryForList(
+                "SELECT CONCAT(weekStart, ' ', totalHours, ' ', approvedHours, ' ', entryCount) FROM ProjectWeekHours "
+                        + "ORDER BY weekStart", String.class));
+        // The employee without a department is left out, as HoursRollupService.rebuild does
+        assertEquals(List.of("2024-01-01 14.00 14.00 3", "2024-02-01 3.00 3.00 1"), jdbcTemplate.queryForList(
+                "SELECT CONCAT(monthStart, ' ', totalHours, ' ', approvedHours, ' ', entryCount) FROM DepartmentMonthHours "
+                        + "ORDER BY monthStart", String.class));
+    }
+}
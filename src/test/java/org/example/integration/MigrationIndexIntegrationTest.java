@@ -0,0 +1,188 @@
+package org.example.integration;
+
+import org.example.model.Approval;
+import org.example.model.TimeSheet;
+import org.example.repository.ApprovalRepository;
+import org.example.repository.TimeSheetEntryRepository;
+import org.example.repository.TimeSheetRepository;
+import org.example.service.ApprovalInbox.impl.ApprovalInboxServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs against the schema built by the Flyway migrations and checks the plans of the hottest repository queries
+@SpringBootTest
+@ActiveProfiles("migration")
+class MigrationIndexIntegrationTest {
+
+    private static final int EMPLOYEES = 20;
+    private static final int WEEKS = 26;
+    private static final LocalDate FIRST_MONDAY = LocalDate.of(2025, 1, 6);
+    // Ids above anything the DataInitializer seeds
+    private static final int BASE = 100_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TimeSheetRepository timeSheetRepository;
+
+    @Autowired
+    private ApprovalRepository approvalRepository;
+
+    @Autowired
+    private TimeSheetEntryRepository timeSheetEntryRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Enough rows that a table scan is never the cheapest plan; ANALYZE commits, so seed once per context
+        CapturingStatementInspector.clear();
+        Integer seeded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Employee WHERE employeeId > ?", Integer.class, BASE);
+        if (seeded != null && seeded > 0) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO Department (departmentId, name, createdAt, updatedAt) VALUES (?, 'Plans', ?, ?)", BASE + 1, now, now);
+        List<Object[]> employees = new ArrayList<>();
+        for (int e = 1; e <= EMPLOYEES; e++) {
+            // Everyone reports to one of the first four employees
+            Integer managerId = e > 4 ? BASE + (e % 4) + 1 : null;
+            employees.add(new Object[]{BASE + e, "First" + e, "Last" + e, "plan" + e + "@company.com", "Developer", BASE + 1, managerId, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Employee (employeeId, firstName, lastName, email, position, departmentId, managerId, createdAt, updatedAt) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", employees);
+        jdbcTemplate.update("INSERT INTO Client (clientId, clientName, createdAt, updatedAt) VALUES (?, 'Plan Client', ?, ?)", BASE + 1, now, now);
+        jdbcTemplate.update("INSERT INTO Project (projectId, name, startDate, clientId, projectManagerId, createdAt, updatedAt) "
+                + "VALUES (?, 'Plan Project', ?, ?, ?, ?, ?)", BASE + 1, Date.valueOf(FIRST_MONDAY), BASE + 1, BASE + 1, now, now);
+
+        List<Object[]> timesheets = new ArrayList<>();
+        List<Object[]> entries = new ArrayList<>();
+        List<Object[]> approvals = new ArrayList<>();
+        String[] statuses = {"DRAFT", "SUBMITTED", "APPROVED", "REJECTED"};
+        int timesheetId = BASE;
+        for (int e = 1; e <= EMPLOYEES; e++) {
+            for (int w = 0; w < WEEKS; w++) {
+                timesheetId++;
+                LocalDate start = FIRST_MONDAY.plusWeeks(w);
+                timesheets.add(new Object[]{timesheetId, BASE + e, Date.valueOf(start), Date.valueOf(start.plusDays(6)),
+                        statuses[timesheetId % statuses.length], now, now});
+                for (int d = 0; d < 5; d++) {
+                    entries.add(new Object[]{timesheetId, Date.valueOf(start.plusDays(d)), BASE + 1, "Work", 8, now, now});
+                }
+                // Every fifth timesheet has no Approval row yet and waits on the employee's manager
+                if (timesheetId % 5 != 0) {
+                    approvals.add(new Object[]{timesheetId, BASE + (e % 4) + 1, timesheetId % 3 == 0 ? "APPROVED" : "PENDING", now, now});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Timesheet (timesheetId, employeeId, periodStartDate, periodEndDate, status, createdAt, updatedAt) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", timesheets);
+        jdbcTemplate.batchUpdate("INSERT INTO TimesheetEntry (timesheetId, date, projectId, taskDescription, hoursWorked, createdAt, updatedAt) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", entries);
+        jdbcTemplate.batchUpdate("INSERT INTO Approval (timesheetId, approvedBy, status, createdAt, updatedAt) VALUES (?, ?, ?, ?, ?)", approvals);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void testMigrationsCreateTheQueryIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE LOWER(INDEX_NAME) LIKE 'idx_%'", String.class);
+
+        assertTrue(indexes.containsAll(List.of("idx_timesheet_employee_period", "idx_timesheet_status_period",
+                "idx_approval_approver_pending", "idx_approval_status", "idx_entry_date_project_hours", "idx_employee_manager")), indexes.toString());
+    }
+
+    @Test
+    void testFindByEmployeeAndPeriodUsesIndex() {
+        LocalDate from = FIRST_MONDAY.plusWeeks(4);
+        LocalDate to = FIRST_MONDAY.plusWeeks(8);
+
+        timeSheetRepository.findByEmployeeEmployeeIdAndPeriodStartDateBetween(BASE + 3, from, to);
+
+        assertUsesIndex(explainLast(BASE + 3, Date.valueOf(from), Date.valueOf(to)), "idx_timesheet_employee_period");
+    }
+
+    @Test
+    void testTimeSheetFindByStatusUsesIndex() {
+        timeSheetRepository.findByStatus(TimeSheet.TimeSheetStatus.SUBMITTED);
+
+        assertUsesIndex(explainLast("SUBMITTED"), "idx_timesheet_status_period");
+    }
+
+    @Test
+    void testFindByApprovedByEmployeeIdUsesIndex() {
+        approvalRepository.findByApprovedByEmployeeId(BASE + 2);
+
+        // H2 answers this from the index behind the approvedBy foreign key, on the same leading column
+        assertNoTableScan(explainLast(BASE + 2));
+        assertIndexColumns("idx_approval_approver_pending", "approvedby", "status", "timesheetid");
+    }
+
+    @Test
+    void testApprovalInboxQueriesUseIndexes() {
+        // H2 joins Employee through the index behind the managerId foreign key, on the same column as idx_employee_manager
+        assertIndexColumns("idx_employee_manager", "managerid");
+        String countPlan = explain(ApprovalInboxServiceImpl.COUNT_PENDING_SQL, BASE + 2, BASE + 2);
+        assertUsesIndex(countPlan, "idx_approval_approver_pending");
+
+        String pagePlan = explain(ApprovalInboxServiceImpl.PENDING_PAGE_SQL + " ORDER BY t.periodStartDate, t.timesheetId LIMIT ?",
+                BASE + 2, BASE + 2, 51);
+        assertUsesIndex(pagePlan, "idx_approval_approver_pending");
+    }
+
+    @Test
+    void testApprovalFindByStatusUsesIndex() {
+        approvalRepository.findByStatus(Approval.ApprovalStatus.APPROVED);
+
+        assertUsesIndex(explainLast("APPROVED"), "idx_approval_status");
+    }
+
+    @Test
+    void testFindByDateBetweenUsesIndex() {
+        LocalDate from = FIRST_MONDAY.plusWeeks(10);
+        LocalDate to = FIRST_MONDAY.plusWeeks(10).plusDays(4);
+
+        timeSheetEntryRepository.findByDateBetween(from, to);
+
+        assertUsesIndex(explainLast(Date.valueOf(from), Date.valueOf(to)), "idx_entry_date_project_hours");
+    }
+
+    private String explainLast(Object... args) {
+        return explain(CapturingStatementInspector.last(), args);
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args).stream()
+                .map(row -> String.valueOf(row.values().iterator().next()))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private void assertIndexColumns(String index, String... columns) {
+        List<String> indexColumns = jdbcTemplate.queryForList("SELECT LOWER(COLUMN_NAME) FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                + "WHERE LOWER(INDEX_NAME) = ? ORDER BY ORDINAL_POSITION", String.class, index);
+        assertEquals(List.of(columns), indexColumns, index);
+    }
+
+    private static void assertUsesIndex(String plan, String index) {
+        assertTrue(plan.toLowerCase(Locale.ROOT).contains(index), "Expected " + index + " in plan:\n" + plan);
+        assertNoTableScan(plan);
+    }
+
+    private static void assertNoTableScan(String plan) {
+        assertFalse(plan.toLowerCase(Locale.ROOT).contains("tablescan"), "Unexpected table scan in plan:\n" + plan);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.integration;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Gives a @SpringBootTest class a context of its own, which the ci profile's random datasource URL turns into a
+// database of its own, for tests whose data must neither leak into nor see that of other classes
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OwnDatabase {
+}
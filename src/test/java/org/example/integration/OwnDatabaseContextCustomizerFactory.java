@@ -0,0 +1,27 @@
+package org.example.integration;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.TestContextAnnotationUtils;
+
+import java.util.List;
+
+// Registered in META-INF/spring.factories. The customizer changes nothing; being keyed by the test class, it only
+// keeps the context cache from handing an @OwnDatabase class a context another class has used.
+class OwnDatabaseContextCustomizerFactory implements ContextCustomizerFactory {
+
+    @Override
+    public ContextCustomizer createContextCustomizer(Class<?> testClass, List<ContextConfigurationAttributes> configAttributes) {
+        return TestContextAnnotationUtils.hasAnnotation(testClass, OwnDatabase.class) ? new OwnContext(testClass) : null;
+    }
+
+    private record OwnContext(Class<?> testClass) implements ContextCustomizer {
+
+        @Override
+        public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+        }
+    }
+}
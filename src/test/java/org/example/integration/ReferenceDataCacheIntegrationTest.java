@@ -0,0 +1,180 @@
+package org.example.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.dto.request.ClientRequestDTO;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetRequestDTO;
+import org.example.dto.response.ClientResponseDTO;
+import org.example.dto.response.DepartmentResponseDTO;
+import org.example.dto.response.ProjectResponseDTO;
+import org.example.dto.response.TimeSheetEntryResponseDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Client;
+import org.example.model.Department;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.model.Role;
+import org.example.repository.ClientRepository;
+import org.example.repository.DepartmentRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.repository.RoleRepository;
+import org.example.service.Client.ClientService;
+import org.example.service.Department.DepartmentService;
+import org.example.service.Project.ProjectService;
+import org.example.service.ReferenceData.ReferenceDataService;
+import org.example.service.TimeSheet.TimeSheetService;
+import org.example.service.TimeSheetEntry.TimeSheetEntryService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"integration", "ci"})
+@Transactional
+class ReferenceDataCacheIntegrationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2033, 5, 2);
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private TimeSheetService timeSheetService;
+
+    @Autowired
+    private TimeSheetEntryService timeSheetEntryService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department department;
+    private Employee manager;
+    private Client client;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Reference Department");
+        department.setCreatedAt(LocalDateTime.now());
+        department.setUpdatedAt(LocalDateTime.now());
+        department = departmentRepository.save(department);
+        manager = employeeRepository.save(new Employee("Rita", "Reference", "rita.reference@company.com", "Manager", department, null));
+        department.setHeadEmployee(manager);
+        client = clientRepository.save(new Client("Reference Client", "client@reference.test", "555-0177", "7 Lookup Lane"));
+        project = projectRepository.save(new Project("Reference Project", "Cached", MONDAY, null, client, manager));
+        roleRepository.save(new Role("REFERENCE_ROLE", "Reference role"));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testRepeatedLookupsAreServedWithoutStatements() {
+        ProjectResponseDTO first = projectService.findById(project.getProjectId());
+        departmentService.findById(department.getDepartmentId());
+        clientService.findById(client.getClientId());
+        referenceDataService.findRole("REFERENCE_ROLE");
+
+        Statistics statistics = statistics();
+        ProjectResponseDTO second = projectService.findById(project.getProjectId());
+        DepartmentResponseDTO cachedDepartment = departmentService.findById(department.getDepartmentId());
+        ClientResponseDTO cachedClient = clientService.findById(client.getClientId());
+        assertTrue(referenceDataService.findRole("REFERENCE_ROLE").isPresent());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(first, second);
+        assertEquals("Reference Client", second.clientName());
+        assertEquals("Rita Reference", second.projectManagerName());
+        assertEquals("Rita Reference", cachedDepartment.headEmployeeName());
+        assertEquals("7 Lookup Lane", cachedClient.address());
+    }
+
+    @Test
+    void testClientUpdateInvalidatesSnapshot() {
+        assertEquals("Reference Client", clientService.findById(client.getClientId()).clientName());
+
+        clientService.update(client.getClientId(), new ClientRequestDTO("Renamed Client", "renamed@reference.test"));
+        entityManager.flush();
+
+        assertEquals("Renamed Client", clientService.findById(client.getClientId()).clientName());
+        assertEquals("Renamed Client", projectService.findById(project.getProjectId()).clientName());
+    }
+
+    @Test
+    void testEmployeeRenameInvalidatesProjectsAndDepartmentsThatShowIt() {
+        assertEquals("Rita Reference", projectService.findById(project.getProjectId()).projectManagerName());
+        assertEquals("Rita Reference", departmentService.findById(department.getDepartmentId()).headEmployeeName());
+
+        Employee renamed = employeeRepository.findById(manager.getEmployeeId()).orElseThrow();
+        renamed.setLastName("Renamed");
+        entityManager.flush();
+
+        assertEquals("Rita Renamed", projectService.findById(project.getProjectId()).projectManagerName());
+        assertEquals("Rita Renamed", departmentService.findById(department.getDepartmentId()).headEmployeeName());
+    }
+
+    @Test
+    void testEntrySaveDoesNotLoadTheProject() {
+        TimeSheetResponseDTO timeSheet = timeSheetService.save(
+                new TimeSheetRequestDTO(manager.getEmployeeId(), MONDAY, MONDAY.plusDays(6)));
+        projectService.findById(project.getProjectId());
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        TimeSheetEntryResponseDTO saved = timeSheetEntryService.save(new TimeSheetEntryRequestDTO(
+                null, timeSheet.timesheetId(), MONDAY, project.getProjectId(), "Cached project", new BigDecimal("2.50")));
+        entityManager.flush();
+
+        assertEquals(0, statistics.getEntityStatistics(Project.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(Project.class.getName()).getFetchCount());
+        assertEquals("Reference Project", saved.projectName());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.dto.request.ClientRequestDTO;
+import org.example.dto.response.CacheStatsDTO;
+import org.example.dto.response.ClientResponseDTO;
+import org.example.model.Role;
+import org.example.repository.RoleRepository;
+import org.example.service.Client.ClientService;
+import org.example.service.ReferenceData.ReferenceDataService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// app.referenceDataCache.mode=hibernate, on a database of its own because second-level cache entries survive commits
+@SpringBootTest(properties = {
+        "app.referenceDataCache.mode=hibernate"})
+@OwnDatabase
+@ActiveProfiles({"integration", "ci"})
+class ReferenceDataSecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testLookupsHitSecondLevelCacheRegions() {
+        ClientResponseDTO created = clientService.save(new ClientRequestDTO("Region Client", "client@region.test"));
+        clientService.findById(created.clientId());
+        roleRepository.save(new Role("REGION_ROLE", "Region role"));
+        referenceDataService.findRole("REGION_ROLE");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertEquals("Region Client", clientService.findById(created.clientId()).clientName());
+        assertTrue(referenceDataService.findRole("REGION_ROLE").isPresent());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics("reference.client").getHitCount() > 0);
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+        // The in-memory snapshot maps stay empty in this mode
+        assertTrue(referenceDataService.stats().stream().mapToInt(CacheStatsDTO::size).allMatch(size -> size == 0));
+    }
+
+    @Test
+    void testUpdateIsVisibleThroughTheRegion() {
+        ClientResponseDTO created = clientService.save(new ClientRequestDTO("Before Update", "before@region.test"));
+        clientService.findById(created.clientId());
+
+        clientService.update(created.clientId(), new ClientRequestDTO("After Update", "after@region.test"));
+
+        assertEquals("After Update", clientService.findById(created.clientId()).clientName());
+    }
+}
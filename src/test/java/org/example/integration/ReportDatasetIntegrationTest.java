@@ -0,0 +1,176 @@
+package org.example.integration;
+
+import org.example.dto.response.HoursReportDTO;
+import org.example.service.HoursRollup.HoursRollupService;
+import org.example.service.Report.ReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Reports over a one-million-entry year, on a database of its own so the data never leaks into other tests.
+// Size and budget can be changed with -Dreports.dataset.entries and -Dreports.latencyBudgetMs.
+@SpringBootTest
+@OwnDatabase
+@ActiveProfiles({"integration", "ci"})
+class ReportDatasetIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportDatasetIntegrationTest.class);
+
+    private static final int ENTRIES = Integer.getInteger("reports.dataset.entries", 1_000_000);
+    private static final long LATENCY_BUDGET_MS = Long.getLong("reports.latencyBudgetMs", 2_000);
+    private static final int DEPARTMENTS = 5;
+    private static final int CLIENTS = 10;
+    private static final int PROJECTS = 50;
+    private static final int EMPLOYEES = 400;
+    private static final int WEEKS = 52;
+    private static final int PROJECTS_PER_EMPLOYEE = 3;
+    private static final int BATCH_SIZE = 10_000;
+    private static final LocalDate FIRST_MONDAY = LocalDate.of(2024, 1, 1);
+    private static final LocalDate LAST_DAY = FIRST_MONDAY.plusWeeks(WEEKS).minusDays(1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HoursRollupService hoursRollupService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @BeforeEach
+    void setUp() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TimesheetEntry", Integer.class);
+        if (existing != null && existing >= ENTRIES) {
+            return;
+        }
+        long started = System.nanoTime();
+        seed();
+        hoursRollupService.rebuild();
+        logger.info("Seeded {} entries and rebuilt rollups in {} ms", ENTRIES, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Test
+    void testReportsStayWithinLatencyBudget() {
+        assertWithinBudget("project", (from, to) -> reportService.hoursByProject(from, to, false));
+        assertWithinBudget("client", (from, to) -> reportService.hoursByClient(from, to, false));
+        assertWithinBudget("department", (from, to) -> reportService.hoursByDepartment(from, to, true));
+        assertWithinBudget("employee", (from, to) -> reportService.hoursByEmployee(from, to, false));
+    }
+
+    @Test
+    void testReportTotalsMatchRawEntries() {
+        LocalDate from = FIRST_MONDAY.plusWeeks(10).plusDays(2);
+        LocalDate to = FIRST_MONDAY.plusWeeks(20).plusDays(3);
+        Map<String, Object> raw = jdbcTemplate.queryForMap("SELECT SUM(e.hoursWorked) AS total, "
+                + "SUM(CASE WHEN t.status = 'APPROVED' THEN e.hoursWorked ELSE 0 END) AS approved "
+                + "FROM TimesheetEntry e JOIN Timesheet t ON t.timesheetId = e.timesheetId WHERE e.date BETWEEN ? AND ?",
+                Date.valueOf(from), Date.valueOf(to));
+
+        assertEquals(0, ((BigDecimal) raw.get("total")).compareTo(reportService.hoursByProject(from, to, false).totalHours()));
+        assertEquals(0, ((BigDecimal) raw.get("total")).compareTo(reportService.hoursByEmployee(from, to, false).totalHours()));
+        assertEquals(0, ((BigDecimal) raw.get("approved")).compareTo(reportService.hoursByClient(from, to, true).totalHours()));
+        assertEquals(0, ((BigDecimal) raw.get("approved")).compareTo(reportService.hoursByDepartment(from, to, true).totalHours()));
+    }
+
+    private static void assertWithinBudget(String report, BiFunction<LocalDate, LocalDate, HoursReportDTO> query) {
+        // The first run warms up the plan; every timed run asks for a slightly different year-long range so that
+        // H2 cannot answer it from its result cache
+        assertFalse(query.apply(FIRST_MONDAY, LAST_DAY).rows().isEmpty());
+        long slowestMs = 0;
+        for (int run = 1; run <= 3; run++) {
+            long started = System.nanoTime();
+            query.apply(FIRST_MONDAY, LAST_DAY.minusDays(run));
+            slowestMs = Math.max(slowestMs, (System.nanoTime() - started) / 1_000_000);
+        }
+        logger.info("Hours by {} over {} entries: {} ms", report, ENTRIES, slowestMs);
+        assertTrue(slowestMs <= LATENCY_BUDGET_MS, "Hours by " + report + " took " + slowestMs + " ms, budget " + LATENCY_BUDGET_MS + " ms");
+    }
+
+    private void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int d = 1; d <= DEPARTMENTS; d++) {
+            rows.add(new Object[]{d, "Dataset Department " + d, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Department (departmentId, name, createdAt, updatedAt) VALUES (?, ?, ?, ?)", rows);
+
+        rows.clear();
+        for (int e = 1; e <= EMPLOYEES; e++) {
+            rows.add(new Object[]{e, "First" + e, "Last" + e, "dataset" + e + "@company.com", "Developer", (e % DEPARTMENTS) + 1, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Employee (employeeId, firstName, lastName, email, position, departmentId, createdAt, updatedAt) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        rows.clear();
+        for (int c = 1; c <= CLIENTS; c++) {
+            rows.add(new Object[]{c, "Dataset Client " + c, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Client (clientId, clientName, createdAt, updatedAt) VALUES (?, ?, ?, ?)", rows);
+
+        rows.clear();
+        for (int p = 1; p <= PROJECTS; p++) {
+            rows.add(new Object[]{p, "Dataset Project " + p, Date.valueOf(FIRST_MONDAY), (p % CLIENTS) + 1, 1, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Project (projectId, name, startDate, clientId, projectManagerId, createdAt, updatedAt) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+
+        rows.clear();
+        for (int e = 1; e <= EMPLOYEES; e++) {
+            for (int w = 0; w < WEEKS; w++) {
+                LocalDate start = FIRST_MONDAY.plusWeeks(w);
+                // Every other week is approved
+                String status = w % 2 == 0 ? "APPROVED" : "SUBMITTED";
+                rows.add(new Object[]{timesheetId(e, w), e, Date.valueOf(start), Date.valueOf(start.plusDays(6)), status, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Timesheet (timesheetId, employeeId, periodStartDate, periodEndDate, status, createdAt, updatedAt) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+
+        // Entries are spread evenly over the timesheets; each employee books onto a small fixed set of projects
+        int timesheets = EMPLOYEES * WEEKS;
+        int perTimesheet = (ENTRIES + timesheets - 1) / timesheets;
+        String insertEntry = "INSERT INTO TimesheetEntry (entryId, timesheetId, date, projectId, taskDescription, hoursWorked, createdAt, updatedAt) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        rows.clear();
+        int entryId = 0;
+        for (int e = 1; e <= EMPLOYEES && entryId < ENTRIES; e++) {
+            for (int w = 0; w < WEEKS && entryId < ENTRIES; w++) {
+                LocalDate start = FIRST_MONDAY.plusWeeks(w);
+                for (int k = 0; k < perTimesheet && entryId < ENTRIES; k++) {
+                    entryId++;
+                    int project = ((e * 7 + (k / 5) % PROJECTS_PER_EMPLOYEE) % PROJECTS) + 1;
+                    BigDecimal hours = BigDecimal.valueOf(25 * (1 + entryId % 16), 2);
+                    rows.add(new Object[]{entryId, timesheetId(e, w), Date.valueOf(start.plusDays(k % 5)), project, "Task", hours, now, now});
+                    if (rows.size() == BATCH_SIZE) {
+                        jdbcTemplate.batchUpdate(insertEntry, rows);
+                        rows.clear();
+                    }
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertEntry, rows);
+        }
+    }
+
+    private static int timesheetId(int employee, int week) {
+        return (employee - 1) * WEEKS + week + 1;
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
+import org.example.dto.response.HoursReportDTO;
+import org.example.dto.response.HoursReportRowDTO;
+import org.example.model.Client;
+import org.example.model.Department;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.repository.ClientRepository;
+import org.example.repository.DepartmentRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.service.Report.ReportService;
+import org.example.service.TimeSheet.TimeSheetService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"integration", "ci"})
+@Transactional
+class ReportIntegrationTest {
+
+    // A range no other test writes into
+    private static final LocalDate MONDAY = LocalDate.of(2032, 2, 2);
+    private static final LocalDate FROM = LocalDate.of(2032, 2, 1);
+    private static final LocalDate TO = LocalDate.of(2032, 2, 29);
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private TimeSheetService timeSheetService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department department;
+    private Employee ada;
+    private Employee bob;
+    private Client client;
+    private Project apollo;
+    private Project borealis;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Report Department");
+        department.setCreatedAt(LocalDateTime.now());
+        department.setUpdatedAt(LocalDateTime.now());
+        department = departmentRepository.save(department);
+        ada = employeeRepository.save(new Employee("Ada", "Report", "ada.report@company.com", "Developer", department, null));
+        bob = employeeRepository.save(new Employee("Bob", "Report", "bob.report@company.com", "Developer", department, null));
+        client = clientRepository.save(new Client("Report Client", "client@report.test", "555-0142", "4 Report Road"));
+        apollo = projectRepository.save(new Project("Report Apollo", "First", MONDAY, null, client, ada));
+        borealis = projectRepository.save(new Project("Report Borealis", "Second", MONDAY, null, client, ada));
+
+        // Ada's week is approved, Bob's is still a draft
+        createTimeSheet(ada, "APPROVED", List.of(
+                entry(MONDAY, apollo, "8.00"), entry(MONDAY.plusDays(1), apollo, "4.00"), entry(MONDAY.plusDays(1), borealis, "4.00")));
+        createTimeSheet(bob, "DRAFT", List.of(
+                entry(MONDAY, borealis, "6.50"), entry(MONDAY.plusDays(2), borealis, "1.50")));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testHoursByProjectWithApprovedToggle() {
+        HoursReportDTO all = reportService.hoursByProject(FROM, TO, false);
+        assertEquals(List.of(row(apollo.getProjectId(), "Report Apollo", "12.00"), row(borealis.getProjectId(), "Report Borealis", "12.00")),
+                rowsOf(all, apollo.getProjectId(), borealis.getProjectId()));
+
+        HoursReportDTO approved = reportService.hoursByProject(FROM, TO, true);
+        assertEquals(List.of(row(apollo.getProjectId(), "Report Apollo", "12.00"), row(borealis.getProjectId(), "Report Borealis", "4.00")),
+                rowsOf(approved, apollo.getProjectId(), borealis.getProjectId()));
+        assertTrue(approved.approvedOnly());
+    }
+
+    @Test
+    void testHoursByClientDepartmentAndEmployee() {
+        assertEquals(List.of(row(client.getClientId(), "Report Client", "24.00")),
+                rowsOf(reportService.hoursByClient(FROM, TO, false), client.getClientId()));
+        assertEquals(List.of(row(department.getDepartmentId(), "Report Department", "16.00")),
+                rowsOf(reportService.hoursByDepartment(FROM, TO, true), department.getDepartmentId()));
+
+        HoursReportDTO byEmployee = reportService.hoursByEmployee(FROM, TO, false);
+        assertEquals(List.of(row(ada.getEmployeeId(), "Ada Report", "16.00"), row(bob.getEmployeeId(), "Bob Report", "8.00")),
+                rowsOf(byEmployee, ada.getEmployeeId(), bob.getEmployeeId()));
+        // Bob has nothing approved, so he drops out of the approved view
+        assertEquals(List.of(row(ada.getEmployeeId(), "Ada Report", "16.00")),
+                rowsOf(reportService.hoursByEmployee(FROM, TO, true), ada.getEmployeeId(), bob.getEmployeeId()));
+    }
+
+    @Test
+    void testReportsDoNotLoadEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        reportService.hoursByProject(FROM, TO, false);
+        reportService.hoursByClient(FROM, TO, false);
+        reportService.hoursByDepartment(FROM, TO, false);
+        reportService.hoursByEmployee(FROM, TO, true);
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testRejectsInvertedRange() {
+        assertThrows(IllegalArgumentException.class, () -> reportService.hoursByProject(TO, FROM, false));
+    }
+
+    private void createTimeSheet(Employee employee, String status, List<TimeSheetEntryRequestDTO> entries) {
+        timeSheetService.saveWithEntries(new TimeSheetWithEntriesRequestDTO(
+                employee.getEmployeeId(), MONDAY, MONDAY.plusDays(6), status, null, null, entries));
+    }
+
+    private static TimeSheetEntryRequestDTO entry(LocalDate date, Project project, String hours) {
+        return new TimeSheetEntryRequestDTO(null, null, date, project.getProjectId(), "Work", new BigDecimal(hours));
+    }
+
+    private static HoursReportRowDTO row(Integer id, String name, String hours) {
+        return new HoursReportRowDTO(id, name, new BigDecimal(hours));
+    }
+
+    // Other tests may leave groups in the shared database; only look at the ones created here
+    private static List<HoursReportRowDTO> rowsOf(HoursReportDTO report, Integer... ids) {
+        List<Integer> wanted = List.of(ids);
+        return report.rows().stream().filter(row -> wanted.contains(row.id())).toList();
+    }
+}
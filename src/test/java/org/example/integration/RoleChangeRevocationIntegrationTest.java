@@ -0,0 +1,111 @@
+package org.example.integration;
+
+import org.example.model.Employee;
+import org.example.model.Role;
+import org.example.model.User;
+import org.example.model.UserRole;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.RoleRepository;
+import org.example.repository.UserRepository;
+import org.example.repository.UserRoleRepository;
+import org.example.security.JwtTokenProvider;
+import org.example.security.UserSnapshot;
+import org.example.service.User.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Authorities come from the token's roles claim, so a role change has to revoke the tokens issued before it
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.jwtSecret=role-change-test-secret-long-enough-for-hs512-signatures-0123456789abcdef-012345"})
+@ActiveProfiles({"integration", "ci"})
+class RoleChangeRevocationIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @Test
+    void testDemotedManagerIsRefusedOnNextRequest() throws Exception {
+        Role managerRole = role("MANAGER");
+        Role employeeRole = role("EMPLOYEE");
+        Employee employee = employeeRepository.save(new Employee("Dee", "Moted", "dee.moted@company.com", "Lead", null, null));
+        User user = new User("dee.moted", "unused", employee);
+        user.setUserRoles(new ArrayList<>());
+        user = userRepository.save(user);
+        userRoleRepository.save(new UserRole(user, managerRole));
+        userRoleRepository.save(new UserRole(user, employeeRole));
+
+        String managerToken = issueToken("dee.moted");
+        assertEquals(200, getTimeSheets(managerToken));
+
+        userService.removeRole(user.getUserId(), "MANAGER");
+
+        // The token still claims MANAGER but its version is stale
+        assertEquals(401, getTimeSheets(managerToken));
+        assertEquals(1, userRepository.findById(user.getUserId()).orElseThrow().getTokenVersion());
+        // Signing in again yields the employee role only
+        assertEquals(403, getTimeSheets(issueToken("dee.moted")));
+    }
+
+    @Test
+    void testDisabledUserIsRefusedOnNextRequest() throws Exception {
+        Role managerRole = role("MANAGER");
+        Employee employee = employeeRepository.save(new Employee("Dee", "Sabled", "dee.sabled@company.com", "Lead", null, null));
+        User user = new User("dee.sabled", "unused", employee);
+        user.setUserRoles(new ArrayList<>());
+        user = userRepository.save(user);
+        userRoleRepository.save(new UserRole(user, managerRole));
+
+        String token = issueToken("dee.sabled");
+        assertEquals(200, getTimeSheets(token));
+
+        userService.updateActive(user.getUserId(), false);
+
+        assertEquals(401, getTimeSheets(token));
+    }
+
+    private Role role(String roleName) {
+        return roleRepository.findByRoleName(roleName).orElseGet(() -> roleRepository.save(new Role(roleName, roleName)));
+    }
+
+    private String issueToken(String userName) {
+        UserSnapshot snapshot = (UserSnapshot) userService.loadUserByUsername(userName);
+        return tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(snapshot, null, snapshot.getAuthorities()));
+    }
+
+    private int getTimeSheets(String token) throws Exception {
+        return http.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/timesheets"))
+                .header("Authorization", "Bearer " + token).GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.integration;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Fails the test when its body (not @BeforeEach) runs more than value() SQL statements on the test thread.
+// Budgets should not depend on the amount of data, so that an N+1 shows up as a failure rather than a slower test.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementBudgetExtension.class)
+public @interface SqlStatementBudget {
+
+    int value();
+}
@@ -0,0 +1,49 @@
+package org.example.integration;
+
+import org.example.config.SqlStatementTracker;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Counts through the datasource proxy (SqlStatementTracker), so MockMvc calls are included; requests served by
+// another thread, such as a RANDOM_PORT server, are not
+public class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (context.getRequiredTestMethod().isAnnotationPresent(SqlStatementBudget.class)) {
+            context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementTracker.open());
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementTracker.Scope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlStatementTracker.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        int budget = context.getRequiredTestMethod().getAnnotation(SqlStatementBudget.class).value();
+        if (context.getExecutionException().isEmpty() && scope.statements() > budget) {
+            fail(describe(budget, scope));
+        }
+    }
+
+    private static String describe(int budget, SqlStatementTracker.Scope scope) {
+        StringBuilder message = new StringBuilder("Expected at most ").append(budget).append(" SQL statements but ")
+                .append(scope.statements()).append(" were executed");
+        for (Map.Entry<String, Integer> repeated : scope.repeatedShapes(2).entrySet()) {
+            message.append("\n  repeated ").append(repeated.getValue()).append("x: ").append(repeated.getKey());
+        }
+        for (String sql : scope.recordedStatements()) {
+            message.append("\n  ").append(sql);
+        }
+        return message.toString();
+    }
+}
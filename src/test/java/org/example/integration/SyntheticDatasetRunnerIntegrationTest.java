@@ -0,0 +1,35 @@
+package org.example.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The dataset profile on top of the test profiles, which replace DataInitializer, as the load test starts it
+@SpringBootTest(properties = {
+        "app.dataset.employees=40",
+        "app.dataset.weeks=3"})
+@OwnDatabase
+@ActiveProfiles({"integration", "ci", "dataset"})
+class SyntheticDatasetRunnerIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testDatasetIsLoadedAndEntryIdsStayAhead() {
+        assertEquals(40, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Employee", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Role", Integer.class));
+        Long maxEntryId = jdbcTemplate.queryForObject("SELECT MAX(entryId) FROM TimesheetEntry", Long.class);
+        assertNotNull(maxEntryId);
+
+        // The generated rows carry explicit ids; AUTO_INCREMENT must continue after them
+        jdbcTemplate.update("INSERT INTO TimesheetEntry (timesheetId, date, projectId, taskDescription, hoursWorked, createdAt, updatedAt) "
+                + "SELECT timesheetId, date, projectId, taskDescription, hoursWorked, createdAt, updatedAt FROM TimesheetEntry "
+                + "WHERE entryId = ?", maxEntryId);
+        assertEquals(maxEntryId + 1, jdbcTemplate.queryForObject("SELECT MAX(entryId) FROM TimesheetEntry", Long.class));
+    }
+}
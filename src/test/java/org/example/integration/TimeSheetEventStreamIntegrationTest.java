@@ -0,0 +1,259 @@
+package org.example.integration;
+
+import org.example.dto.request.ApprovalRequestDTO;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
+import org.example.dto.response.ApprovalResponseDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Client;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.model.Role;
+import org.example.model.User;
+import org.example.model.UserRole;
+import org.example.repository.ClientRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.repository.RoleRepository;
+import org.example.repository.UserRepository;
+import org.example.repository.UserRoleRepository;
+import org.example.security.JwtTokenProvider;
+import org.example.security.UserSnapshot;
+import org.example.service.Approval.ApprovalService;
+import org.example.service.TimeSheet.TimeSheetService;
+import org.example.service.TimeSheetEvent.TimeSheetEventService;
+import org.example.service.User.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Streams are read over real HTTP so that async dispatch and security run as they do in production
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.jwtSecret=timesheet-event-stream-test-secret-long-enough-for-hs512-signatures-0123456789abcdef",
+        "app.timeSheetEvents.heartbeatMs=200",
+        "app.timeSheetEvents.replayBufferSize=4"})
+@ActiveProfiles({"integration", "ci"})
+class TimeSheetEventStreamIntegrationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2038, 1, 4);
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TimeSheetService timeSheetService;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private TimeSheetEventService timeSheetEventService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private final List<HttpClient> clients = new ArrayList<>();
+    private Employee manager;
+    private Employee staff;
+    private String managerUser;
+    private String staffUser;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        Role employeeRole = roleRepository.findAll().stream().filter(role -> role.getRoleName().equals("EMPLOYEE")).findFirst()
+                .orElseGet(() -> roleRepository.save(new Role("EMPLOYEE", "Employee")));
+        Role managerRole = roleRepository.findAll().stream().filter(role -> role.getRoleName().equals("MANAGER")).findFirst()
+                .orElseGet(() -> roleRepository.save(new Role("MANAGER", "Manager")));
+        manager = employeeRepository.save(new Employee("Mae", "Stream", "mae" + n + "@events.test", "Manager", null, null));
+        staff = employeeRepository.save(new Employee("Sid", "Stream", "sid" + n + "@events.test", "Developer", null, manager));
+        managerUser = user("mae.stream" + n, manager, managerRole);
+        staffUser = user("sid.stream" + n, staff, employeeRole);
+        Client client = clientRepository.save(new Client("Events Client " + n, "client@events.test", "555-0419", "19 Push Road"));
+        project = projectRepository.save(new Project("Events Project " + n, "Streams", MONDAY, null, client, manager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.forEach(HttpClient::shutdownNow);
+    }
+
+    @Test
+    void testSubmissionAndDecisionArriveOnTheStreams() throws Exception {
+        EventStream staffStream = open(staffUser, null);
+        EventStream managerStream = open(managerUser, null);
+
+        TimeSheetResponseDTO sheet = timeSheet("SUBMITTED");
+        SseEvent submitted = staffStream.next(event -> "timesheet".equals(event.name()));
+        assertTrue(submitted.data().contains("\"status\":\"SUBMITTED\""));
+        assertTrue(submitted.data().contains("\"timesheetId\":" + sheet.timesheetId()));
+        assertEquals(submitted.id(), managerStream.next(event -> "timesheet".equals(event.name())).id());
+
+        ApprovalResponseDTO approval = approvalService.save(
+                new ApprovalRequestDTO(sheet.timesheetId(), manager.getEmployeeId(), "PENDING", null));
+        approvalService.update(approval.approvalId(),
+                new ApprovalRequestDTO(sheet.timesheetId(), manager.getEmployeeId(), "APPROVED", "Thanks"));
+        SseEvent pending = staffStream.next(event -> "approval".equals(event.name()));
+        SseEvent approved = staffStream.next(event -> "approval".equals(event.name()));
+        assertTrue(pending.data().contains("\"status\":\"PENDING\""));
+        assertTrue(approved.data().contains("\"status\":\"APPROVED\""));
+        assertTrue(Long.parseLong(approved.id()) > Long.parseLong(pending.id()));
+    }
+
+    @Test
+    void testReconnectReplaysMissedEventsOrAsksForAReload() throws Exception {
+        EventStream first = open(staffUser, null);
+        timeSheet("SUBMITTED");
+        String lastSeen = first.next(event -> "timesheet".equals(event.name())).id();
+        first.client().shutdownNow();
+
+        // Events while the client was away are replayed in order after its Last-Event-ID
+        TimeSheetResponseDTO missed = timeSheet("SUBMITTED");
+        EventStream resumed = open(staffUser, lastSeen);
+        SseEvent replayed = resumed.next(event -> "timesheet".equals(event.name()));
+        assertTrue(replayed.data().contains("\"timesheetId\":" + missed.timesheetId()));
+
+        // The buffer holds four events; anything older has to be reloaded
+        for (int i = 0; i < 5; i++) {
+            timeSheet("SUBMITTED");
+        }
+        EventStream tooLate = open(staffUser, lastSeen);
+        assertEquals("reload", tooLate.next(event -> "reset".equals(event.name())).data());
+        assertTrue(timeSheetEventService.stats().missedReplays() >= 1);
+    }
+
+    @Test
+    void testHeartbeatsKeepIdleStreamsAlive() throws Exception {
+        EventStream stream = open(staffUser, null);
+        assertNotNull(stream.next(event -> event.comments().contains("heartbeat")));
+    }
+
+    @Test
+    void testStreamRequiresAuthentication() throws Exception {
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/timesheets/events")).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertEquals(401, response.statusCode());
+    }
+
+    private EventStream open(String userName, String lastEventId) throws Exception {
+        UserSnapshot user = (UserSnapshot) userService.loadUserByUsername(userName);
+        String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/timesheets/events"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream")
+                .GET();
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpClient client = HttpClient.newHttpClient();
+        clients.add(client);
+        HttpResponse<Stream<String>> response = client.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+
+        BlockingQueue<SseEvent> events = new LinkedBlockingQueue<>();
+        Thread.ofVirtual().start(() -> {
+            Map<String, String> fields = new HashMap<>();
+            List<String> comments = new ArrayList<>();
+            try (Stream<String> lines = response.body()) {
+                lines.forEach(line -> {
+                    if (line.isEmpty()) {
+                        events.add(new SseEvent(fields.get("id"), fields.get("event"), fields.get("data"), List.copyOf(comments)));
+                        fields.clear();
+                        comments.clear();
+                    } else if (line.startsWith(":")) {
+                        comments.add(line.substring(1));
+                    } else {
+                        int colon = line.indexOf(':');
+                        fields.merge(line.substring(0, colon), line.substring(colon + 1), (a, b) -> a + "\n" + b);
+                    }
+                });
+            } catch (Exception e) {
+                // Closed by the test
+            }
+        });
+        EventStream stream = new EventStream(client, events);
+        assertNotNull(stream.next(event -> event.comments().contains("connected")));
+        return stream;
+    }
+
+    private String user(String userName, Employee employee, Role role) {
+        User user = new User(userName, "unused", employee);
+        user.setUserRoles(new ArrayList<>());
+        user = userRepository.save(user);
+        userRoleRepository.save(new UserRole(user, role));
+        return userName;
+    }
+
+    private TimeSheetResponseDTO timeSheet(String status) {
+        LocalDate start = MONDAY.plusWeeks(SEQUENCE.incrementAndGet());
+        return timeSheetService.saveWithEntries(new TimeSheetWithEntriesRequestDTO(
+                staff.getEmployeeId(), start, start.plusDays(6), status, null, null, List.of(
+                        new TimeSheetEntryRequestDTO(null, null, start, project.getProjectId(), "Mon", new BigDecimal("8.00")))));
+    }
+
+    private record SseEvent(String id, String name, String data, List<String> comments) {}
+
+    private record EventStream(HttpClient client, BlockingQueue<SseEvent> events) {
+
+        SseEvent next(Predicate<SseEvent> matching) throws InterruptedException {
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (System.nanoTime() < deadline) {
+                SseEvent event = events.poll(100, TimeUnit.MILLISECONDS);
+                if (event != null && matching.test(event)) {
+                    return event;
+                }
+            }
+            fail("No matching event within 10 seconds");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package org.example.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.config.SqlStatementTracker;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetFilterDTO;
+import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
+import org.example.dto.response.TimeSheetEntryDeltaDTO;
+import org.example.dto.response.TimeSheetPageResponseDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.example.model.Client;
+import org.example.model.Department;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.model.TimeSheet;
+import org.example.model.TimeSheetEntry;
+import org.example.repository.ClientRepository;
+import org.example.repository.DepartmentRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.example.repository.TimeSheetEntryRepository;
+import org.example.repository.TimeSheetRepository;
+import org.example.service.TimeSheet.TimeSheetReconciliation;
+import org.example.service.TimeSheet.TimeSheetService;
+import org.example.service.TimeSheetExport.TimeSheetExportService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"integration", "ci"})
+@Transactional
+class TimeSheetIntegrationTest {
+
+    private static final int TIMESHEET_COUNT = 6;
+    private static final int ENTRIES_PER_TIMESHEET = 4;
+
+    @Autowired
+    private TimeSheetService timeSheetService;
+
+    @Autowired
+    private TimeSheetExportService timeSheetExportService;
+
+    @Autowired
+    private TimeSheetRepository timeSheetRepository;
+
+    @Autowired
+    private TimeSheetEntryRepository timeSheetEntryRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department testDepartment;
+    private Employee testEmployee;
+    private List<Project> testProjects;
+
+    @BeforeEach
+    void setUp() {
+        createTestData();
+        // Start every test from an empty persistence context so lazy loads would show up as statements
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void createTestData() {
+        testDepartment = new Department();
+        testDepartment.setName("Timesheet Test Department");
+        testDepartment.setCreatedAt(LocalDateTime.now());
+        testDepartment.setUpdatedAt(LocalDateTime.now());
+        testDepartment = departmentRepository.save(testDepartment);
+
+        testEmployee = new Employee("Tina", "Sheet", "tina.sheet@company.com", "Developer", testDepartment, null);
+        testEmployee = employeeRepository.save(testEmployee);
+
+        Client client = new Client("Timesheet Test Client", "client@timesheet.test", "555-0100", "1 Test Way");
+        client = clientRepository.save(client);
+
+        Project first = new Project("Alpha", "First project", LocalDate.now(), null, client, testEmployee);
+        Project second = new Project("Beta", "Second project", LocalDate.now(), null, client, testEmployee);
+        testProjects = projectRepository.saveAll(List.of(first, second));
+
+        LocalDate monday = LocalDate.of(2025, 1, 6);
+        for (int week = 0; week < TIMESHEET_COUNT; week++) {
+            LocalDate periodStart = monday.plusWeeks(week);
+            TimeSheet timeSheet = timeSheetRepository.save(new TimeSheet(testEmployee, periodStart, periodStart.plusDays(6)));
+            for (int day = 0; day < ENTRIES_PER_TIMESHEET; day++) {
+                Project project = testProjects.get(day % testProjects.size());
+                timeSheetEntryRepository.save(new TimeSheetEntry(timeSheet, periodStart.plusDays(day), project,
+                        "Task " + day, new BigDecimal("7.50")));
+            }
+        }
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    void testFindAllUsesConstantNumberOfQueries() {
+        // Arrange
+        Statistics statistics = statistics();
+
+        // Act
+        List<TimeSheetResponseDTO> timeSheets = timeSheetService.findAll();
+
+        // Assert - one query for timesheets with employees, one for all entries with projects
+        assertEquals(TIMESHEET_COUNT, timeSheets.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        for (TimeSheetResponseDTO timeSheet : timeSheets) {
+            assertEquals("Tina Sheet", timeSheet.employeeName());
+            assertEquals(ENTRIES_PER_TIMESHEET, timeSheet.timeSheetEntries().size());
+            assertEquals(0, new BigDecimal("30.00").compareTo(timeSheet.calculatedTotalHours()));
+            assertTrue(timeSheet.timeSheetEntries().stream().allMatch(entry -> entry.projectName() != null));
+            assertTrue(timeSheet.timeSheetEntries().stream()
+                    .allMatch(entry -> timeSheet.timesheetId().equals(entry.timesheetId())));
+        }
+    }
+
+    @Test
+    void testFindByEmployeeIdAndPeriodUsesConstantNumberOfQueries() {
+        // Arrange
+        Statistics statistics = statistics();
+        LocalDate from = LocalDate.of(2025, 1, 6);
+        LocalDate to = LocalDate.of(2025, 1, 20);
+
+        // Act
+        List<TimeSheetResponseDTO> timeSheets = timeSheetService.findByEmployeeIdAndPeriod(testEmployee.getEmployeeId(), from, to);
+
+        // Assert
+        assertEquals(3, timeSheets.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertTrue(timeSheets.stream().allMatch(t -> t.timeSheetEntries().size() == ENTRIES_PER_TIMESHEET));
+    }
+
+    @Test
+    void testFindByEmployeeIdReturnsEmptyEntriesForSheetWithoutEntries() {
+        // Arrange
+        LocalDate periodStart = LocalDate.of(2025, 6, 2);
+        Employee employee = employeeRepository.findById(testEmployee.getEmployeeId()).orElseThrow();
+        timeSheetRepository.save(new TimeSheet(employee, periodStart, periodStart.plusDays(6)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<TimeSheetResponseDTO> timeSheets = timeSheetService.findByEmployeeId(testEmployee.getEmployeeId());
+
+        // Assert
+        assertEquals(TIMESHEET_COUNT + 1, timeSheets.size());
+        TimeSheetResponseDTO empty = timeSheets.stream()
+                .filter(t -> periodStart.equals(t.periodStartDate()))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(empty.timeSheetEntries().isEmpty());
+        assertEquals(0, BigDecimal.ZERO.compareTo(empty.calculatedTotalHours()));
+    }
+
+    @Test
+    void testFindPageWalksAllTimesheetsWithCursor() {
+        // Arrange
+        TimeSheetFilterDTO filter = new TimeSheetFilterDTO(null, testEmployee.getEmployeeId(), null, null, null);
+
+        // Act
+        TimeSheetPageResponseDTO first = timeSheetService.findPage(filter, null, 4);
+        TimeSheetPageResponseDTO second = timeSheetService.findPage(filter, first.nextCursor(), 4);
+
+        // Assert
+        assertEquals(4, first.size());
+        assertTrue(first.hasMore());
+        assertNotNull(first.nextCursor());
+        assertEquals(TIMESHEET_COUNT - 4, second.size());
+        assertFalse(second.hasMore());
+        assertNull(second.nextCursor());
+
+        LocalDate previous = null;
+        for (TimeSheetResponseDTO timeSheet : concat(first.items(), second.items())) {
+            if (previous != null) {
+                assertTrue(timeSheet.periodStartDate().isAfter(previous));
+            }
+            previous = timeSheet.periodStartDate();
+            assertEquals(ENTRIES_PER_TIMESHEET, timeSheet.timeSheetEntries().size());
+        }
+    }
+
+    @Test
+    void testFindPageAppliesFilters() {
+        // Arrange
+        TimeSheetFilterDTO byDepartmentAndPeriod = new TimeSheetFilterDTO("draft", null, testDepartment.getDepartmentId(),
+                LocalDate.of(2025, 1, 13), LocalDate.of(2025, 1, 27));
+        TimeSheetFilterDTO submittedOnly = new TimeSheetFilterDTO("SUBMITTED", testEmployee.getEmployeeId(), null, null, null);
+
+        // Act
+        TimeSheetPageResponseDTO filtered = timeSheetService.findPage(byDepartmentAndPeriod, null, null);
+        TimeSheetPageResponseDTO none = timeSheetService.findPage(submittedOnly, null, null);
+
+        // Assert
+        assertEquals(3, filtered.size());
+        assertFalse(filtered.hasMore());
+        assertEquals(LocalDate.of(2025, 1, 13), filtered.items().get(0).periodStartDate());
+        assertEquals(0, none.size());
+    }
+
+    @Test
+    void testFindPageRejectsInvalidArguments() {
+        TimeSheetFilterDTO filter = new TimeSheetFilterDTO(null, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> timeSheetService.findPage(filter, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> timeSheetService.findPage(filter, null, 10_000));
+        assertThrows(IllegalArgumentException.class, () -> timeSheetService.findPage(filter, "not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> timeSheetService.findPage(new TimeSheetFilterDTO("UNKNOWN", null, null, null, null), null, 10));
+    }
+
+    @Test
+    void testExportCsvWritesHeaderAndOneRowPerEntry() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TimeSheetFilterDTO filter = new TimeSheetFilterDTO("DRAFT", testEmployee.getEmployeeId(), null, null, null);
+
+        // Act
+        timeSheetExportService.export(filter, TimeSheetExportService.Format.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1 + TIMESHEET_COUNT * ENTRIES_PER_TIMESHEET, lines.length);
+        assertTrue(lines[0].startsWith("timesheetId,employeeId,"));
+        assertTrue(lines[1].contains(",Tina,Sheet,"));
+        assertTrue(lines[1].endsWith(",7.50"));
+    }
+
+    @Test
+    void testExportNdjsonWritesOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TimeSheetFilterDTO filter = new TimeSheetFilterDTO(null, null, null, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 6));
+
+        // Act
+        timeSheetExportService.export(filter, TimeSheetExportService.Format.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(ENTRIES_PER_TIMESHEET, lines.length);
+        for (String line : lines) {
+            assertTrue(line.startsWith("{") && line.endsWith("}"));
+            assertTrue(line.contains("\"periodStartDate\":\"2025-01-06\""));
+            assertTrue(line.contains("\"status\":\"DRAFT\""));
+        }
+    }
+
+    @Test
+    void testSaveWithEntriesBatchesEntryInserts() {
+        // Arrange - a 40-line weekly sheet
+        LocalDate periodStart = LocalDate.of(2025, 3, 3);
+        List<TimeSheetEntryRequestDTO> entries = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Project project = testProjects.get(i % testProjects.size());
+            entries.add(new TimeSheetEntryRequestDTO(null, null, periodStart.plusDays(i % 5), project.getProjectId(),
+                    "Line " + i, new BigDecimal("1.00")));
+        }
+        TimeSheetWithEntriesRequestDTO request = new TimeSheetWithEntriesRequestDTO(testEmployee.getEmployeeId(),
+                periodStart, periodStart.plusDays(6), "DRAFT", null, null, entries);
+        Statistics statistics = statistics();
+
+        // Act
+        TimeSheetResponseDTO saved;
+        List<String> statements;
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.open()) {
+            saved = timeSheetService.saveWithEntries(request);
+            entityManager.flush();
+            statements = scope.recordedStatements();
+        }
+
+        // Assert - employee, timesheet insert, one project lookup, the employee's department, one upsert per rollup
+        // table and a single batched entry insert, as a batch is one round trip. The entries bypass Hibernate.
+        assertEquals(40, saved.timeSheetEntries().size());
+        assertTrue(saved.timeSheetEntries().stream().allMatch(entry -> entry.entryId() != null));
+        assertEquals(0, new BigDecimal("40.00").compareTo(saved.totalHours()));
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(8, statements.size(), "Statements: " + statements);
+        assertEquals(1, statements.stream().filter(sql -> sql.startsWith("INSERT INTO TimesheetEntry")).count(),
+                "Expected one batched entry insert: " + statements);
+        assertEquals(40, timeSheetEntryRepository.findByTimesheetTimesheetId(saved.timesheetId()).size());
+    }
+
+    @Test
+    void testUpdateWithEntriesAppliesOnlyTheDelta() {
+        // Arrange - keep one line, change one, resubmit one with a different scale, drop one and add one
+        TimeSheet timeSheet = timeSheetRepository.findByEmployeeEmployeeId(testEmployee.getEmployeeId()).get(0);
+        List<TimeSheetEntry> stored = timeSheetEntryRepository.findByTimesheetTimesheetId(timeSheet.getTimesheetId());
+        stored.sort((a, b) -> a.getEntryId().compareTo(b.getEntryId()));
+        List<TimeSheetEntryRequestDTO> grid = new ArrayList<>();
+        grid.add(toRequest(stored.get(0), stored.get(0).getHoursWorked()));
+        grid.add(toRequest(stored.get(1), new BigDecimal("8.00")));
+        grid.add(toRequest(stored.get(2), new BigDecimal("7.5")));
+        grid.add(new TimeSheetEntryRequestDTO(null, null, timeSheet.getPeriodStartDate().plusDays(4),
+                testProjects.get(0).getProjectId(), "New line", new BigDecimal("2.00")));
+        TimeSheetWithEntriesRequestDTO request = new TimeSheetWithEntriesRequestDTO(testEmployee.getEmployeeId(),
+                timeSheet.getPeriodStartDate(), timeSheet.getPeriodEndDate(), null, null, null, grid);
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        // Act
+        TimeSheetReconciliation result = timeSheetService.reconcileWithEntries(timeSheet.getTimesheetId(), request);
+        entityManager.flush();
+
+        // Assert
+        assertEquals(new TimeSheetEntryDeltaDTO(1, 1, 1, 2), result.delta());
+        // The new line goes through the JDBC batch insert, not Hibernate
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertTrue(result.timeSheet().timeSheetEntries().stream().allMatch(entry -> entry.entryId() != null));
+        // The changed line and the timesheet itself
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityDeleteCount(), "Deletes should be a single bulk statement");
+        entityManager.clear();
+        List<TimeSheetEntry> after = timeSheetEntryRepository.findByTimesheetTimesheetId(timeSheet.getTimesheetId());
+        assertEquals(4, after.size());
+        List<Integer> afterIds = after.stream().map(TimeSheetEntry::getEntryId).toList();
+        assertTrue(afterIds.containsAll(List.of(stored.get(0).getEntryId(), stored.get(1).getEntryId(), stored.get(2).getEntryId())));
+        assertFalse(afterIds.contains(stored.get(3).getEntryId()));
+        assertEquals(4, result.timeSheet().timeSheetEntries().size());
+    }
+
+    @Test
+    void testUpdateWithEntriesRejectsEntryOfAnotherTimesheet() {
+        List<TimeSheet> timeSheets = timeSheetRepository.findByEmployeeEmployeeId(testEmployee.getEmployeeId());
+        TimeSheet target = timeSheets.get(0);
+        TimeSheetEntry foreign = timeSheetEntryRepository.findByTimesheetTimesheetId(timeSheets.get(1).getTimesheetId()).get(0);
+        TimeSheetWithEntriesRequestDTO request = new TimeSheetWithEntriesRequestDTO(testEmployee.getEmployeeId(),
+                target.getPeriodStartDate(), target.getPeriodEndDate(), null, null, null,
+                List.of(toRequest(foreign, foreign.getHoursWorked())));
+
+        assertThrows(RuntimeException.class, () -> timeSheetService.updateWithEntries(target.getTimesheetId(), request));
+    }
+
+    private static TimeSheetEntryRequestDTO toRequest(TimeSheetEntry entry, BigDecimal hoursWorked) {
+        return new TimeSheetEntryRequestDTO(entry.getEntryId(), null, entry.getDate(), entry.getProject().getProjectId(),
+                entry.getTaskDescription(), hoursWorked);
+    }
+
+    private static List<TimeSheetResponseDTO> concat(List<TimeSheetResponseDTO> first, List<TimeSheetResponseDTO> second) {
+        List<TimeSheetResponseDTO> all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+}
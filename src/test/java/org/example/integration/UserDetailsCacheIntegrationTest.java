@@ -0,0 +1,151 @@
+package org.example.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.model.Employee;
+import org.example.model.Role;
+import org.example.model.User;
+import org.example.model.UserRole;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.RoleRepository;
+import org.example.repository.UserRepository;
+import org.example.repository.UserRoleRepository;
+import org.example.security.UserDetailsCache;
+import org.example.security.UserSnapshot;
+import org.example.service.User.UserService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles({"integration", "ci"})
+@Transactional
+class UserDetailsCacheIntegrationTest {
+
+    private static final String USER_NAME = "cache.user";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User testUser;
+    private Role managerRole;
+
+    @BeforeEach
+    void setUp() {
+        Role employeeRole = roleRepository.save(new Role("CACHE_EMPLOYEE", "Employee"));
+        managerRole = roleRepository.save(new Role("CACHE_MANAGER", "Manager"));
+
+        Employee manager = employeeRepository.save(new Employee("Mia", "Boss", "mia.boss@company.com", "Manager", null, null));
+        Employee employee = employeeRepository.save(new Employee("Carl", "Cache", "carl.cache@company.com", "Developer", null, manager));
+
+        testUser = new User(USER_NAME, "hash-1", employee);
+        testUser.setUserRoles(new ArrayList<>());
+        testUser = userRepository.save(testUser);
+        userRoleRepository.save(new UserRole(testUser, employeeRole));
+
+        entityManager.flush();
+        entityManager.clear();
+        userDetailsCache.clear();
+    }
+
+    @Test
+    void testLoadUserByUsernameCachesDetachedSnapshot() {
+        Statistics statistics = statistics();
+
+        UserSnapshot first = (UserSnapshot) userService.loadUserByUsername(USER_NAME);
+        long statementsForFirstLoad = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        UserSnapshot second = (UserSnapshot) userService.loadUserByUsername(USER_NAME);
+
+        // User, employee, manager and roles in a single statement; nothing for the cached call
+        assertEquals(1, statementsForFirstLoad);
+        assertEquals(statementsForFirstLoad, statistics.getPrepareStatementCount());
+        assertSame(first, second);
+        assertEquals("Carl", second.getEmployeeFirstName());
+        assertNotNull(second.getManagerId());
+        assertEquals(List.of("ROLE_CACHE_EMPLOYEE"), second.getRoleNames());
+    }
+
+    @Test
+    void testPasswordChangeInvalidatesCachedUser() {
+        userService.loadUserByUsername(USER_NAME);
+
+        User user = userRepository.findById(testUser.getUserId()).orElseThrow();
+        user.setPassword("hash-2");
+        userRepository.saveAndFlush(user);
+
+        assertEquals("hash-2", userService.loadUserByUsername(USER_NAME).getPassword());
+    }
+
+    @Test
+    void testLastLoginUpdateKeepsCachedUser() {
+        UserSnapshot cached = (UserSnapshot) userService.loadUserByUsername(USER_NAME);
+        long invalidations = userDetailsCache.stats().invalidations();
+
+        User user = userRepository.findById(testUser.getUserId()).orElseThrow();
+        user.setLastLogin(LocalDateTime.now());
+        userRepository.saveAndFlush(user);
+
+        assertEquals(invalidations, userDetailsCache.stats().invalidations());
+        assertSame(cached, userService.loadUserByUsername(USER_NAME));
+    }
+
+    @Test
+    void testRoleAssignmentInvalidatesCachedUser() {
+        userService.loadUserByUsername(USER_NAME);
+
+        userRoleRepository.saveAndFlush(new UserRole(userRepository.getReferenceById(testUser.getUserId()), managerRole));
+        entityManager.clear();
+
+        assertEquals(2, userService.loadUserByUsername(USER_NAME).getAuthorities().size());
+    }
+
+    @Test
+    void testDeactivationInvalidatesCachedUser() {
+        userService.loadUserByUsername(USER_NAME);
+
+        userService.updateActive(testUser.getUserId(), false);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertFalse(userService.loadUserByUsername(USER_NAME).isEnabled());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
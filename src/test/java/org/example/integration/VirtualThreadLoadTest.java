@@ -0,0 +1,195 @@
+package org.example.integration;
+
+import org.example.TimeSheetManagementApplication;
+import org.example.config.ConcurrencyLimitedDataSource;
+import org.example.model.Client;
+import org.example.model.Employee;
+import org.example.model.Project;
+import org.example.repository.ClientRepository;
+import org.example.repository.EmployeeRepository;
+import org.example.repository.ProjectRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Boots the application once with platform threads and once with virtual threads and drives the same load at
+// GET /api/projects. Every connection checkout is held for a fixed delay to stand in for a remote database.
+// Run with: mvn test -Pload-test
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 200);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmupSeconds", 2));
+    private static final Duration MEASURE = Duration.ofSeconds(Long.getLong("load.seconds", 8));
+    private static final long DATABASE_LATENCY_MS = Long.getLong("load.databaseLatencyMs", 10);
+    private static final int POOL_SIZE = 10;
+
+    @Test
+    void testCompareThroughputAndTailLatency() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        for (Result result : List.of(platform, virtual)) {
+            logger.info("{}: {} requests/s, p50 {} ms, p99 {} ms, max {} ms, {} errors, limiter {}", result.mode(),
+                    String.format("%.1f", result.throughput()), String.format("%.1f", result.p50Millis()),
+                    String.format("%.1f", result.p99Millis()), String.format("%.1f", result.maxMillis()), result.errors(),
+                    result.limiterStats());
+        }
+
+        assertEquals(0, platform.errors());
+        assertEquals(0, virtual.errors());
+        assertTrue(platform.completed() > 0 && virtual.completed() > 0);
+        assertNotNull(virtual.limiterStats());
+        assertTrue(virtual.limiterStats().maxConcurrent() <= POOL_SIZE);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        DatabaseLatency latency = new DatabaseLatency(DATABASE_LATENCY_MS);
+        // Passed as arguments: builder properties are only defaults and application.properties would win over them
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TimeSheetManagementApplication.class)
+                .profiles("integration", "ci")
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(latency))
+                .run("--server.port=0",
+                        "--management.server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.datasource.hikari.connection-timeout=30000",
+                        "--app.databaseLimiter.maxConcurrent=" + POOL_SIZE,
+                        "--app.databaseLimiter.acquireTimeoutMs=30000",
+                        "--logging.level.org.example=WARN",
+                        "--logging.level.org.example.integration=INFO")) {
+            seed(context);
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/projects");
+
+            drive(uri, WARMUP);
+            Result result = drive(uri, MEASURE).named(mode);
+            // The limiter sits somewhere in the chain of DataSource wrappers (latency, statement stats proxy)
+            DataSource dataSource = context.getBean(DataSource.class);
+            return dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)
+                    ? result.withLimiter(dataSource.unwrap(ConcurrencyLimitedDataSource.class).stats()) : result;
+        }
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        Employee manager = context.getBean(EmployeeRepository.class)
+                .save(new Employee("Lola", "Load", "lola.load@company.com", "Manager", null, null));
+        Client client = context.getBean(ClientRepository.class)
+                .save(new Client("Load Client", "client@load.test", "555-0100", "1 Throughput Way"));
+        ProjectRepository projects = context.getBean(ProjectRepository.class);
+        for (int i = 0; i < 25; i++) {
+            projects.save(new Project("Load Project " + i, "Load", LocalDate.of(2035, 1, 1), null, client, manager));
+        }
+    }
+
+    private static Result drive(URI uri, Duration duration) throws InterruptedException {
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (HttpClient http = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - started);
+                    }
+                });
+            }
+            clients.shutdown();
+            assertTrue(clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS));
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        sorted.sort(null);
+        return new Result(null, sorted.size(), errors.get(), sorted.size() / (double) duration.toSeconds(),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0), null);
+    }
+
+    private static double percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private record Result(String mode, long completed, long errors, double throughput, double p50Millis,
+                          double p99Millis, double maxMillis, ConcurrencyLimitedDataSource.Stats limiterStats) {
+
+        Result named(String mode) {
+            return new Result(mode, completed, errors, throughput, p50Millis, p99Millis, maxMillis, limiterStats);
+        }
+
+        Result withLimiter(ConcurrencyLimitedDataSource.Stats stats) {
+            return new Result(mode, completed, errors, throughput, p50Millis, p99Millis, maxMillis, stats);
+        }
+    }
+
+    // Holds each checked-out connection for a fixed time before handing it over, as a network round trip would
+    private static final class DatabaseLatency implements BeanPostProcessor {
+
+        private final long millis;
+
+        DatabaseLatency(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    Connection connection = super.getConnection();
+                    try {
+                        Thread.sleep(millis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return connection;
+                }
+            };
+        }
+    }
+}
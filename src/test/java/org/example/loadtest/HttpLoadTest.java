@@ -0,0 +1,134 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.TimeSheetManagementApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Boots the application on in-memory H2 with a synthetic dataset (the "dataset" profile) and drives the REST API
+// over HTTP with an open workload of realistic scenarios (see LoadScenarios). Writes report.json and report.html
+// with throughput, latency percentiles and errors per scenario, and fails when a scenario errors too often.
+// Run with: mvn test -Pload-test -Dtest=HttpLoadTest -Dload.rate=100 -Dload.seconds=60
+// Settings:
+//   load.rate              arrivals per second, over all scenarios; the default of 10 fits a single core
+//   load.warmupSeconds     run before measuring, not reported
+//   load.seconds           measured run
+//   load.mix               scenario weights, name:weight,...
+//   load.employees/weeks   dataset size
+//   load.employeeSessions  signed-in employees doing autosaves and list views
+//   load.managerSessions   signed-in managers doing approvals, taken from those with the most pending approvals
+//   load.virtualThreads    spring.threads.virtual.enabled of the application
+//   load.maxErrorRate      fails the test when a scenario's error rate is higher
+//   load.reportDirectory   where the report goes
+@Tag("load")
+class HttpLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpLoadTest.class);
+
+    private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "10"));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmupSeconds", 5));
+    private static final Duration MEASURE = Duration.ofSeconds(Long.getLong("load.seconds", 30));
+    private static final String MIX = System.getProperty("load.mix", "login:1,autosave:5,approval:1,list:3");
+    private static final int EMPLOYEES = Integer.getInteger("load.employees", 1000);
+    private static final int WEEKS = Integer.getInteger("load.weeks", 12);
+    private static final int EMPLOYEE_SESSIONS = Integer.getInteger("load.employeeSessions", 200);
+    private static final int MANAGER_SESSIONS = Integer.getInteger("load.managerSessions", 20);
+    private static final boolean VIRTUAL_THREADS = Boolean.parseBoolean(System.getProperty("load.virtualThreads", "false"));
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+    private static final Path REPORT_DIRECTORY = Path.of(System.getProperty("load.reportDirectory", "target/load-test"));
+    private static final String PASSWORD = "password";
+
+    @Test
+    void testScenariosMeetErrorBudgetUnderOpenLoad() throws Exception {
+        String startedAt = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        // Passed as arguments: builder properties are only defaults and application.properties would win over them
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TimeSheetManagementApplication.class)
+                .profiles("integration", "ci", "dataset")
+                .run("--server.port=0",
+                        "--management.server.port=0",
+                        "--spring.threads.virtual.enabled=" + VIRTUAL_THREADS,
+                        "--app.dataset.output=jdbc",
+                        "--app.dataset.seed=" + SEED,
+                        "--app.dataset.employees=" + EMPLOYEES,
+                        "--app.dataset.weeks=" + WEEKS,
+                        "--app.dataset.password=" + PASSWORD,
+                        // The ci secret is too short to sign HS512 tokens, which only a real login needs
+                        "--app.jwtSecret=" + "load-test-jwt-secret-".repeat(4),
+                        "--logging.level.org.example=WARN",
+                        "--logging.level.org.example.loadtest=INFO",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN");
+             LoadClient client = new LoadClient(baseUri(context), context.getBean(ObjectMapper.class))) {
+            LoadScenarios scenarios = LoadScenarios.prepare(client, context.getBean(JdbcTemplate.class), PASSWORD,
+                    EMPLOYEE_SESSIONS, MANAGER_SESSIONS);
+            OpenModelDriver driver = new OpenModelDriver(scenarios.scenarios(), mix(MIX));
+
+            driver.run(RATE, WARMUP, SEED - 1);
+            Map<String, ScenarioStats> stats = driver.run(RATE, MEASURE, SEED);
+
+            List<ScenarioStats.Summary> summaries = new ArrayList<>();
+            stats.values().forEach(scenario -> summaries.add(scenario.summarize(MEASURE.toSeconds())));
+            LoadReport report = new LoadReport(startedAt, settings(scenarios), summaries);
+            report.write(REPORT_DIRECTORY, context.getBean(ObjectMapper.class));
+            logger.info("Load test results:\n{}Report: {}", report.table(), REPORT_DIRECTORY.resolve("report.html").toAbsolutePath());
+
+            for (ScenarioStats.Summary summary : summaries) {
+                assertTrue(summary.requests() > 0, summary.scenario() + " never ran");
+                assertTrue(summary.errorRate() <= MAX_ERROR_RATE,
+                        summary.scenario() + " failed " + summary.errors() + " times: " + summary.errorsByCause());
+            }
+        }
+    }
+
+    private static URI baseUri(ConfigurableApplicationContext context) {
+        return URI.create("http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort());
+    }
+
+    private static Map<String, Integer> mix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] nameAndWeight = part.trim().split(":");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("Expected name:weight in load.mix, got " + part);
+            }
+            weights.put(nameAndWeight[0].trim(), Integer.parseInt(nameAndWeight[1].trim()));
+        }
+        return weights;
+    }
+
+    private static Map<String, Object> settings(LoadScenarios scenarios) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("arrivalsPerSecond", RATE);
+        settings.put("warmupSeconds", WARMUP.toSeconds());
+        settings.put("measuredSeconds", MEASURE.toSeconds());
+        settings.put("mix", MIX);
+        settings.put("employees", EMPLOYEES);
+        settings.put("weeks", WEEKS);
+        settings.put("employeeSessions", scenarios.employeeSessions());
+        settings.put("managerSessions", scenarios.managerSessions());
+        settings.put("virtualThreads", VIRTUAL_THREADS);
+        settings.put("seed", SEED);
+        settings.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        settings.put("javaVersion", Runtime.version().toString());
+        return settings;
+    }
+}
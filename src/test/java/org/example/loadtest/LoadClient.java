@@ -0,0 +1,80 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.request.LoginRequestDTO;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// JSON over java.net.http, the way the web client calls the API; any status outside 2xx fails the call
+class LoadClient implements AutoCloseable {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient http;
+
+    LoadClient(URI baseUri, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.http = HttpClient.newBuilder().executor(executor).connectTimeout(TIMEOUT).build();
+    }
+
+    // The bearer token of a new session
+    String login(String userName, String password) throws IOException, InterruptedException {
+        Map<?, ?> response = send("POST", "/api/auth/login", null, new LoginRequestDTO(userName, password), Map.class);
+        return (String) response.get("token");
+    }
+
+    <T> T get(String path, String token, Class<T> type) throws IOException, InterruptedException {
+        return send("GET", path, token, null, type);
+    }
+
+    // A null type discards the body
+    <T> T send(String method, String path, String token, Object body, Class<T> type) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (body != null) {
+            request.header("Content-Type", "application/json");
+        }
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new UnexpectedStatusException(method + " " + path, response.statusCode());
+        }
+        return type == null ? null : objectMapper.readValue(response.body(), type);
+    }
+
+    @Override
+    public void close() {
+        http.close();
+        executor.close();
+    }
+
+    static class UnexpectedStatusException extends IOException {
+
+        private final int status;
+
+        UnexpectedStatusException(String request, int status) {
+            super(request + " returned " + status);
+            this.status = status;
+        }
+
+        int status() {
+            return status;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// One load test run: the settings it ran with and a summary per scenario, written as report.json for tooling and
+// report.html for people
+record LoadReport(String startedAt, Map<String, Object> settings, List<ScenarioStats.Summary> scenarios) {
+
+    void write(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(directory.resolve("report.json").toFile(), this);
+        Files.writeString(directory.resolve("report.html"), html(), StandardCharsets.UTF_8);
+    }
+
+    String table() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-10s %9s %7s %8s %10s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "error %", "requests/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (ScenarioStats.Summary summary : scenarios) {
+            table.append(String.format(Locale.ROOT, "%-10s %9d %7d %8.2f %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    summary.scenario(), summary.requests(), summary.errors(), summary.errorRate() * 100,
+                    summary.throughput(), summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis()));
+        }
+        return table.toString();
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Load test ")
+                .append(escape(startedAt)).append("</title>\n<style>body{font-family:sans-serif}"
+                        + "table{border-collapse:collapse}td,th{border:1px solid #ccc;padding:4px 8px;text-align:right}"
+                        + "td:first-child,th:first-child{text-align:left}.failed{color:#b00}</style></head><body>\n")
+                .append("<h1>Load test ").append(escape(startedAt)).append("</h1>\n<table>\n<tr><th>Scenario</th>"
+                        + "<th>Requests</th><th>Errors</th><th>Error rate</th><th>Requests/s</th><th>Mean ms</th>"
+                        + "<th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>Max ms</th><th>Errors by cause</th></tr>\n");
+        for (ScenarioStats.Summary summary : scenarios) {
+            html.append(summary.errors() > 0 ? "<tr class=\"failed\">" : "<tr>")
+                    .append("<td>").append(escape(summary.scenario())).append("</td>")
+                    .append(cell("%d", summary.requests())).append(cell("%d", summary.errors()))
+                    .append(cell("%.2f%%", summary.errorRate() * 100)).append(cell("%.1f", summary.throughput()))
+                    .append(cell("%.1f", summary.meanMillis())).append(cell("%.1f", summary.p50Millis()))
+                    .append(cell("%.1f", summary.p95Millis())).append(cell("%.1f", summary.p99Millis()))
+                    .append(cell("%.1f", summary.maxMillis()))
+                    .append("<td>").append(escape(summary.errorsByCause().toString())).append("</td></tr>\n");
+        }
+        html.append("</table>\n<h2>Settings</h2>\n<table>\n");
+        settings.forEach((name, value) -> html.append("<tr><td>").append(escape(name)).append("</td><td>")
+                .append(escape(String.valueOf(value))).append("</td></tr>\n"));
+        return html.append("</table>\n</body></html>\n").toString();
+    }
+
+    private static String cell(String format, Object value) {
+        return "<td>" + String.format(Locale.ROOT, format, value) + "</td>";
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
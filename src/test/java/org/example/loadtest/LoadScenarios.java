@@ -0,0 +1,258 @@
+package org.example.loadtest;
+
+import org.example.dataset.SyntheticDatasetGenerator;
+import org.example.dto.request.BulkApprovalRequestDTO;
+import org.example.dto.request.TimeSheetEntryRequestDTO;
+import org.example.dto.request.TimeSheetWithEntriesRequestDTO;
+import org.example.dto.response.PendingApprovalDTO;
+import org.example.dto.response.PendingApprovalPageDTO;
+import org.example.dto.response.TimeSheetResponseDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+// What users of the web client do, against a synthetic dataset:
+// - login: a random user signs in
+// - autosave: an employee edits this week's grid and it is saved whole; the first save of a week creates the draft
+//   (POST /api/timesheets/with-entries), later ones reconcile it (PUT /api/timesheets/{id}/with-entries)
+// - approval: a manager opens the approval inbox and approves one timesheet from it
+// - list: one of the list views (own timesheets, submitted timesheets, inbox badge, projects)
+// Signed-in sessions are borrowed for the length of an arrival, so one user never sends two saves at once.
+class LoadScenarios {
+
+    private static final String AUTOSAVE_TASK = "Autosaved work";
+    private static final Semaphore SETUP_LOGINS = new Semaphore(Runtime.getRuntime().availableProcessors());
+
+    private final LoadClient client;
+    private final int employees;
+    private final String password;
+    private final List<EmployeeSession> employeeSessions;
+    private final List<ManagerSession> managerSessions;
+    private final BlockingQueue<EmployeeSession> idleEmployees;
+    private final BlockingQueue<ManagerSession> idleManagers;
+
+    private LoadScenarios(LoadClient client, int employees, String password, List<EmployeeSession> employeeSessions,
+                          List<ManagerSession> managerSessions) {
+        this.client = client;
+        this.employees = employees;
+        this.password = password;
+        this.employeeSessions = employeeSessions;
+        this.managerSessions = managerSessions;
+        this.idleEmployees = new LinkedBlockingQueue<>(employeeSessions);
+        this.idleManagers = new LinkedBlockingQueue<>(managerSessions);
+    }
+
+    // Signs in an even spread of employees and the managers with the most pending approvals
+    static LoadScenarios prepare(LoadClient client, JdbcTemplate jdbcTemplate, String password, int employeeSessionCount,
+                                 int managerSessionCount) throws Exception {
+        List<Integer> employeeIds = jdbcTemplate.queryForList("SELECT employeeId FROM Employee ORDER BY employeeId", Integer.class);
+        if (employeeIds.isEmpty()) {
+            throw new IllegalStateException("No employees; the dataset profile did not load a dataset");
+        }
+        List<Integer> sampled = new ArrayList<>();
+        int step = Math.max(1, employeeIds.size() / employeeSessionCount);
+        for (int i = 0; i < employeeIds.size() && sampled.size() < employeeSessionCount; i += step) {
+            sampled.add(employeeIds.get(i));
+        }
+        List<Integer> managerIds = jdbcTemplate.queryForList("SELECT approvedBy FROM Approval WHERE status = 'PENDING' "
+                + "GROUP BY approvedBy ORDER BY COUNT(*) DESC, approvedBy LIMIT ?", Integer.class, managerSessionCount);
+        if (managerIds.isEmpty()) {
+            throw new IllegalStateException("No pending approvals in the dataset");
+        }
+        LocalDate nextWeek = jdbcTemplate.queryForObject("SELECT MAX(periodStartDate) FROM Timesheet", LocalDate.class).plusWeeks(1);
+
+        List<EmployeeSession> employeeSessions = new ArrayList<>();
+        List<ManagerSession> managerSessions = new ArrayList<>();
+        try (ExecutorService logins = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<EmployeeSession>> employeeLogins = new ArrayList<>();
+            for (Integer employeeId : sampled) {
+                employeeLogins.add(logins.submit(() -> employeeSession(client, jdbcTemplate, employeeId, password, nextWeek)));
+            }
+            List<Future<ManagerSession>> managerLogins = new ArrayList<>();
+            for (Integer managerId : managerIds) {
+                managerLogins.add(logins.submit(() -> new ManagerSession(managerId, signIn(client, managerId, password))));
+            }
+            for (Future<EmployeeSession> login : employeeLogins) {
+                employeeSessions.add(login.get());
+            }
+            for (Future<ManagerSession> login : managerLogins) {
+                managerSessions.add(login.get());
+            }
+        }
+        return new LoadScenarios(client, employeeIds.size(), password, employeeSessions, managerSessions);
+    }
+
+    Map<String, OpenModelDriver.Scenario> scenarios() {
+        Map<String, OpenModelDriver.Scenario> scenarios = new LinkedHashMap<>();
+        scenarios.put("login", this::login);
+        scenarios.put("autosave", this::autosave);
+        scenarios.put("approval", this::approval);
+        scenarios.put("list", this::list);
+        return scenarios;
+    }
+
+    int employeeSessions() {
+        return employeeSessions.size();
+    }
+
+    int managerSessions() {
+        return managerSessions.size();
+    }
+
+    private void login(SplittableRandom random) throws Exception {
+        client.login(SyntheticDatasetGenerator.userName(1 + random.nextInt(employees)), password);
+    }
+
+    private void autosave(SplittableRandom random) throws Exception {
+        EmployeeSession session = idleEmployees.take();
+        try {
+            List<TimeSheetEntryRequestDTO> entries = session.timesheetId == null
+                    ? List.of(entry(null, session.weekStart, session.projectId, random))
+                    : edit(session, random);
+            TimeSheetWithEntriesRequestDTO grid = new TimeSheetWithEntriesRequestDTO(session.employeeId, session.weekStart,
+                    session.weekStart.plusDays(6), "DRAFT", null, total(entries), entries);
+            TimeSheetResponseDTO saved = session.timesheetId == null
+                    ? client.send("POST", "/api/timesheets/with-entries", session.token, grid, TimeSheetResponseDTO.class)
+                    : client.send("PUT", "/api/timesheets/" + session.timesheetId + "/with-entries", session.token, grid,
+                    TimeSheetResponseDTO.class);
+            session.timesheetId = saved.timesheetId();
+            session.entries = saved.timeSheetEntries().stream()
+                    .map(entry -> new TimeSheetEntryRequestDTO(entry.entryId(), saved.timesheetId(), entry.date(),
+                            entry.projectId(), entry.taskDescription(), entry.hoursWorked()))
+                    .toList();
+        } finally {
+            idleEmployees.add(session);
+        }
+    }
+
+    private void approval(SplittableRandom random) throws Exception {
+        ManagerSession session = idleManagers.take();
+        try {
+            PendingApprovalPageDTO inbox = client.get("/api/approvals/inbox?size=20", session.token, PendingApprovalPageDTO.class);
+            if (inbox.items().isEmpty()) {
+                return;
+            }
+            PendingApprovalDTO pending = inbox.items().get(random.nextInt(inbox.items().size()));
+            BulkApprovalRequestDTO decision = pending.approvalId() != null
+                    ? new BulkApprovalRequestDTO(List.of(pending.approvalId()), List.of(), "approved", null)
+                    : new BulkApprovalRequestDTO(List.of(), List.of(pending.timesheetId()), "approved", null);
+            client.send("POST", "/api/approvals/bulk", session.token, decision, null);
+        } finally {
+            idleManagers.add(session);
+        }
+    }
+
+    private void list(SplittableRandom random) throws Exception {
+        EmployeeSession employee = employeeSessions.get(random.nextInt(employeeSessions.size()));
+        ManagerSession manager = managerSessions.get(random.nextInt(managerSessions.size()));
+        switch (random.nextInt(4)) {
+            case 0 -> client.get("/api/timesheets/user", employee.token, null);
+            case 1 -> client.get("/api/timesheets?status=SUBMITTED&size=50", manager.token, null);
+            case 2 -> client.get("/api/approvals/inbox/count", manager.token, null);
+            default -> client.get("/api/projects", employee.token, null);
+        }
+    }
+
+    // Changes the hours of one day, or fills in the next day of the week
+    private static List<TimeSheetEntryRequestDTO> edit(EmployeeSession session, SplittableRandom random) {
+        List<TimeSheetEntryRequestDTO> entries = new ArrayList<>(session.entries);
+        if (entries.isEmpty() || (entries.size() < 5 && random.nextInt(4) == 0)) {
+            LocalDate day = session.weekStart;
+            while (containsDay(entries, day)) {
+                day = day.plusDays(1);
+            }
+            entries.add(entry(null, day, session.projectId, random));
+        } else {
+            int index = random.nextInt(entries.size());
+            TimeSheetEntryRequestDTO edited = entries.get(index);
+            entries.set(index, entry(edited.entryId(), edited.date(), edited.projectId(), random));
+        }
+        return entries;
+    }
+
+    private static boolean containsDay(List<TimeSheetEntryRequestDTO> entries, LocalDate day) {
+        return entries.stream().anyMatch(entry -> entry.date().equals(day));
+    }
+
+    // 6 to 9 hours in quarter hours
+    private static TimeSheetEntryRequestDTO entry(Integer entryId, LocalDate day, Integer projectId, SplittableRandom random) {
+        BigDecimal hours = BigDecimal.valueOf(25L * random.nextInt(24, 37), 2);
+        return new TimeSheetEntryRequestDTO(entryId, null, day, projectId, AUTOSAVE_TASK, hours);
+    }
+
+    private static BigDecimal total(List<TimeSheetEntryRequestDTO> entries) {
+        return entries.stream().map(TimeSheetEntryRequestDTO::hoursWorked).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static EmployeeSession employeeSession(LoadClient client, JdbcTemplate jdbcTemplate, Integer employeeId,
+                                                   String password, LocalDate nextWeek) throws Exception {
+        EmployeeSession session = new EmployeeSession(employeeId, signIn(client, employeeId, password),
+                jdbcTemplate.queryForObject("SELECT MIN(projectId) FROM EmployeeProject WHERE employeeId = ?",
+                        Integer.class, employeeId));
+        List<Integer> drafts = jdbcTemplate.queryForList("SELECT timesheetId FROM Timesheet "
+                + "WHERE employeeId = ? AND status = 'DRAFT' ORDER BY periodStartDate DESC LIMIT 1", Integer.class, employeeId);
+        if (drafts.isEmpty()) {
+            session.weekStart = nextWeek;
+            session.entries = List.of();
+            return session;
+        }
+        session.timesheetId = drafts.get(0);
+        session.weekStart = jdbcTemplate.queryForObject("SELECT periodStartDate FROM Timesheet WHERE timesheetId = ?",
+                LocalDate.class, session.timesheetId);
+        session.entries = jdbcTemplate.query("SELECT entryId, date, projectId, taskDescription, hoursWorked FROM TimesheetEntry "
+                        + "WHERE timesheetId = ? ORDER BY date, entryId",
+                (row, rowNum) -> new TimeSheetEntryRequestDTO(row.getInt("entryId"), session.timesheetId,
+                        row.getDate("date").toLocalDate(), row.getInt("projectId"), row.getString("taskDescription"),
+                        row.getBigDecimal("hoursWorked")),
+                session.timesheetId);
+        return session;
+    }
+
+    // Logins are hashed on a bounded pool, which answers 503 when it is full; setup stays within it
+    private static String signIn(LoadClient client, Integer employeeId, String password) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            SETUP_LOGINS.acquire();
+            try {
+                return client.login(SyntheticDatasetGenerator.userName(employeeId), password);
+            } catch (LoadClient.UnexpectedStatusException e) {
+                if (e.status() != 503 || attempt == 20) {
+                    throw new IOException("Could not sign in employee " + employeeId, e);
+                }
+            } finally {
+                SETUP_LOGINS.release();
+            }
+            Thread.sleep(100L * attempt);
+        }
+    }
+
+    private static final class EmployeeSession {
+
+        private final int employeeId;
+        private final String token;
+        private final Integer projectId;
+        private Integer timesheetId;
+        private LocalDate weekStart;
+        private List<TimeSheetEntryRequestDTO> entries;
+
+        private EmployeeSession(int employeeId, String token, Integer projectId) {
+            this.employeeId = employeeId;
+            this.token = token;
+            this.projectId = projectId;
+        }
+    }
+
+    private record ManagerSession(int employeeId, String token) {}
+}
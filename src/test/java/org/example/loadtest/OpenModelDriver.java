@@ -0,0 +1,99 @@
+package org.example.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+// Open workload: arrivals follow a Poisson process at a fixed rate no matter how fast the server answers, and each
+// one runs on a virtual thread of its own. A closed loop of N clients would slow down along with the server and hide
+// its queueing. The scenario of each arrival is drawn by weight.
+class OpenModelDriver {
+
+    @FunctionalInterface
+    interface Scenario {
+        void execute(SplittableRandom random) throws Exception;
+    }
+
+    private final Map<String, Scenario> scenarios;
+    private final Map<String, Integer> weights;
+    private final int totalWeight;
+
+    OpenModelDriver(Map<String, Scenario> scenarios, Map<String, Integer> weights) {
+        for (String name : weights.keySet()) {
+            if (!scenarios.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown scenario " + name + ", expected one of " + scenarios.keySet());
+            }
+        }
+        this.scenarios = scenarios;
+        this.weights = new LinkedHashMap<>(weights);
+        this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("The scenario mix needs a positive weight");
+        }
+    }
+
+    // Returns once every arrival scheduled within the duration has completed
+    Map<String, ScenarioStats> run(double arrivalsPerSecond, Duration duration, long seed) {
+        Map<String, ScenarioStats> stats = new LinkedHashMap<>();
+        weights.forEach((name, weight) -> {
+            if (weight > 0) {
+                stats.put(name, new ScenarioStats(name));
+            }
+        });
+        SplittableRandom random = new SplittableRandom(seed);
+        long end = System.nanoTime() + duration.toNanos();
+        long scheduled = System.nanoTime();
+
+        try (ExecutorService arrivals = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                scheduled += (long) (-Math.log(1 - random.nextDouble()) / arrivalsPerSecond * 1_000_000_000L);
+                if (scheduled >= end) {
+                    break;
+                }
+                for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                String name = pick(random);
+                Scenario scenario = scenarios.get(name);
+                ScenarioStats scenarioStats = stats.get(name);
+                SplittableRandom arrivalRandom = random.split();
+                long intended = scheduled;
+                arrivals.execute(() -> {
+                    String error = execute(scenario, arrivalRandom);
+                    scenarioStats.record(System.nanoTime() - intended, error);
+                });
+            }
+        }
+        return stats;
+    }
+
+    private String pick(SplittableRandom random) {
+        int draw = random.nextInt(totalWeight);
+        for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+            draw -= weight.getValue();
+            if (draw < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("Weights changed during the run");
+    }
+
+    // The cause of a failed arrival, or null
+    private static String execute(Scenario scenario, SplittableRandom random) {
+        try {
+            scenario.execute(random);
+            return null;
+        } catch (LoadClient.UnexpectedStatusException e) {
+            return "HTTP " + e.status();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted";
+        } catch (Exception e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Latencies and failures of one scenario during one run. Latency counts from the arrival's scheduled time, so time
+// spent waiting behind a slow server is included (no coordinated omission).
+class ScenarioStats {
+
+    private final String name;
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private final Map<String, Long> errorsByCause = new TreeMap<>();
+
+    ScenarioStats(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long latencyNanos, String errorCause) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (errorCause != null) {
+            errors++;
+            errorsByCause.merge(errorCause, 1L, Long::sum);
+        }
+    }
+
+    synchronized Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double mean = count == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+        return new Summary(name, count, errors, count == 0 ? 0 : errors / (double) count, count / seconds, mean,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 1.0),
+                new TreeMap<>(errorsByCause));
+    }
+
+    // Nearest rank, in milliseconds
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    record Summary(String scenario, long requests, long errors, double errorRate, double throughput, double meanMillis,
+                   double p50Millis, double p95Millis, double p99Millis, double maxMillis, Map<String, Long> errorsByCause) {}
+}
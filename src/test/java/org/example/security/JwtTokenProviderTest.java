@@ -0,0 +1,120 @@
+package org.example.security;
+
+import org.example.model.Employee;
+import org.example.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs512-signatures-0123456789-abcdefghijklmnop";
+
+    private static Authentication authentication() {
+        return new UsernamePasswordAuthenticationToken("jane.doe", null,
+                List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"), new SimpleGrantedAuthority("ROLE_MANAGER")));
+    }
+
+    @Test
+    void testGetValidatedClaimsReturnsSubjectExpiryAndRoles() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 100);
+        String token = provider.generateToken(authentication());
+
+        Optional<JwtClaims> claims = provider.getValidatedClaims(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("jane.doe", claims.get().subject());
+        assertEquals(List.of("ROLE_EMPLOYEE", "ROLE_MANAGER"), claims.get().roles());
+        assertTrue(claims.get().expiration().after(new Date()));
+        assertFalse(claims.get().hasIdentity());
+        // Second lookup is served from the verified-token cache
+        assertSame(claims.get(), provider.getValidatedClaims(token).get());
+        assertEquals("jane.doe", provider.getUsernameFromJWT(token));
+    }
+
+    @Test
+    void testGenerateTokenEmbedsIdentityClaimsOfUserPrincipal() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 100);
+        Employee manager = new Employee();
+        manager.setEmployeeId(7);
+        Employee employee = new Employee();
+        employee.setEmployeeId(42);
+        employee.setManager(manager);
+        User user = new User("jane.doe", "secret", employee);
+        user.setUserId(5);
+        user.setTokenVersion(3);
+        String token = provider.generateToken(new UsernamePasswordAuthenticationToken(UserSnapshot.of(user), null,
+                List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"))));
+
+        JwtClaims claims = provider.getValidatedClaims(token).get();
+        JwtUserPrincipal principal = JwtUserPrincipal.fromClaims(claims);
+
+        assertTrue(claims.hasIdentity());
+        assertEquals(5, principal.getUserId());
+        assertEquals(42, principal.getEmployeeId());
+        assertEquals(7, principal.getManagerId());
+        assertEquals(3, principal.getTokenVersion());
+        assertEquals("jane.doe", principal.getUsername());
+        assertEquals("ROLE_EMPLOYEE", principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void testGetValidatedClaimsRejectsTamperedAndExpiredTokens() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 100);
+        String token = provider.generateToken(authentication());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        JwtTokenProvider expiringProvider = new JwtTokenProvider(SECRET, -1_000, 100);
+
+        assertFalse(provider.getValidatedClaims(tampered).isPresent());
+        assertFalse(provider.getValidatedClaims(null).isPresent());
+        assertFalse(provider.validateToken("not-a-jwt"));
+        assertFalse(expiringProvider.getValidatedClaims(expiringProvider.generateToken(authentication())).isPresent());
+    }
+
+    @Test
+    void testVerifiedTokenCacheIsBoundedAndDropsExpiredEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        long now = System.currentTimeMillis();
+        JwtClaims soon = new JwtClaims("a", new Date(now), new Date(now + 30_000), List.of(), 1, null, null, 0);
+        JwtClaims live = new JwtClaims("a", new Date(now), new Date(now + 60_000), List.of(), 1, null, null, 0);
+        JwtClaims expired = new JwtClaims("b", new Date(now - 120_000), new Date(now - 60_000), List.of(), 2, null, null, 0);
+
+        cache.put("1", soon);
+        cache.put("2", live);
+        cache.put("3", live);
+        cache.put("4", expired);
+
+        // A full cache makes room by dropping the token that expires first; expired tokens are never stored
+        assertEquals(2, cache.size());
+        assertNull(cache.get("1", now));
+        assertSame(live, cache.get("2", now));
+        assertSame(live, cache.get("3", now));
+        assertNull(cache.get("4", now));
+        assertNull(cache.get("3", now + 60_000));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testVerifiedTokenCacheEvictsOneUser() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        long now = System.currentTimeMillis();
+        JwtClaims first = new JwtClaims("a", new Date(now), new Date(now + 60_000), List.of(), 1, null, null, 0);
+        JwtClaims second = new JwtClaims("b", new Date(now), new Date(now + 60_000), List.of(), 2, null, null, 0);
+        cache.put("1", first);
+        cache.put("2", first);
+        cache.put("3", second);
+
+        cache.evictUser(1);
+
+        assertNull(cache.get("1", now));
+        assertNull(cache.get("2", now));
+        assertSame(second, cache.get("3", now));
+    }
+}
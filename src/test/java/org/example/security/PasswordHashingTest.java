@@ -0,0 +1,87 @@
+package org.example.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingTest {
+
+    @Test
+    void testUpgradeEncodingWhenStoredCostDiffersFromTarget() {
+        ConfigurablePasswordEncoder encoder = new ConfigurablePasswordEncoder(ConfigurablePasswordEncoder.BCRYPT, 5);
+        String lower = new BCryptPasswordEncoder(4).encode("secret");
+        String same = encoder.encode("secret");
+        String higher = new BCryptPasswordEncoder(6).encode("secret");
+
+        assertTrue(encoder.matches("secret", lower));
+        assertTrue(encoder.matches("secret", higher));
+        assertTrue(encoder.upgradeEncoding(lower));
+        assertFalse(encoder.upgradeEncoding(same));
+        assertTrue(encoder.upgradeEncoding(higher));
+        assertEquals(5, ConfigurablePasswordEncoder.bcryptCost(same));
+    }
+
+    @Test
+    void testSwitchingAlgorithmKeepsExistingHashesVerifiable() {
+        String bcryptHash = new ConfigurablePasswordEncoder(ConfigurablePasswordEncoder.BCRYPT, 4).encode("secret");
+        ConfigurablePasswordEncoder pbkdf2 = new ConfigurablePasswordEncoder(ConfigurablePasswordEncoder.PBKDF2, 4);
+        String pbkdf2Hash = pbkdf2.encode("secret");
+
+        assertTrue(pbkdf2Hash.startsWith("{pbkdf2}"));
+        assertTrue(pbkdf2.matches("secret", bcryptHash));
+        assertTrue(pbkdf2.matches("secret", pbkdf2Hash));
+        assertFalse(pbkdf2.matches("wrong", pbkdf2Hash));
+        assertTrue(pbkdf2.upgradeEncoding(bcryptHash));
+        assertFalse(pbkdf2.upgradeEncoding(pbkdf2Hash));
+        assertThrows(IllegalArgumentException.class, () -> new ConfigurablePasswordEncoder("md5", 10));
+    }
+
+    @Test
+    void testBoundedEncoderRejectsWorkBeyondQueueCapacity() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, 5_000);
+        try {
+            Thread running = new Thread(() -> encoder.matches("a", "a"));
+            running.start();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread queued = new Thread(() -> encoder.matches("b", "b"));
+            queued.start();
+            while (encoder.getQueueSize() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.matches("c", "c"));
+
+            release.countDown();
+            running.join(5_000);
+            queued.join(5_000);
+            assertTrue(encoder.matches("d", "d"));
+        } finally {
+            release.countDown();
+            encoder.destroy();
+        }
+    }
+}
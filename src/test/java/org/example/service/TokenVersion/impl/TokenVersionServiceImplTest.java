@@ -0,0 +1,96 @@
+package org.example.service.TokenVersion.impl;
+
+import org.example.repository.UserRepository;
+import org.example.security.JwtTokenProvider;
+import org.example.security.UserDetailsCache;
+import org.example.service.ClusterEvent.ClusterEntityType;
+import org.example.service.ClusterEvent.ClusterEventTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ClusterEventTransport clusterEventTransport;
+
+    private TokenVersionServiceImpl tokenVersionService;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionService = new TokenVersionServiceImpl(userRepository, new UserDetailsCache(100, 60_000), clusterEventTransport,
+                new JwtTokenProvider("token-version-test-secret-".repeat(4), 60_000, 100), 60_000, 100);
+    }
+
+    private static UserRepository.TokenState state(int tokenVersion, boolean active) {
+        return new UserRepository.TokenState() {
+            @Override
+            public Integer getTokenVersion() {
+                return tokenVersion;
+            }
+
+            @Override
+            public Boolean getIsActive() {
+                return active;
+            }
+        };
+    }
+
+    @Test
+    void testIsCurrentCachesStatePerUser() {
+        when(userRepository.findTokenStateByUserId(1)).thenReturn(Optional.of(state(2, true)));
+
+        assertTrue(tokenVersionService.isCurrent(1, 2));
+        assertFalse(tokenVersionService.isCurrent(1, 1));
+        assertTrue(tokenVersionService.isCurrent(1, 2));
+
+        verify(userRepository, times(1)).findTokenStateByUserId(1);
+    }
+
+    @Test
+    void testIsCurrentRejectsInactiveAndUnknownUsers() {
+        when(userRepository.findTokenStateByUserId(1)).thenReturn(Optional.of(state(0, false)));
+        when(userRepository.findTokenStateByUserId(2)).thenReturn(Optional.empty());
+
+        assertFalse(tokenVersionService.isCurrent(1, 0));
+        assertFalse(tokenVersionService.isCurrent(2, 0));
+        assertFalse(tokenVersionService.isCurrent(null, 0));
+    }
+
+    @Test
+    void testRevokeTokensInvalidatesCachedVersion() {
+        when(userRepository.findTokenStateByUserId(1))
+                .thenReturn(Optional.of(state(0, true)))
+                .thenReturn(Optional.of(state(1, true)));
+        when(userRepository.incrementTokenVersion(eq(1), any(LocalDateTime.class))).thenReturn(1);
+
+        assertTrue(tokenVersionService.isCurrent(1, 0));
+        tokenVersionService.revokeTokens(1);
+
+        assertFalse(tokenVersionService.isCurrent(1, 0));
+        assertTrue(tokenVersionService.isCurrent(1, 1));
+        verify(clusterEventTransport).publish(ClusterEntityType.USER, TokenVersionServiceImpl.REVOKE, "1");
+    }
+
+    @Test
+    void testRevokeTokensForUnknownUserThrowsException() {
+        when(userRepository.incrementTokenVersion(eq(99), any(LocalDateTime.class))).thenReturn(0);
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> tokenVersionService.revokeTokens(99));
+        assertEquals("User not found with id: 99", exception.getMessage());
+    }
+}
@@ -4,11 +4,13 @@ import org.example.dto.response.UserResponseDTO;
 import org.example.model.Employee;
 import org.example.model.User;
 import org.example.repository.UserRepository;
+import org.example.security.UserDetailsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -17,6 +19,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +29,9 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private UserDetailsCache userDetailsCache = new UserDetailsCache(100, 60_000);
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -75,6 +82,40 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).findByUserName(username);
     }
 
+    @Test
+    void loadUserByUsername_WhenCalledTwice_ShouldServeSecondCallFromCache() {
+        // Arrange
+        String username = "jane.doe";
+        when(userRepository.findByUserName(username)).thenReturn(testUser);
+
+        // Act
+        UserDetails first = userService.loadUserByUsername(username);
+        UserDetails second = userService.loadUserByUsername(username);
+
+        // Assert
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByUserName(username);
+        assertEquals(1, userDetailsCache.stats().hits());
+        assertEquals(1, userDetailsCache.stats().misses());
+    }
+
+    @Test
+    void updatePassword_WhenRehashedOnLogin_ShouldWriteOnlyThePassword() {
+        // Arrange
+        when(userRepository.findByUserName("jane.doe")).thenReturn(testUser);
+        UserDetails loaded = userService.loadUserByUsername("jane.doe");
+
+        // Act
+        UserDetails updated = userService.updatePassword(loaded, "rehashed");
+
+        // Assert
+        assertEquals("rehashed", updated.getPassword());
+        assertEquals("jane.doe", updated.getUsername());
+        verify(userRepository, times(1)).updatePassword(eq(1), eq("rehashed"), any());
+        verify(userRepository, never()).save(any());
+        assertEquals(1, userDetailsCache.stats().invalidations());
+    }
+
     @Test
     void loadUserByUsername_WhenUserDoesNotExist_ShouldThrowUsernameNotFoundException() {
         // Arrange
@@ -172,7 +213,7 @@ class UserServiceImplTest {
         user2.setIsActive(true);
 
         List<User> users = Arrays.asList(user1, user2);
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findAllWithEmployeeBy()).thenReturn(users);
 
         // Act
         List<UserResponseDTO> result = userService.getAllUsers();
@@ -197,13 +238,13 @@ class UserServiceImplTest {
         assertEquals(employee2.getEmail(), secondUser.employeeEmail());
         assertNull(secondUser.managerId());
         
-        verify(userRepository, times(1)).findAll();
+        verify(userRepository, times(1)).findAllWithEmployeeBy();
     }
 
     @Test
     void getAllUsers_WhenNoUsersExist_ShouldReturnEmptyList() {
         // Arrange
-        when(userRepository.findAll()).thenReturn(Arrays.asList());
+        when(userRepository.findAllWithEmployeeBy()).thenReturn(Arrays.asList());
 
         // Act
         List<UserResponseDTO> result = userService.getAllUsers();
@@ -211,7 +252,7 @@ class UserServiceImplTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(userRepository, times(1)).findAll();
+        verify(userRepository, times(1)).findAllWithEmployeeBy();
     }
 
     @Test
@@ -225,7 +266,7 @@ class UserServiceImplTest {
         userWithoutEmployee.setIsActive(true);
 
         List<User> users = Arrays.asList(userWithoutEmployee);
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findAllWithEmployeeBy()).thenReturn(users);
 
         // Act
         List<UserResponseDTO> result = userService.getAllUsers();
@@ -241,6 +282,6 @@ class UserServiceImplTest {
         assertNull(userDTO.employeeEmail());
         assertNull(userDTO.managerId());
         
-        verify(userRepository, times(1)).findAll();
+        verify(userRepository, times(1)).findAllWithEmployeeBy();
     }
 }